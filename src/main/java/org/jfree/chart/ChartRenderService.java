@@ -0,0 +1,269 @@
+/* ======================================================
+ * JFreeChart : a chart library for the Java(tm) platform
+ * ======================================================
+ *
+ * (C) Copyright 2000-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * ChartRenderService.java
+ * -----------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+
+package org.jfree.chart;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jfree.chart.internal.Args;
+import org.jfree.chart.legend.LegendItemSource;
+import org.jfree.chart.legend.LegendTitle;
+import org.jfree.chart.plot.CategoryPlot;
+import org.jfree.chart.plot.Plot;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.plot.pie.PiePlot;
+import org.jfree.data.category.CategoryDataset;
+import org.jfree.data.general.Dataset;
+import org.jfree.data.general.PieDataset;
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * A service that renders charts from a template on a pool of threads, for
+ * server-side image generation.  Charts, plots and renderers hold state
+ * while drawing, so one chart instance cannot be drawn by several threads
+ * at the same time.  Rather than cloning the chart for every request, the 
+ * service gives each of its threads a private copy of the template (made 
+ * once, the first time the thread renders) and for each request sets the 
+ * request's datasets on that copy, draws it and then removes the datasets
+ * again.  No locks are held while drawing, so the throughput scales with 
+ * the number of threads.
+ * <br><br>
+ * The service takes its own copy of the template when it is created, so
+ * later changes to the template are not seen by the service.  The datasets
+ * for a request must not be modified while the request is being rendered.
+ * The datasets are set on the plot by index, this is supported for 
+ * {@link XYPlot}, {@link CategoryPlot} and {@link PiePlot}.
+ */
+public class ChartRenderService {
+
+    /** The template for the charts. */
+    private final JFreeChart template;
+
+    /** The thread's copy of the template. */
+    private final ThreadLocal<JFreeChart> charts;
+
+    /** The executor that renders the charts. */
+    private final ExecutorService executor;
+
+    /**
+     * Creates a new service with one thread per available processor.
+     *
+     * @param template  the chart template ({@code null} not permitted).
+     *
+     * @throws CloneNotSupportedException if the template cannot be cloned.
+     */
+    public ChartRenderService(JFreeChart template)
+            throws CloneNotSupportedException {
+        this(template, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a new service.
+     *
+     * @param template  the chart template ({@code null} not permitted).
+     * @param threadCount  the number of rendering threads (must be 
+     *     positive).
+     *
+     * @throws CloneNotSupportedException if the template cannot be cloned.
+     */
+    public ChartRenderService(JFreeChart template, int threadCount)
+            throws CloneNotSupportedException {
+        Args.nullNotPermitted(template, "template");
+        if (threadCount <= 0) {
+            throw new IllegalArgumentException(
+                    "Requires 'threadCount' to be positive.");
+        }
+        this.template = copy(template);
+        this.charts = ThreadLocal.withInitial(this::copyTemplate);
+        this.executor = Executors.newFixedThreadPool(threadCount,
+                new RenderThreadFactory());
+    }
+
+    /**
+     * Submits a request to render a chart to an image.
+     *
+     * @param width  the image width.
+     * @param height  the image height.
+     * @param datasets  the datasets for the chart, by index ({@code null}
+     *     not permitted, but may contain {@code null} entries).
+     *
+     * @return A future for the image.
+     */
+    public Future<BufferedImage> renderImage(int width, int height,
+            Dataset... datasets) {
+        Args.nullNotPermitted(datasets, "datasets");
+        return this.executor.submit(() -> render(width, height, datasets));
+    }
+
+    /**
+     * Submits a request to render a chart in PNG format.
+     *
+     * @param width  the image width.
+     * @param height  the image height.
+     * @param datasets  the datasets for the chart, by index ({@code null}
+     *     not permitted, but may contain {@code null} entries).
+     *
+     * @return A future for the PNG bytes.
+     */
+    public Future<byte[]> renderPNG(int width, int height,
+            Dataset... datasets) {
+        Args.nullNotPermitted(datasets, "datasets");
+        return this.executor.submit(() -> ChartUtils.encodeAsPNG(
+                render(width, height, datasets)));
+    }
+
+    /**
+     * Shuts down the service.  Requests that have already been submitted 
+     * are completed, new requests are rejected.
+     */
+    public void shutdown() {
+        this.executor.shutdown();
+    }
+
+    /**
+     * Renders a chart on the current thread, using the thread's copy of the 
+     * template.
+     *
+     * @param width  the image width.
+     * @param height  the image height.
+     * @param datasets  the datasets.
+     *
+     * @return The image.
+     */
+    private BufferedImage render(int width, int height, Dataset[] datasets) {
+        JFreeChart chart = this.charts.get();
+        Plot plot = chart.getPlot();
+        setDatasets(plot, datasets);
+        try {
+            return chart.createBufferedImage(width, height);
+        } finally {
+            // release the datasets (and the plot's listener registration)
+            setDatasets(plot, new Dataset[datasets.length]);
+        }
+    }
+
+    /**
+     * Returns a new copy of the template.
+     *
+     * @return The copy.
+     */
+    private JFreeChart copyTemplate() {
+        // cloning reads the template, which is never drawn, so this is 
+        // only synchronized against other threads making their copies
+        synchronized (this.template) {
+            try {
+                return copy(this.template);
+            } catch (CloneNotSupportedException e) {
+                throw new IllegalStateException(e); // checked in constructor
+            }
+        }
+    }
+
+    /**
+     * Returns a copy of a chart.  {@link JFreeChart#clone()} leaves the
+     * legends of the copy reading their items from the original plot, so
+     * they are pointed at the plot of the copy.
+     *
+     * @param chart  the chart.
+     *
+     * @return The copy.
+     *
+     * @throws CloneNotSupportedException if the chart cannot be cloned.
+     */
+    private static JFreeChart copy(JFreeChart chart)
+            throws CloneNotSupportedException {
+        JFreeChart copy = (JFreeChart) chart.clone();
+        for (int i = 0; i < copy.getSubtitleCount(); i++) {
+            if (copy.getSubtitle(i) instanceof LegendTitle) {
+                LegendTitle legend = (LegendTitle) copy.getSubtitle(i);
+                LegendItemSource[] sources = legend.getSources().clone();
+                for (int j = 0; j < sources.length; j++) {
+                    if (sources[j] == chart.getPlot()) {
+                        sources[j] = copy.getPlot();
+                    }
+                }
+                legend.setSources(sources);
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Sets the datasets on a plot, by index.
+     *
+     * @param plot  the plot.
+     * @param datasets  the datasets.
+     */
+    @SuppressWarnings("unchecked")
+    private static void setDatasets(Plot plot, Dataset[] datasets) {
+        for (int i = 0; i < datasets.length; i++) {
+            if (plot instanceof XYPlot) {
+                ((XYPlot) plot).setDataset(i, (XYDataset) datasets[i]);
+            } else if (plot instanceof CategoryPlot) {
+                ((CategoryPlot) plot).setDataset(i, 
+                        (CategoryDataset) datasets[i]);
+            } else if (plot instanceof PiePlot && i == 0) {
+                ((PiePlot) plot).setDataset((PieDataset) datasets[i]);
+            } else {
+                throw new IllegalArgumentException("Cannot set dataset " + i 
+                        + " on plot " + plot.getPlotType() + ".");
+            }
+        }
+    }
+
+    /**
+     * A factory for the (daemon) rendering threads.
+     */
+    private static class RenderThreadFactory implements ThreadFactory {
+
+        /** A counter for the thread names. */
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "ChartRenderService-" 
+                    + this.count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+}
@@ -90,6 +90,7 @@ import org.jfree.chart.event.TitleChangeEvent;
 import org.jfree.chart.event.TitleChangeListener;
 import org.jfree.chart.plot.Plot;
 import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.legend.LegendTitle;
 import org.jfree.chart.title.TextTitle;
 import org.jfree.chart.title.Title;
@@ -162,6 +163,27 @@ public class JFreeChart implements Drawable, TitleChangeListener,
         }
     };
     
+    /**
+     * The key for a rendering hint that draws the chart in two layers, so
+     * that the data can be redrawn over a cached image of the static parts
+     * of the chart.  The hint value must be a Boolean:  {@code FALSE} draws
+     * everything except the data layer, {@code TRUE} draws only the data
+     * layer (the layout is still calculated, but the background, titles,
+     * axes and gridlines are not drawn).  Drawing the data layer over the
+     * static layer gives the same output as drawing the chart in one pass.
+     * <br><br>
+     * The hint is respected by {@link XYPlot} (but not by the combined
+     * plots), the data layer consisting of the markers, annotations, data
+     * items, crosshairs and plot outline.
+     */
+    public static final RenderingHints.Key KEY_DATA_LAYER
+            = new RenderingHints.Key(1) {
+        @Override
+        public boolean isCompatibleValue(Object val) {
+            return val instanceof Boolean;
+        }
+    };
+
     /**
      * Rendering hints that will be used for chart drawing.  This should never
      * be {@code null}.
@@ -1035,6 +1057,8 @@ public class JFreeChart implements Drawable, TitleChangeListener,
             g2.setRenderingHint(ChartHints.KEY_BEGIN_ELEMENT, m);            
         }
         
+        boolean dataLayerOnly = Boolean.TRUE.equals(g2.getRenderingHint(
+                KEY_DATA_LAYER));
         EntityCollection entities = null;
         // record the chart area, if info is requested...
         if (info != null) {
@@ -1042,7 +1066,7 @@ public class JFreeChart implements Drawable, TitleChangeListener,
             info.setChartArea(chartArea);
             entities = info.getEntityCollection();
         }
-        if (entities != null) {
+        if (entities != null && !dataLayerOnly) {
             entities.add(new JFreeChartEntity((Rectangle2D) chartArea.clone(),
                     this));
         }
@@ -1054,12 +1078,12 @@ public class JFreeChart implements Drawable, TitleChangeListener,
         g2.addRenderingHints(this.renderingHints);
 
         // draw the chart background...
-        if (this.backgroundPaint != null) {
+        if (this.backgroundPaint != null && !dataLayerOnly) {
             g2.setPaint(this.backgroundPaint);
             g2.fill(chartArea);
         }
 
-        if (this.backgroundImage != null) {
+        if (this.backgroundImage != null && !dataLayerOnly) {
             Composite originalComposite = g2.getComposite();
             g2.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER,
                     this.backgroundImageAlpha));
@@ -1073,7 +1097,7 @@ public class JFreeChart implements Drawable, TitleChangeListener,
             g2.setComposite(originalComposite);
         }
 
-        if (isBorderVisible()) {
+        if (isBorderVisible() && !dataLayerOnly) {
             Paint paint = getBorderPaint();
             Stroke stroke = getBorderStroke();
             if (paint != null && stroke != null) {
@@ -1215,7 +1239,6 @@ public class JFreeChart implements Drawable, TitleChangeListener,
                 Size2D size = t.arrange(g2, constraint);
                 titleArea = createAlignedRectangle2D(size, area,
                         t.getHorizontalAlignment(), VerticalAlignment.TOP);
-                retValue = t.draw(g2, titleArea, p);
                 area.setRect(area.getX(), Math.min(area.getY() + size.height,
                         area.getMaxY()), area.getWidth(), Math.max(area.getHeight()
                         - size.height, 0));
@@ -1225,7 +1248,6 @@ public class JFreeChart implements Drawable, TitleChangeListener,
                 Size2D size = t.arrange(g2, constraint);
                 titleArea = createAlignedRectangle2D(size, area,
                         t.getHorizontalAlignment(), VerticalAlignment.BOTTOM);
-                retValue = t.draw(g2, titleArea, p);
                 area.setRect(area.getX(), area.getY(), area.getWidth(),
                         area.getHeight() - size.height);
                 break;
@@ -1234,7 +1256,6 @@ public class JFreeChart implements Drawable, TitleChangeListener,
                 Size2D size = t.arrange(g2, constraint);
                 titleArea = createAlignedRectangle2D(size, area,
                         HorizontalAlignment.RIGHT, t.getVerticalAlignment());
-                retValue = t.draw(g2, titleArea, p);
                 area.setRect(area.getX(), area.getY(), area.getWidth()
                         - size.width, area.getHeight());
                 break;
@@ -1243,7 +1264,6 @@ public class JFreeChart implements Drawable, TitleChangeListener,
                 Size2D size = t.arrange(g2, constraint);
                 titleArea = createAlignedRectangle2D(size, area,
                         HorizontalAlignment.LEFT, t.getVerticalAlignment());
-                retValue = t.draw(g2, titleArea, p);
                 area.setRect(area.getX() + size.width, area.getY(), area.getWidth()
                         - size.width, area.getHeight());
                 break;
@@ -1252,6 +1272,10 @@ public class JFreeChart implements Drawable, TitleChangeListener,
                 throw new RuntimeException("Unrecognised title position.");
             }
         }
+        // the title is laid out but not drawn for the data layer
+        if (!Boolean.TRUE.equals(g2.getRenderingHint(KEY_DATA_LAYER))) {
+            retValue = t.draw(g2, titleArea, p);
+        }
         EntityCollection result = null;
         if (retValue instanceof EntityBlockResult) {
             EntityBlockResult ebr = (EntityBlockResult) retValue;
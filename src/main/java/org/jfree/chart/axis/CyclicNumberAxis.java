@@ -385,6 +385,17 @@ public class CyclicNumberAxis extends NumberAxis {
         return super.calculateAnchorPoint(tick, cursor, dataArea, edge);
     }
 
+    /**
+     * Returns {@code false}, since the tick calculation for this axis 
+     * updates internal state that is used when the ticks are drawn.
+     *
+     * @return {@code false}.
+     */
+    @Override
+    protected boolean isTickCacheSupported() {
+        return false;
+    }
+
 
 
     /**
@@ -1405,6 +1405,17 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
     public List<? extends Tick> refreshTicks(Graphics2D g2, AxisState state, 
             Rectangle2D dataArea, RectangleEdge edge) {
 
+        TickCache.Key key = null;
+        if (isTickCacheSupported()) {
+            key = createTickCacheKey(g2, dataArea, edge);
+            TickCache cache = getTickCache();
+            int index = cache.findTicks(key);
+            if (index >= 0) {
+                g2.setFont(getTickLabelFont());
+                this.tickUnit = (DateTickUnit) cache.getTickUnit(index);
+                return cache.getTicks(index);
+            }
+        }
         List<? extends Tick> result = null;
         if (RectangleEdge.isTopOrBottom(edge)) {
             result = refreshTicksHorizontal(g2, dataArea, edge);
@@ -1412,10 +1423,36 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
         else if (RectangleEdge.isLeftOrRight(edge)) {
             result = refreshTicksVertical(g2, dataArea, edge);
         }
+        if (key != null && result != null) {
+            getTickCache().putTicks(key, result, this.tickUnit);
+        }
         return result;
 
     }
 
+    /**
+     * Returns {@code true} for an instance of this class, since its ticks
+     * can be cached.  A subclass might calculate its ticks from other state,
+     * so this method returns {@code false} for subclasses unless they
+     * override it.
+     *
+     * @return A boolean.
+     */
+    @Override
+    protected boolean isTickCacheSupported() {
+        return getClass() == DateAxis.class;
+    }
+
+    /**
+     * Returns the tick unit that the cached ticks depend on.
+     *
+     * @return The tick unit, or {@code null} if it is selected automatically.
+     */
+    @Override
+    TickUnit getTickCacheUnit() {
+        return isAutoTickUnitSelection() ? null : this.tickUnit;
+    }
+
     /**
      * Corrects the given tick date for the position setting.
      *
@@ -527,6 +527,17 @@ public class LogAxis extends ValueAxis {
     @Override
     public List refreshTicks(Graphics2D g2, AxisState state,
             Rectangle2D dataArea, RectangleEdge edge) {
+        TickCache.Key key = null;
+        if (isTickCacheSupported()) {
+            key = createTickCacheKey(g2, dataArea, edge);
+            TickCache cache = getTickCache();
+            int index = cache.findTicks(key);
+            if (index >= 0) {
+                g2.setFont(getTickLabelFont());
+                this.tickUnit = (NumberTickUnit) cache.getTickUnit(index);
+                return cache.getTicks(index);
+            }
+        }
         List result = new java.util.ArrayList();
         if (RectangleEdge.isTopOrBottom(edge)) {
             result = refreshTicksHorizontal(g2, dataArea, edge);
@@ -534,8 +545,34 @@ public class LogAxis extends ValueAxis {
         else if (RectangleEdge.isLeftOrRight(edge)) {
             result = refreshTicksVertical(g2, dataArea, edge);
         }
+        if (key != null && result != null) {
+            getTickCache().putTicks(key, result, this.tickUnit);
+        }
         return result;
     }
+
+    /**
+     * Returns {@code true} for an instance of this class, since its ticks
+     * can be cached.  A subclass might calculate its ticks from other state,
+     * so this method returns {@code false} for subclasses unless they
+     * override it.
+     *
+     * @return A boolean.
+     */
+    @Override
+    protected boolean isTickCacheSupported() {
+        return getClass() == LogAxis.class;
+    }
+
+    /**
+     * Returns the tick unit that the cached ticks depend on.
+     *
+     * @return The tick unit, or {@code null} if it is selected automatically.
+     */
+    @Override
+    TickUnit getTickCacheUnit() {
+        return isAutoTickUnitSelection() ? null : this.tickUnit;
+    }
     
     /**
      * Returns a list of ticks for an axis at the top or bottom of the chart.
@@ -664,6 +664,18 @@ public class LogarithmicAxis extends NumberAxis {
         setRange(adjusted);
     }
 
+    /**
+     * Returns {@code false}, since the flags for this axis can be changed 
+     * without sending an
+     * {@link org.jfree.chart.event.AxisChangeEvent}.
+     *
+     * @return {@code false}.
+     */
+    @Override
+    protected boolean isTickCacheSupported() {
+        return false;
+    }
+
     /**
      * Calculates the positions of the tick labels for the axis, storing the
      * results in the tick label list (ready for drawing).
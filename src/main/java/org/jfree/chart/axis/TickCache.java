@@ -0,0 +1,317 @@
+/* ======================================================
+ * JFreeChart : a chart library for the Java(tm) platform
+ * ======================================================
+ *
+ * (C) Copyright 2000-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------
+ * TickCache.java
+ * --------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.axis;
+
+import java.awt.Font;
+import java.awt.font.FontRenderContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.jfree.chart.api.RectangleEdge;
+
+/**
+ * A small cache of the ticks and tick label space calculated by a 
+ * {@link ValueAxis}.  Most repaints (for example, those triggered by a 
+ * crosshair move) draw the axis with the same range, data area size and 
+ * fonts as the previous repaint, so the ticks do not need to be recalculated
+ * and their labels formatted and measured again.  The cache holds entries
+ * for a few distinct keys because the axis calculates ticks for the plot
+ * area (when reserving space) as well as for the data area (when drawing).
+ * <p>
+ * The axis clears the cache whenever it sends an 
+ * {@link org.jfree.chart.event.AxisChangeEvent}.
+ */
+final class TickCache {
+
+    /** The maximum number of tick lists held. */
+    private static final int CAPACITY = 4;
+
+    /** The keys for the cached tick lists. */
+    private final Key[] tickKeys;
+
+    /** The cached tick lists. */
+    private final List<?>[] ticks;
+
+    /** The tick units in effect after each tick list was calculated. */
+    private final TickUnit[] tickUnits;
+
+    /** The keys for the cached tick label space. */
+    private final Key[] spaceKeys;
+
+    /** The cached tick label space. */
+    private final double[] spaces;
+
+    /** The index of the next tick entry to replace. */
+    private int nextTickIndex;
+
+    /** The index of the next space entry to replace. */
+    private int nextSpaceIndex;
+
+    /** The number of lookups answered from the cache. */
+    private long hitCount;
+
+    /** The number of lookups that were not answered from the cache. */
+    private long missCount;
+
+    /**
+     * Creates a new empty cache.
+     */
+    TickCache() {
+        this.tickKeys = new Key[CAPACITY];
+        this.ticks = new List<?>[CAPACITY];
+        this.tickUnits = new TickUnit[CAPACITY];
+        this.spaceKeys = new Key[CAPACITY];
+        this.spaces = new double[CAPACITY];
+    }
+
+    /**
+     * Returns the index of the entry with the specified key, or -1.
+     *
+     * @param keys  the keys.
+     * @param key  the key to find.
+     *
+     * @return The index.
+     */
+    private int indexOf(Key[] keys, Key key) {
+        for (int i = 0; i < CAPACITY; i++) {
+            if (key.equals(keys[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the cached tick list for the specified key, or 
+     * -1 if there is none.  The hit or miss is counted.
+     *
+     * @param key  the key ({@code null} not permitted).
+     *
+     * @return The index.
+     */
+    int findTicks(Key key) {
+        int index = indexOf(this.tickKeys, key);
+        if (index >= 0) {
+            this.hitCount++;
+        } else {
+            this.missCount++;
+        }
+        return index;
+    }
+
+    /**
+     * Returns a new list containing the cached ticks at the specified index.
+     *
+     * @param index  the index returned by {@link #findTicks(Key)}.
+     *
+     * @return A new list.
+     */
+    List getTicks(int index) {
+        return new ArrayList<>(this.ticks[index]);
+    }
+
+    /**
+     * Returns the tick unit that was in effect after the cached ticks at
+     * the specified index were calculated.
+     *
+     * @param index  the index returned by {@link #findTicks(Key)}.
+     *
+     * @return The tick unit (possibly {@code null}).
+     */
+    TickUnit getTickUnit(int index) {
+        return this.tickUnits[index];
+    }
+
+    /**
+     * Adds a tick list to the cache, replacing the oldest entry if the cache
+     * is full.
+     *
+     * @param key  the key ({@code null} not permitted).
+     * @param ticks  the ticks ({@code null} not permitted).
+     * @param tickUnit  the tick unit in effect after the ticks were 
+     *     calculated ({@code null} permitted).
+     */
+    void putTicks(Key key, List<?> ticks, TickUnit tickUnit) {
+        int i = this.nextTickIndex;
+        this.tickKeys[i] = key;
+        this.ticks[i] = new ArrayList<>(ticks);
+        this.tickUnits[i] = tickUnit;
+        this.nextTickIndex = (i + 1) % CAPACITY;
+    }
+
+    /**
+     * Returns the cached tick label space for the specified key, or 
+     * {@code NaN} if there is none.  The hit or miss is counted.
+     *
+     * @param key  the key ({@code null} not permitted).
+     *
+     * @return The space.
+     */
+    double getSpace(Key key) {
+        int index = indexOf(this.spaceKeys, key);
+        if (index < 0) {
+            this.missCount++;
+            return Double.NaN;
+        }
+        this.hitCount++;
+        return this.spaces[index];
+    }
+
+    /**
+     * Adds a tick label space to the cache, replacing the oldest entry if
+     * the cache is full.
+     *
+     * @param key  the key ({@code null} not permitted).
+     * @param space  the space.
+     */
+    void putSpace(Key key, double space) {
+        int i = this.nextSpaceIndex;
+        this.spaceKeys[i] = key;
+        this.spaces[i] = space;
+        this.nextSpaceIndex = (i + 1) % CAPACITY;
+    }
+
+    /**
+     * Returns the number of lookups answered from the cache.
+     *
+     * @return The hit count.
+     */
+    long getHitCount() {
+        return this.hitCount;
+    }
+
+    /**
+     * Returns the number of lookups that were not answered from the cache.
+     *
+     * @return The miss count.
+     */
+    long getMissCount() {
+        return this.missCount;
+    }
+
+    /**
+     * Removes all entries from the cache (the hit and miss counts are 
+     * retained).
+     */
+    void clear() {
+        for (int i = 0; i < CAPACITY; i++) {
+            this.tickKeys[i] = null;
+            this.ticks[i] = null;
+            this.tickUnits[i] = null;
+            this.spaceKeys[i] = null;
+        }
+        this.nextTickIndex = 0;
+        this.nextSpaceIndex = 0;
+    }
+
+    /**
+     * The inputs that the ticks of an axis depend on, other than the axis
+     * properties that trigger an 
+     * {@link org.jfree.chart.event.AxisChangeEvent} when they change.
+     */
+    static final class Key {
+
+        private final RectangleEdge edge;
+
+        private final double width;
+
+        private final double height;
+
+        private final double lower;
+
+        private final double upper;
+
+        private final Font font;
+
+        private final FontRenderContext frc;
+
+        private final TickUnit tickUnit;
+
+        /**
+         * Creates a new key.
+         *
+         * @param edge  the axis location.
+         * @param width  the width of the area.
+         * @param height  the height of the area.
+         * @param lower  the lower bound of the axis range.
+         * @param upper  the upper bound of the axis range.
+         * @param font  the tick label font.
+         * @param frc  the font render context.
+         * @param tickUnit  the tick unit if it is fixed, otherwise 
+         *     {@code null}.
+         */
+        Key(RectangleEdge edge, double width, double height, double lower,
+                double upper, Font font, FontRenderContext frc, 
+                TickUnit tickUnit) {
+            this.edge = edge;
+            this.width = width;
+            this.height = height;
+            this.lower = lower;
+            this.upper = upper;
+            this.font = font;
+            this.frc = frc;
+            this.tickUnit = tickUnit;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) obj;
+            return this.edge == that.edge
+                    && Double.compare(this.width, that.width) == 0
+                    && Double.compare(this.height, that.height) == 0
+                    && Double.compare(this.lower, that.lower) == 0
+                    && Double.compare(this.upper, that.upper) == 0
+                    && Objects.equals(this.font, that.font)
+                    && Objects.equals(this.frc, that.frc)
+                    && Objects.equals(this.tickUnit, that.tickUnit);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.edge, this.width, this.height, 
+                    this.lower, this.upper, this.font, this.frc, 
+                    this.tickUnit);
+        }
+    }
+
+}
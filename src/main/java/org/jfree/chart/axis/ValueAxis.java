@@ -122,6 +122,12 @@ public abstract class ValueAxis extends Axis
     /** The shape used for a right arrow. */
     private transient Shape rightArrow;
 
+    /** 
+     * The ticks and tick label space from recent calculations (created 
+     * lazily, and cleared whenever the axis sends a change event).
+     */
+    private transient TickCache tickCache;
+
     /** A flag that affects the orientation of the values on the axis. */
     private boolean inverted;
 
@@ -720,14 +726,33 @@ public abstract class ValueAxis extends Axis
         double tickLabelWidth = 0.0;
         if (isTickLabelsVisible()) {
             g2.setFont(getTickLabelFont());
-            List ticks = refreshTicks(g2, new AxisState(), plotArea, edge);
-            if (RectangleEdge.isTopOrBottom(edge)) {
-                tickLabelHeight = findMaximumTickLabelHeight(ticks, g2,
-                        plotArea, isVerticalTickLabels());
+            TickCache.Key key = null;
+            double cached = Double.NaN;
+            if (isTickCacheSupported()) {
+                key = createTickCacheKey(g2, plotArea, edge);
+                cached = getTickCache().getSpace(key);
             }
-            else if (RectangleEdge.isLeftOrRight(edge)) {
-                tickLabelWidth = findMaximumTickLabelWidth(ticks, g2, plotArea,
-                        isVerticalTickLabels());
+            if (!Double.isNaN(cached)) {
+                if (RectangleEdge.isTopOrBottom(edge)) {
+                    tickLabelHeight = cached;
+                } else {
+                    tickLabelWidth = cached;
+                }
+            } else {
+                List ticks = refreshTicks(g2, new AxisState(), plotArea, 
+                        edge);
+                if (RectangleEdge.isTopOrBottom(edge)) {
+                    tickLabelHeight = findMaximumTickLabelHeight(ticks, g2,
+                            plotArea, isVerticalTickLabels());
+                }
+                else if (RectangleEdge.isLeftOrRight(edge)) {
+                    tickLabelWidth = findMaximumTickLabelWidth(ticks, g2, 
+                            plotArea, isVerticalTickLabels());
+                }
+                if (key != null) {
+                    getTickCache().putSpace(key, 
+                            tickLabelHeight + tickLabelWidth);
+                }
             }
         }
 
@@ -1560,6 +1585,102 @@ public abstract class ValueAxis extends Axis
         this.autoTickIndex = index;
     }
 
+    /**
+     * Returns {@code true} if the ticks calculated by this axis can be 
+     * cached and reused for as long as the axis range, the size of the 
+     * area, the tick label font and the font render context are unchanged 
+     * and the axis sends no change event.  The default implementation 
+     * returns {@code false}, subclasses that support the cache override it.
+     * The cache is enabled for the {@link NumberAxis}, {@link DateAxis} and
+     * {@link LogAxis} classes only, a subclass of these must override this
+     * method to enable it (if its tick calculation depends on no other
+     * state).
+     *
+     * @return A boolean.
+     */
+    protected boolean isTickCacheSupported() {
+        return false;
+    }
+
+    /**
+     * Returns the number of times that ticks or tick label space were 
+     * reused from the cache rather than calculated.
+     *
+     * @return The hit count.
+     *
+     * @see #getTickCacheMissCount()
+     */
+    public long getTickCacheHitCount() {
+        return this.tickCache == null ? 0L : this.tickCache.getHitCount();
+    }
+
+    /**
+     * Returns the number of times that ticks or tick label space had to be 
+     * calculated because there was no matching entry in the cache.
+     *
+     * @return The miss count.
+     *
+     * @see #getTickCacheHitCount()
+     */
+    public long getTickCacheMissCount() {
+        return this.tickCache == null ? 0L : this.tickCache.getMissCount();
+    }
+
+    /**
+     * Returns the tick cache for this axis, creating it if necessary.
+     *
+     * @return The tick cache (never {@code null}).
+     */
+    TickCache getTickCache() {
+        if (this.tickCache == null) {
+            this.tickCache = new TickCache();
+        }
+        return this.tickCache;
+    }
+
+    /**
+     * Returns the tick unit that the cached ticks depend on, which is 
+     * {@code null} when the tick unit is selected automatically (because 
+     * it is then derived from the other inputs in the cache key).  
+     * Subclasses that support the tick cache override this method.
+     *
+     * @return The tick unit (possibly {@code null}).
+     */
+    TickUnit getTickCacheUnit() {
+        return null;
+    }
+
+    /**
+     * Creates the key for ticks calculated for the specified area.
+     *
+     * @param g2  the graphics target.
+     * @param area  the area (the plot area or the data area).
+     * @param edge  the axis location.
+     *
+     * @return The key.
+     */
+    TickCache.Key createTickCacheKey(Graphics2D g2, Rectangle2D area, 
+            RectangleEdge edge) {
+        return new TickCache.Key(edge, area.getWidth(), area.getHeight(),
+                this.range.getLowerBound(), this.range.getUpperBound(),
+                getTickLabelFont(), g2.getFontRenderContext(), 
+                getTickCacheUnit());
+    }
+
+    /**
+     * Clears the tick cache and notifies all registered listeners that the
+     * axis has changed.
+     *
+     * @param event  information about the change to the axis.
+     */
+    @Override
+    protected void notifyListeners(AxisChangeEvent event) {
+        if (this.tickCache != null) {
+            this.tickCache.clear();
+        }
+        super.notifyListeners(event);
+    }
+
     /**
      * Tests the axis for equality with an arbitrary object.
      *
@@ -1633,6 +1754,7 @@ public abstract class ValueAxis extends Axis
     @Override
     public Object clone() throws CloneNotSupportedException {
         ValueAxis clone = (ValueAxis) super.clone();
+        clone.tickCache = null;
         return clone;
     }
 
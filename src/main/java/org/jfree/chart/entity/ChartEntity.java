@@ -179,7 +179,7 @@ public class ChartEntity implements Cloneable, PublicCloneable, Serializable {
      * @return The shape type (never {@code null}).
      */
     public String getShapeType() {
-        if (this.area instanceof Rectangle2D) {
+        if (getArea() instanceof Rectangle2D) {
             return "rect";
         }
         else {
@@ -193,11 +193,12 @@ public class ChartEntity implements Cloneable, PublicCloneable, Serializable {
      * @return The shape coordinates (never {@code null}).
      */
     public String getShapeCoords() {
-        if (this.area instanceof Rectangle2D) {
-            return getRectCoords((Rectangle2D) this.area);
+        Shape shape = getArea();
+        if (shape instanceof Rectangle2D) {
+            return getRectCoords((Rectangle2D) shape);
         }
         else {
-            return getPolyCoords(this.area);
+            return getPolyCoords(shape);
         }
     }
 
@@ -276,20 +277,21 @@ public class ChartEntity implements Cloneable, PublicCloneable, Serializable {
             URLTagFragmentGenerator urlTagFragmentGenerator) {
 
         StringBuilder tag = new StringBuilder();
-        boolean hasURL = (this.urlText == null ? false
-                : !this.urlText.equals(""));
-        boolean hasToolTip = (this.toolTipText == null ? false
-                : !this.toolTipText.equals(""));
+        String urlText = getURLText();
+        String toolTipText = getToolTipText();
+        boolean hasURL = (urlText == null ? false : !urlText.equals(""));
+        boolean hasToolTip = (toolTipText == null ? false
+                : !toolTipText.equals(""));
         if (hasURL || hasToolTip) {
             tag.append("<area shape=\"").append(getShapeType()).append("\"")
                     .append(" coords=\"").append(getShapeCoords()).append("\"");
             if (hasToolTip) {
                 tag.append(toolTipTagFragmentGenerator.generateToolTipFragment(
-                        this.toolTipText));
+                        toolTipText));
             }
             if (hasURL) {
                 tag.append(urlTagFragmentGenerator.generateURLFragment(
-                        this.urlText));
+                        urlText));
             }
             else {
                 tag.append(" nohref=\"nohref\"");
@@ -314,7 +316,7 @@ public class ChartEntity implements Cloneable, PublicCloneable, Serializable {
     public String toString() {
         StringBuilder sb = new StringBuilder("ChartEntity: ");
         sb.append("tooltip = ");
-        sb.append(this.toolTipText);
+        sb.append(getToolTipText());
         return sb.toString();
     }
 
@@ -334,13 +336,13 @@ public class ChartEntity implements Cloneable, PublicCloneable, Serializable {
             return false;
         }
         ChartEntity that = (ChartEntity) obj;
-        if (!this.area.equals(that.area)) {
+        if (!getArea().equals(that.getArea())) {
             return false;
         }
-        if (!Objects.equals(this.toolTipText, that.toolTipText)) {
+        if (!Objects.equals(getToolTipText(), that.getToolTipText())) {
             return false;
         }
-        if (!Objects.equals(this.urlText, that.urlText)) {
+        if (!Objects.equals(getURLText(), that.getURLText())) {
             return false;
         }
         return true;
@@ -354,8 +356,8 @@ public class ChartEntity implements Cloneable, PublicCloneable, Serializable {
     @Override
     public int hashCode() {
         int result = 37;
-        result = HashUtils.hashCode(result, this.toolTipText);
-        result = HashUtils.hashCode(result, this.urlText);
+        result = HashUtils.hashCode(result, getToolTipText());
+        result = HashUtils.hashCode(result, getURLText());
         return result;
     }
 
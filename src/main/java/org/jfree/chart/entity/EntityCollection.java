@@ -36,8 +36,12 @@
 
 package org.jfree.chart.entity;
 
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
+import org.jfree.chart.internal.Args;
 
 /**
  * This interface defines the methods used to access an ordered list of
@@ -74,6 +78,28 @@ public interface EntityCollection {
      */
     ChartEntity getEntity(double x, double y);
 
+    /**
+     * Returns the entities with an area that intersects the specified
+     * rectangle (for example, the rectangle selected by dragging the mouse),
+     * in the order that they were added to the collection.  The default 
+     * implementation tests every entity, implementations can override it 
+     * to use an index.
+     *
+     * @param area  the area ({@code null} not permitted).
+     *
+     * @return A list of entities (possibly empty).
+     */
+    default List<ChartEntity> getEntities(Rectangle2D area) {
+        Args.nullNotPermitted(area, "area");
+        List<ChartEntity> result = new ArrayList<>();
+        for (ChartEntity entity : getEntities()) {
+            if (entity.getArea().intersects(area)) {
+                result.add(entity);
+            }
+        }
+        return result;
+    }
+
     /**
      * Returns an entity from the collection.
      *
@@ -0,0 +1,360 @@
+/* ======================================================
+ * JFreeChart : a chart library for the Java(tm) platform
+ * ======================================================
+ *
+ * (C) Copyright 2000-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------
+ * EntityGrid.java
+ * ---------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.entity;
+
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * A uniform grid over the bounds of the entities in a list, used by
+ * {@link StandardEntityCollection} to find the entities at a point (or in
+ * a rectangle) without testing every entity.  Each entity is recorded in
+ * the cells that its bounds overlap, in list order, except for entities
+ * that span many cells (such as plot and chart entities) which are kept in
+ * a separate list and always tested.  The grid is immutable, it must be
+ * recreated if the list of entities (or the area of an entity) changes.
+ */
+class EntityGrid {
+
+    /** The maximum number of cells in the grid. */
+    private static final int MAX_CELLS = 1 << 16;
+
+    /**
+     * The number of cells an entity can span before it is treated as a
+     * large entity.
+     */
+    private static final int LARGE_SPAN = 32;
+
+    /** The entities. */
+    private final ChartEntity[] entities;
+
+    /** The minimum x-coordinate of the bounds for each entity. */
+    private final double[] minX;
+
+    /** The minimum y-coordinate of the bounds for each entity. */
+    private final double[] minY;
+
+    /** The maximum x-coordinate of the bounds for each entity. */
+    private final double[] maxX;
+
+    /** The maximum y-coordinate of the bounds for each entity. */
+    private final double[] maxY;
+
+    /** The x-coordinate of the grid origin. */
+    private double originX;
+
+    /** The y-coordinate of the grid origin. */
+    private double originY;
+
+    /** The width of each cell. */
+    private double cellWidth;
+
+    /** The height of each cell. */
+    private double cellHeight;
+
+    /** The number of columns. */
+    private int columns;
+
+    /** The number of rows. */
+    private int rows;
+
+    /**
+     * The index into {@code cellItems} of the first entity for each cell
+     * (with an extra entry marking the end of the last cell).
+     */
+    private int[] cellStart;
+
+    /** The entity indices for all cells, in ascending order for each cell. */
+    private int[] cellItems;
+
+    /** The indices of the large entities, in ascending order. */
+    private int[] large;
+
+    /**
+     * Creates a grid for the specified entities.
+     *
+     * @param list  the entities ({@code null} not permitted).
+     */
+    EntityGrid(List<ChartEntity> list) {
+        int n = list.size();
+        this.entities = list.toArray(new ChartEntity[n]);
+        this.minX = new double[n];
+        this.minY = new double[n];
+        this.maxX = new double[n];
+        this.maxY = new double[n];
+        double x0 = Double.POSITIVE_INFINITY;
+        double y0 = Double.POSITIVE_INFINITY;
+        double x1 = Double.NEGATIVE_INFINITY;
+        double y1 = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < n; i++) {
+            Rectangle2D b = this.entities[i].getArea().getBounds2D();
+            this.minX[i] = b.getMinX();
+            this.minY[i] = b.getMinY();
+            this.maxX[i] = b.getMaxX();
+            this.maxY[i] = b.getMaxY();
+            if (isFinite(i)) {
+                x0 = Math.min(x0, this.minX[i]);
+                y0 = Math.min(y0, this.minY[i]);
+                x1 = Math.max(x1, this.maxX[i]);
+                y1 = Math.max(y1, this.maxY[i]);
+            }
+        }
+        if (x0 > x1) {  // no entity has finite bounds
+            x0 = 0.0;
+            y0 = 0.0;
+            x1 = 0.0;
+            y1 = 0.0;
+        }
+        int cells = Math.max(1, Math.min(n / 2, MAX_CELLS));
+        double w = x1 - x0;
+        double h = y1 - y0;
+        if (w > 0.0 && h > 0.0) {
+            this.columns = (int) Math.max(1, Math.min(cells,
+                    Math.round(Math.sqrt(cells * w / h))));
+            this.rows = Math.max(1, cells / this.columns);
+        } else if (w > 0.0) {
+            this.columns = cells;
+            this.rows = 1;
+        } else {
+            this.columns = 1;
+            this.rows = h > 0.0 ? cells : 1;
+        }
+        this.originX = x0;
+        this.originY = y0;
+        this.cellWidth = w > 0.0 ? w / this.columns : 1.0;
+        this.cellHeight = h > 0.0 ? h / this.rows : 1.0;
+        build(n);
+    }
+
+    /**
+     * Returns {@code true} if the bounds for an entity are finite.
+     *
+     * @param i  the entity index.
+     *
+     * @return A boolean.
+     */
+    private boolean isFinite(int i) {
+        return Double.isFinite(this.minX[i]) && Double.isFinite(this.minY[i])
+                && Double.isFinite(this.maxX[i])
+                && Double.isFinite(this.maxY[i]);
+    }
+
+    /**
+     * Returns the column containing an x-coordinate, clamped to the grid.
+     *
+     * @param x  the x-coordinate.
+     *
+     * @return The column index.
+     */
+    private int column(double x) {
+        int c = (int) Math.floor((x - this.originX) / this.cellWidth);
+        return Math.max(0, Math.min(c, this.columns - 1));
+    }
+
+    /**
+     * Returns the row containing a y-coordinate, clamped to the grid.
+     *
+     * @param y  the y-coordinate.
+     *
+     * @return The row index.
+     */
+    private int row(double y) {
+        int r = (int) Math.floor((y - this.originY) / this.cellHeight);
+        return Math.max(0, Math.min(r, this.rows - 1));
+    }
+
+    /**
+     * Records each entity in the cells that its bounds overlap (or in the
+     * list of large entities).
+     *
+     * @param n  the number of entities.
+     */
+    private void build(int n) {
+        int cellCount = this.columns * this.rows;
+        int[] counts = new int[cellCount + 1];
+        boolean[] isLarge = new boolean[n];
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            if (!isFinite(i)) {
+                isLarge[i] = true;
+                largeCount++;
+                continue;
+            }
+            int c0 = column(this.minX[i]);
+            int c1 = column(this.maxX[i]);
+            int r0 = row(this.minY[i]);
+            int r1 = row(this.maxY[i]);
+            if ((long) (c1 - c0 + 1) * (r1 - r0 + 1) > LARGE_SPAN) {
+                isLarge[i] = true;
+                largeCount++;
+                continue;
+            }
+            for (int r = r0; r <= r1; r++) {
+                for (int c = c0; c <= c1; c++) {
+                    counts[r * this.columns + c + 1]++;
+                }
+            }
+        }
+        for (int cell = 0; cell < cellCount; cell++) {
+            counts[cell + 1] += counts[cell];
+        }
+        this.cellStart = counts.clone();
+        this.cellItems = new int[counts[cellCount]];
+        this.large = new int[largeCount];
+        int k = 0;
+        for (int i = 0; i < n; i++) {
+            if (isLarge[i]) {
+                this.large[k++] = i;
+                continue;
+            }
+            int c0 = column(this.minX[i]);
+            int c1 = column(this.maxX[i]);
+            int r0 = row(this.minY[i]);
+            int r1 = row(this.maxY[i]);
+            for (int r = r0; r <= r1; r++) {
+                for (int c = c0; c <= c1; c++) {
+                    this.cellItems[counts[r * this.columns + c]++] = i;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns {@code true} if a point lies inside the grid.
+     *
+     * @param x  the x-coordinate.
+     * @param y  the y-coordinate.
+     *
+     * @return A boolean.
+     */
+    private boolean inGrid(double x, double y) {
+        return x >= this.originX
+                && x <= this.originX + this.cellWidth * this.columns
+                && y >= this.originY
+                && y <= this.originY + this.cellHeight * this.rows;
+    }
+
+    /**
+     * Returns the last entity with an area that contains the specified
+     * point, or {@code null}.
+     *
+     * @param x  the x-coordinate.
+     * @param y  the y-coordinate.
+     *
+     * @return The entity (possibly {@code null}).
+     */
+    ChartEntity getEntity(double x, double y) {
+        int i = -1;
+        int end = 0;
+        if (inGrid(x, y)) {
+            int cell = row(y) * this.columns + column(x);
+            i = this.cellStart[cell + 1] - 1;
+            end = this.cellStart[cell];
+        }
+        int j = this.large.length - 1;
+        // visit the candidates from both lists in descending index order
+        while (i >= end || j >= 0) {
+            int index;
+            if (j < 0 || (i >= end && this.cellItems[i] > this.large[j])) {
+                index = this.cellItems[i--];
+            } else {
+                index = this.large[j--];
+            }
+            if (x >= this.minX[index] && x <= this.maxX[index]
+                    && y >= this.minY[index] && y <= this.maxY[index]
+                    || !isFinite(index)) {
+                ChartEntity entity = this.entities[index];
+                if (entity.getArea().contains(x, y)) {
+                    return entity;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the entities with an area that intersects the specified
+     * rectangle, in list order.
+     *
+     * @param area  the area.
+     *
+     * @return The entities.
+     */
+    List<ChartEntity> getEntities(Rectangle2D area) {
+        BitSet candidates = new BitSet(this.entities.length);
+        for (int index : this.large) {
+            candidates.set(index);
+        }
+        double gridMaxX = this.originX + this.cellWidth * this.columns;
+        double gridMaxY = this.originY + this.cellHeight * this.rows;
+        if (area.getMaxX() >= this.originX && area.getMinX() <= gridMaxX
+                && area.getMaxY() >= this.originY
+                && area.getMinY() <= gridMaxY) {
+            int c0 = column(area.getMinX());
+            int c1 = column(area.getMaxX());
+            int r0 = row(area.getMinY());
+            int r1 = row(area.getMaxY());
+            for (int r = r0; r <= r1; r++) {
+                for (int c = c0; c <= c1; c++) {
+                    int cell = r * this.columns + c;
+                    for (int k = this.cellStart[cell];
+                            k < this.cellStart[cell + 1]; k++) {
+                        candidates.set(this.cellItems[k]);
+                    }
+                }
+            }
+        }
+        List<ChartEntity> result = new ArrayList<>();
+        for (int index = candidates.nextSetBit(0); index >= 0;
+                index = candidates.nextSetBit(index + 1)) {
+            if (this.maxX[index] < area.getMinX()
+                    || this.minX[index] > area.getMaxX()
+                    || this.maxY[index] < area.getMinY()
+                    || this.minY[index] > area.getMaxY()) {
+                continue;
+            }
+            ChartEntity entity = this.entities[index];
+            if (entity.getArea().intersects(area)) {
+                result.add(entity);
+            }
+        }
+        return result;
+    }
+
+}
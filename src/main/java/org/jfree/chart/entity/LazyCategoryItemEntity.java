@@ -0,0 +1,169 @@
+/* ======================================================
+ * JFreeChart : a chart library for the Java(tm) platform
+ * ======================================================
+ *
+ * (C) Copyright 2000-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------
+ * LazyCategoryItemEntity.java
+ * ---------------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.entity;
+
+import java.awt.Shape;
+import java.io.ObjectStreamException;
+
+import org.jfree.chart.labels.CategoryToolTipGenerator;
+import org.jfree.chart.urls.CategoryURLGenerator;
+import org.jfree.data.category.CategoryDataset;
+
+/**
+ * A {@link CategoryItemEntity} that generates its tool tip and URL text the
+ * first time they are requested, rather than when the entity is created.
+ * This is used by the renderers when the entity collection is in lazy mode
+ * (see {@link StandardEntityCollection#setLazyItemEntities(boolean)}).  Note
+ * that the text is generated from the dataset as it is at the time of the
+ * request.
+ * <p>
+ * When serialized, an instance is replaced by a regular
+ * {@link CategoryItemEntity} containing the generated text.
+ *
+ * @param <R> the row-key type
+ * @param <C> the column-key type
+ */
+public class LazyCategoryItemEntity<R extends Comparable<R>,
+        C extends Comparable<C>> extends CategoryItemEntity<R, C> {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -1570364207593226431L;
+
+    /** The row index. */
+    private final int row;
+
+    /** The column index. */
+    private final int column;
+
+    /** The tool tip generator ({@code null} once the text is generated). */
+    private transient CategoryToolTipGenerator<R, C> toolTipGenerator;
+
+    /** The URL generator ({@code null} once the text is generated). */
+    private transient CategoryURLGenerator urlGenerator;
+
+    /**
+     * Creates a new entity instance for an item in the specified dataset.
+     *
+     * @param area  the 'hotspot' area ({@code null} not permitted).
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param row  the row index.
+     * @param column  the column index.
+     * @param toolTipGenerator  the tool tip generator ({@code null}
+     *     permitted).
+     * @param urlGenerator  the URL generator ({@code null} permitted).
+     */
+    public LazyCategoryItemEntity(Shape area, CategoryDataset<R, C> dataset,
+            int row, int column,
+            CategoryToolTipGenerator<R, C> toolTipGenerator,
+            CategoryURLGenerator urlGenerator) {
+        super(area, null, null, dataset, dataset.getRowKey(row),
+                dataset.getColumnKey(column));
+        this.row = row;
+        this.column = column;
+        this.toolTipGenerator = toolTipGenerator;
+        this.urlGenerator = urlGenerator;
+    }
+
+    /**
+     * Returns the tool tip text for the entity, generating it on the first
+     * call.
+     *
+     * @return The tool tip text (possibly {@code null}).
+     */
+    @Override
+    public String getToolTipText() {
+        if (this.toolTipGenerator != null) {
+            CategoryToolTipGenerator<R, C> generator = this.toolTipGenerator;
+            this.toolTipGenerator = null;
+            super.setToolTipText(generator.generateToolTip(getDataset(),
+                    this.row, this.column));
+        }
+        return super.getToolTipText();
+    }
+
+    /**
+     * Sets the tool tip text (replacing any text not yet generated).
+     *
+     * @param text  the text ({@code null} permitted).
+     */
+    @Override
+    public void setToolTipText(String text) {
+        this.toolTipGenerator = null;
+        super.setToolTipText(text);
+    }
+
+    /**
+     * Returns the URL text for the entity, generating it on the first call.
+     *
+     * @return The URL text (possibly {@code null}).
+     */
+    @Override
+    public String getURLText() {
+        if (this.urlGenerator != null) {
+            CategoryURLGenerator generator = this.urlGenerator;
+            this.urlGenerator = null;
+            super.setURLText(generator.generateURL(getDataset(), this.row,
+                    this.column));
+        }
+        return super.getURLText();
+    }
+
+    /**
+     * Sets the URL text (replacing any text not yet generated).
+     *
+     * @param text  the text ({@code null} permitted).
+     */
+    @Override
+    public void setURLText(String text) {
+        this.urlGenerator = null;
+        super.setURLText(text);
+    }
+
+    /**
+     * Replaces this entity with a regular {@link CategoryItemEntity} for
+     * serialization.
+     *
+     * @return The replacement.
+     *
+     * @throws ObjectStreamException never.
+     */
+    private Object writeReplace() throws ObjectStreamException {
+        return new CategoryItemEntity<>(getArea(), getToolTipText(),
+                getURLText(), getDataset(), getRowKey(), getColumnKey());
+    }
+
+}
@@ -0,0 +1,156 @@
+/* ======================================================
+ * JFreeChart : a chart library for the Java(tm) platform
+ * ======================================================
+ *
+ * (C) Copyright 2000-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------
+ * LazyXYItemEntity.java
+ * ---------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.entity;
+
+import java.awt.Shape;
+import java.io.ObjectStreamException;
+
+import org.jfree.chart.labels.XYToolTipGenerator;
+import org.jfree.chart.urls.XYURLGenerator;
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * An {@link XYItemEntity} that generates its tool tip and URL text the first
+ * time they are requested, rather than when the entity is created.  This is
+ * used by the renderers when the entity collection is in lazy mode (see
+ * {@link StandardEntityCollection#setLazyItemEntities(boolean)}), so that
+ * drawing a chart with many items does not generate text for items that
+ * are never inspected.  Note that the text is generated from the dataset
+ * as it is at the time of the request.
+ * <p>
+ * When serialized, an instance is replaced by a regular
+ * {@link XYItemEntity} containing the generated text.
+ */
+public class LazyXYItemEntity extends XYItemEntity {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 2136045339562316271L;
+
+    /** The tool tip generator ({@code null} once the text is generated). */
+    private transient XYToolTipGenerator toolTipGenerator;
+
+    /** The URL generator ({@code null} once the text is generated). */
+    private transient XYURLGenerator urlGenerator;
+
+    /**
+     * Creates a new entity.
+     *
+     * @param area  the area ({@code null} not permitted).
+     * @param dataset  the dataset.
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     * @param toolTipGenerator  the tool tip generator ({@code null}
+     *     permitted).
+     * @param urlGenerator  the URL generator ({@code null} permitted).
+     */
+    public LazyXYItemEntity(Shape area, XYDataset<?> dataset, int series,
+            int item, XYToolTipGenerator toolTipGenerator,
+            XYURLGenerator urlGenerator) {
+        super(area, dataset, series, item, null, null);
+        this.toolTipGenerator = toolTipGenerator;
+        this.urlGenerator = urlGenerator;
+    }
+
+    /**
+     * Returns the tool tip text for the entity, generating it on the first
+     * call.
+     *
+     * @return The tool tip text (possibly {@code null}).
+     */
+    @Override
+    public String getToolTipText() {
+        if (this.toolTipGenerator != null) {
+            XYToolTipGenerator generator = this.toolTipGenerator;
+            this.toolTipGenerator = null;
+            super.setToolTipText(generator.generateToolTip(getDataset(),
+                    getSeriesIndex(), getItem()));
+        }
+        return super.getToolTipText();
+    }
+
+    /**
+     * Sets the tool tip text (replacing any text not yet generated).
+     *
+     * @param text  the text ({@code null} permitted).
+     */
+    @Override
+    public void setToolTipText(String text) {
+        this.toolTipGenerator = null;
+        super.setToolTipText(text);
+    }
+
+    /**
+     * Returns the URL text for the entity, generating it on the first call.
+     *
+     * @return The URL text (possibly {@code null}).
+     */
+    @Override
+    public String getURLText() {
+        if (this.urlGenerator != null) {
+            XYURLGenerator generator = this.urlGenerator;
+            this.urlGenerator = null;
+            super.setURLText(generator.generateURL(getDataset(),
+                    getSeriesIndex(), getItem()));
+        }
+        return super.getURLText();
+    }
+
+    /**
+     * Sets the URL text (replacing any text not yet generated).
+     *
+     * @param text  the text ({@code null} permitted).
+     */
+    @Override
+    public void setURLText(String text) {
+        this.urlGenerator = null;
+        super.setURLText(text);
+    }
+
+    /**
+     * Replaces this entity with a regular {@link XYItemEntity} for
+     * serialization.
+     *
+     * @return The replacement.
+     *
+     * @throws ObjectStreamException never.
+     */
+    private Object writeReplace() throws ObjectStreamException {
+        return new XYItemEntity(getArea(), getDataset(), getSeriesIndex(),
+                getItem(), getToolTipText(), getURLText());
+    }
+
+}
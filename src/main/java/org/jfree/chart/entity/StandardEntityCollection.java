@@ -36,6 +36,9 @@
 
 package org.jfree.chart.entity;
 
+import java.awt.geom.Rectangle2D;
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -49,6 +52,20 @@ import org.jfree.chart.api.PublicCloneable;
 
 /**
  * A standard implementation of the {@link EntityCollection} interface.
+ * <p>
+ * For collections with more than a few entities, the first call to
+ * {@link #getEntity(double, double)} or {@link #getEntities(Rectangle2D)}
+ * after the entities have changed builds a grid index over the entity
+ * bounds, so that later queries (for example, to find a tooltip on every
+ * mouse move) only test the entities near the query point.  The index is
+ * discarded whenever entities are added or cleared, but it does not detect
+ * changes to the area of an entity that is already in the collection.
+ * <p>
+ * Two settings reduce the cost of recording entities for charts with many
+ * items: a maximum entity count, beyond which further entities are ignored
+ * (and renderers skip creating them), and a lazy mode in which the
+ * renderers record item entities that generate their tool tip and URL text
+ * only when it is requested.
  */
 public class StandardEntityCollection implements EntityCollection,
         Cloneable, PublicCloneable, Serializable {
@@ -56,14 +73,98 @@ public class StandardEntityCollection implements EntityCollection,
     /** For serialization. */
     private static final long serialVersionUID = 5384773031184897047L;
 
+    /**
+     * The number of entities at which a grid index is used for the
+     * point and area queries.
+     */
+    private static final int INDEX_THRESHOLD = 64;
+
     /** Storage for the entities. */
     private List<ChartEntity> entities;
 
+    /** An index over the entity bounds (built on demand). */
+    private transient EntityGrid grid;
+
+    /** The maximum number of entities recorded by the collection. */
+    private int maximumEntityCount;
+
+    /**
+     * A flag that indicates to renderers that the tool tip and URL text
+     * for item entities should be generated on demand.
+     */
+    private boolean lazyItemEntities;
+
     /**
      * Constructs a new entity collection (initially empty).
      */
     public StandardEntityCollection() {
         this.entities = new ArrayList<>();
+        this.maximumEntityCount = Integer.MAX_VALUE;
+        this.lazyItemEntities = false;
+    }
+
+    /**
+     * Returns the maximum number of entities that the collection will
+     * record.  The default value is {@code Integer.MAX_VALUE}.
+     *
+     * @return The maximum entity count.
+     *
+     * @see #setMaximumEntityCount(int)
+     */
+    public int getMaximumEntityCount() {
+        return this.maximumEntityCount;
+    }
+
+    /**
+     * Sets the maximum number of entities that the collection will record.
+     * Once the collection is full, entities passed to {@link #add(ChartEntity)}
+     * are ignored, so the collection contains the entities for the items
+     * drawn first.  Entities already in the collection are not removed.
+     *
+     * @param max  the maximum entity count (must be non-negative).
+     *
+     * @see #isFull()
+     */
+    public void setMaximumEntityCount(int max) {
+        Args.requireNonNegative(max, "max");
+        this.maximumEntityCount = max;
+    }
+
+    /**
+     * Returns {@code true} if the collection holds the maximum number of
+     * entities.  Renderers check this before creating an item entity.
+     *
+     * @return A boolean.
+     */
+    public boolean isFull() {
+        return this.entities.size() >= this.maximumEntityCount;
+    }
+
+    /**
+     * Returns the flag that indicates to renderers that item entities
+     * should generate their tool tip and URL text on demand.  The default
+     * value is {@code false}.
+     *
+     * @return A boolean.
+     *
+     * @see #setLazyItemEntities(boolean)
+     */
+    public boolean isLazyItemEntities() {
+        return this.lazyItemEntities;
+    }
+
+    /**
+     * Sets the flag that indicates to renderers that item entities should
+     * generate their tool tip and URL text on demand (see
+     * {@link LazyXYItemEntity} and {@link LazyCategoryItemEntity}).  This
+     * saves time and memory when most entities are never inspected, but
+     * the text is then generated from the dataset as it is when the text
+     * is requested rather than when the chart was drawn.
+     *
+     * @param lazy  the new flag value.
+     */
+    public void setLazyItemEntities(boolean lazy) {
+        this.lazyItemEntities = lazy;
     }
 
     /**
@@ -96,28 +197,46 @@ public class StandardEntityCollection implements EntityCollection,
     @Override
     public void clear() {
         this.entities.clear();
+        this.grid = null;
     }
 
     /**
-     * Adds an entity to the collection.
+     * Adds an entity to the collection, unless the collection is full.
      *
      * @param entity  the entity ({@code null} not permitted).
      */
     @Override
     public void add(ChartEntity entity) {
         Args.nullNotPermitted(entity, "entity");
+        if (isFull()) {
+            return;
+        }
         this.entities.add(entity);
+        this.grid = null;
     }
 
     /**
-     * Adds all the entities from the specified collection.
+     * Adds all the entities from the specified collection (up to the
+     * maximum entity count).
      *
      * @param collection  the collection of entities ({@code null} not
      *     permitted).
      */
     @Override
     public void addAll(EntityCollection collection) {
-        this.entities.addAll(collection.getEntities());
+        Collection<ChartEntity> more = collection.getEntities();
+        int space = this.maximumEntityCount - this.entities.size();
+        if (more.size() <= space) {
+            this.entities.addAll(more);
+        } else {
+            for (ChartEntity entity : more) {
+                if (space-- <= 0) {
+                    break;
+                }
+                this.entities.add(entity);
+            }
+        }
+        this.grid = null;
     }
 
     /**
@@ -132,6 +251,9 @@ public class StandardEntityCollection implements EntityCollection,
     @Override
     public ChartEntity getEntity(double x, double y) {
         int entityCount = this.entities.size();
+        if (entityCount >= INDEX_THRESHOLD) {
+            return getGrid().getEntity(x, y);
+        }
         for (int i = entityCount - 1; i >= 0; i--) {
             ChartEntity entity = this.entities.get(i);
             if (entity.getArea().contains(x, y)) {
@@ -141,6 +263,41 @@ public class StandardEntityCollection implements EntityCollection,
         return null;
     }
 
+    /**
+     * Returns the entities with an area that intersects the specified
+     * rectangle, in the order that they were added to the collection.
+     *
+     * @param area  the area ({@code null} not permitted).
+     *
+     * @return A list of entities (possibly empty).
+     */
+    @Override
+    public List<ChartEntity> getEntities(Rectangle2D area) {
+        Args.nullNotPermitted(area, "area");
+        if (this.entities.size() >= INDEX_THRESHOLD) {
+            return getGrid().getEntities(area);
+        }
+        List<ChartEntity> result = new ArrayList<>();
+        for (ChartEntity entity : this.entities) {
+            if (entity.getArea().intersects(area)) {
+                result.add(entity);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the grid index for the entities, building it if necessary.
+     *
+     * @return The grid index.
+     */
+    private EntityGrid getGrid() {
+        if (this.grid == null) {
+            this.grid = new EntityGrid(this.entities);
+        }
+        return this.grid;
+    }
+
     /**
      * Returns the entities in an unmodifiable collection.
      *
@@ -175,6 +332,12 @@ public class StandardEntityCollection implements EntityCollection,
         }
         if (obj instanceof StandardEntityCollection) {
             StandardEntityCollection that = (StandardEntityCollection) obj;
+            if (this.maximumEntityCount != that.maximumEntityCount) {
+                return false;
+            }
+            if (this.lazyItemEntities != that.lazyItemEntities) {
+                return false;
+            }
             return Objects.equals(this.entities, that.entities);
         }
         return false;
@@ -198,6 +361,7 @@ public class StandardEntityCollection implements EntityCollection,
     public Object clone() throws CloneNotSupportedException {
         StandardEntityCollection clone
                 = (StandardEntityCollection) super.clone();
+        clone.grid = null;
         clone.entities = new ArrayList<>(this.entities.size());
         for (int i = 0; i < this.entities.size(); i++) {
             ChartEntity entity = this.entities.get(i);
@@ -206,4 +370,24 @@ public class StandardEntityCollection implements EntityCollection,
         return clone;
     }
 
+    /**
+     * Provides serialization support.  The maximum entity count and lazy
+     * item entities flag take their default values when reading a
+     * collection that was written before these fields were added.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = stream.readFields();
+        this.entities = (List<ChartEntity>) fields.get("entities", null);
+        this.maximumEntityCount = fields.get("maximumEntityCount",
+                Integer.MAX_VALUE);
+        this.lazyItemEntities = fields.get("lazyItemEntities", false);
+    }
+
 }
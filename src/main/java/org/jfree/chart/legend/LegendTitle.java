@@ -599,6 +599,28 @@ public class LegendTitle extends Title
         this.wrapper = wrapper;
     }
 
+    /**
+     * Returns a clone of the legend.  The clone has its own sources array
+     * and its own container for the legend items, so that it can fetch and
+     * arrange its items independently of the original.  The sources
+     * themselves, and the wrapper container (if any), are shared with the
+     * original.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        LegendTitle clone = (LegendTitle) super.clone();
+        clone.sources = this.sources.clone();
+        clone.items = new BlockContainer(this.items.getArrangement());
+        clone.items.setFrame(this.items.getFrame());
+        clone.items.setMargin(this.items.getMargin());
+        clone.items.setPadding(this.items.getPadding());
+        return clone;
+    }
+
     /**
      * Tests this title for equality with an arbitrary object.
      *
@@ -521,6 +521,7 @@ public class PaintScaleLegend extends Title implements AxisChangeListener,
         double base = this.axis.getLowerBound();
         double increment = this.axis.getRange().getLength() / this.subdivisions;
         Rectangle2D r = new Rectangle2D.Double();
+        PaintScale scale = this.scale.compile();
 
         if (RectangleEdge.isTopOrBottom(getPosition())) {
             RectangleEdge axisEdge = Plot.resolveRangeAxisLocation(
@@ -528,7 +529,7 @@ public class PaintScaleLegend extends Title implements AxisChangeListener,
             if (axisEdge == RectangleEdge.TOP) {
                 for (int i = 0; i < this.subdivisions; i++) {
                     double v = base + (i * increment);
-                    Paint p = this.scale.getPaint(v);
+                    Paint p = scale.getPaint(v);
                     double vv0 = this.axis.valueToJava2D(v, target,
                             RectangleEdge.TOP);
                     double vv1 = this.axis.valueToJava2D(v + increment, target,
@@ -553,7 +554,7 @@ public class PaintScaleLegend extends Title implements AxisChangeListener,
             else if (axisEdge == RectangleEdge.BOTTOM) {
                 for (int i = 0; i < this.subdivisions; i++) {
                     double v = base + (i * increment);
-                    Paint p = this.scale.getPaint(v);
+                    Paint p = scale.getPaint(v);
                     double vv0 = this.axis.valueToJava2D(v, target,
                             RectangleEdge.BOTTOM);
                     double vv1 = this.axis.valueToJava2D(v + increment, target,
@@ -582,7 +583,7 @@ public class PaintScaleLegend extends Title implements AxisChangeListener,
             if (axisEdge == RectangleEdge.LEFT) {
                 for (int i = 0; i < this.subdivisions; i++) {
                     double v = base + (i * increment);
-                    Paint p = this.scale.getPaint(v);
+                    Paint p = scale.getPaint(v);
                     double vv0 = this.axis.valueToJava2D(v, target,
                             RectangleEdge.LEFT);
                     double vv1 = this.axis.valueToJava2D(v + increment, target,
@@ -607,7 +608,7 @@ public class PaintScaleLegend extends Title implements AxisChangeListener,
             else if (axisEdge == RectangleEdge.RIGHT) {
                 for (int i = 0; i < this.subdivisions; i++) {
                     double v = base + (i * increment);
-                    Paint p = this.scale.getPaint(v);
+                    Paint p = scale.getPaint(v);
                     double vv0 = this.axis.valueToJava2D(v, target,
                             RectangleEdge.LEFT);
                     double vv1 = this.axis.valueToJava2D(v + increment, target,
@@ -85,6 +85,9 @@ public class CombinedDomainXYPlot<S extends Comparable<S>> extends XYPlot<S>
     /** The gap between subplots. */
     private double gap = 5.0;
 
+    /** A flag that controls whether the subplots are drawn in parallel. */
+    private boolean parallelRendering;
+
     /** Temporary storage for the subplot areas. */
     private transient Rectangle2D[] subplotAreas;
     // TODO:  the subplot areas needs to be moved out of the plot into the plot
@@ -145,6 +148,47 @@ public class CombinedDomainXYPlot<S extends Comparable<S>> extends XYPlot<S>
         fireChangeEvent();
     }
 
+    /**
+     * Returns the flag that controls whether the subplots are drawn in
+     * parallel.  The default value is {@code false}.
+     *
+     * @return A boolean.
+     *
+     * @see #setParallelRendering(boolean)
+     */
+    public boolean isParallelRendering() {
+        return this.parallelRendering;
+    }
+
+    /**
+     * Sets the flag that controls whether the subplots are drawn in parallel
+     * and sends a {@link PlotChangeEvent} to all registered listeners.  When
+     * the flag is set and the chart is drawn to an image, each subplot is
+     * drawn on a separate thread (from the common fork-join pool) into its
+     * own offscreen layer, and the layers are then copied to the target in
+     * subplot order, so the output and the rendering info (including the
+     * entities) match those of sequential drawing (except that antialiased
+     * edges drawn over content from outside the subplot, such as the shared
+     * axis line, may differ by one colour level).  Subplots are still drawn
+     * sequentially for other targets (for example printing), when the
+     * target has a non-default composite or LCD text antialiasing, and when
+     * there are fewer than two subplots.
+     * <p>
+     * Only enable this if the subplots do not share renderers or datasets
+     * that may be modified while the chart is being drawn.  Note that some
+     * {@code Graphics2D} implementations for vector output (SVG for example)
+     * report an image buffer as their device, in which case the subplots
+     * would be included as images.
+     *
+     * @param parallel  the new flag value.
+     *
+     * @see #isParallelRendering()
+     */
+    public void setParallelRendering(boolean parallel) {
+        this.parallelRendering = parallel;
+        fireChangeEvent();
+    }
+
     /**
      * Returns {@code true} if the range is pannable for at least one subplot,
      * and {@code false} otherwise.
@@ -454,15 +498,22 @@ public class CombinedDomainXYPlot<S extends Comparable<S>> extends XYPlot<S>
         parentState.getSharedAxisStates().put(axis, axisState);
 
         // draw all the subplots
-        for (int i = 0; i < this.subplots.size(); i++) {
-            XYPlot plot = (XYPlot) this.subplots.get(i);
-            PlotRenderingInfo subplotInfo = null;
-            if (info != null) {
-                subplotInfo = new PlotRenderingInfo(info.getOwner());
-                info.addSubplotInfo(subplotInfo);
+        XYPlot<?>[] plots = this.parallelRendering
+                ? this.subplots.toArray(new XYPlot<?>[0]) : null;
+        if (plots != null && SubplotLayerRenderer.isSupported(g2, plots)) {
+            SubplotLayerRenderer.draw(g2, plots, this.subplotAreas, anchor,
+                    parentState, info);
+        } else {
+            for (int i = 0; i < this.subplots.size(); i++) {
+                XYPlot plot = (XYPlot) this.subplots.get(i);
+                PlotRenderingInfo subplotInfo = null;
+                if (info != null) {
+                    subplotInfo = new PlotRenderingInfo(info.getOwner());
+                    info.addSubplotInfo(subplotInfo);
+                }
+                plot.draw(g2, this.subplotAreas[i], anchor, parentState,
+                        subplotInfo);
             }
-            plot.draw(g2, this.subplotAreas[i], anchor, parentState,
-                    subplotInfo);
         }
 
         if (info != null) {
@@ -718,6 +769,9 @@ public class CombinedDomainXYPlot<S extends Comparable<S>> extends XYPlot<S>
         if (this.gap != that.gap) {
             return false;
         }
+        if (this.parallelRendering != that.parallelRendering) {
+            return false;
+        }
         if (!Objects.equals(this.subplots, that.subplots)) {
             return false;
         }
@@ -83,6 +83,9 @@ public class CombinedRangeXYPlot<S extends Comparable<S>> extends XYPlot<S>
     /** The gap between subplots. */
     private double gap = 5.0;
 
+    /** A flag that controls whether the subplots are drawn in parallel. */
+    private boolean parallelRendering;
+
     /** Temporary storage for the subplot areas. */
     private transient Rectangle2D[] subplotAreas;
 
@@ -135,6 +138,33 @@ public class CombinedRangeXYPlot<S extends Comparable<S>> extends XYPlot<S>
     public void setGap(double gap) {
         this.gap = gap;
     }
+
+    /**
+     * Returns the flag that controls whether the subplots are drawn in
+     * parallel.  The default value is {@code false}.
+     *
+     * @return A boolean.
+     *
+     * @see #setParallelRendering(boolean)
+     */
+    public boolean isParallelRendering() {
+        return this.parallelRendering;
+    }
+
+    /**
+     * Sets the flag that controls whether the subplots are drawn in parallel
+     * and sends a {@link PlotChangeEvent} to all registered listeners.  See
+     * {@link CombinedDomainXYPlot#setParallelRendering(boolean)} for
+     * details.
+     *
+     * @param parallel  the new flag value.
+     *
+     * @see #isParallelRendering()
+     */
+    public void setParallelRendering(boolean parallel) {
+        this.parallelRendering = parallel;
+        fireChangeEvent();
+    }
     
     /**
      * Returns {@code true} if the domain is pannable for at least one subplot,
@@ -391,15 +421,22 @@ public class CombinedRangeXYPlot<S extends Comparable<S>> extends XYPlot<S>
         parentState.getSharedAxisStates().put(axis, axisState);
 
         // draw all the charts
-        for (int i = 0; i < this.subplots.size(); i++) {
-            XYPlot plot = (XYPlot) this.subplots.get(i);
-            PlotRenderingInfo subplotInfo = null;
-            if (info != null) {
-                subplotInfo = new PlotRenderingInfo(info.getOwner());
-                info.addSubplotInfo(subplotInfo);
+        XYPlot<?>[] plots = this.parallelRendering
+                ? this.subplots.toArray(new XYPlot<?>[0]) : null;
+        if (plots != null && SubplotLayerRenderer.isSupported(g2, plots)) {
+            SubplotLayerRenderer.draw(g2, plots, this.subplotAreas, anchor,
+                    parentState, info);
+        } else {
+            for (int i = 0; i < this.subplots.size(); i++) {
+                XYPlot plot = (XYPlot) this.subplots.get(i);
+                PlotRenderingInfo subplotInfo = null;
+                if (info != null) {
+                    subplotInfo = new PlotRenderingInfo(info.getOwner());
+                    info.addSubplotInfo(subplotInfo);
+                }
+                plot.draw(g2, this.subplotAreas[i], anchor, parentState,
+                        subplotInfo);
             }
-            plot.draw(g2, this.subplotAreas[i], anchor, parentState,
-                    subplotInfo);
         }
 
         if (info != null) {
@@ -678,6 +715,9 @@ public class CombinedRangeXYPlot<S extends Comparable<S>> extends XYPlot<S>
         if (this.gap != that.gap) {
             return false;
         }
+        if (this.parallelRendering != that.parallelRendering) {
+            return false;
+        }
         if (!Objects.equals(this.subplots, that.subplots)) {
             return false;
         }
@@ -0,0 +1,486 @@
+/* ======================================================
+ * JFreeChart : a chart library for the Java(tm) platform
+ * ======================================================
+ *
+ * (C) Copyright 2000-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * MinMaxXYDecimator.java
+ * ----------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.plot;
+
+import java.awt.geom.Rectangle2D;
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.jfree.chart.api.RectangleEdge;
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.internal.Args;
+import org.jfree.chart.renderer.RendererUtils;
+import org.jfree.chart.renderer.xy.DeviationRenderer;
+import org.jfree.chart.renderer.xy.SamplingXYLineRenderer;
+import org.jfree.chart.renderer.xy.StackedXYAreaRenderer;
+import org.jfree.chart.renderer.xy.StackedXYAreaRenderer2;
+import org.jfree.chart.renderer.xy.StandardXYItemRenderer;
+import org.jfree.chart.renderer.xy.XYAreaRenderer;
+import org.jfree.chart.renderer.xy.XYAreaRenderer2;
+import org.jfree.chart.renderer.xy.XYBezierRenderer;
+import org.jfree.chart.renderer.xy.XYErrorRenderer;
+import org.jfree.chart.renderer.xy.XYItemRenderer;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.chart.renderer.xy.XYSplineRenderer;
+import org.jfree.chart.renderer.xy.XYStepAreaRenderer;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.xy.DecimatedXYDataset;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYItemRangeInfo;
+
+/**
+ * A decimator that reduces each series to at most four items per pixel
+ * column (the first, last, minimum and maximum items for the column, a
+ * technique sometimes referred to as M4 aggregation).  For renderers that
+ * connect consecutive items with lines or areas, this produces the same
+ * pixels as drawing every item, while the drawing cost becomes proportional
+ * to the width of the data area rather than the number of items.  An item
+ * with a missing y-value in a column is also retained, so that gaps in a
+ * series are preserved.
+ * <p>
+ * If the dataset implements {@link XYItemRangeInfo} (for example a
+ * {@link org.jfree.data.xy.PrimitiveXYSeriesCollection}), the boundaries of
+ * each pixel column are located by searching the x-values and the extreme
+ * items are read from the dataset's index, so the cost is proportional to
+ * the number of pixel columns (times log n) rather than the number of
+ * visible items.
+ * <p>
+ * Decimation is only applied to datasets with x-values in ascending order,
+ * to series with more items in the visible range than the threshold number
+ * of items per pixel column, and to renderers that draw only lines or areas
+ * between consecutive items, with no shapes or item labels for any series,
+ * and no entities for any series when an entity collection is being filled
+ * (see {@link #isSupported(XYItemRenderer, int, boolean)}).  Renderers
+ * create entities by default, so when a chart is drawn with an entity
+ * collection (in a chart panel, for example) entity creation must be
+ * switched off (see
+ * {@link XYItemRenderer#setDefaultCreateEntities(boolean)}) for decimation
+ * to be applied.
+ * Note that the item indices passed to the renderer then refer to the
+ * {@link DecimatedXYDataset} view.
+ */
+public class MinMaxXYDecimator implements XYDecimator, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 4179346180925386517L;
+
+    /**
+     * The number of visible items per pixel column above which a series is
+     * decimated.
+     */
+    private final double threshold;
+
+    /**
+     * Creates a new decimator that decimates series with more than four
+     * visible items per pixel column.
+     */
+    public MinMaxXYDecimator() {
+        this(4.0);
+    }
+
+    /**
+     * Creates a new decimator.
+     *
+     * @param threshold  the number of visible items per pixel column above
+     *     which a series is decimated (must be positive).
+     */
+    public MinMaxXYDecimator(double threshold) {
+        if (!(threshold > 0.0)) {
+            throw new IllegalArgumentException("Requires 'threshold' > 0.");
+        }
+        this.threshold = threshold;
+    }
+
+    /**
+     * Returns the number of visible items per pixel column above which a
+     * series is decimated.
+     *
+     * @return The threshold.
+     */
+    public double getThreshold() {
+        return this.threshold;
+    }
+
+    /**
+     * Returns {@code true} if this decimator can be used with the specified
+     * renderer.  The default implementation returns {@code true} for the
+     * renderers that connect consecutive items in a series with lines or
+     * areas and read only the x and y-values from the dataset, provided that
+     * no series has visible shapes, visible item labels or (if
+     * {@code entities} is {@code true}) entities.  These are drawn or created
+     * for each item, so the items that are removed would be missing from the
+     * output.  Subclasses can override this method to support other
+     * renderers.
+     *
+     * @param renderer  the renderer ({@code null} not permitted).
+     * @param seriesCount  the number of series in the dataset.
+     * @param entities  a flag that indicates whether entities are being
+     *     collected for the chart.
+     *
+     * @return A boolean.
+     */
+    protected boolean isSupported(XYItemRenderer renderer, int seriesCount,
+            boolean entities) {
+        if (renderer instanceof DeviationRenderer
+                || renderer instanceof StackedXYAreaRenderer
+                || renderer instanceof StackedXYAreaRenderer2
+                || renderer instanceof XYErrorRenderer) {
+            return false;  // these require additional dataset interfaces
+        }
+        if (renderer instanceof XYSplineRenderer
+                || renderer instanceof XYBezierRenderer) {
+            return false;  // the curve depends on every item
+        }
+        if (!(renderer instanceof XYLineAndShapeRenderer
+                || renderer instanceof XYAreaRenderer
+                || renderer instanceof XYAreaRenderer2
+                || renderer instanceof XYStepAreaRenderer
+                || renderer instanceof StandardXYItemRenderer
+                || renderer instanceof SamplingXYLineRenderer)) {
+            return false;
+        }
+        if (renderer instanceof XYAreaRenderer
+                && ((XYAreaRenderer) renderer).getPlotShapes()) {
+            return false;
+        }
+        if (renderer instanceof XYStepAreaRenderer
+                && ((XYStepAreaRenderer) renderer).getShapesVisible()) {
+            return false;
+        }
+        if (renderer instanceof StandardXYItemRenderer) {
+            StandardXYItemRenderer r = (StandardXYItemRenderer) renderer;
+            if (r.getBaseShapesVisible() || r.getPlotImages()) {
+                return false;
+            }
+        }
+        for (int series = 0; series < seriesCount; series++) {
+            if (renderer instanceof XYLineAndShapeRenderer
+                    && ((XYLineAndShapeRenderer) renderer)
+                    .getItemShapeVisible(series, 0)) {
+                return false;
+            }
+            if (renderer.isSeriesItemLabelsVisible(series)
+                    || (entities && renderer.getItemCreateEntity(series, 0))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a view of {@code dataset} containing, for each series, the
+     * first, last, minimum and maximum items in each pixel column of the
+     * visible range, or {@code dataset} itself if decimation does not apply.
+     *
+     * @param <S>  the series key type.
+     * @param plot  the plot ({@code null} not permitted).
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param renderer  the renderer ({@code null} not permitted).
+     * @param xAxis  the domain axis ({@code null} not permitted).
+     * @param dataArea  the data area ({@code null} not permitted).
+     * @param info  the plot rendering info ({@code null} permitted).
+     *
+     * @return The dataset to render.
+     */
+    @Override
+    public <S extends Comparable<S>> XYDataset<S> decimate(XYPlot<S> plot,
+            XYDataset<S> dataset, XYItemRenderer renderer, ValueAxis xAxis,
+            Rectangle2D dataArea, PlotRenderingInfo info) {
+        Args.nullNotPermitted(plot, "plot");
+        Args.nullNotPermitted(dataset, "dataset");
+        Args.nullNotPermitted(renderer, "renderer");
+        Args.nullNotPermitted(xAxis, "xAxis");
+        Args.nullNotPermitted(dataArea, "dataArea");
+        EntityCollection entities = null;
+        if (info != null && info.getOwner() != null) {
+            entities = info.getOwner().getEntityCollection();
+        }
+        if (dataset.getDomainOrder() != DomainOrder.ASCENDING
+                || !isSupported(renderer, dataset.getSeriesCount(),
+                entities != null)) {
+            return dataset;
+        }
+        RectangleEdge edge = plot.getDomainAxisEdge();
+        double columns = RectangleEdge.isTopOrBottom(edge)
+                ? dataArea.getWidth() : dataArea.getHeight();
+        int seriesCount = dataset.getSeriesCount();
+        int[][] items = new int[seriesCount][];
+        boolean decimated = false;
+        for (int series = 0; series < seriesCount; series++) {
+            int itemCount = dataset.getItemCount(series);
+            if (itemCount <= this.threshold * columns) {
+                continue;
+            }
+            int[] bounds = RendererUtils.findLiveItems(dataset, series,
+                    xAxis.getLowerBound(), xAxis.getUpperBound());
+            int first = Math.max(bounds[0] - 1, 0);
+            int last = Math.min(bounds[1] + 1, itemCount - 1);
+            if (last - first + 1 > this.threshold * columns) {
+                if (dataset instanceof XYItemRangeInfo) {
+                    items[series] = decimateIndexedSeries(dataset,
+                            (XYItemRangeInfo) dataset, series, first, last,
+                            xAxis, dataArea, edge);
+                } else {
+                    items[series] = decimateSeries(dataset, series, first,
+                            last, xAxis, dataArea, edge);
+                }
+                decimated = true;
+            }
+        }
+        if (!decimated) {
+            return dataset;
+        }
+        return new DecimatedXYDataset<>(dataset, items);
+    }
+
+    /**
+     * Returns the indices of the first, last, minimum, maximum and first
+     * missing item in each pixel column for the items from {@code first} to
+     * {@code last} (inclusive) in one series.
+     *
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param first  the index of the first item.
+     * @param last  the index of the last item.
+     * @param xAxis  the domain axis.
+     * @param dataArea  the data area.
+     * @param edge  the domain axis edge.
+     *
+     * @return The item indices in ascending order.
+     */
+    private int[] decimateSeries(XYDataset<?> dataset, int series, int first,
+            int last, ValueAxis xAxis, Rectangle2D dataArea,
+            RectangleEdge edge) {
+        int[] result = new int[64];
+        int count = 0;
+        int[] column = new int[5];
+        double pixel = Double.NaN;
+        int colFirst = -1;
+        int colLast = -1;
+        int colMin = -1;
+        int colMax = -1;
+        int colMissing = -1;
+        double minY = Double.NaN;
+        double maxY = Double.NaN;
+        for (int item = first; item <= last; item++) {
+            double p = pixel(dataset, series, item, xAxis, dataArea, edge);
+            if (colFirst < 0 || p != pixel) {
+                if (colFirst >= 0) {
+                    column[0] = colFirst;
+                    column[1] = colMin;
+                    column[2] = colMax;
+                    column[3] = colMissing;
+                    column[4] = colLast;
+                    if (count + column.length > result.length) {
+                        result = Arrays.copyOf(result, result.length * 2);
+                    }
+                    count = appendColumn(column, result, count);
+                }
+                pixel = p;
+                colFirst = item;
+                colMin = -1;
+                colMax = -1;
+                colMissing = -1;
+                minY = Double.NaN;
+                maxY = Double.NaN;
+            }
+            colLast = item;
+            double y = dataset.getYValue(series, item);
+            if (Double.isNaN(y)) {
+                if (colMissing < 0) {
+                    colMissing = item;
+                }
+            } else {
+                if (colMin < 0 || y < minY) {
+                    colMin = item;
+                    minY = y;
+                }
+                if (colMax < 0 || y > maxY) {
+                    colMax = item;
+                    maxY = y;
+                }
+            }
+        }
+        if (colFirst >= 0) {
+            column[0] = colFirst;
+            column[1] = colMin;
+            column[2] = colMax;
+            column[3] = colMissing;
+            column[4] = colLast;
+            if (count + column.length > result.length) {
+                result = Arrays.copyOf(result, result.length * 2);
+            }
+            count = appendColumn(column, result, count);
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Returns the same items as
+     * {@link #decimateSeries(XYDataset, int, int, int, ValueAxis, Rectangle2D,
+     * RectangleEdge)}, but finds the last item in each pixel column with a
+     * galloping search over the x-values and reads the minimum, maximum and
+     * missing items from the dataset's index.
+     *
+     * @param dataset  the dataset.
+     * @param info  the index for the dataset.
+     * @param series  the series index.
+     * @param first  the index of the first item.
+     * @param last  the index of the last item.
+     * @param xAxis  the domain axis.
+     * @param dataArea  the data area.
+     * @param edge  the domain axis edge.
+     *
+     * @return The item indices in ascending order.
+     */
+    private int[] decimateIndexedSeries(XYDataset<?> dataset,
+            XYItemRangeInfo info, int series, int first, int last,
+            ValueAxis xAxis, Rectangle2D dataArea, RectangleEdge edge) {
+        int[] result = new int[64];
+        int count = 0;
+        int[] column = new int[5];
+        int start = first;
+        while (start <= last) {
+            double pixel = pixel(dataset, series, start, xAxis, dataArea,
+                    edge);
+            // gallop forward until an item outside the column is found...
+            int end = start;
+            int step = 1;
+            while (end + step <= last && pixel(dataset, series, end + step,
+                    xAxis, dataArea, edge) == pixel) {
+                end += step;
+                step <<= 1;
+            }
+            // ...then binary search for the last item in the column
+            int low = end + 1;
+            int high = Math.min(end + step, last + 1);
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (pixel(dataset, series, mid, xAxis, dataArea, edge)
+                        == pixel) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            end = low - 1;
+            column[0] = start;
+            column[1] = info.findMinYItem(series, start, end);
+            column[2] = info.findMaxYItem(series, start, end);
+            column[3] = info.findFirstMissingYItem(series, start, end);
+            column[4] = end;
+            if (count + column.length > result.length) {
+                result = Arrays.copyOf(result, result.length * 2);
+            }
+            count = appendColumn(column, result, count);
+            start = end + 1;
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Returns the pixel column for an item.
+     *
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param item  the item index.
+     * @param xAxis  the domain axis.
+     * @param dataArea  the data area.
+     * @param edge  the domain axis edge.
+     *
+     * @return The pixel column.
+     */
+    private static double pixel(XYDataset<?> dataset, int series, int item,
+            ValueAxis xAxis, Rectangle2D dataArea, RectangleEdge edge) {
+        double x = dataset.getXValue(series, item);
+        return Math.floor(xAxis.valueToJava2D(x, dataArea, edge));
+    }
+
+    /**
+     * Sorts the item indices for one column and appends them to the result
+     * array, skipping unused (-1) and duplicate entries.
+     *
+     * @param column  the item indices for the column (modified).
+     * @param result  the result array (must have sufficient capacity).
+     * @param count  the number of entries already in the result.
+     *
+     * @return The new number of entries in the result.
+     */
+    private static int appendColumn(int[] column, int[] result, int count) {
+        Arrays.sort(column);
+        int previous = -1;
+        for (int index : column) {
+            if (index >= 0 && index != previous) {
+                result[count++] = index;
+                previous = index;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Tests this decimator for equality with an arbitrary object.
+     *
+     * @param obj  the object ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof MinMaxXYDecimator)) {
+            return false;
+        }
+        MinMaxXYDecimator that = (MinMaxXYDecimator) obj;
+        return Double.doubleToLongBits(this.threshold)
+                == Double.doubleToLongBits(that.threshold);
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        return Double.hashCode(this.threshold);
+    }
+
+}
@@ -0,0 +1,317 @@
+/* ======================================================
+ * JFreeChart : a chart library for the Java(tm) platform
+ * ======================================================
+ *
+ * (C) Copyright 2000-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * SubplotLayerRenderer.java
+ * -------------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.plot;
+
+import java.awt.AlphaComposite;
+import java.awt.Composite;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsDevice;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinTask;
+
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.StandardEntityCollection;
+import org.jfree.chart.renderer.AbstractRenderer;
+import org.jfree.chart.renderer.xy.XYItemRenderer;
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * A utility class that draws the subplots of a combined plot in parallel.
+ * Each subplot is drawn on a separate thread (using the common fork-join
+ * pool) into its own offscreen layer, then the layers are composited onto
+ * the target in subplot order, and the rendering info and entities recorded
+ * for each subplot are merged in the same order.
+ * <p>
+ * The output is not pixel-identical to sequential drawing when
+ * antialiasing is on: a partially covered edge pixel is blended with a
+ * transparent layer and then with the target, rather than with the target
+ * directly, so it can differ by one colour level.
+ */
+final class SubplotLayerRenderer {
+
+    /**
+     * The number of device pixels added around each subplot area, to
+     * include strokes that are centred on the edge of the area.
+     */
+    private static final int MARGIN = 4;
+
+    private SubplotLayerRenderer() {
+        // no requirement to instantiate
+    }
+
+    /**
+     * Returns {@code true} if the subplots can be drawn in layers on the
+     * specified target.  This requires at least two subplots, a raster 
+     * target (not a printer), the default {@code SrcOver} composite with 
+     * full opacity, text antialiasing that does not depend on the background
+     * (LCD text) and renderers that extend {@link AbstractRenderer} (so that
+     * their series attributes can be looked up before the threads start).
+     *
+     * @param g2  the graphics target.
+     * @param subplots  the subplots.
+     *
+     * @return A boolean.
+     */
+    static boolean isSupported(Graphics2D g2, XYPlot<?>[] subplots) {
+        if (subplots.length < 2) {
+            return false;
+        }
+        for (XYPlot<?> plot : subplots) {
+            for (Integer index : plot.getDatasets().keySet()) {
+                XYItemRenderer renderer = getRenderer(plot, index);
+                if (renderer != null 
+                        && !(renderer instanceof AbstractRenderer)) {
+                    return false;
+                }
+            }
+        }
+        GraphicsConfiguration gc = g2.getDeviceConfiguration();
+        if (gc == null || gc.getDevice().getType()
+                != GraphicsDevice.TYPE_IMAGE_BUFFER) {
+            return false;
+        }
+        Composite composite = g2.getComposite();
+        if (!AlphaComposite.SrcOver.equals(composite)) {
+            return false;
+        }
+        Object text = g2.getRenderingHint(
+                RenderingHints.KEY_TEXT_ANTIALIASING);
+        return text == null
+                || text == RenderingHints.VALUE_TEXT_ANTIALIAS_ON
+                || text == RenderingHints.VALUE_TEXT_ANTIALIAS_OFF
+                || text == RenderingHints.VALUE_TEXT_ANTIALIAS_DEFAULT
+                || text == RenderingHints.VALUE_TEXT_ANTIALIAS_GASP;
+    }
+
+    /**
+     * Draws the subplots in parallel.  The caller should first check that
+     * {@link #isSupported(Graphics2D, XYPlot[])} returns {@code true}.
+     *
+     * @param g2  the graphics target.
+     * @param subplots  the subplots.
+     * @param areas  the area for each subplot.
+     * @param anchor  an anchor point within the plot ({@code null}
+     *     permitted).
+     * @param parentState  the state of the combined plot.
+     * @param info  the rendering info for the combined plot ({@code null}
+     *     permitted).
+     */
+    static void draw(Graphics2D g2, XYPlot<?>[] subplots,
+            Rectangle2D[] areas, Point2D anchor, PlotState parentState,
+            PlotRenderingInfo info) {
+
+        int count = subplots.length;
+
+        // series paints, strokes and shapes may be assigned from a drawing
+        // supplier that is shared between the subplots, so make sure that
+        // happens (in the same order as for sequential drawing, that is the
+        // legend items first, then the series of each subplot in turn) 
+        // before the threads start
+        for (XYPlot<?> plot : subplots) {
+            plot.getLegendItems();
+        }
+        for (XYPlot<?> plot : subplots) {
+            lookupSeriesAttributes(plot);
+        }
+
+        AffineTransform transform = g2.getTransform();
+        Shape clip = g2.getClip();
+        Rectangle clipBounds = clip != null
+                ? transform.createTransformedShape(clip).getBounds()
+                : g2.getDeviceConfiguration().getBounds();
+        EntityCollection entities = info != null
+                ? info.getOwner().getEntityCollection() : null;
+
+        Rectangle[] bounds = new Rectangle[count];
+        BufferedImage[] layers = new BufferedImage[count];
+        PlotRenderingInfo[] infos = new PlotRenderingInfo[count];
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Rectangle r = transform.createTransformedShape(areas[i])
+                    .getBounds();
+            r.grow(MARGIN, MARGIN);
+            r = r.intersection(clipBounds);
+            r.width = Math.max(r.width, 1);
+            r.height = Math.max(r.height, 1);
+            bounds[i] = r;
+            layers[i] = new BufferedImage(r.width, r.height,
+                    BufferedImage.TYPE_INT_ARGB);
+            if (info != null) {
+                ChartRenderingInfo owner = new ChartRenderingInfo(
+                        createEntityCollection(entities));
+                infos[i] = new PlotRenderingInfo(owner);
+            }
+            XYPlot<?> plot = subplots[i];
+            Rectangle2D area = areas[i];
+            BufferedImage layer = layers[i];
+            PlotRenderingInfo subplotInfo = infos[i];
+            Graphics2D lg2 = layer.createGraphics();
+            lg2.setRenderingHints(g2.getRenderingHints());
+            lg2.translate(-r.x, -r.y);
+            lg2.transform(transform);
+            lg2.setClip(clip);
+            lg2.setFont(g2.getFont());
+            lg2.setPaint(g2.getPaint());
+            lg2.setStroke(g2.getStroke());
+            lg2.setBackground(g2.getBackground());
+            tasks.add(ForkJoinTask.adapt(() -> {
+                try {
+                    plot.draw(lg2, area, anchor, parentState, subplotInfo);
+                } finally {
+                    lg2.dispose();
+                }
+            }));
+        }
+        ForkJoinTask.invokeAll(tasks);
+
+        // composite the layers and merge the rendering info in order
+        g2.setTransform(new AffineTransform());
+        try {
+            for (int i = 0; i < count; i++) {
+                g2.drawImage(layers[i], bounds[i].x, bounds[i].y, null);
+                if (info != null) {
+                    info.addSubplotInfo(copy(infos[i], info.getOwner()));
+                    if (entities != null) {
+                        entities.addAll(
+                                infos[i].getOwner().getEntityCollection());
+                    }
+                }
+            }
+        } finally {
+            g2.setTransform(transform);
+        }
+    }
+
+    /**
+     * Returns the renderer for the dataset with the specified index.
+     *
+     * @param plot  the plot.
+     * @param index  the dataset index.
+     *
+     * @return The renderer (possibly {@code null}).
+     */
+    private static XYItemRenderer getRenderer(XYPlot<?> plot, int index) {
+        XYItemRenderer renderer = plot.getRenderer(index);
+        return renderer != null ? renderer : plot.getRenderer();
+    }
+
+    /**
+     * Looks up the paints, strokes and shape for every series in every 
+     * dataset of a plot, so that any that are assigned from the drawing 
+     * supplier are assigned now, on the calling thread.
+     *
+     * @param <S>  the series key type.
+     * @param plot  the plot.
+     */
+    private static <S extends Comparable<S>> void lookupSeriesAttributes(
+            XYPlot<S> plot) {
+        Map<Integer, XYDataset<S>> datasets
+                = new TreeMap<>(plot.getDatasets());
+        for (Map.Entry<Integer, XYDataset<S>> entry : datasets.entrySet()) {
+            XYDataset<S> dataset = entry.getValue();
+            XYItemRenderer renderer = getRenderer(plot, entry.getKey());
+            if (dataset == null || !(renderer instanceof AbstractRenderer)) {
+                continue;
+            }
+            AbstractRenderer r = (AbstractRenderer) renderer;
+            for (int series = 0; series < dataset.getSeriesCount(); series++) {
+                r.lookupSeriesPaint(series);
+                r.lookupSeriesFillPaint(series);
+                r.lookupSeriesOutlinePaint(series);
+                r.lookupSeriesStroke(series);
+                r.lookupSeriesOutlineStroke(series);
+                r.lookupSeriesShape(series);
+            }
+        }
+    }
+
+    /**
+     * Creates an entity collection to record the entities for one subplot,
+     * with the same settings as the target collection.
+     *
+     * @param target  the target collection ({@code null} permitted).
+     *
+     * @return The new collection ({@code null} if {@code target} is
+     *     {@code null}).
+     */
+    private static EntityCollection createEntityCollection(
+            EntityCollection target) {
+        if (target == null) {
+            return null;
+        }
+        StandardEntityCollection result = new StandardEntityCollection();
+        if (target instanceof StandardEntityCollection) {
+            StandardEntityCollection sec = (StandardEntityCollection) target;
+            result.setMaximumEntityCount(Math.max(0,
+                    sec.getMaximumEntityCount() - sec.getEntityCount()));
+            result.setLazyItemEntities(sec.isLazyItemEntities());
+        }
+        return result;
+    }
+
+    /**
+     * Returns a copy of the rendering info for a subplot, with a new owner.
+     *
+     * @param source  the source info.
+     * @param owner  the new owner.
+     *
+     * @return The copy.
+     */
+    private static PlotRenderingInfo copy(PlotRenderingInfo source,
+            ChartRenderingInfo owner) {
+        PlotRenderingInfo result = new PlotRenderingInfo(owner);
+        result.setPlotArea(source.getPlotArea());
+        result.setDataArea(source.getDataArea());
+        for (int i = 0; i < source.getSubplotCount(); i++) {
+            result.addSubplotInfo(copy(source.getSubplotInfo(i), owner));
+        }
+        return result;
+    }
+
+}
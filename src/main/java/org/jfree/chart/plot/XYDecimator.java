@@ -0,0 +1,82 @@
+/* ======================================================
+ * JFreeChart : a chart library for the Java(tm) platform
+ * ======================================================
+ *
+ * (C) Copyright 2000-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------
+ * XYDecimator.java
+ * ----------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.plot;
+
+import java.awt.geom.Rectangle2D;
+
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.renderer.xy.XYItemRenderer;
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * A decimator reduces the number of items that an {@link XYPlot} passes to
+ * a renderer, typically by discarding items that would not change the
+ * output because they map to the same pixel as other items.  The plot calls
+ * the decimator once per dataset in each call to
+ * {@link XYPlot#render(java.awt.Graphics2D, Rectangle2D, int,
+ * PlotRenderingInfo, CrosshairState)}, before any item is drawn.
+ *
+ * @see XYPlot#setDecimator(XYDecimator)
+ * @see MinMaxXYDecimator
+ */
+public interface XYDecimator {
+
+    /**
+     * Returns the dataset that should be passed to the renderer in place of
+     * {@code dataset}.  This can be {@code dataset} itself (if no decimation
+     * is required or possible) or a view containing a subset of the items
+     * (for example, a {@link org.jfree.data.xy.DecimatedXYDataset}).
+     *
+     * @param <S>  the series key type.
+     * @param plot  the plot ({@code null} not permitted).
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param renderer  the renderer that will draw the items
+     *     ({@code null} not permitted).
+     * @param xAxis  the domain axis for the dataset ({@code null} not
+     *     permitted).
+     * @param dataArea  the area within which the data is being drawn.
+     * @param info  the plot rendering info ({@code null} permitted, and
+     *     entities are only created if it is not {@code null} and its owner
+     *     has an entity collection).
+     *
+     * @return The dataset to render (never {@code null}).
+     */
+    <S extends Comparable<S>> XYDataset<S> decimate(XYPlot<S> plot,
+            XYDataset<S> dataset, XYItemRenderer renderer, ValueAxis xAxis,
+            Rectangle2D dataArea, PlotRenderingInfo info);
+
+}
@@ -73,8 +73,10 @@ import org.jfree.chart.renderer.xy.XYItemRenderer;
 import org.jfree.chart.renderer.xy.XYItemRendererState;
 import org.jfree.chart.util.ShadowGenerator;
 import org.jfree.data.Range;
+import org.jfree.data.general.Dataset;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.general.DatasetUtils;
+import org.jfree.data.xy.DecimatedXYDataset;
 import org.jfree.data.xy.XYDataset;
 
 import java.awt.*;
@@ -89,6 +91,7 @@ import java.io.Serializable;
 import java.util.List;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A general class for plotting data in the form of (x, y) pairs.  This plot can
@@ -369,6 +372,27 @@ public class XYPlot<S extends Comparable<S>> extends Plot
      */
     private ShadowGenerator shadowGenerator;
 
+    /**
+     * The decimator that reduces the items passed to the renderers
+     * ({@code null} permitted).
+     */
+    private XYDecimator decimator;
+
+    /**
+     * A cache of the domain bounds for each dataset, by dataset index, so
+     * that the axes can autorange without iterating over data that has not
+     * changed.  An entry is discarded when its dataset or renderer sends a
+     * change event, and is ignored if the dataset or renderer at its index
+     * is replaced.  The map is concurrent because the plot may be drawn on
+     * several threads at once (each subplot of a combined plot, for example).
+     */
+    private transient Map<Integer, BoundsCacheEntry> domainBoundsCache
+            = new ConcurrentHashMap<>();
+
+    /** A cache of the range bounds for each dataset, by dataset index. */
+    private transient Map<Integer, BoundsCacheEntry> rangeBoundsCache
+            = new ConcurrentHashMap<>();
+
     /**
      * Creates a new {@code XYPlot} instance with no dataset, no axes and
      * no renderer.  You should specify these items before using the plot.
@@ -1185,6 +1209,8 @@ public class XYPlot<S extends Comparable<S>> extends Plot
         if (existing != null) {
             existing.removeChangeListener(this);
         }
+        this.domainBoundsCache.remove(index);
+        this.rangeBoundsCache.remove(index);
         this.datasets.put(index, dataset);
         if (dataset != null) {
             dataset.addChangeListener(this);
@@ -1206,7 +1232,9 @@ public class XYPlot<S extends Comparable<S>> extends Plot
 
     /**
      * Returns the index of the specified dataset, or {@code -1} if the
-     * dataset does not belong to the plot.
+     * dataset does not belong to the plot.  A {@link DecimatedXYDataset}
+     * view (passed to the renderers when a decimator is set) has the index
+     * of its source dataset.
      *
      * @param dataset  the dataset ({@code null} not permitted).
      *
@@ -1218,6 +1246,9 @@ public class XYPlot<S extends Comparable<S>> extends Plot
                 return entry.getKey();
             }
         }
+        if (dataset instanceof DecimatedXYDataset) {
+            return indexOf(((DecimatedXYDataset<S>) dataset).getSource());
+        }
         return -1;
     }
 
@@ -1401,6 +1432,7 @@ public class XYPlot<S extends Comparable<S>> extends Plot
         XYItemRenderer existing = getRenderer(index);
         if (existing != null) {
             existing.removeChangeListener(this);
+            clearBoundsCache(null, existing);
         }
         this.renderers.put(index, renderer);
         if (renderer != null) {
@@ -2656,6 +2688,33 @@ public class XYPlot<S extends Comparable<S>> extends Plot
         fireChangeEvent();
     }
 
+    /**
+     * Returns the decimator for the plot, if any.
+     *
+     * @return The decimator (possibly {@code null}).
+     *
+     * @see #setDecimator(XYDecimator)
+     */
+    public XYDecimator getDecimator() {
+        return this.decimator;
+    }
+
+    /**
+     * Sets the decimator for the plot and sends a {@link PlotChangeEvent} to
+     * all registered listeners.  When a decimator is set, each dataset is
+     * passed through it before rendering so that the renderer only sees
+     * the items that affect the output (see {@link MinMaxXYDecimator}).
+     * The default value is {@code null} (no decimation).
+     *
+     * @param decimator  the decimator ({@code null} permitted).
+     *
+     * @see #getDecimator()
+     */
+    public void setDecimator(XYDecimator decimator) {
+        this.decimator = decimator;
+        fireChangeEvent();
+    }
+
     /**
      * Calculates the space required for all the axes in the plot.
      *
@@ -2841,14 +2900,25 @@ public class XYPlot<S extends Comparable<S>> extends Plot
         if (dataArea.isEmpty()) {
             return;
         }
-        createAndAddEntity((Rectangle2D) dataArea.clone(), info, null, null);
+
+        // the chart can be drawn in a static layer and a data layer...
+        Object layer = g2.getRenderingHint(JFreeChart.KEY_DATA_LAYER);
+        boolean drawStaticLayer = !Boolean.TRUE.equals(layer);
+        boolean drawDataLayer = !Boolean.FALSE.equals(layer);
+        if (drawStaticLayer) {
+            createAndAddEntity((Rectangle2D) dataArea.clone(), info, null,
+                    null);
+        }
         if (info != null) {
             info.setDataArea(dataArea);
         }
 
         // draw the plot background and axes...
-        drawBackground(g2, dataArea);
-        Map<Axis, AxisState> axisStateMap = drawAxes(g2, area, dataArea, info);
+        Map<Axis, AxisState> axisStateMap = new HashMap<>();
+        if (drawStaticLayer) {
+            drawBackground(g2, dataArea);
+            axisStateMap = drawAxes(g2, area, dataArea, info);
+        }
 
         PlotOrientation orient = getOrientation();
 
@@ -2901,7 +2971,7 @@ public class XYPlot<S extends Comparable<S>> extends Plot
                 getForegroundAlpha()));
 
         AxisState domainAxisState = axisStateMap.get(getDomainAxis());
-        if (domainAxisState == null) {
+        if (domainAxisState == null && drawStaticLayer) {
             if (parentState != null) {
                 domainAxisState = parentState.getSharedAxisStates()
                         .get(getDomainAxis());
@@ -2909,7 +2979,7 @@ public class XYPlot<S extends Comparable<S>> extends Plot
         }
 
         AxisState rangeAxisState = axisStateMap.get(getRangeAxis());
-        if (rangeAxisState == null) {
+        if (rangeAxisState == null && drawStaticLayer) {
             if (parentState != null) {
                 rangeAxisState = parentState.getSharedAxisStates()
                         .get(getRangeAxis());
@@ -2929,6 +2999,11 @@ public class XYPlot<S extends Comparable<S>> extends Plot
             drawRangeGridlines(g2, dataArea, rangeAxisState.getTicks());
             drawZeroRangeBaseline(g2, dataArea);
         }
+        if (!drawDataLayer) {
+            g2.setClip(originalClip);
+            g2.setComposite(originalComposite);
+            return;
+        }
 
         Graphics2D savedG2 = g2;
         BufferedImage dataImage = null;
@@ -3401,6 +3476,10 @@ public class XYPlot<S extends Comparable<S>> extends Plot
                 }
             }
 
+            if (this.decimator != null) {
+                dataset = this.decimator.decimate(this, dataset, renderer,
+                        xAxis, dataArea, info);
+            }
             XYItemRendererState state = renderer.initialise(g2, dataArea, this,
                     dataset, info);
             int passCount = renderer.getPassCount();
@@ -4115,24 +4194,15 @@ public class XYPlot<S extends Comparable<S>> extends Plot
         // of the ranges.
         for (XYDataset<S> d : mappedDatasets) {
             if (d != null) {
+                int index = indexOf(d);
                 XYItemRenderer r = getRendererForDataset(d);
                 if (isDomainAxis) {
-                    if (r != null) {
-                        result = Range.combine(result, r.findDomainBounds(d));
-                    }
-                    else {
-                        result = Range.combine(result,
-                                DatasetUtils.findDomainBounds(d));
-                    }
+                    result = Range.combine(result,
+                            findDomainBounds(index, d, r));
                 }
                 else {
-                    if (r != null) {
-                        result = Range.combine(result, r.findRangeBounds(d));
-                    }
-                    else {
-                        result = Range.combine(result,
-                                DatasetUtils.findRangeBounds(d));
-                    }
+                    result = Range.combine(result,
+                            findRangeBounds(index, d, r));
                 }
                 if (r != null) {
                     for (XYAnnotation annotation : r.getAnnotations()) {
@@ -4158,6 +4228,90 @@ public class XYPlot<S extends Comparable<S>> extends Plot
         return result;
     }
 
+    /**
+     * Returns the domain bounds for a dataset, as reported by the renderer
+     * (or the dataset itself if there is no renderer), using the cached
+     * value if the dataset has not changed since it was last calculated.
+     *
+     * @param index  the dataset index.
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param renderer  the renderer ({@code null} permitted).
+     *
+     * @return The bounds (possibly {@code null}).
+     */
+    private Range findDomainBounds(int index, XYDataset<S> dataset,
+            XYItemRenderer renderer) {
+        BoundsCacheEntry entry = this.domainBoundsCache.get(index);
+        if (entry != null && entry.dataset == dataset
+                && entry.renderer == renderer) {
+            return entry.bounds;
+        }
+        Range bounds = renderer != null ? renderer.findDomainBounds(dataset)
+                : DatasetUtils.findDomainBounds(dataset);
+        this.domainBoundsCache.put(index,
+                new BoundsCacheEntry(dataset, renderer, null, bounds));
+        return bounds;
+    }
+
+    /**
+     * Returns the range bounds for a dataset, as reported by the renderer
+     * (or the dataset itself if there is no renderer), using the cached
+     * value if the dataset has not changed since it was last calculated.
+     * Where the renderer may restrict the bounds to the items that are
+     * visible on the domain axis, the cached value is only used while the
+     * domain axis range is unchanged.
+     *
+     * @param index  the dataset index.
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param renderer  the renderer ({@code null} permitted).
+     *
+     * @return The bounds (possibly {@code null}).
+     */
+    private Range findRangeBounds(int index, XYDataset<S> dataset,
+            XYItemRenderer renderer) {
+        Range xRange = null;
+        if (renderer != null && !(renderer instanceof AbstractXYItemRenderer
+                && !((AbstractXYItemRenderer) renderer)
+                        .getDataBoundsIncludesVisibleSeriesOnly())) {
+            ValueAxis xAxis = getDomainAxisForDataset(index);
+            if (xAxis != null) {
+                xRange = xAxis.getRange();
+            }
+        }
+        BoundsCacheEntry entry = this.rangeBoundsCache.get(index);
+        if (entry != null && entry.dataset == dataset
+                && entry.renderer == renderer
+                && Objects.equals(entry.xRange, xRange)) {
+            return entry.bounds;
+        }
+        Range bounds = renderer != null ? renderer.findRangeBounds(dataset)
+                : DatasetUtils.findRangeBounds(dataset);
+        this.rangeBoundsCache.put(index,
+                new BoundsCacheEntry(dataset, renderer, xRange, bounds));
+        return bounds;
+    }
+
+    /**
+     * Discards the cached bounds that were calculated from the specified
+     * dataset or by the specified renderer.  The entries for other datasets
+     * are kept.
+     *
+     * @param dataset  the dataset ({@code null} permitted).
+     * @param renderer  the renderer ({@code null} permitted).
+     */
+    private void clearBoundsCache(Dataset dataset, Object renderer) {
+        for (Map<Integer, BoundsCacheEntry> cache : Arrays.asList(
+                this.domainBoundsCache, this.rangeBoundsCache)) {
+            if (dataset == null && renderer == null) {
+                cache.clear();
+            } else {
+                cache.values().removeIf(entry -> (dataset != null
+                        && entry.dataset == dataset) || (renderer != null
+                        && entry.renderer == renderer));
+            }
+        }
+    }
+
     /**
      * Receives notification of a change to an {@link Annotation} added to
      * this plot.
@@ -4184,6 +4338,7 @@ public class XYPlot<S extends Comparable<S>> extends Plot
      */
     @Override
     public void datasetChanged(DatasetChangeEvent event) {
+        clearBoundsCache(event.getDataset(), null);
         configureDomainAxes();
         configureRangeAxes();
         if (getParent() != null) {
@@ -4203,6 +4358,7 @@ public class XYPlot<S extends Comparable<S>> extends Plot
      */
     @Override
     public void rendererChanged(RendererChangeEvent event) {
+        clearBoundsCache(null, event.getRenderer());
         // if the event was caused by a change to series visibility, then
         // the axis ranges might need updating...
         if (event.getSeriesVisibilityChanged()) {
@@ -5125,6 +5281,9 @@ public class XYPlot<S extends Comparable<S>> extends Plot
         if (!Objects.equals(this.shadowGenerator, that.shadowGenerator)) {
             return false;
         }
+        if (!Objects.equals(this.decimator, that.decimator)) {
+            return false;
+        }
         return super.equals(obj);
     }
 
@@ -5181,6 +5340,7 @@ public class XYPlot<S extends Comparable<S>> extends Plot
         hash = 43 * hash + this.weight;
         hash = 43 * hash + Objects.hashCode(this.fixedLegendItems);
         hash = 43 * hash + Objects.hashCode(this.shadowGenerator);
+        hash = 43 * hash + Objects.hashCode(this.decimator);
         return hash;
     }
 
@@ -5221,6 +5381,9 @@ public class XYPlot<S extends Comparable<S>> extends Plot
             }
         }
 
+        clone.domainBoundsCache = new ConcurrentHashMap<>();
+        clone.rangeBoundsCache = new ConcurrentHashMap<>();
+
         clone.datasetToDomainAxesMap = new TreeMap<>();
         clone.datasetToDomainAxesMap.putAll(this.datasetToDomainAxesMap);
         clone.datasetToRangeAxesMap = new TreeMap<>();
@@ -5305,6 +5468,8 @@ public class XYPlot<S extends Comparable<S>> extends Plot
         throws IOException, ClassNotFoundException {
 
         stream.defaultReadObject();
+        this.domainBoundsCache = new ConcurrentHashMap<>();
+        this.rangeBoundsCache = new ConcurrentHashMap<>();
         this.domainGridlineStroke = SerialUtils.readStroke(stream);
         this.domainGridlinePaint = SerialUtils.readPaint(stream);
         this.rangeGridlineStroke = SerialUtils.readStroke(stream);
@@ -5357,4 +5522,30 @@ public class XYPlot<S extends Comparable<S>> extends Plot
 
     }
 
+    /**
+     * An entry in the bounds cache.
+     */
+    private static class BoundsCacheEntry {
+
+        /** The dataset the bounds were calculated from. */
+        final XYDataset<?> dataset;
+
+        /** The renderer that calculated the bounds. */
+        final XYItemRenderer renderer;
+
+        /** The domain axis range the bounds depend on ({@code null} if none). */
+        final Range xRange;
+
+        /** The bounds ({@code null} permitted). */
+        final Range bounds;
+
+        BoundsCacheEntry(XYDataset<?> dataset, XYItemRenderer renderer,
+                Range xRange, Range bounds) {
+            this.dataset = dataset;
+            this.renderer = renderer;
+            this.xRange = xRange;
+            this.bounds = bounds;
+        }
+    }
+
 }
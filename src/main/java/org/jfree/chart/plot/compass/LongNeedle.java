@@ -39,6 +39,7 @@ package org.jfree.chart.plot.compass;
 
 import java.awt.Graphics2D;
 import java.awt.Shape;
+import java.awt.geom.AffineTransform;
 import java.awt.geom.GeneralPath;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
@@ -110,7 +111,8 @@ public class LongNeedle extends MeterNeedle implements Cloneable, Serializable {
 
         if ((rotate != null) && (angle != 0)) {
             /// we have rotation huston, please spin me
-            getTransform().setToRotation(angle, rotate.getX(), rotate.getY());
+            AffineTransform transform = getTransform();
+            transform.setToRotation(angle, rotate.getX(), rotate.getY());
             s1 = shape1.createTransformedShape(transform);
             s2 = shape2.createTransformedShape(transform);
             s3 = shape3.createTransformedShape(transform);
@@ -88,9 +88,24 @@ public abstract class MeterNeedle implements Serializable {
     /** Scalar to apply to locate the rotation y point. */
     private double rotateY = 0.5;
 
-    /** A transform. */
+    /**
+     * A transform shared by all needles.
+     *
+     * @deprecated The needles in this package no longer use this field,
+     *     since a shared transform is not safe when charts are drawn 
+     *     concurrently.  Subclasses should use {@link #getTransform()}, 
+     *     which returns a transform for the current thread.
+     */
+    @Deprecated
     protected static AffineTransform transform = new AffineTransform();
 
+    /**
+     * A working transform for drawing the needles (one per thread, so that
+     * charts can be drawn concurrently).
+     */
+    private static final ThreadLocal<AffineTransform> TRANSFORM
+            = ThreadLocal.withInitial(AffineTransform::new);
+
     /**
      * Creates a new needle.
      */
@@ -320,12 +335,12 @@ public abstract class MeterNeedle implements Serializable {
     }
 
     /**
-     * Returns the transform.
+     * Returns the working transform for the current thread.
      *
      * @return The transform.
      */
     public AffineTransform getTransform() {
-        return MeterNeedle.transform;
+        return TRANSFORM.get();
     }
 
     /**
@@ -45,6 +45,8 @@ import java.awt.Paint;
 import java.awt.geom.Path2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -66,6 +68,7 @@ import org.jfree.chart.plot.PlotState;
 import org.jfree.chart.text.TextAnchor;
 import org.jfree.chart.text.TextUtils;
 import org.jfree.chart.internal.PaintUtils;
+import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.flow.FlowDataset;
 import org.jfree.data.flow.FlowDatasetUtils;
 import org.jfree.data.flow.FlowKey;
@@ -133,6 +136,12 @@ public class FlowPlot<K extends Comparable<K>> extends Plot implements Cloneable
     
     /** The tool tip generator - if null, no tool tips will be displayed. */
     private FlowLabelGenerator toolTipGenerator; 
+
+    /** 
+     * The node and flow geometry from the last call to draw, reused until
+     * the dataset, the plot area or a layout attribute changes. 
+     */
+    private transient FlowLayout<K> layout;
     
     /**
      * Creates a new instance that will source data from the specified dataset.
@@ -182,7 +191,14 @@ public class FlowPlot<K extends Comparable<K>> extends Plot implements Cloneable
      * @param dataset  the dataset ({@code null} permitted). 
      */
     public void setDataset(FlowDataset<K> dataset) {
+        if (this.dataset != null) {
+            this.dataset.removeChangeListener(this);
+        }
         this.dataset = dataset;
+        if (dataset != null) {
+            dataset.addChangeListener(this);
+        }
+        this.layout = null;
         fireChangeEvent();
     }
 
@@ -486,105 +502,31 @@ public class FlowPlot<K extends Comparable<K>> extends Plot implements Cloneable
         // use default JFreeChart background handling
         drawBackground(g2, area);
 
-        // we need to ensure there is space to show all the inflows and all 
-        // the outflows at each node group, so first we calculate the max
-        // flow space required - for each node in the group, consider the 
-        // maximum of the inflow and the outflow
-        double flow2d = Double.POSITIVE_INFINITY;
-        double nodeMargin2d = this.nodeMargin * area.getHeight();
-        int stageCount = this.dataset.getStageCount();
-        for (int stage = 0; stage < this.dataset.getStageCount(); stage++) {
-            List<K> sources = this.dataset.getSources(stage);
-            int nodeCount = sources.size();
-            double flowTotal = 0.0;
-            for (K source : sources) {
-                double inflow = FlowDatasetUtils.calculateInflow(this.dataset, source, stage);
-                double outflow = FlowDatasetUtils.calculateOutflow(this.dataset, source, stage);
-                flowTotal = flowTotal + Math.max(inflow, outflow);
-            }
-            if (flowTotal > 0.0) {
-                double availableH = area.getHeight() - (nodeCount - 1) * nodeMargin2d;
-                flow2d = Math.min(availableH / flowTotal, flow2d);
-            }
-            
-            if (stage == this.dataset.getStageCount() - 1) {
-                // check inflows to the final destination nodes...
-                List<K> destinations = this.dataset.getDestinations(stage);
-                int destinationCount = destinations.size();
-                flowTotal = 0.0;
-                for (K destination : destinations) {
-                    double inflow = FlowDatasetUtils.calculateInflow(this.dataset, destination, stage + 1);
-                    flowTotal = flowTotal + inflow;
-                }
-                if (flowTotal > 0.0) {
-                    double availableH = area.getHeight() - (destinationCount - 1) * nodeMargin2d;
-                    flow2d = Math.min(availableH / flowTotal, flow2d);
-                }
-            }
+        FlowLayout<K> layout = this.layout;
+        if (layout == null || !layout.isValidFor(area, this.nodeWidth, 
+                this.nodeMargin, this.flowMargin)) {
+            layout = calculateLayout(area);
+            this.layout = layout;
         }
-
-        double stageWidth = (area.getWidth() - ((stageCount + 1) * this.nodeWidth)) / stageCount;
-        double flowOffset = area.getWidth() * this.flowMargin;
-        
-        Map<NodeKey<K>, Rectangle2D> nodeRects = new HashMap<>();
+        Map<NodeKey<K>, Rectangle2D> nodeRects = layout.nodeRects;
+        double flowOffset = layout.flowOffset;
         boolean hasNodeSelections = FlowDatasetUtils.hasNodeSelections(this.dataset);
         boolean hasFlowSelections = FlowDatasetUtils.hasFlowSelections(this.dataset);
         
         // iterate over all the stages, we can render the source node rects and
         // the flows ... we should add the destination node rects last, then
         // in a final pass add the labels
-        for (int stage = 0; stage < this.dataset.getStageCount(); stage++) {
-            
-            double stageLeft = area.getX() + (stage + 1) * this.nodeWidth + (stage * stageWidth);
-            double stageRight = stageLeft + stageWidth;
-            
-            // calculate the source node and flow rectangles
-            Map<FlowKey<K>, Rectangle2D> sourceFlowRects = new HashMap<>();
-            double nodeY = area.getY();
-            for (K source : this.dataset.getSources(stage)) {
-                double inflow = FlowDatasetUtils.calculateInflow(dataset, source, stage);
-                double outflow = FlowDatasetUtils.calculateOutflow(dataset, source, stage);
-                double nodeHeight = (Math.max(inflow, outflow) * flow2d);
-                Rectangle2D nodeRect = new Rectangle2D.Double(stageLeft - nodeWidth, nodeY, nodeWidth, nodeHeight);
-                if (entities != null) {
-                    entities.add(new NodeEntity(new NodeKey<>(stage, source), nodeRect, source.toString()));                
-                }
-                nodeRects.put(new NodeKey<>(stage, source), nodeRect);
-                double y = nodeY;
-                for (K destination : this.dataset.getDestinations(stage)) {
-                    Number flow = this.dataset.getFlow(stage, source, destination);
-                    if (flow != null) {
-                        double height = flow.doubleValue() * flow2d;
-                        Rectangle2D rect = new Rectangle2D.Double(stageLeft - nodeWidth, y, nodeWidth, height);
-                        sourceFlowRects.put(new FlowKey<>(stage, source, destination), rect);
-                        y = y + height;
-                    }
-                }
-                nodeY = nodeY + nodeHeight + nodeMargin2d;
-            }
-            
-            // calculate the destination rectangles
-            Map<FlowKey<K>, Rectangle2D> destFlowRects = new HashMap<>();
-            nodeY = area.getY();
-            for (K destination : this.dataset.getDestinations(stage)) {
-                double inflow = FlowDatasetUtils.calculateInflow(dataset, destination, stage + 1);
-                double outflow = FlowDatasetUtils.calculateOutflow(dataset, destination, stage + 1);
-                double nodeHeight = Math.max(inflow, outflow) * flow2d;
-                nodeRects.put(new NodeKey<>(stage + 1, destination), new Rectangle2D.Double(stageRight, nodeY, nodeWidth, nodeHeight));
-                double y = nodeY;
-                for (K source : this.dataset.getSources(stage)) {
-                    Number flow = this.dataset.getFlow(stage, source, destination);
-                    if (flow != null) {
-                        double height = flow.doubleValue() * flow2d;
-                        Rectangle2D rect = new Rectangle2D.Double(stageRight, y, nodeWidth, height);
-                        y = y + height;
-                        destFlowRects.put(new FlowKey<>(stage, source, destination), rect);
-                    }
+        for (int stage = 0; stage < layout.stageCount; stage++) {
+            List<K> sources = layout.sources.get(stage);
+            List<K> destinations = layout.destinations.get(stage);
+            if (entities != null) {
+                for (K source : sources) {
+                    NodeKey<K> nodeKey = new NodeKey<>(stage, source);
+                    entities.add(new NodeEntity(nodeKey, nodeRects.get(nodeKey), source.toString()));
                 }
-                nodeY = nodeY + nodeHeight + nodeMargin2d;
             }
         
-            for (K source : this.dataset.getSources(stage)) {
+            for (K source : sources) {
                 NodeKey<K> nodeKey = new NodeKey<>(stage, source);
                 Rectangle2D nodeRect = nodeRects.get(nodeKey);
                 Color ncol = lookupNodeColor(nodeKey);
@@ -597,20 +539,14 @@ public class FlowPlot<K extends Comparable<K>> extends Plot implements Cloneable
                 g2.setPaint(ncol);
                 g2.fill(nodeRect);
                                 
-                for (K destination : this.dataset.getDestinations(stage)) {
+                for (K destination : destinations) {
                     FlowKey<K> flowKey = new FlowKey<>(stage, source, destination);
-                    Rectangle2D sourceRect = sourceFlowRects.get(flowKey);
-                    if (sourceRect == null) { 
+                    Path2D connect = layout.flowPaths.get(flowKey);
+                    if (connect == null) { 
                         continue; 
                     }
-                    Rectangle2D destRect = destFlowRects.get(flowKey);
-                
-                    Path2D connect = new Path2D.Double();
-                    connect.moveTo(sourceRect.getMaxX() + flowOffset, sourceRect.getMinY());
-                    connect.curveTo(stageLeft + stageWidth / 2.0, sourceRect.getMinY(), stageLeft + stageWidth / 2.0, destRect.getMinY(), destRect.getX() - flowOffset, destRect.getMinY());
-                    connect.lineTo(destRect.getX() - flowOffset, destRect.getMaxY());
-                    connect.curveTo(stageLeft + stageWidth / 2.0, destRect.getMaxY(), stageLeft + stageWidth / 2.0, sourceRect.getMaxY(), sourceRect.getMaxX() + flowOffset, sourceRect.getMaxY());
-                    connect.closePath();
+                    Rectangle2D sourceRect = layout.sourceFlowRects.get(flowKey);
+                    Rectangle2D destRect = layout.destFlowRects.get(flowKey);
                     Color nc = lookupNodeColor(nodeKey);
                     if (hasFlowSelections) {
                         if (!Boolean.TRUE.equals(dataset.getFlowProperty(flowKey, FlowKey.SELECTED_PROPERTY_KEY))) {
@@ -638,8 +574,8 @@ public class FlowPlot<K extends Comparable<K>> extends Plot implements Cloneable
         }
         
         // now draw the destination nodes
-        int lastStage = this.dataset.getStageCount() - 1;
-        for (K destination : this.dataset.getDestinations(lastStage)) {
+        int lastStage = layout.stageCount - 1;
+        for (K destination : layout.destinations.get(lastStage)) {
             NodeKey<K> nodeKey = new NodeKey<>(lastStage + 1, destination);
             Rectangle2D nodeRect = nodeRects.get(nodeKey);
             if (nodeRect != null) {
@@ -663,7 +599,7 @@ public class FlowPlot<K extends Comparable<K>> extends Plot implements Cloneable
         g2.setPaint(this.defaultNodeLabelPaint);
         for (NodeKey<K> key : nodeRects.keySet()) {
             Rectangle2D r = nodeRects.get(key);
-            if (key.getStage() < this.dataset.getStageCount()) {
+            if (key.getStage() < layout.stageCount) {
                 TextUtils.drawAlignedString(key.getNode().toString(), g2, 
                         (float) (r.getMaxX() + flowOffset + this.nodeLabelOffsetX), 
                         (float) labelY(r), TextAnchor.CENTER_LEFT);                
@@ -675,6 +611,148 @@ public class FlowPlot<K extends Comparable<K>> extends Plot implements Cloneable
         }
     }
     
+    /**
+     * Calculates the node rectangles and flow bands for the dataset within 
+     * the specified area.
+     * 
+     * @param area  the plot area, after the insets are trimmed ({@code null}
+     *     not permitted).
+     * 
+     * @return The layout (never {@code null}). 
+     */
+    private FlowLayout<K> calculateLayout(Rectangle2D area) {
+        FlowLayout<K> result = new FlowLayout<>(area, this.nodeWidth, 
+                this.nodeMargin, this.flowMargin);
+        int stageCount = this.dataset.getStageCount();
+        result.stageCount = stageCount;
+        
+        // a single pass over the flows at each stage gives the inflow and 
+        // outflow for every node
+        Map<NodeKey<K>, Double> inflows = new HashMap<>();
+        Map<NodeKey<K>, Double> outflows = new HashMap<>();
+        for (int stage = 0; stage < stageCount; stage++) {
+            List<K> sources = this.dataset.getSources(stage);
+            List<K> destinations = this.dataset.getDestinations(stage);
+            result.sources.add(sources);
+            result.destinations.add(destinations);
+            for (K source : sources) {
+                for (K destination : destinations) {
+                    Number flow = this.dataset.getFlow(stage, source, destination);
+                    if (flow != null) {
+                        outflows.merge(new NodeKey<>(stage, source), flow.doubleValue(), Double::sum);
+                        inflows.merge(new NodeKey<>(stage + 1, destination), flow.doubleValue(), Double::sum);
+                    }
+                }
+            }
+        }
+
+        // we need to ensure there is space to show all the inflows and all 
+        // the outflows at each node group, so first we calculate the max
+        // flow space required - for each node in the group, consider the 
+        // maximum of the inflow and the outflow
+        double flow2d = Double.POSITIVE_INFINITY;
+        double nodeMargin2d = this.nodeMargin * area.getHeight();
+        for (int stage = 0; stage < stageCount; stage++) {
+            List<K> sources = result.sources.get(stage);
+            int nodeCount = sources.size();
+            double flowTotal = 0.0;
+            for (K source : sources) {
+                NodeKey<K> nodeKey = new NodeKey<>(stage, source);
+                flowTotal = flowTotal + Math.max(inflows.getOrDefault(nodeKey, 0.0), 
+                        outflows.getOrDefault(nodeKey, 0.0));
+            }
+            if (flowTotal > 0.0) {
+                double availableH = area.getHeight() - (nodeCount - 1) * nodeMargin2d;
+                flow2d = Math.min(availableH / flowTotal, flow2d);
+            }
+            
+            if (stage == stageCount - 1) {
+                // check inflows to the final destination nodes...
+                List<K> destinations = result.destinations.get(stage);
+                int destinationCount = destinations.size();
+                flowTotal = 0.0;
+                for (K destination : destinations) {
+                    flowTotal = flowTotal + inflows.getOrDefault(new NodeKey<>(stage + 1, destination), 0.0);
+                }
+                if (flowTotal > 0.0) {
+                    double availableH = area.getHeight() - (destinationCount - 1) * nodeMargin2d;
+                    flow2d = Math.min(availableH / flowTotal, flow2d);
+                }
+            }
+        }
+
+        double stageWidth = (area.getWidth() - ((stageCount + 1) * this.nodeWidth)) / stageCount;
+        double flowOffset = area.getWidth() * this.flowMargin;
+        result.flowOffset = flowOffset;
+        
+        for (int stage = 0; stage < stageCount; stage++) {
+            List<K> sources = result.sources.get(stage);
+            List<K> destinations = result.destinations.get(stage);
+            double stageLeft = area.getX() + (stage + 1) * this.nodeWidth + (stage * stageWidth);
+            double stageRight = stageLeft + stageWidth;
+            
+            // calculate the source node and flow rectangles
+            double nodeY = area.getY();
+            for (K source : sources) {
+                NodeKey<K> nodeKey = new NodeKey<>(stage, source);
+                double nodeHeight = Math.max(inflows.getOrDefault(nodeKey, 0.0), 
+                        outflows.getOrDefault(nodeKey, 0.0)) * flow2d;
+                result.nodeRects.put(nodeKey, new Rectangle2D.Double(stageLeft - nodeWidth, nodeY, nodeWidth, nodeHeight));
+                double y = nodeY;
+                for (K destination : destinations) {
+                    Number flow = this.dataset.getFlow(stage, source, destination);
+                    if (flow != null) {
+                        double height = flow.doubleValue() * flow2d;
+                        Rectangle2D rect = new Rectangle2D.Double(stageLeft - nodeWidth, y, nodeWidth, height);
+                        result.sourceFlowRects.put(new FlowKey<>(stage, source, destination), rect);
+                        y = y + height;
+                    }
+                }
+                nodeY = nodeY + nodeHeight + nodeMargin2d;
+            }
+            
+            // calculate the destination rectangles
+            nodeY = area.getY();
+            for (K destination : destinations) {
+                NodeKey<K> nodeKey = new NodeKey<>(stage + 1, destination);
+                double nodeHeight = Math.max(inflows.getOrDefault(nodeKey, 0.0), 
+                        outflows.getOrDefault(nodeKey, 0.0)) * flow2d;
+                result.nodeRects.put(nodeKey, new Rectangle2D.Double(stageRight, nodeY, nodeWidth, nodeHeight));
+                double y = nodeY;
+                for (K source : sources) {
+                    Number flow = this.dataset.getFlow(stage, source, destination);
+                    if (flow != null) {
+                        double height = flow.doubleValue() * flow2d;
+                        Rectangle2D rect = new Rectangle2D.Double(stageRight, y, nodeWidth, height);
+                        y = y + height;
+                        result.destFlowRects.put(new FlowKey<>(stage, source, destination), rect);
+                    }
+                }
+                nodeY = nodeY + nodeHeight + nodeMargin2d;
+            }
+            
+            // calculate the flow bands between the source and destination rectangles
+            for (K source : sources) {
+                for (K destination : destinations) {
+                    FlowKey<K> flowKey = new FlowKey<>(stage, source, destination);
+                    Rectangle2D sourceRect = result.sourceFlowRects.get(flowKey);
+                    if (sourceRect == null) {
+                        continue;
+                    }
+                    Rectangle2D destRect = result.destFlowRects.get(flowKey);
+                    Path2D connect = new Path2D.Double();
+                    connect.moveTo(sourceRect.getMaxX() + flowOffset, sourceRect.getMinY());
+                    connect.curveTo(stageLeft + stageWidth / 2.0, sourceRect.getMinY(), stageLeft + stageWidth / 2.0, destRect.getMinY(), destRect.getX() - flowOffset, destRect.getMinY());
+                    connect.lineTo(destRect.getX() - flowOffset, destRect.getMaxY());
+                    connect.curveTo(stageLeft + stageWidth / 2.0, destRect.getMaxY(), stageLeft + stageWidth / 2.0, sourceRect.getMaxY(), sourceRect.getMaxX() + flowOffset, sourceRect.getMaxY());
+                    connect.closePath();
+                    result.flowPaths.put(flowKey, connect);
+                }
+            }
+        }
+        return result;
+    }
+
     /**
      * Performs a lookup on the color for the specified node.
      * 
@@ -819,6 +897,101 @@ public class FlowPlot<K extends Comparable<K>> extends Plot implements Cloneable
     public Object clone() throws CloneNotSupportedException {
         FlowPlot<K> clone = (FlowPlot<K>) super.clone();
         clone.nodeColorMap = new HashMap<>(this.nodeColorMap);
+        clone.layout = null;
+        // the clone caches its own layout, so it must hear about changes
+        if (clone.dataset != null) {
+            clone.dataset.addChangeListener(clone);
+        }
         return clone;
     }
+
+    /**
+     * Receives notification of a change to the dataset, discards the cached
+     * layout and passes the event on to the plot's listeners.
+     * 
+     * @param event  information about the event (not used here).
+     */
+    @Override
+    public void datasetChanged(DatasetChangeEvent event) {
+        this.layout = null;
+        super.datasetChanged(event);
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        // the dataset does not serialize its listeners
+        if (this.dataset != null) {
+            this.dataset.addChangeListener(this);
+        }
+    }
+
+    /**
+     * The geometry calculated for a dataset within a given plot area.
+     */
+    private static class FlowLayout<K extends Comparable<K>> {
+
+        /** The plot area (after insets) that the layout was calculated for. */
+        final Rectangle2D area;
+
+        /** The node width used for the layout. */
+        final double nodeWidth;
+
+        /** The node margin used for the layout. */
+        final double nodeMargin;
+
+        /** The flow margin used for the layout. */
+        final double flowMargin;
+
+        /** The number of stages in the dataset. */
+        int stageCount;
+
+        /** The offset between the nodes and the flow bands (in Java2D units). */
+        double flowOffset;
+
+        /** The source nodes at each stage. */
+        final List<List<K>> sources = new ArrayList<>();
+
+        /** The destination nodes at each stage. */
+        final List<List<K>> destinations = new ArrayList<>();
+
+        /** The node rectangles. */
+        final Map<NodeKey<K>, Rectangle2D> nodeRects = new HashMap<>();
+
+        /** The part of each source node rectangle occupied by a flow. */
+        final Map<FlowKey<K>, Rectangle2D> sourceFlowRects = new HashMap<>();
+
+        /** The part of each destination node rectangle occupied by a flow. */
+        final Map<FlowKey<K>, Rectangle2D> destFlowRects = new HashMap<>();
+
+        /** The flow bands. */
+        final Map<FlowKey<K>, Path2D> flowPaths = new HashMap<>();
+
+        FlowLayout(Rectangle2D area, double nodeWidth, double nodeMargin, 
+                double flowMargin) {
+            this.area = area.getBounds2D();
+            this.nodeWidth = nodeWidth;
+            this.nodeMargin = nodeMargin;
+            this.flowMargin = flowMargin;
+        }
+
+        /**
+         * Returns {@code true} if this layout can be reused for the specified
+         * area and layout attributes.
+         */
+        boolean isValidFor(Rectangle2D area, double nodeWidth, 
+                double nodeMargin, double flowMargin) {
+            return this.area.equals(area) && this.nodeWidth == nodeWidth
+                    && this.nodeMargin == nodeMargin 
+                    && this.flowMargin == flowMargin;
+        }
+    }
 }
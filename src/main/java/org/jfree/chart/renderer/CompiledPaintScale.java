@@ -0,0 +1,287 @@
+/* ======================================================
+ * JFreeChart : a chart library for the Java(tm) platform
+ * ======================================================
+ *
+ * (C) Copyright 2000-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * CompiledPaintScale.java
+ * -----------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.renderer;
+
+import java.awt.Color;
+import java.awt.Paint;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import org.jfree.chart.internal.Args;
+
+/**
+ * A compiled form of a {@link PaintScale}, where the range of the scale is 
+ * divided into a fixed number of equal bins and the color for each bin is 
+ * looked up once, so that {@link #getPaint(double)} is a single array access 
+ * for most values.
+ * <p>
+ * A bin only gets a color in the table if the source scale returns the same 
+ * {@link Color} at both ends of the bin and no breakpoint supplied by the 
+ * source falls inside the bin.  Values in other bins, values outside the 
+ * bounds of the scale and {@code NaN} are passed on to the source scale, so
+ * the results are the same as calling the source directly.  Instances of 
+ * this class are immutable, so a scale must create a new instance when it 
+ * is modified (see {@link PaintScale#compile()}).  An instance can only be
+ * serialized if its source scale is serializable.
+ */
+public final class CompiledPaintScale implements PaintScale, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -7036052391553866618L;
+
+    /** The source scale. */
+    private final PaintScale source;
+
+    /** The lower bound of the source scale. */
+    private final double lowerBound;
+
+    /** The upper bound of the source scale. */
+    private final double upperBound;
+
+    /** The number of bins. */
+    private final int binCount;
+
+    /** 
+     * The color for each bin ({@code null} for a bin that is handled by the 
+     * source scale), plus one extra entry for the upper bound. 
+     */
+    private final Color[] colors;
+
+    /**
+     * Creates a compiled form of the specified scale.
+     *
+     * @param source  the source scale ({@code null} not permitted).
+     * @param binCount  the number of bins (must be positive).
+     */
+    public CompiledPaintScale(PaintScale source, int binCount) {
+        this(source, binCount, null);
+    }
+
+    /**
+     * Creates a compiled form of the specified scale.  The breakpoints are
+     * values where the color from the source scale can change, any bin 
+     * containing a breakpoint is handled by the source scale.
+     *
+     * @param source  the source scale ({@code null} not permitted).
+     * @param binCount  the number of bins (must be positive).
+     * @param breakpoints  the breakpoints ({@code null} permitted).
+     */
+    public CompiledPaintScale(PaintScale source, int binCount, 
+            double[] breakpoints) {
+        Args.nullNotPermitted(source, "source");
+        if (binCount <= 0) {
+            throw new IllegalArgumentException(
+                    "Requires 'binCount' to be positive.");
+        }
+        this.source = source;
+        this.lowerBound = source.getLowerBound();
+        this.upperBound = source.getUpperBound();
+        this.binCount = binCount;
+        this.colors = new Color[binCount + 1];
+        if (!(this.lowerBound < this.upperBound) 
+                || Double.isInfinite(this.upperBound - this.lowerBound)) {
+            return;  // every value goes to the source scale
+        }
+        double width = (this.upperBound - this.lowerBound) / binCount;
+        for (int bin = 0; bin < binCount; bin++) {
+            double first = this.lowerBound + bin * width;
+            double last = Math.nextDown(this.lowerBound + (bin + 1) * width);
+            if (binIndex(first) != bin || binIndex(last) != bin) {
+                continue;  // rounding at the edges, leave to the source
+            }
+            Paint p1 = source.getPaint(first);
+            Paint p2 = source.getPaint(last);
+            if (p1 instanceof Color && p1.equals(p2)) {
+                this.colors[bin] = (Color) p1;
+            }
+        }
+        Paint p = source.getPaint(this.upperBound);
+        if (p instanceof Color) {
+            this.colors[binCount] = (Color) p;
+        }
+        if (breakpoints != null) {
+            for (double b : breakpoints) {
+                if (b >= this.lowerBound && b <= this.upperBound) {
+                    this.colors[binIndex(b)] = null;
+                    this.colors[binIndex(Math.max(Math.nextDown(b), 
+                            this.lowerBound))] = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the source scale.
+     *
+     * @return The source scale (never {@code null}).
+     */
+    public PaintScale getSource() {
+        return this.source;
+    }
+
+    /**
+     * Returns the number of bins.
+     *
+     * @return The number of bins.
+     */
+    public int getBinCount() {
+        return this.binCount;
+    }
+
+    /**
+     * Returns the lower bound for the scale.
+     *
+     * @return The lower bound.
+     */
+    @Override
+    public double getLowerBound() {
+        return this.lowerBound;
+    }
+
+    /**
+     * Returns the upper bound for the scale.
+     *
+     * @return The upper bound.
+     */
+    @Override
+    public double getUpperBound() {
+        return this.upperBound;
+    }
+
+    /**
+     * Returns the bin for a value within the bounds of the scale.
+     *
+     * @param value  the value.
+     *
+     * @return The bin index (from 0 to {@code binCount}).
+     */
+    private int binIndex(double value) {
+        int bin = (int) ((value - this.lowerBound) 
+                / (this.upperBound - this.lowerBound) * this.binCount);
+        return Math.min(bin, this.binCount);
+    }
+
+    /**
+     * Returns a {@code Paint} instance for the specified value.
+     *
+     * @param value  the value.
+     *
+     * @return A {@code Paint} instance (never {@code null}).
+     */
+    @Override
+    public Paint getPaint(double value) {
+        if (value >= this.lowerBound && value <= this.upperBound) {
+            Color c = this.colors[binIndex(value)];
+            if (c != null) {
+                return c;
+            }
+        }
+        return this.source.getPaint(value);
+    }
+
+    /**
+     * Returns this instance, since it is already compiled.
+     *
+     * @return This instance.
+     */
+    @Override
+    public PaintScale compile() {
+        return this;
+    }
+
+    /**
+     * Tests this instance for equality with an arbitrary object.
+     *
+     * @param obj  the object ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof CompiledPaintScale)) {
+            return false;
+        }
+        CompiledPaintScale that = (CompiledPaintScale) obj;
+        if (this.binCount != that.binCount) {
+            return false;
+        }
+        if (!this.source.equals(that.source)) {
+            return false;
+        }
+        // the table also reflects the breakpoints
+        if (!Arrays.equals(this.colors, that.colors)) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 3;
+        hash = 59 * hash + this.source.hashCode();
+        hash = 59 * hash + this.binCount;
+        return hash;
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the output stream.
+     *
+     * @throws IOException  if there is an I/O error, or the source scale is
+     *     not serializable.
+     */
+    private void writeObject(ObjectOutputStream stream) throws IOException {
+        if (!(this.source instanceof Serializable)) {
+            throw new NotSerializableException("The source scale ("
+                    + this.source.getClass().getName()
+                    + ") is not serializable.");
+        }
+        stream.defaultWriteObject();
+    }
+
+}
@@ -60,6 +60,9 @@ public class GrayPaintScale
      */
     private int alpha;
 
+    /** The compiled form of this scale, created on demand. */
+    private transient CompiledPaintScale compiled;
+
     /**
      * Creates a new {@code GrayPaintScale} instance with default values.
      */
@@ -158,6 +161,23 @@ public class GrayPaintScale
         return new Color(g, g, g, this.alpha);
     }
 
+    /**
+     * Returns a compiled form of this scale with one bin for each gray
+     * level, so that colors are shared instead of being created for each 
+     * call.
+     *
+     * @return The compiled scale (never {@code null}).
+     */
+    @Override
+    public PaintScale compile() {
+        CompiledPaintScale result = this.compiled;
+        if (result == null) {
+            result = new CompiledPaintScale(this, 255);
+            this.compiled = result;
+        }
+        return result;
+    }
+
     /**
      * Tests this {@code GrayPaintScale} instance for equality with an
      * arbitrary object.  This method returns {@code true} if and only
@@ -216,7 +236,9 @@ public class GrayPaintScale
      */
     @Override
     public Object clone() throws CloneNotSupportedException {
-        return super.clone();
+        GrayPaintScale clone = (GrayPaintScale) super.clone();
+        clone.compiled = null;
+        return clone;
     }
 
 }
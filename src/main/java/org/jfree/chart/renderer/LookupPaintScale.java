@@ -170,6 +170,12 @@ public class LookupPaintScale
     /** The lookup table. */
     private List lookupTable;
 
+    /** 
+     * The compiled form of this scale, created on demand and discarded when 
+     * the lookup table changes. 
+     */
+    private transient CompiledPaintScale compiled;
+
     /**
      * Creates a new paint scale.
      */
@@ -248,6 +254,7 @@ public class LookupPaintScale
         else {
             this.lookupTable.add(-(index + 1), item);
         }
+        this.compiled = null;
     }
 
     /**
@@ -303,6 +310,28 @@ public class LookupPaintScale
         return (item != null ? item.paint : this.defaultPaint);
     }
 
+    /**
+     * Returns a compiled form of this scale with 1024 bins.  The bins that 
+     * contain a value from the lookup table are still looked up in this 
+     * scale, so the results are unchanged.  The compiled form is cached until 
+     * the next call to {@link #add(double, Paint)}.
+     *
+     * @return The compiled scale (never {@code null}).
+     */
+    @Override
+    public PaintScale compile() {
+        CompiledPaintScale result = this.compiled;
+        if (result == null) {
+            double[] breakpoints = new double[this.lookupTable.size()];
+            for (int i = 0; i < breakpoints.length; i++) {
+                breakpoints[i] = ((PaintItem) this.lookupTable.get(i)).value;
+            }
+            result = new CompiledPaintScale(this, 1024, breakpoints);
+            this.compiled = result;
+        }
+        return result;
+    }
+
 
     /**
      * Tests this instance for equality with an arbitrary object.
@@ -347,6 +376,7 @@ public class LookupPaintScale
     public Object clone() throws CloneNotSupportedException {
         LookupPaintScale clone = (LookupPaintScale) super.clone();
         clone.lookupTable = new java.util.ArrayList(this.lookupTable);
+        clone.compiled = null;
         return clone;
     }
 
@@ -78,4 +78,17 @@ public interface PaintScale {
      */
     Paint getPaint(double value);
 
+    /**
+     * Returns a form of this scale that is faster to query for many values,
+     * for example a {@link CompiledPaintScale}, and gives the same results 
+     * as this scale.  Renderers may call this method for every item, so
+     * implementations should cache the result until the scale is modified.
+     * The default implementation returns this scale.
+     *
+     * @return A paint scale (never {@code null}).
+     */
+    default PaintScale compile() {
+        return this;
+    }
+
 }
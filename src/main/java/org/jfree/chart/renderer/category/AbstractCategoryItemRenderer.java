@@ -64,6 +64,8 @@ import org.jfree.chart.axis.CategoryAxis;
 import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.entity.CategoryItemEntity;
 import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.LazyCategoryItemEntity;
+import org.jfree.chart.entity.StandardEntityCollection;
 import org.jfree.chart.event.RendererChangeEvent;
 import org.jfree.chart.labels.CategoryItemLabelGenerator;
 import org.jfree.chart.labels.CategorySeriesLabelGenerator;
@@ -1603,6 +1605,17 @@ public abstract class AbstractCategoryItemRenderer extends AbstractRenderer
         if (!getItemCreateEntity(row, column)) {
             return;
         }
+        if (entities instanceof StandardEntityCollection) {
+            StandardEntityCollection sec = (StandardEntityCollection) entities;
+            if (sec.isFull()) {
+                return;
+            }
+            if (sec.isLazyItemEntities()) {
+                entities.add(createLazyItemEntity(hotspot,
+                        (CategoryDataset<?, ?>) dataset, row, column));
+                return;
+            }
+        }
         String tip = null;
         CategoryToolTipGenerator tipster = getToolTipGenerator(row, column);
         if (tipster != null) {
@@ -1638,6 +1651,14 @@ public abstract class AbstractCategoryItemRenderer extends AbstractRenderer
         if (!getItemCreateEntity(row, column)) {
             return;
         }
+        boolean lazy = false;
+        if (entities instanceof StandardEntityCollection) {
+            StandardEntityCollection sec = (StandardEntityCollection) entities;
+            if (sec.isFull()) {
+                return;
+            }
+            lazy = sec.isLazyItemEntities();
+        }
         Shape s = hotspot;
         if (hotspot == null) {
             double r = getDefaultEntityRadius();
@@ -1649,6 +1670,11 @@ public abstract class AbstractCategoryItemRenderer extends AbstractRenderer
                 s = new Ellipse2D.Double(entityY - r, entityX - r, w, w);
             }
         }
+        if (lazy) {
+            entities.add(createLazyItemEntity(s,
+                    (CategoryDataset<?, ?>) dataset, row, column));
+            return;
+        }
         String tip = null;
         CategoryToolTipGenerator generator = getToolTipGenerator(row, column);
         if (generator != null) {
@@ -1664,4 +1690,26 @@ public abstract class AbstractCategoryItemRenderer extends AbstractRenderer
         entities.add(entity);
     }
 
+    /**
+     * Creates an entity that generates its tool tip and URL text on demand,
+     * using the generators for the specified item.
+     *
+     * @param <R>  the row key type.
+     * @param <C>  the column key type.
+     * @param hotspot  the entity area ({@code null} not permitted).
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param row  the row index.
+     * @param column  the column index.
+     *
+     * @return The entity.
+     */
+    @SuppressWarnings("unchecked")
+    private <R extends Comparable<R>, C extends Comparable<C>>
+            LazyCategoryItemEntity<R, C> createLazyItemEntity(Shape hotspot,
+            CategoryDataset<R, C> dataset, int row, int column) {
+        return new LazyCategoryItemEntity<>(hotspot, dataset, row, column,
+                (CategoryToolTipGenerator<R, C>) getToolTipGenerator(row,
+                column), getItemURLGenerator(row, column));
+    }
+
 }
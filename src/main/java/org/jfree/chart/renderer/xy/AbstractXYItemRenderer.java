@@ -68,6 +68,8 @@ import org.jfree.chart.annotations.Annotation;
 import org.jfree.chart.annotations.XYAnnotation;
 import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.LazyXYItemEntity;
+import org.jfree.chart.entity.StandardEntityCollection;
 import org.jfree.chart.entity.XYItemEntity;
 import org.jfree.chart.event.AnnotationChangeEvent;
 import org.jfree.chart.event.AnnotationChangeListener;
@@ -1592,6 +1594,14 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer
         if (!getItemCreateEntity(series, item)) {
             return;
         }
+        boolean lazy = false;
+        if (entities instanceof StandardEntityCollection) {
+            StandardEntityCollection sec = (StandardEntityCollection) entities;
+            if (sec.isFull()) {
+                return;
+            }
+            lazy = sec.isLazyItemEntities();
+        }
 
         // if not hotspot is provided, we create a default based on the 
         // provided data coordinates (which are already in Java2D space)
@@ -1600,6 +1610,11 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer
             double w = r * 2;
             hotspot = new Ellipse2D.Double(entityX - r, entityY - r, w, w);
         }
+        if (lazy) {
+            entities.add(new LazyXYItemEntity(hotspot, dataset, series, item,
+                    getToolTipGenerator(series, item), getURLGenerator()));
+            return;
+        }
         String tip = null;
         XYToolTipGenerator generator = getToolTipGenerator(series, item);
         if (generator != null) {
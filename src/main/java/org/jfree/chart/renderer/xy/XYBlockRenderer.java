@@ -36,11 +36,18 @@
 
 package org.jfree.chart.renderer.xy;
 
+import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.Paint;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
 import java.io.Serializable;
 
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.axis.SymbolAxis;
 import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.event.RendererChangeEvent;
@@ -104,6 +111,15 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
      */
     private boolean useOutlinePaint;
 
+    /** 
+     * A flag that controls whether a series with blocks that form a regular
+     * grid is drawn as a single image.
+     */
+    private boolean drawGridAsImage;
+
+    /** The largest image (in pixels) that will be created for a series. */
+    private static final int MAX_GRID_IMAGE_PIXELS = 1 << 24;
+
     /**
      * Creates a new {@code XYBlockRenderer} instance with default
      * attributes.
@@ -281,6 +297,44 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
         fireChangeEvent();
     }
 
+    /**
+     * Returns the flag that controls whether a series with blocks that form
+     * a regular grid is drawn as a single image.  The default value is 
+     * {@code false}.
+     *
+     * @return A boolean.
+     *
+     * @see #setDrawGridAsImage(boolean)
+     */
+    public boolean getDrawGridAsImage() {
+        return this.drawGridAsImage;
+    }
+
+    /**
+     * Sets the flag that controls whether a series with blocks that form a
+     * regular grid is drawn as a single image, and sends a 
+     * {@link RendererChangeEvent} to all registered listeners.  
+     * <p>
+     * When this flag is set, a series with items that lie on a grid spaced by
+     * the block width and height is written pixel by pixel into an image with 
+     * one pixel per block, which is then scaled into the data area.  This is 
+     * much faster than filling one rectangle per item for large grids.  The 
+     * image is only used if the plot has a vertical orientation, both axes 
+     * are linear ({@link NumberAxis} or {@link SymbolAxis}), outlines and
+     * item labels are not drawn for the series and the paint scale returns 
+     * {@link Color} instances.  Otherwise the series is drawn one block at a 
+     * time as usual.  No entities are created (and the crosshair is not 
+     * updated) for a series that is drawn as an image.
+     *
+     * @param flag  the flag.
+     *
+     * @see #getDrawGridAsImage()
+     */
+    public void setDrawGridAsImage(boolean flag) {
+        this.drawGridAsImage = flag;
+        fireChangeEvent();
+    }
+
     /**
      * Updates the offsets to take into account the block width, height and
      * anchor.
@@ -376,6 +430,25 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
         }
     }
 
+    /**
+     * Initialises the renderer and returns a state object that will be 
+     * passed to subsequent calls to the drawItem method.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the area inside the axes.
+     * @param plot  the plot.
+     * @param dataset  the dataset.
+     * @param info  an optional info collection object to return data back to
+     *              the caller.
+     *
+     * @return A state object.
+     */
+    @Override
+    public XYItemRendererState initialise(Graphics2D g2, Rectangle2D dataArea,
+            XYPlot plot, XYDataset dataset, PlotRenderingInfo info) {
+        return new State(info);
+    }
+
     /**
      * Draws the block representing the specified item.
      *
@@ -398,6 +471,17 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
             ValueAxis domainAxis, ValueAxis rangeAxis, XYDataset dataset,
             int series, int item, CrosshairState crosshairState, int pass) {
 
+        if (this.drawGridAsImage && state instanceof State) {
+            State s = (State) state;
+            if (item == state.getFirstItemIndex()) {
+                s.seriesDrawnAsImage = drawGridImage(g2, state, dataArea, plot,
+                        domainAxis, rangeAxis, dataset, series);
+            }
+            if (s.seriesDrawnAsImage) {
+                return;
+            }
+        }
+
         double x = dataset.getXValue(series, item);
         double y = dataset.getYValue(series, item);
         double z = 0.0;
@@ -405,7 +489,7 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
             z = ((XYZDataset) dataset).getZValue(series, item);
         }
 
-        Paint p = this.paintScale.getPaint(z);
+        Paint p = this.paintScale.compile().getPaint(z);
         double xx0 = domainAxis.valueToJava2D(x + this.xOffset, dataArea,
                 plot.getDomainAxisEdge());
         double yy0 = rangeAxis.valueToJava2D(y + this.yOffset, dataArea,
@@ -457,6 +541,117 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
 
     }
 
+    /**
+     * Draws the items that will be processed for a series as a single image,
+     * if they form a regular grid and the other conditions described in 
+     * {@link #setDrawGridAsImage(boolean)} are met.
+     *
+     * @param g2  the graphics device.
+     * @param state  the state.
+     * @param dataArea  the data area.
+     * @param plot  the plot.
+     * @param domainAxis  the x-axis.
+     * @param rangeAxis  the y-axis.
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     *
+     * @return A boolean that indicates whether the series was drawn.
+     */
+    private boolean drawGridImage(Graphics2D g2, XYItemRendererState state,
+            Rectangle2D dataArea, XYPlot plot, ValueAxis domainAxis, 
+            ValueAxis rangeAxis, XYDataset dataset, int series) {
+        if (plot.getOrientation() != PlotOrientation.VERTICAL 
+                || !isLinear(domainAxis) || !isLinear(rangeAxis)
+                || this.drawOutlines || isSeriesItemLabelsVisible(series)) {
+            return false;
+        }
+        int first = state.getFirstItemIndex();
+        int last = state.getLastItemIndex();
+        double minX = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (int item = first; item <= last; item++) {
+            double x = dataset.getXValue(series, item);
+            double y = dataset.getYValue(series, item);
+            if (Double.isNaN(x) || Double.isNaN(y)) {
+                return false;
+            }
+            minX = Math.min(minX, x);
+            maxX = Math.max(maxX, x);
+            minY = Math.min(minY, y);
+            maxY = Math.max(maxY, y);
+        }
+        long columns = Math.round((maxX - minX) / this.blockWidth) + 1;
+        long rows = Math.round((maxY - minY) / this.blockHeight) + 1;
+        long itemCount = last - first + 1;
+        if (itemCount < 1 || columns > MAX_GRID_IMAGE_PIXELS 
+                || rows > MAX_GRID_IMAGE_PIXELS
+                || columns * rows > MAX_GRID_IMAGE_PIXELS 
+                || columns * rows > Math.max(4 * itemCount, 1024)) {
+            return false;  // too large, or too sparse to be worth an image
+        }
+        PaintScale scale = this.paintScale.compile();
+        BufferedImage image = new BufferedImage((int) columns, (int) rows, 
+                BufferedImage.TYPE_INT_ARGB);
+        int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer())
+                .getData();
+        for (int item = first; item <= last; item++) {
+            double column = (dataset.getXValue(series, item) - minX) 
+                    / this.blockWidth;
+            double row = (dataset.getYValue(series, item) - minY) 
+                    / this.blockHeight;
+            long c = Math.round(column);
+            long r = Math.round(row);
+            if (Math.abs(column - c) > 1.0E-6 || Math.abs(row - r) > 1.0E-6) {
+                return false;  // not on the grid
+            }
+            double z = 0.0;
+            if (dataset instanceof XYZDataset) {
+                z = ((XYZDataset) dataset).getZValue(series, item);
+            }
+            Paint p = scale.getPaint(z);
+            if (!(p instanceof Color)) {
+                return false;
+            }
+            pixels[(int) ((rows - 1 - r) * columns + c)] = ((Color) p).getRGB();
+        }
+
+        // the image is scaled so that each pixel covers one block
+        double xx0 = domainAxis.valueToJava2D(minX + this.xOffset, dataArea, 
+                plot.getDomainAxisEdge());
+        double xx1 = domainAxis.valueToJava2D(minX + columns * this.blockWidth 
+                + this.xOffset, dataArea, plot.getDomainAxisEdge());
+        double yy0 = rangeAxis.valueToJava2D(minY + this.yOffset, dataArea, 
+                plot.getRangeAxisEdge());
+        double yy1 = rangeAxis.valueToJava2D(minY + rows * this.blockHeight 
+                + this.yOffset, dataArea, plot.getRangeAxisEdge());
+        AffineTransform transform = new AffineTransform();
+        transform.translate(xx0, yy1);
+        transform.scale((xx1 - xx0) / columns, (yy0 - yy1) / rows);
+        // restoring the full set of hints also removes the interpolation
+        // hint if it was not set before
+        RenderingHints savedHints = g2.getRenderingHints();
+        g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, 
+                RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        g2.drawImage(image, transform, null);
+        g2.setRenderingHints(savedHints);
+        return true;
+    }
+
+    /**
+     * Returns {@code true} if the specified axis maps values linearly to 
+     * Java2D space.
+     *
+     * @param axis  the axis.
+     *
+     * @return A boolean.
+     */
+    private static boolean isLinear(ValueAxis axis) {
+        return axis.getClass() == NumberAxis.class 
+                || axis.getClass() == SymbolAxis.class;
+    }
+
     /**
      * Tests this {@code XYBlockRenderer} for equality with an arbitrary
      * object.  This method returns {@code true} if and only if:
@@ -498,6 +693,9 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
         if (this.useOutlinePaint != that.useOutlinePaint) {
             return false;
         }
+        if (this.drawGridAsImage != that.drawGridAsImage) {
+            return false;
+        }
         return super.equals(obj);
     }
 
@@ -519,4 +717,31 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
         return clone;
     }
 
+    /**
+     * The state for the renderer, which records whether the current series
+     * has been drawn as a single image.
+     */
+    public static class State extends XYItemRendererState {
+
+        /** A flag that indicates the current series was drawn as an image. */
+        private boolean seriesDrawnAsImage;
+
+        /**
+         * Creates a new state instance.
+         *
+         * @param info  the plot rendering info.
+         */
+        public State(PlotRenderingInfo info) {
+            super(info);
+        }
+
+        @Override
+        public void startSeriesPass(XYDataset dataset, int series, 
+                int firstItem, int lastItem, int pass, int passCount) {
+            super.startSeriesPass(dataset, series, firstItem, lastItem, pass, 
+                    passCount);
+            this.seriesDrawnAsImage = false;
+        }
+    }
+
 }
@@ -502,7 +502,7 @@ public class XYShapeRenderer extends AbstractXYItemRenderer
         Paint p;
         if (dataset instanceof XYZDataset) {
             double z = ((XYZDataset) dataset).getZValue(series, item);
-            p = this.paintScale.getPaint(z);
+            p = this.paintScale.compile().getPaint(z);
         } else {
             if (this.useFillPaint) {
                 p = getItemFillPaint(series, item);
@@ -115,13 +115,18 @@ import org.jfree.chart.swing.editor.ChartEditorManager;
 import org.jfree.chart.entity.ChartEntity;
 import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.event.ChartChangeEvent;
+import org.jfree.chart.event.ChartChangeEventType;
 import org.jfree.chart.event.ChartChangeListener;
 import org.jfree.chart.event.ChartProgressEvent;
 import org.jfree.chart.event.ChartProgressListener;
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.plot.CombinedDomainXYPlot;
+import org.jfree.chart.plot.CombinedRangeXYPlot;
 import org.jfree.chart.plot.Pannable;
 import org.jfree.chart.plot.Plot;
 import org.jfree.chart.plot.PlotOrientation;
 import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.plot.Zoomable;
 import org.jfree.chart.internal.Args;
 
@@ -285,6 +290,30 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
     /** The width of the chart buffer. */
     protected int chartBufferWidth;
 
+    /**
+     * A flag that controls whether the data layer of the chart is buffered
+     * separately, so that dataset changes redraw only the data layer.
+     */
+    private boolean layeredBuffer;
+
+    /** A flag that indicates that the data layer should be refreshed. */
+    private boolean refreshDataLayer;
+
+    /**
+     * A buffer for the data layer of the chart (used with the layered
+     * buffer, in which case {@code chartBuffer} holds the static layer).
+     */
+    private transient Image dataBuffer;
+
+    /** The entities for the static layer of the chart. */
+    private transient List<ChartEntity> staticEntities;
+
+    /**
+     * The axis ranges and legend items at the time the static layer was
+     * drawn.
+     */
+    private transient List<Object> staticLayerState;
+
     /**
      * The minimum width for drawing a chart (uses scaling for smaller widths).
      */
@@ -1391,6 +1420,127 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         this.refreshBuffer = flag;
     }
 
+    /**
+     * Returns the flag that controls whether the data layer of the chart is
+     * buffered separately from the static layer (the background, titles,
+     * legend, axes and gridlines).  The default value is {@code false}.
+     *
+     * @return A boolean.
+     *
+     * @see #setLayeredBuffer(boolean)
+     */
+    public boolean isLayeredBuffer() {
+        return this.layeredBuffer;
+    }
+
+    /**
+     * Sets the flag that controls whether the data layer of the chart is
+     * buffered separately from the static layer.  When set, and the
+     * off-screen buffer is in use, a dataset change redraws only the data
+     * layer as long as the axis ranges and legend items are unchanged,
+     * which can reduce the frame time for charts with streaming data
+     * considerably.  This is supported for charts with an {@link XYPlot}
+     * (but not the combined plots), other charts are redrawn in full.
+     *
+     * @param flag  the new flag value.
+     *
+     * @see JFreeChart#KEY_DATA_LAYER
+     */
+    public void setLayeredBuffer(boolean flag) {
+        this.layeredBuffer = flag;
+        if (!flag) {
+            this.dataBuffer = null;
+            this.staticEntities = null;
+            this.staticLayerState = null;
+        }
+        this.refreshBuffer = true;
+        repaint();
+    }
+
+    /**
+     * Returns {@code true} if the chart can be drawn in separate layers,
+     * and {@code false} otherwise.
+     *
+     * @return A boolean.
+     */
+    private boolean isLayeredDrawingSupported() {
+        Plot plot = this.chart.getPlot();
+        return plot instanceof XYPlot && !(plot instanceof CombinedDomainXYPlot)
+                && !(plot instanceof CombinedRangeXYPlot);
+    }
+
+    /**
+     * Returns the state that the static layer of the chart depends on,
+     * beyond the chart itself:  the axis ranges (which can be changed
+     * by a dataset change without a separate event) and the legend items.
+     *
+     * @return The state.
+     */
+    private List<Object> createStaticLayerState() {
+        XYPlot<?> plot = (XYPlot<?>) this.chart.getPlot();
+        List<Object> result = new ArrayList<>();
+        for (int i = 0; i < plot.getDomainAxisCount(); i++) {
+            ValueAxis axis = plot.getDomainAxis(i);
+            result.add(axis != null ? axis.getRange() : null);
+        }
+        for (int i = 0; i < plot.getRangeAxisCount(); i++) {
+            ValueAxis axis = plot.getRangeAxis(i);
+            result.add(axis != null ? axis.getRange() : null);
+        }
+        result.add(plot.getLegendItems());
+        return result;
+    }
+
+    /**
+     * Draws the chart, or one layer of the chart, to a buffer image.
+     *
+     * @param buffer  the buffer.
+     * @param layer  the value for the {@link JFreeChart#KEY_DATA_LAYER} hint
+     *     ({@code null} to draw the whole chart).
+     * @param globalScaleX  the x-scale of the device.
+     * @param globalScaleY  the y-scale of the device.
+     * @param available  the area available for the chart.
+     * @param chartArea  the chart area (when scaling is required).
+     * @param scale  a flag that indicates whether scaling is required.
+     */
+    private void drawToBuffer(Image buffer, Boolean layer, double globalScaleX,
+            double globalScaleY, Rectangle2D available, Rectangle2D chartArea,
+            boolean scale) {
+
+        // scale graphics of the buffer to the same value as global
+        // Swing graphics - this allow to paint all elements as usual
+        // but applies all necessary smoothing
+        Graphics2D bufferG2 = (Graphics2D) buffer.getGraphics();
+        bufferG2.scale(globalScaleX, globalScaleY);
+        if (layer != null) {
+            bufferG2.setRenderingHint(JFreeChart.KEY_DATA_LAYER, layer);
+        }
+
+        Rectangle2D bufferArea = new Rectangle2D.Double(
+                0, 0, available.getWidth(), available.getHeight());
+
+        // make the background of the buffer clear and transparent
+        Composite savedComposite = bufferG2.getComposite();
+        bufferG2.setComposite(AlphaComposite.getInstance(AlphaComposite.CLEAR, 0.0f));
+        Rectangle r = new Rectangle(0, 0, (int) available.getWidth(), (int) available.getHeight());
+        bufferG2.fill(r);
+        bufferG2.setComposite(savedComposite);
+
+        if (scale) {
+            AffineTransform saved = bufferG2.getTransform();
+            AffineTransform st = AffineTransform.getScaleInstance(
+                    this.scaleX, this.scaleY);
+            bufferG2.transform(st);
+            this.chart.draw(bufferG2, chartArea, this.anchor,
+                    this.info);
+            bufferG2.setTransform(saved);
+        } else {
+            this.chart.draw(bufferG2, bufferArea, this.anchor,
+                    this.info);
+        }
+        bufferG2.dispose();
+    }
+
     /**
      * Paints the component by drawing the chart to fill the entire component,
      * but allowing for the insets (which will be non-zero if a border has been
@@ -1458,8 +1608,12 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
             final int scaledWidth = (int) (available.getWidth() * globalScaleX);
             final int scaledHeight = (int) (available.getHeight() * globalScaleY);
 
+            boolean layered = this.layeredBuffer
+                    && isLayeredDrawingSupported();
+
             // do we need to resize the buffer?
             if ((this.chartBuffer == null)
+                    || (layered && this.dataBuffer == null)
                     || (this.chartBufferWidth != scaledWidth)
                     || (this.chartBufferHeight != scaledHeight)) {
                 this.chartBufferWidth = scaledWidth;
@@ -1468,47 +1622,66 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
                 this.chartBuffer = gc.createCompatibleImage(
                         this.chartBufferWidth, this.chartBufferHeight,
                         Transparency.TRANSLUCENT);
+                this.dataBuffer = layered ? gc.createCompatibleImage(
+                        this.chartBufferWidth, this.chartBufferHeight,
+                        Transparency.TRANSLUCENT) : null;
+                this.refreshBuffer = true;
+            }
+
+            // a dataset change can leave the static layer as it is, unless
+            // the axis ranges or legend items changed along with the data
+            if (layered && !this.refreshBuffer && this.refreshDataLayer
+                    && !createStaticLayerState().equals(
+                            this.staticLayerState)) {
                 this.refreshBuffer = true;
             }
 
             // do we need to redraw the buffer?
             if (this.refreshBuffer) {
-
                 this.refreshBuffer = false; // clear the flag
-
-                // scale graphics of the buffer to the same value as global
-                // Swing graphics - this allow to paint all elements as usual
-                // but applies all necessary smoothing
-                Graphics2D bufferG2 = (Graphics2D) this.chartBuffer.getGraphics();
-                bufferG2.scale(globalScaleX, globalScaleY);
-
-                Rectangle2D bufferArea = new Rectangle2D.Double(
-                        0, 0, available.getWidth(), available.getHeight());
-
-                // make the background of the buffer clear and transparent
-                Composite savedComposite = bufferG2.getComposite();
-                bufferG2.setComposite(AlphaComposite.getInstance(AlphaComposite.CLEAR, 0.0f));
-                Rectangle r = new Rectangle(0, 0, (int) available.getWidth(), (int) available.getHeight());
-                bufferG2.fill(r);
-                bufferG2.setComposite(savedComposite);
-                
-                if (scale) {
-                    AffineTransform saved = bufferG2.getTransform();
-                    AffineTransform st = AffineTransform.getScaleInstance(
-                            this.scaleX, this.scaleY);
-                    bufferG2.transform(st);
-                    this.chart.draw(bufferG2, chartArea, this.anchor,
-                            this.info);
-                    bufferG2.setTransform(saved);
+                if (layered) {
+                    drawToBuffer(this.chartBuffer, Boolean.FALSE, globalScaleX,
+                            globalScaleY, available, chartArea, scale);
+                    EntityCollection entities = this.info != null
+                            ? this.info.getEntityCollection() : null;
+                    this.staticEntities = entities != null
+                            ? new ArrayList<>(entities.getEntities()) : null;
+                    this.staticLayerState = createStaticLayerState();
+                    this.refreshDataLayer = true;
                 } else {
-                    this.chart.draw(bufferG2, bufferArea, this.anchor,
-                            this.info);
+                    drawToBuffer(this.chartBuffer, null, globalScaleX,
+                            globalScaleY, available, chartArea, scale);
+                }
+            }
+
+            // do we need to redraw the data layer?
+            if (layered && this.refreshDataLayer) {
+                this.refreshDataLayer = false;
+                drawToBuffer(this.dataBuffer, Boolean.TRUE, globalScaleX,
+                        globalScaleY, available, chartArea, scale);
+                // put the static entities back beneath the data entities
+                EntityCollection entities = this.info != null
+                        ? this.info.getEntityCollection() : null;
+                if (entities != null && this.staticEntities != null) {
+                    List<ChartEntity> dataEntities
+                            = new ArrayList<>(entities.getEntities());
+                    entities.clear();
+                    for (ChartEntity entity : this.staticEntities) {
+                        entities.add(entity);
+                    }
+                    for (ChartEntity entity : dataEntities) {
+                        entities.add(entity);
+                    }
                 }
-                bufferG2.dispose();
             }
 
             // zap the buffer onto the panel...
             g2.drawImage(this.chartBuffer, insets.left, insets.top, (int) available.getWidth(), (int) available.getHeight(), this);
+            if (layered) {
+                g2.drawImage(this.dataBuffer, insets.left, insets.top,
+                        (int) available.getWidth(),
+                        (int) available.getHeight(), this);
+            }
             g2.addRenderingHints(this.chart.getRenderingHints()); // bug#187
 
         } else { // redrawing the chart every time...
@@ -1545,7 +1718,12 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
      */
     @Override
     public void chartChanged(ChartChangeEvent event) {
-        this.refreshBuffer = true;
+        if (this.layeredBuffer && this.useBuffer && isLayeredDrawingSupported()
+                && event.getType() == ChartChangeEventType.DATASET_UPDATED) {
+            this.refreshDataLayer = true;
+        } else {
+            this.refreshBuffer = true;
+        }
         Plot plot = this.chart.getPlot();
         if (plot instanceof Zoomable) {
             Zoomable z = (Zoomable) plot;
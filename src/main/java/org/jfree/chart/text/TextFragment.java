@@ -33,7 +33,6 @@ import java.awt.Font;
 import java.awt.FontMetrics;
 import java.awt.Graphics2D;
 import java.awt.Paint;
-import java.awt.font.LineMetrics;
 import java.awt.geom.Rectangle2D;
 import java.io.IOException;
 import java.io.ObjectInputStream;
@@ -204,18 +203,18 @@ public class TextFragment implements Serializable {
     public float calculateBaselineOffset(Graphics2D g2, TextAnchor anchor) {
         float result = 0.0f;
         FontMetrics fm = g2.getFontMetrics(this.font);
-        LineMetrics lm = fm.getLineMetrics("ABCxyz", g2);
+        TextMetricsCache.Metrics lm = TextUtils.getMetrics("ABCxyz", g2, fm);
         if (anchor.isTop()) {
-            result = lm.getAscent();
+            result = lm.ascent;
         }
         else if (anchor.isHalfAscent()) {
-            result = lm.getAscent() / 2.0f;
+            result = lm.ascent / 2.0f;
         }
         else if (anchor.isVerticalCenter()) {
-            result = lm.getAscent() / 2.0f - lm.getDescent() / 2.0f;
+            result = lm.ascent / 2.0f - lm.descent / 2.0f;
         }
         else if (anchor.isBottom()) {
-            result = -lm.getDescent() - lm.getLeading();
+            result = -lm.descent - lm.leading;
         }
         return result;                                             
     }
@@ -0,0 +1,311 @@
+/* ======================================================
+ * JFreeChart : a chart library for the Java(tm) platform
+ * ======================================================
+ *
+ * (C) Copyright 2000-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------
+ * TextMetricsCache.java
+ * ---------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.text;
+
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.font.FontRenderContext;
+import java.awt.font.LineMetrics;
+import java.awt.geom.Rectangle2D;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.jfree.chart.internal.Args;
+
+/**
+ * A bounded, thread-safe cache of text measurements keyed by the text, the
+ * font and the {@code FontRenderContext}.  The methods in {@link TextUtils} 
+ * (and so the axes, labels, legends and titles that use them) read string
+ * bounds and line metrics through the shared instance returned by
+ * {@link TextUtils#getTextMetricsCache()}, so that charts that are drawn
+ * repeatedly do not measure the same strings again.
+ * <p>
+ * When the cache is full it is cleared before the next entry is added, so
+ * the memory used is bounded by the maximum size.  Setting the maximum 
+ * size to zero turns caching off.
+ */
+public final class TextMetricsCache {
+
+    /** The default maximum number of entries. */
+    public static final int DEFAULT_MAX_SIZE = 4096;
+
+    /** The cached measurements. */
+    private final Map<Key, Metrics> entries;
+
+    /** The maximum number of entries. */
+    private volatile int maxSize;
+
+    /** The number of lookups that found an entry in the cache. */
+    private final LongAdder hits;
+
+    /** The number of lookups that had to measure the text. */
+    private final LongAdder misses;
+
+    /**
+     * Creates a new cache with the default maximum size.
+     */
+    public TextMetricsCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maxSize  the maximum number of entries (zero or greater).
+     */
+    public TextMetricsCache(int maxSize) {
+        Args.requireNonNegative(maxSize, "maxSize");
+        this.entries = new ConcurrentHashMap<>();
+        this.maxSize = maxSize;
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+    }
+
+    /**
+     * Returns the maximum number of entries in the cache.
+     *
+     * @return The maximum size.
+     */
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+
+    /**
+     * Sets the maximum number of entries in the cache, clearing the cache if
+     * it holds more than this number already.  A size of zero turns 
+     * caching off.
+     *
+     * @param maxSize  the maximum size (zero or greater).
+     */
+    public void setMaxSize(int maxSize) {
+        Args.requireNonNegative(maxSize, "maxSize");
+        this.maxSize = maxSize;
+        if (this.entries.size() > maxSize) {
+            this.entries.clear();
+        }
+    }
+
+    /**
+     * Returns the number of entries in the cache.
+     *
+     * @return The number of entries.
+     */
+    public int getSize() {
+        return this.entries.size();
+    }
+
+    /**
+     * Returns the number of lookups that were answered from the cache.
+     *
+     * @return The hit count.
+     */
+    public long getHitCount() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that required the text to be measured.
+     *
+     * @return The miss count.
+     */
+    public long getMissCount() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Resets the hit and miss counters to zero.
+     */
+    public void resetStatistics() {
+        this.hits.reset();
+        this.misses.reset();
+    }
+
+    /**
+     * Removes all entries from the cache.
+     */
+    public void clear() {
+        this.entries.clear();
+    }
+
+    /**
+     * Returns the measurements for a string drawn with the font of the 
+     * supplied font metrics.
+     *
+     * @param text  the text ({@code null} not permitted).
+     * @param g2  the graphics target ({@code null} not permitted).
+     * @param fm  the font metrics ({@code null} not permitted).
+     * @param useStringBounds  use {@code FontMetrics.getStringBounds()} for
+     *     the bounds (see {@link TextUtils#getUseFontMetricsGetStringBounds()}).
+     *
+     * @return The measurements (never {@code null}).
+     */
+    Metrics getMetrics(String text, Graphics2D g2, FontMetrics fm, 
+            boolean useStringBounds) {
+        FontRenderContext frc = g2.getFontRenderContext();
+        int max = this.maxSize;
+        if (max == 0 || !frc.equals(fm.getFontRenderContext())) {
+            this.misses.increment();
+            return Metrics.measure(text, g2, fm, useStringBounds);
+        }
+        Key key = new Key(text, fm.getFont(), frc, useStringBounds);
+        Metrics result = this.entries.get(key);
+        if (result != null) {
+            this.hits.increment();
+            return result;
+        }
+        this.misses.increment();
+        result = Metrics.measure(text, g2, fm, useStringBounds);
+        if (this.entries.size() >= max) {
+            this.entries.clear();
+        }
+        this.entries.put(key, result);
+        return result;
+    }
+
+    /**
+     * The measurements for one string.
+     */
+    static final class Metrics {
+
+        /** The x-coordinate of the string bounds, relative to the origin. */
+        final double x;
+
+        /** The y-coordinate of the string bounds, relative to the baseline. */
+        final double y;
+
+        /** The width of the string bounds. */
+        final double width;
+
+        /** The height of the string bounds. */
+        final double height;
+
+        /** The ascent from the line metrics. */
+        final float ascent;
+
+        /** The descent from the line metrics. */
+        final float descent;
+
+        /** The leading from the line metrics. */
+        final float leading;
+
+        private Metrics(double x, double y, double width, double height,
+                LineMetrics lm) {
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+            this.ascent = lm.getAscent();
+            this.descent = lm.getDescent();
+            this.leading = lm.getLeading();
+        }
+
+        /**
+         * Measures a string.
+         *
+         * @param text  the text.
+         * @param g2  the graphics target.
+         * @param fm  the font metrics.
+         * @param useStringBounds  use {@code FontMetrics.getStringBounds()}.
+         *
+         * @return The measurements.
+         */
+        static Metrics measure(String text, Graphics2D g2, FontMetrics fm,
+                boolean useStringBounds) {
+            LineMetrics lm = fm.getFont().getLineMetrics(text,
+                    g2.getFontRenderContext());
+            if (useStringBounds) {
+                Rectangle2D bounds = fm.getStringBounds(text, g2);
+                // getStringBounds() can return incorrect height for some 
+                // Unicode characters...see bug parade 6183356, let's replace 
+                // it with something correct
+                return new Metrics(bounds.getX(), bounds.getY(), 
+                        bounds.getWidth(), lm.getHeight(), lm);
+            }
+            return new Metrics(0.0, -fm.getAscent(), fm.stringWidth(text), 
+                    fm.getHeight(), lm);
+        }
+    }
+
+    /**
+     * A cache key.
+     */
+    private static final class Key {
+
+        private final String text;
+
+        private final Font font;
+
+        private final FontRenderContext frc;
+
+        private final boolean useStringBounds;
+
+        private final int hash;
+
+        Key(String text, Font font, FontRenderContext frc, 
+                boolean useStringBounds) {
+            this.text = text;
+            this.font = font;
+            this.frc = frc;
+            this.useStringBounds = useStringBounds;
+            this.hash = Objects.hash(text, font, frc, useStringBounds);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) obj;
+            return this.hash == that.hash 
+                    && this.useStringBounds == that.useStringBounds
+                    && this.text.equals(that.text) 
+                    && this.font.equals(that.font) 
+                    && this.frc.equals(that.frc);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+
+}
@@ -34,7 +34,6 @@ import java.awt.Graphics2D;
 import java.awt.Paint;
 import java.awt.Shape;
 import java.awt.font.FontRenderContext;
-import java.awt.font.LineMetrics;
 import java.awt.font.TextLayout;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
@@ -69,6 +68,10 @@ public class TextUtils {
      */
     private static boolean useFontMetricsGetStringBounds = false;
 
+    /** The cache used for string bounds and line metrics. */
+    private static final TextMetricsCache textMetricsCache 
+            = new TextMetricsCache();
+
     /**
      * Private constructor prevents object creation.
      */
@@ -257,23 +260,26 @@ public class TextUtils {
     public static Rectangle2D getTextBounds(String text, Graphics2D g2, 
             FontMetrics fm) {
 
-        Rectangle2D bounds;
-        if (TextUtils.useFontMetricsGetStringBounds) {
-            bounds = fm.getStringBounds(text, g2);
-            // getStringBounds() can return incorrect height for some Unicode
-            // characters...see bug parade 6183356, let's replace it with
-            // something correct
-            LineMetrics lm = fm.getFont().getLineMetrics(text,
-                    g2.getFontRenderContext());
-            bounds.setRect(bounds.getX(), bounds.getY(), bounds.getWidth(),
-                    lm.getHeight());
-        } else {
-            double width = fm.stringWidth(text);
-            double height = fm.getHeight();
-            bounds = new Rectangle2D.Double(0.0, -fm.getAscent(), width,
-                    height);
+        if (text == null) {
+            return null;
         }
-        return bounds;
+        TextMetricsCache.Metrics m = getMetrics(text, g2, fm);
+        return new Rectangle2D.Double(m.x, m.y, m.width, m.height);
+    }
+
+    /**
+     * Returns the (possibly cached) metrics for the specified text.
+     *
+     * @param text  the text ({@code null} not permitted).
+     * @param g2  the graphics context (not {@code null}).
+     * @param fm  the font metrics (not {@code null}).
+     *
+     * @return The metrics.
+     */
+    static TextMetricsCache.Metrics getMetrics(String text, Graphics2D g2,
+            FontMetrics fm) {
+        return textMetricsCache.getMetrics(text, g2, fm, 
+                useFontMetricsGetStringBounds);
     }
 
 
@@ -352,16 +358,16 @@ public class TextUtils {
             String text, TextAnchor anchor, Rectangle2D textBounds) {
 
         float[] result = new float[3];
-        FontRenderContext frc = g2.getFontRenderContext();
         Font f = g2.getFont();
         FontMetrics fm = g2.getFontMetrics(f);
-        Rectangle2D bounds = TextUtils.getTextBounds(text, g2, fm);
-        LineMetrics metrics = f.getLineMetrics(text, frc);
-        float ascent = metrics.getAscent();
+        TextMetricsCache.Metrics metrics = getMetrics(text, g2, fm);
+        Rectangle2D bounds = new Rectangle2D.Double(metrics.x, metrics.y, 
+                metrics.width, metrics.height);
+        float ascent = metrics.ascent;
         result[2] = -ascent;
         float halfAscent = ascent / 2.0f;
-        float descent = metrics.getDescent();
-        float leading = metrics.getLeading();
+        float descent = metrics.descent;
+        float leading = metrics.leading;
         float xAdj = 0.0f;
         float yAdj = 0.0f;
 
@@ -380,7 +386,7 @@ public class TextUtils {
         } else if (anchor.isBaseline()) {
             yAdj = 0.0f;
         } else if (anchor.isBottom()) {
-            yAdj = -metrics.getDescent() - metrics.getLeading();
+            yAdj = -metrics.descent - metrics.leading;
         }
         if (textBounds != null) {
             textBounds.setRect(bounds);
@@ -565,15 +571,15 @@ public class TextUtils {
             String text, TextAnchor anchor) {
 
         float[] result = new float[2];
-        FontRenderContext frc = g2.getFontRenderContext();
         Font f = g2.getFont();
         FontMetrics fm = g2.getFontMetrics(f);
-        Rectangle2D bounds = getTextBounds(text, g2, fm);
-        LineMetrics metrics = f.getLineMetrics(text, frc);
-        float ascent = metrics.getAscent();
+        TextMetricsCache.Metrics metrics = getMetrics(text, g2, fm);
+        Rectangle2D bounds = new Rectangle2D.Double(metrics.x, metrics.y, 
+                metrics.width, metrics.height);
+        float ascent = metrics.ascent;
         float halfAscent = ascent / 2.0f;
-        float descent = metrics.getDescent();
-        float leading = metrics.getLeading();
+        float descent = metrics.descent;
+        float leading = metrics.leading;
         float xAdj = 0.0f;
         float yAdj = 0.0f;
 
@@ -592,7 +598,7 @@ public class TextUtils {
         } else if (anchor.isBaseline()) {
             yAdj = 0.0f;
         } else if (anchor.isBottom()) {
-            yAdj = -metrics.getDescent() - metrics.getLeading();
+            yAdj = -metrics.descent - metrics.leading;
         }
         result[0] = xAdj;
         result[1] = yAdj;
@@ -615,14 +621,14 @@ public class TextUtils {
             String text, TextAnchor anchor) {
 
         float[] result = new float[2];
-        FontRenderContext frc = g2.getFontRenderContext();
-        LineMetrics metrics = g2.getFont().getLineMetrics(text, frc);
         FontMetrics fm = g2.getFontMetrics();
-        Rectangle2D bounds = TextUtils.getTextBounds(text, g2, fm);
-        float ascent = metrics.getAscent();
+        TextMetricsCache.Metrics metrics = getMetrics(text, g2, fm);
+        Rectangle2D bounds = new Rectangle2D.Double(metrics.x, metrics.y, 
+                metrics.width, metrics.height);
+        float ascent = metrics.ascent;
         float halfAscent = ascent / 2.0f;
-        float descent = metrics.getDescent();
-        float leading = metrics.getLeading();
+        float descent = metrics.descent;
+        float leading = metrics.leading;
         float xAdj = 0.0f;
         float yAdj = 0.0f;
 
@@ -643,7 +649,7 @@ public class TextUtils {
         } else if (anchor.isBaseline()) {
             yAdj = 0.0f;
         } else if (anchor.isBottom()) {
-            yAdj = metrics.getDescent() + metrics.getLeading();
+            yAdj = metrics.descent + metrics.leading;
         }
         result[0] = xAdj;
         result[1] = yAdj;
@@ -705,6 +711,19 @@ public class TextUtils {
         useFontMetricsGetStringBounds = use;
     }
 
+    /**
+     * Returns the cache that holds the string bounds and line metrics 
+     * measured by this class (and by {@link TextFragment}).  The cache is 
+     * shared by all charts, you can use it to inspect the hit and miss 
+     * counts, to change its maximum size or to disable it (by setting the 
+     * maximum size to zero).
+     *
+     * @return The cache (never {@code null}).
+     */
+    public static TextMetricsCache getTextMetricsCache() {
+        return textMetricsCache;
+    }
+
     /**
      * Returns the flag that controls whether a workaround is used for
      * drawing rotated strings.
@@ -39,7 +39,11 @@ package org.jfree.data;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.jfree.chart.internal.CloneUtils;
 import org.jfree.chart.internal.Args;
@@ -323,6 +327,86 @@ public class DefaultKeyedValues2D<R extends Comparable<R>, C extends Comparable<
         }
     }
 
+    /**
+     * Adds or updates a block of values.  New keys are added in the order
+     * they are given (or in sorted order, for the row keys, if the row keys
+     * are sorted) and {@code Double.NaN} values are stored as {@code null}.
+     * The keys are looked up once per row and column (using hash maps), so
+     * the cost is proportional to the number of values rather than the 
+     * number of values times the number of keys, as it would be with one
+     * call to {@link #setValue(Number, Comparable, Comparable)} per value.
+     *
+     * @param rowKeys  the row keys ({@code null} not permitted).
+     * @param columnKeys  the column keys ({@code null} not permitted).
+     * @param values  the values, indexed by the position of the row key in
+     *     {@code rowKeys} then the position of the column key in
+     *     {@code columnKeys} ({@code null} not permitted).
+     */
+    public void setValues(List<R> rowKeys, List<C> columnKeys,
+            double[][] values) {
+        Args.nullNotPermitted(rowKeys, "rowKeys");
+        Args.nullNotPermitted(columnKeys, "columnKeys");
+        Args.nullNotPermitted(values, "values");
+        if (values.length != rowKeys.size()) {
+            throw new IllegalArgumentException(
+                    "Requires one row of values for each row key.");
+        }
+        for (double[] rowValues : values) {
+            if (rowValues.length != columnKeys.size()) {
+                throw new IllegalArgumentException(
+                        "Requires one value for each column key.");
+            }
+        }
+        for (R key : rowKeys) {
+            Args.nullNotPermitted(key, "rowKeys");
+        }
+        for (C key : columnKeys) {
+            Args.nullNotPermitted(key, "columnKeys");
+        }
+
+        // find or add the rows
+        Map<R, DefaultKeyedValues<C>> rowMap = new HashMap<>();
+        for (int i = 0; i < this.rowKeys.size(); i++) {
+            rowMap.put(this.rowKeys.get(i), this.rows.get(i));
+        }
+        List<DefaultKeyedValues<C>> targetRows = new ArrayList<>(
+                rowKeys.size());
+        for (R key : rowKeys) {
+            DefaultKeyedValues<C> row = rowMap.get(key);
+            if (row == null) {
+                row = new DefaultKeyedValues<>();
+                rowMap.put(key, row);
+                if (this.sortRowKeys) {
+                    int index = -Collections.binarySearch(this.rowKeys, 
+                            key) - 1;
+                    this.rowKeys.add(index, key);
+                    this.rows.add(index, row);
+                } else {
+                    this.rowKeys.add(key);
+                    this.rows.add(row);
+                }
+            }
+            targetRows.add(row);
+        }
+
+        // add any new columns
+        Set<C> columnSet = new HashSet<>(this.columnKeys);
+        for (C key : columnKeys) {
+            if (columnSet.add(key)) {
+                this.columnKeys.add(key);
+            }
+        }
+
+        for (int r = 0; r < values.length; r++) {
+            DefaultKeyedValues<C> row = targetRows.get(r);
+            double[] rowValues = values[r];
+            for (int c = 0; c < rowValues.length; c++) {
+                double v = rowValues[c];
+                row.setValue(columnKeys.get(c), Double.isNaN(v) ? null : v);
+            }
+        }
+    }
+
     /**
      * Removes a value from the table by setting it to {@code null}.  If
      * all the values in the specified row and/or column are now
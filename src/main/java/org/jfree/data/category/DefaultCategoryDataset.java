@@ -278,6 +278,24 @@ public class DefaultCategoryDataset<R extends Comparable<R>, C extends Comparabl
         setValue(Double.valueOf(value), rowKey, columnKey);
     }
 
+    /**
+     * Adds or updates a block of values in the table and sends a single
+     * {@link DatasetChangeEvent} to all registered listeners.  New keys are
+     * added in the order they are given, and {@code Double.NaN} values are
+     * stored as {@code null}.
+     *
+     * @param rowKeys  the row keys ({@code null} not permitted).
+     * @param columnKeys  the column keys ({@code null} not permitted).
+     * @param values  the values, indexed by the position of the row key in
+     *     {@code rowKeys} then the position of the column key in 
+     *     {@code columnKeys} ({@code null} not permitted).
+     */
+    public void setValues(List<R> rowKeys, List<C> columnKeys, 
+            double[][] values) {
+        this.data.setValues(rowKeys, columnKeys, values);
+        fireDatasetChanged();
+    }
+
     /**
      * Adds the specified value to an existing value in the dataset (if the
      * existing value is {@code null}, it is treated as if it were 0.0).
@@ -0,0 +1,643 @@
+/* ======================================================
+ * JFreeChart : a chart library for the Java(tm) platform
+ * ======================================================
+ *
+ * (C) Copyright 2000-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * DenseCategoryDataset.java
+ * -------------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+
+package org.jfree.data.category;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import org.jfree.chart.api.PublicCloneable;
+import org.jfree.chart.internal.Args;
+import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.AbstractDataset;
+import org.jfree.data.general.DatasetChangeEvent;
+
+/**
+ * A {@link CategoryDataset} that stores its values in a dense matrix of
+ * primitive doubles, with hash indices for the row and column keys.  Key
+ * lookups take constant time, so the dataset can be built up with millions
+ * of values (the {@link DefaultCategoryDataset} looks up column keys with
+ * a linear search), and the bulk methods {@link #setRow}, 
+ * {@link #setColumn} and {@link #setValues} send a single change event.
+ * <br><br>
+ * A missing value is stored as {@code Double.NaN}, so {@code NaN} cannot be
+ * distinguished from {@code null} in this dataset.
+ * 
+ * @param <R> The type for the row (series) keys.
+ * @param <C> The type for the column (item) keys.
+ */
+public class DenseCategoryDataset<R extends Comparable<R>, 
+        C extends Comparable<C>> extends AbstractDataset 
+        implements CategoryDataset<R, C>, PublicCloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 1078235239085325715L;
+
+    /** The row keys. */
+    private ArrayList<R> rowKeys;
+
+    /** The row index for each row key. */
+    private HashMap<R, Integer> rowIndices;
+
+    /** The column keys. */
+    private ArrayList<C> columnKeys;
+
+    /** The column index for each column key. */
+    private HashMap<C, Integer> columnIndices;
+
+    /** 
+     * The values, by row then column.  The array and the rows can be larger
+     * than the current row and column counts, the unused cells are NaN.
+     */
+    private double[][] values;
+
+    /**
+     * Creates a new (empty) dataset.
+     */
+    public DenseCategoryDataset() {
+        this(8, 8);
+    }
+
+    /**
+     * Creates a new (empty) dataset with space for the specified number of
+     * rows and columns (the dataset will grow beyond this as required).
+     * 
+     * @param rowCapacity  the initial row capacity.
+     * @param columnCapacity  the initial column capacity.
+     */
+    public DenseCategoryDataset(int rowCapacity, int columnCapacity) {
+        Args.requireNonNegative(rowCapacity, "rowCapacity");
+        Args.requireNonNegative(columnCapacity, "columnCapacity");
+        this.rowKeys = new ArrayList<>(rowCapacity);
+        this.rowIndices = new HashMap<>();
+        this.columnKeys = new ArrayList<>(columnCapacity);
+        this.columnIndices = new HashMap<>();
+        this.values = new double[rowCapacity][];
+        for (int r = 0; r < rowCapacity; r++) {
+            this.values[r] = createRow(columnCapacity);
+        }
+    }
+
+    /**
+     * Returns the number of rows in the table.
+     *
+     * @return The row count.
+     */
+    @Override
+    public int getRowCount() {
+        return this.rowKeys.size();
+    }
+
+    /**
+     * Returns the number of columns in the table.
+     *
+     * @return The column count.
+     */
+    @Override
+    public int getColumnCount() {
+        return this.columnKeys.size();
+    }
+
+    /**
+     * Returns the key for the specified row.
+     *
+     * @param row  the row index (zero-based).
+     *
+     * @return The row key.
+     */
+    @Override
+    public R getRowKey(int row) {
+        return this.rowKeys.get(row);
+    }
+
+    /**
+     * Returns the row index for a given key.
+     *
+     * @param key  the row key ({@code null} not permitted).
+     *
+     * @return The row index, or {@code -1} if the key is not recognised.
+     */
+    @Override
+    public int getRowIndex(R key) {
+        Args.nullNotPermitted(key, "key");
+        Integer index = this.rowIndices.get(key);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * Returns the row keys (in an unmodifiable list).
+     *
+     * @return The keys.
+     */
+    @Override
+    public List<R> getRowKeys() {
+        return Collections.unmodifiableList(this.rowKeys);
+    }
+
+    /**
+     * Returns a column key.
+     *
+     * @param column  the column index (zero-based).
+     *
+     * @return The column key.
+     */
+    @Override
+    public C getColumnKey(int column) {
+        return this.columnKeys.get(column);
+    }
+
+    /**
+     * Returns the column index for a given key.
+     *
+     * @param key  the column key ({@code null} not permitted).
+     *
+     * @return The column index, or {@code -1} if the key is not recognised.
+     */
+    @Override
+    public int getColumnIndex(C key) {
+        Args.nullNotPermitted(key, "key");
+        Integer index = this.columnIndices.get(key);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * Returns the column keys (in an unmodifiable list).
+     *
+     * @return The keys.
+     */
+    @Override
+    public List<C> getColumnKeys() {
+        return Collections.unmodifiableList(this.columnKeys);
+    }
+
+    /**
+     * Returns a value from the table as a primitive double.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     *
+     * @return The value ({@code Double.NaN} for a missing value).
+     */
+    public double getDoubleValue(int row, int column) {
+        Objects.checkIndex(row, this.rowKeys.size());
+        Objects.checkIndex(column, this.columnKeys.size());
+        return this.values[row][column];
+    }
+
+    /**
+     * Returns a value from the table.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     *
+     * @return The value (possibly {@code null}).
+     */
+    @Override
+    public Number getValue(int row, int column) {
+        double v = getDoubleValue(row, column);
+        return Double.isNaN(v) ? null : v;
+    }
+
+    /**
+     * Returns the value for a pair of keys.
+     *
+     * @param rowKey  the row key ({@code null} not permitted).
+     * @param columnKey  the column key ({@code null} not permitted).
+     *
+     * @return The value (possibly {@code null}).
+     *
+     * @throws UnknownKeyException if either key is not defined in the dataset.
+     */
+    @Override
+    public Number getValue(R rowKey, C columnKey) {
+        int row = getRowIndex(rowKey);
+        if (row < 0) {
+            throw new UnknownKeyException("Unrecognised rowKey: " + rowKey);
+        }
+        int column = getColumnIndex(columnKey);
+        if (column < 0) {
+            throw new UnknownKeyException("Unrecognised columnKey: " 
+                    + columnKey);
+        }
+        return getValue(row, column);
+    }
+
+    /**
+     * Adds or updates a value in the table and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param value  the value ({@code null} permitted).
+     * @param rowKey  the row key ({@code null} not permitted).
+     * @param columnKey  the column key ({@code null} not permitted).
+     */
+    public void setValue(Number value, R rowKey, C columnKey) {
+        setValue(value != null ? value.doubleValue() : Double.NaN, rowKey, 
+                columnKey);
+    }
+
+    /**
+     * Adds or updates a value in the table and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param value  the value ({@code Double.NaN} for a missing value).
+     * @param rowKey  the row key ({@code null} not permitted).
+     * @param columnKey  the column key ({@code null} not permitted).
+     */
+    public void setValue(double value, R rowKey, C columnKey) {
+        int row = addRowKey(rowKey);
+        int column = addColumnKey(columnKey);
+        this.values[row][column] = value;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Adds or updates the values in a row and sends a single 
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param rowKey  the row key ({@code null} not permitted).
+     * @param rowValues  the values for each column, in the order of the 
+     *     column keys ({@code null} not permitted, the length must be equal
+     *     to the column count).
+     */
+    public void setRow(R rowKey, double[] rowValues) {
+        Args.nullNotPermitted(rowValues, "rowValues");
+        if (rowValues.length != getColumnCount()) {
+            throw new IllegalArgumentException(
+                    "Requires one value for each column.");
+        }
+        int row = addRowKey(rowKey);
+        System.arraycopy(rowValues, 0, this.values[row], 0, 
+                rowValues.length);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Adds or updates the values in a column and sends a single 
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param columnKey  the column key ({@code null} not permitted).
+     * @param columnValues  the values for each row, in the order of the 
+     *     row keys ({@code null} not permitted, the length must be equal
+     *     to the row count).
+     */
+    public void setColumn(C columnKey, double[] columnValues) {
+        Args.nullNotPermitted(columnValues, "columnValues");
+        if (columnValues.length != getRowCount()) {
+            throw new IllegalArgumentException(
+                    "Requires one value for each row.");
+        }
+        int column = addColumnKey(columnKey);
+        for (int r = 0; r < columnValues.length; r++) {
+            this.values[r][column] = columnValues[r];
+        }
+        fireDatasetChanged();
+    }
+
+    /**
+     * Adds or updates a block of values and sends a single 
+     * {@link DatasetChangeEvent} to all registered listeners.  New keys are 
+     * added in the order they are given.
+     *
+     * @param rowKeys  the row keys ({@code null} not permitted).
+     * @param columnKeys  the column keys ({@code null} not permitted).
+     * @param blockValues  the values, indexed by the position of the row 
+     *     key in {@code rowKeys} then the position of the column key in
+     *     {@code columnKeys} ({@code null} not permitted).
+     */
+    public void setValues(List<R> rowKeys, List<C> columnKeys, 
+            double[][] blockValues) {
+        Args.nullNotPermitted(rowKeys, "rowKeys");
+        Args.nullNotPermitted(columnKeys, "columnKeys");
+        Args.nullNotPermitted(blockValues, "blockValues");
+        if (blockValues.length != rowKeys.size()) {
+            throw new IllegalArgumentException(
+                    "Requires one row of values for each row key.");
+        }
+        for (double[] rowValues : blockValues) {
+            if (rowValues.length != columnKeys.size()) {
+                throw new IllegalArgumentException(
+                        "Requires one value for each column key.");
+            }
+        }
+        ensureCapacity(getRowCount() + rowKeys.size(), 
+                getColumnCount() + columnKeys.size());
+        int[] columns = new int[columnKeys.size()];
+        for (int c = 0; c < columns.length; c++) {
+            columns[c] = addColumnKey(columnKeys.get(c));
+        }
+        for (int r = 0; r < blockValues.length; r++) {
+            double[] target = this.values[addRowKey(rowKeys.get(r))];
+            double[] source = blockValues[r];
+            for (int c = 0; c < columns.length; c++) {
+                target[columns[c]] = source[c];
+            }
+        }
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a value from the dataset (by setting it to {@code NaN}) and 
+     * sends a {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param rowKey  the row key ({@code null} not permitted).
+     * @param columnKey  the column key ({@code null} not permitted).
+     *
+     * @throws UnknownKeyException if either key is not defined in the dataset.
+     */
+    public void removeValue(R rowKey, C columnKey) {
+        if (getValue(rowKey, columnKey) != null) {
+            this.values[getRowIndex(rowKey)][getColumnIndex(columnKey)] 
+                    = Double.NaN;
+            fireDatasetChanged();
+        }
+    }
+
+    /**
+     * Removes a row from the dataset and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.
+     *
+     * @param rowIndex  the row index.
+     */
+    public void removeRow(int rowIndex) {
+        R key = this.rowKeys.remove(rowIndex);
+        this.rowIndices.remove(key);
+        // move the removed row to the end, for reuse
+        double[] removed = this.values[rowIndex];
+        System.arraycopy(this.values, rowIndex + 1, this.values, rowIndex, 
+                this.rowKeys.size() - rowIndex);
+        Arrays.fill(removed, Double.NaN);
+        this.values[this.rowKeys.size()] = removed;
+        for (int r = rowIndex; r < this.rowKeys.size(); r++) {
+            this.rowIndices.put(this.rowKeys.get(r), r);
+        }
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a row from the dataset and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.
+     *
+     * @param rowKey  the row key ({@code null} not permitted).
+     *
+     * @throws UnknownKeyException if {@code rowKey} is not defined in the 
+     *     dataset.
+     */
+    public void removeRow(R rowKey) {
+        int index = getRowIndex(rowKey);
+        if (index < 0) {
+            throw new UnknownKeyException("Unknown key: " + rowKey);
+        }
+        removeRow(index);
+    }
+
+    /**
+     * Removes a column from the dataset and sends a 
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param columnIndex  the column index.
+     */
+    public void removeColumn(int columnIndex) {
+        C key = this.columnKeys.remove(columnIndex);
+        this.columnIndices.remove(key);
+        int count = this.columnKeys.size();
+        for (int r = 0; r < this.rowKeys.size(); r++) {
+            double[] row = this.values[r];
+            System.arraycopy(row, columnIndex + 1, row, columnIndex, 
+                    count - columnIndex);
+            row[count] = Double.NaN;
+        }
+        for (int c = columnIndex; c < count; c++) {
+            this.columnIndices.put(this.columnKeys.get(c), c);
+        }
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a column from the dataset and sends a 
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param columnKey  the column key ({@code null} not permitted).
+     *
+     * @throws UnknownKeyException if {@code columnKey} is not defined in the 
+     *     dataset.
+     */
+    public void removeColumn(C columnKey) {
+        int index = getColumnIndex(columnKey);
+        if (index < 0) {
+            throw new UnknownKeyException("Unknown key: " + columnKey);
+        }
+        removeColumn(index);
+    }
+
+    /**
+     * Clears all data from the dataset and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.
+     */
+    public void clear() {
+        for (int r = 0; r < this.rowKeys.size(); r++) {
+            Arrays.fill(this.values[r], Double.NaN);
+        }
+        this.rowKeys.clear();
+        this.rowIndices.clear();
+        this.columnKeys.clear();
+        this.columnIndices.clear();
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the index for a row key, adding the key (with a row of 
+     * missing values) if it is not already in the dataset.
+     * 
+     * @param key  the key ({@code null} not permitted).
+     * 
+     * @return The row index.
+     */
+    private int addRowKey(R key) {
+        int index = getRowIndex(key);
+        if (index < 0) {
+            index = this.rowKeys.size();
+            ensureCapacity(index + 1, this.columnKeys.size());
+            this.rowKeys.add(key);
+            this.rowIndices.put(key, index);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the index for a column key, adding the key (with a column of 
+     * missing values) if it is not already in the dataset.
+     * 
+     * @param key  the key ({@code null} not permitted).
+     * 
+     * @return The column index.
+     */
+    private int addColumnKey(C key) {
+        int index = getColumnIndex(key);
+        if (index < 0) {
+            index = this.columnKeys.size();
+            ensureCapacity(this.rowKeys.size(), index + 1);
+            this.columnKeys.add(key);
+            this.columnIndices.put(key, index);
+        }
+        return index;
+    }
+
+    /**
+     * Grows the matrix (at least doubling its size) if it has fewer than 
+     * the specified number of rows or columns.
+     * 
+     * @param rowCount  the required row count.
+     * @param columnCount  the required column count.
+     */
+    private void ensureCapacity(int rowCount, int columnCount) {
+        int columnCapacity = this.values.length > 0 
+                ? this.values[0].length : 0;
+        if (columnCount > columnCapacity) {
+            columnCapacity = Math.max(columnCount, columnCapacity * 2);
+            for (int r = 0; r < this.values.length; r++) {
+                double[] row = createRow(columnCapacity);
+                System.arraycopy(this.values[r], 0, row, 0, 
+                        this.columnKeys.size());
+                this.values[r] = row;
+            }
+        }
+        if (rowCount > this.values.length) {
+            int rowCapacity = Math.max(rowCount, this.values.length * 2);
+            double[][] grown = Arrays.copyOf(this.values, rowCapacity);
+            for (int r = this.values.length; r < rowCapacity; r++) {
+                grown[r] = createRow(columnCapacity);
+            }
+            this.values = grown;
+        }
+    }
+
+    /**
+     * Creates a row of missing values.
+     * 
+     * @param length  the length.
+     * 
+     * @return The row.
+     */
+    private static double[] createRow(int length) {
+        double[] row = new double[length];
+        Arrays.fill(row, Double.NaN);
+        return row;
+    }
+
+    /**
+     * Tests this dataset for equality with an arbitrary object.  This 
+     * dataset is equal to any {@link CategoryDataset} with the same keys
+     * and values.
+     *
+     * @param obj  the object ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof CategoryDataset)) {
+            return false;
+        }
+        CategoryDataset<R, C> that = (CategoryDataset) obj;
+        if (!getRowKeys().equals(that.getRowKeys())) {
+            return false;
+        }
+        if (!getColumnKeys().equals(that.getColumnKeys())) {
+            return false;
+        }
+        int rowCount = getRowCount();
+        int colCount = getColumnCount();
+        for (int r = 0; r < rowCount; r++) {
+            for (int c = 0; c < colCount; c++) {
+                if (!Objects.equals(getValue(r, c), that.getValue(r, c))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for the dataset.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int result = this.rowKeys.hashCode();
+        result = 31 * result + this.columnKeys.hashCode();
+        for (int r = 0; r < this.rowKeys.size(); r++) {
+            for (int c = 0; c < this.columnKeys.size(); c++) {
+                double v = this.values[r][c];
+                result = 31 * result + (Double.isNaN(v) ? 0 
+                        : Double.hashCode(v));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a clone of the dataset.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning the
+     *         dataset.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        DenseCategoryDataset<R, C> clone 
+                = (DenseCategoryDataset) super.clone();
+        clone.rowKeys = new ArrayList<>(this.rowKeys);
+        clone.rowIndices = new HashMap<>(this.rowIndices);
+        clone.columnKeys = new ArrayList<>(this.columnKeys);
+        clone.columnIndices = new HashMap<>(this.columnIndices);
+        clone.values = new double[this.values.length][];
+        for (int r = 0; r < this.values.length; r++) {
+            clone.values[r] = this.values[r].clone();
+        }
+        return clone;
+    }
+
+}
@@ -36,6 +36,8 @@
 
 package org.jfree.data.flow;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -77,6 +79,18 @@ public class DefaultFlowDataset<K extends Comparable<K>> extends AbstractDataset
     /** Flow properties. */
     private Map<FlowKey, Map<String, Object>> flowProperties;
 
+    /** 
+     * An index of the flows coming into each node, maintained by 
+     * {@link #setFlow(int, Comparable, Comparable, double)}. 
+     */
+    private transient Map<NodeKey<K>, List<FlowKey<K>>> inFlowIndex;
+
+    /** 
+     * An index of the flows going out of each node, maintained by 
+     * {@link #setFlow(int, Comparable, Comparable, double)}. 
+     */
+    private transient Map<NodeKey<K>, List<FlowKey<K>>> outFlowIndex;
+
     /**
      * Creates a new dataset that is initially empty.
      */
@@ -87,6 +101,8 @@ public class DefaultFlowDataset<K extends Comparable<K>> extends AbstractDataset
         this.nodeProperties = new HashMap<>();
         this.flows = new HashMap<>();
         this.flowProperties = new HashMap<>();
+        this.inFlowIndex = new HashMap<>();
+        this.outFlowIndex = new HashMap<>();
     }
 
     /**
@@ -204,7 +220,10 @@ public class DefaultFlowDataset<K extends Comparable<K>> extends AbstractDataset
         if (!getDestinations(stage).contains(destination)) {
             this.nodes.get(stage + 1).add(destination);
         }
-        this.flows.put(new FlowKey<>(stage, source, destination), flow);
+        FlowKey<K> flowKey = new FlowKey<>(stage, source, destination);
+        if (this.flows.put(flowKey, flow) == null) {
+            indexFlow(flowKey);
+        }
         fireDatasetChanged();
     }
 
@@ -277,13 +296,11 @@ public class DefaultFlowDataset<K extends Comparable<K>> extends AbstractDataset
         if (nodeKey.getStage() == 0) {
             return Collections.EMPTY_LIST;
         }
-        List<FlowKey<K>> result = new ArrayList<>();
-        for (FlowKey<K> flowKey : this.flows.keySet()) {
-            if (flowKey.getStage() == nodeKey.getStage() - 1 && flowKey.getDestination().equals(nodeKey.getNode())) {
-                result.add(flowKey);
-            }
+        List<FlowKey<K>> inFlows = this.inFlowIndex.get(nodeKey);
+        if (inFlows == null) {
+            return new ArrayList<>();
         }
-        return result;
+        return new ArrayList<>(inFlows);
     }
 
     /**
@@ -298,13 +315,46 @@ public class DefaultFlowDataset<K extends Comparable<K>> extends AbstractDataset
         if (nodeKey.getStage() == this.getStageCount()) {
             return Collections.EMPTY_LIST;
         }
-        List<FlowKey> result = new ArrayList<>();
-        for (FlowKey flowKey : this.flows.keySet()) {
-            if (flowKey.getStage() == nodeKey.getStage() && flowKey.getSource().equals(nodeKey.getNode())) {
-                result.add(flowKey);
+        List<FlowKey<K>> outFlows = this.outFlowIndex.get(nodeKey);
+        if (outFlows == null) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(outFlows);
+    }
+
+    /**
+     * Adds a new flow key to the in-flow and out-flow indexes.
+     * 
+     * @param flowKey  the flow key ({@code null} not permitted).
+     */
+    private void indexFlow(FlowKey<K> flowKey) {
+        NodeKey<K> sourceKey = new NodeKey<>(flowKey.getStage(), 
+                flowKey.getSource());
+        NodeKey<K> destinationKey = new NodeKey<>(flowKey.getStage() + 1, 
+                flowKey.getDestination());
+        this.outFlowIndex.computeIfAbsent(sourceKey, 
+                k -> new ArrayList<>()).add(flowKey);
+        this.inFlowIndex.computeIfAbsent(destinationKey, 
+                k -> new ArrayList<>()).add(flowKey);
+    }
+
+    /**
+     * Rebuilds the in-flow and out-flow indexes from the flow storage, 
+     * visiting the nodes in order so that the result is deterministic.
+     */
+    private void rebuildFlowIndexes() {
+        this.inFlowIndex = new HashMap<>();
+        this.outFlowIndex = new HashMap<>();
+        for (int stage = 0; stage < getStageCount(); stage++) {
+            for (K source : this.nodes.get(stage)) {
+                for (K destination : this.nodes.get(stage + 1)) {
+                    FlowKey<K> flowKey = new FlowKey<>(stage, source, destination);
+                    if (this.flows.containsKey(flowKey)) {
+                        indexFlow(flowKey);
+                    }
+                }
             }
         }
-        return result;
     }
 
     /**
@@ -322,6 +372,7 @@ public class DefaultFlowDataset<K extends Comparable<K>> extends AbstractDataset
         for (List<?> list : nodes) {
             clone.nodes.add((List<K>) CloneUtils.cloneList(list));
         }
+        clone.rebuildFlowIndexes();
         return clone;
     }
 
@@ -373,4 +424,18 @@ public class DefaultFlowDataset<K extends Comparable<K>> extends AbstractDataset
         return hash;
     }
 
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        rebuildFlowIndexes();
+    }
+
 }
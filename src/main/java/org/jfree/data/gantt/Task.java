@@ -40,6 +40,7 @@ import java.io.Serializable;
 import java.util.Date;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.jfree.chart.internal.Args;
 import org.jfree.chart.api.PublicCloneable;
@@ -56,6 +57,13 @@ public class Task implements Cloneable, PublicCloneable, Serializable {
     /** For serialization. */
     private static final long serialVersionUID = 1094303785346988894L;
 
+    /**
+     * The number of changes made to the description or duration of any
+     * task, used by {@link TaskSeries} to detect that its indexes are out
+     * of date.
+     */
+    private static final AtomicLong CHANGE_COUNT = new AtomicLong();
+
     /** The task description. */
     private String description;
 
@@ -112,6 +120,7 @@ public class Task implements Cloneable, PublicCloneable, Serializable {
     public void setDescription(String description) {
         Args.nullNotPermitted(description, "description");
         this.description = description;
+        CHANGE_COUNT.incrementAndGet();
     }
 
     /**
@@ -130,6 +139,7 @@ public class Task implements Cloneable, PublicCloneable, Serializable {
      */
     public void setDuration(TimePeriod duration) {
         this.duration = duration;
+        CHANGE_COUNT.incrementAndGet();
     }
 
     /**
@@ -198,6 +208,16 @@ public class Task implements Cloneable, PublicCloneable, Serializable {
         return (Task) this.subtasks.get(index);
     }
 
+    /**
+     * Returns the number of changes made to the description or duration of
+     * any task.
+     *
+     * @return The change count.
+     */
+    static long getChangeCount() {
+        return CHANGE_COUNT.get();
+    }
+
     /**
      * Tests this object for equality with an arbitrary object.
      *
@@ -41,12 +41,18 @@ import org.jfree.chart.internal.Args;
 import org.jfree.chart.internal.CloneUtils;
 
 import org.jfree.data.general.Series;
+import org.jfree.data.time.TimePeriod;
 
 /**
  * A series that contains zero, one or many {@link Task} objects.
  * <P>
  * This class is used as a building block for the {@link TaskSeriesCollection}
  * class that can be used to construct basic Gantt charts.
+ * <P>
+ * The lookups by description and by date range use indexes that are built
+ * on demand.  The indexes are rebuilt after tasks are added or removed, and
+ * after the description or duration of any task is changed.  Sub-tasks are
+ * accessed by position within their task, so they are not indexed.
  *
  * @param <K> the key type.
  */
@@ -55,6 +61,18 @@ public class TaskSeries<K extends Comparable<K>> extends Series<K> {
     /** Storage for the tasks in the series. */
     private List<Task> tasks;
 
+    /** 
+     * An index from description to the first task with that description, 
+     * built on demand. 
+     */
+    private transient Map<String, Task> descriptionIndex;
+
+    /** An interval index on the task durations, built on demand. */
+    private transient TaskIntervalIndex intervalIndex;
+
+    /** The task change count when the indexes were last checked. */
+    private transient long indexChangeCount;
+
     /**
      * Constructs a new series with the specified name.
      *
@@ -75,7 +93,11 @@ public class TaskSeries<K extends Comparable<K>> extends Series<K> {
     public void add(Task task) {
         Args.nullNotPermitted(task, "task");
         this.tasks.add(task);
-        fireSeriesChanged();
+        if (this.descriptionIndex != null) {
+            this.descriptionIndex.putIfAbsent(task.getDescription(), task);
+        }
+        this.intervalIndex = null;
+        super.fireSeriesChanged();
     }
 
     /**
@@ -129,14 +151,15 @@ public class TaskSeries<K extends Comparable<K>> extends Series<K> {
      * @return The task (possibly {@code null}).
      */
     public Task get(String description) {
-        Task result = null;
-        for (Task t : this.tasks) {
-            if (t.getDescription().equals(description)) {
-                result = t;
-                break;
+        checkIndexes();
+        if (this.descriptionIndex == null) {
+            Map<String, Task> index = new HashMap<>();
+            for (Task t : this.tasks) {
+                index.putIfAbsent(t.getDescription(), t);
             }
+            this.descriptionIndex = index;
         }
-        return result;
+        return this.descriptionIndex.get(description);
     }
 
     /**
@@ -148,6 +171,59 @@ public class TaskSeries<K extends Comparable<K>> extends Series<K> {
         return Collections.unmodifiableList(this.tasks);
     }
 
+    /**
+     * Returns the tasks in the series with a duration that overlaps the 
+     * specified date range (inclusive at both ends).  Tasks with no 
+     * duration are never returned.  The search uses an interval index on the
+     * task durations, so only the overlapping tasks are visited.
+     *
+     * @param start  the start of the range ({@code null} not permitted).
+     * @param end  the end of the range ({@code null} not permitted).
+     *
+     * @return The tasks, in the order they appear in the series (possibly 
+     *     empty but never {@code null}).
+     */
+    public List<Task> getTasks(Date start, Date end) {
+        Args.nullNotPermitted(start, "start");
+        Args.nullNotPermitted(end, "end");
+        if (start.after(end)) {
+            throw new IllegalArgumentException("Requires start <= end.");
+        }
+        checkIndexes();
+        if (this.intervalIndex == null) {
+            this.intervalIndex = new TaskIntervalIndex(this.tasks);
+        }
+        List<Task> result = new ArrayList<>();
+        for (int i : this.intervalIndex.find(start.getTime(), end.getTime())) {
+            result.add(this.tasks.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Discards the task indexes if the description or duration of any task
+     * has changed since they were last checked.
+     */
+    private void checkIndexes() {
+        long count = Task.getChangeCount();
+        if (count != this.indexChangeCount) {
+            this.descriptionIndex = null;
+            this.intervalIndex = null;
+            this.indexChangeCount = count;
+        }
+    }
+
+    /**
+     * Sends a {@link org.jfree.data.general.SeriesChangeEvent} to all 
+     * registered listeners.  This also discards the task indexes.
+     */
+    @Override
+    public void fireSeriesChanged() {
+        this.descriptionIndex = null;
+        this.intervalIndex = null;
+        super.fireSeriesChanged();
+    }
+
     /**
      * Tests this object for equality with an arbitrary object.
      *
@@ -192,7 +268,117 @@ public class TaskSeries<K extends Comparable<K>> extends Series<K> {
     public Object clone() throws CloneNotSupportedException {
         TaskSeries clone = (TaskSeries) super.clone();
         clone.tasks = CloneUtils.cloneList(this.tasks);
+        clone.descriptionIndex = null;
+        clone.intervalIndex = null;
         return clone;
     }
 
+    /**
+     * An interval index on the durations of a list of tasks.  The tasks 
+     * are sorted by start time and treated as an implicit balanced binary 
+     * tree, where each node records the latest end time in its subtree.
+     */
+    private static class TaskIntervalIndex {
+
+        /** The task positions in the series, sorted by start time. */
+        private final int[] positions;
+
+        /** The task start times, in millis. */
+        private final long[] starts;
+
+        /** The task end times, in millis. */
+        private final long[] ends;
+
+        /** The latest end time in the subtree rooted at each node. */
+        private final long[] maxEnds;
+
+        /**
+         * Creates an index for the specified tasks.
+         *
+         * @param tasks  the tasks ({@code null} not permitted).
+         */
+        TaskIntervalIndex(List<Task> tasks) {
+            List<Integer> order = new ArrayList<>();
+            for (int i = 0; i < tasks.size(); i++) {
+                if (tasks.get(i).getDuration() != null) {
+                    order.add(i);
+                }
+            }
+            order.sort(Comparator.comparingLong(
+                    i -> tasks.get(i).getDuration().getStart().getTime()));
+            int n = order.size();
+            this.positions = new int[n];
+            this.starts = new long[n];
+            this.ends = new long[n];
+            this.maxEnds = new long[n];
+            for (int i = 0; i < n; i++) {
+                int position = order.get(i);
+                TimePeriod duration = tasks.get(position).getDuration();
+                this.positions[i] = position;
+                this.starts[i] = duration.getStart().getTime();
+                this.ends[i] = duration.getEnd().getTime();
+            }
+            computeMaxEnds(0, n);
+        }
+
+        /**
+         * Fills in the {@code maxEnds} array for the subtree over the 
+         * specified range.
+         *
+         * @param lo  the first node (inclusive).
+         * @param hi  the last node (exclusive).
+         *
+         * @return The latest end time in the subtree.
+         */
+        private long computeMaxEnds(int lo, int hi) {
+            if (lo >= hi) {
+                return Long.MIN_VALUE;
+            }
+            int mid = (lo + hi) >>> 1;
+            long max = Math.max(this.ends[mid], Math.max(
+                    computeMaxEnds(lo, mid), computeMaxEnds(mid + 1, hi)));
+            this.maxEnds[mid] = max;
+            return max;
+        }
+
+        /**
+         * Returns the positions (in ascending order) of the tasks that 
+         * overlap the specified range.
+         *
+         * @param start  the start of the range, in millis.
+         * @param end  the end of the range, in millis.
+         *
+         * @return The task positions.
+         */
+        int[] find(long start, long end) {
+            List<Integer> found = new ArrayList<>();
+            find(0, this.starts.length, start, end, found);
+            int[] result = new int[found.size()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = found.get(i);
+            }
+            Arrays.sort(result);
+            return result;
+        }
+
+        private void find(int lo, int hi, long start, long end, 
+                List<Integer> found) {
+            if (lo >= hi) {
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            if (this.maxEnds[mid] < start) {
+                return;  // nothing in this subtree ends late enough
+            }
+            find(lo, mid, start, end, found);
+            if (this.starts[mid] > end) {
+                return;  // this task and everything to its right start too late
+            }
+            if (this.ends[mid] >= start) {
+                found.add(this.positions[mid]);
+            }
+            find(mid + 1, hi, start, end, found);
+        }
+    }
+
 }
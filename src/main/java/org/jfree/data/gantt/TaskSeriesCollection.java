@@ -37,8 +37,12 @@ package org.jfree.data.gantt;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import org.jfree.chart.internal.CloneUtils;
 import org.jfree.chart.internal.Args;
@@ -72,6 +76,9 @@ public class TaskSeriesCollection<R extends Comparable<R>, C extends Comparable<
     /** Storage for the series. */
     private List<TaskSeries<R>> data;
 
+    /** An index from series key to row, built on demand. */
+    private transient Map<R, Integer> rowIndex;
+
     /**
      * Default constructor.
      */
@@ -215,16 +222,15 @@ public class TaskSeriesCollection<R extends Comparable<R>, C extends Comparable<
      */
     @Override
     public int getRowIndex(R rowKey) {
-        int result = -1;
-        int count = this.data.size();
-        for (int i = 0; i < count; i++) {
-            TaskSeries<R> s = this.data.get(i);
-            if (s.getKey().equals(rowKey)) {
-                result = i;
-                break;
+        if (this.rowIndex == null) {
+            Map<R, Integer> index = new HashMap<>();
+            for (int i = 0; i < this.data.size(); i++) {
+                index.putIfAbsent(this.data.get(i).getKey(), i);
             }
+            this.rowIndex = index;
         }
-        return result;
+        Integer row = this.rowIndex.get(rowKey);
+        return row != null ? row : -1;
     }
 
     /**
@@ -250,13 +256,14 @@ public class TaskSeriesCollection<R extends Comparable<R>, C extends Comparable<
     public void add(TaskSeries<R> series) {
         Args.nullNotPermitted(series, "series");
         this.data.add(series);
+        this.rowIndex = null;
         series.addChangeListener(this);
 
         // look for any keys that we don't already know about...
+        Set<C> known = new HashSet<>(this.keys);
         for (Task task : series.getTasks()) {
             C key = (C) task.getDescription(); // FIXME
-            int index = this.keys.indexOf(key);
-            if (index < 0) {
+            if (known.add(key)) {
                 this.keys.add(key);
             }
         }
@@ -275,6 +282,7 @@ public class TaskSeriesCollection<R extends Comparable<R>, C extends Comparable<
         if (this.data.contains(series)) {
             series.removeChangeListener(this);
             this.data.remove(series);
+            this.rowIndex = null;
             fireDatasetChanged();
         }
     }
@@ -293,6 +301,7 @@ public class TaskSeriesCollection<R extends Comparable<R>, C extends Comparable<
         TaskSeries<R> ts = this.data.get(series);
         ts.removeChangeListener(this);
         this.data.remove(series);
+        this.rowIndex = null;
         fireDatasetChanged();
 
     }
@@ -311,6 +320,7 @@ public class TaskSeriesCollection<R extends Comparable<R>, C extends Comparable<
 
         // remove all the series from the collection and notify listeners.
         this.data.clear();
+        this.rowIndex = null;
         fireDatasetChanged();
     }
 
@@ -631,13 +641,13 @@ public class TaskSeriesCollection<R extends Comparable<R>, C extends Comparable<
     private void refreshKeys() {
 
         this.keys.clear();
+        Set<C> known = new HashSet<>();
         for (int i = 0; i < getSeriesCount(); i++) {
             TaskSeries<R> series = this.data.get(i);
             // look for any keys that we don't already know about...
             for (Task task : series.getTasks()) {
                 C key = (C) task.getDescription(); // FIXME
-                int index = this.keys.indexOf(key);
-                if (index < 0) {
+                if (known.add(key)) {
                     this.keys.add(key);
                 }
             }
@@ -687,6 +697,7 @@ public class TaskSeriesCollection<R extends Comparable<R>, C extends Comparable<
         TaskSeriesCollection clone = (TaskSeriesCollection) super.clone();
         clone.data = CloneUtils.cloneList(this.data);
         clone.keys = new java.util.ArrayList(this.keys);
+        clone.rowIndex = null;
         return clone;
     }
 
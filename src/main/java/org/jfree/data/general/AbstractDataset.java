@@ -62,6 +62,18 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
      */
     private boolean notify;
 
+    /**
+     * The coalescer that batches the change notifications for this dataset
+     * ({@code null} permitted).
+     */
+    private transient DatasetChangeCoalescer changeCoalescer;
+
+    /** The depth of the update blocks in progress (see beginUpdate()). */
+    private transient int updateDepth;
+
+    /** A flag that records a change within an update block. */
+    private transient boolean updatePending;
+
     /**
      * Constructs a dataset.
      */
@@ -97,6 +109,64 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
         }    
     }
     
+    /**
+     * Starts an update block.  Until the matching call to
+     * {@link #commitUpdate()}, change events are held back, then a single
+     * {@link DatasetChangeEvent} is sent for all the changes in the block.
+     * Update blocks can be nested, in which case the event is sent when the
+     * outermost block is committed.
+     *
+     * @see #commitUpdate()
+     */
+    public void beginUpdate() {
+        this.updateDepth++;
+    }
+
+    /**
+     * Ends an update block and, if this is the outermost block and the
+     * dataset changed within it, sends a single {@link DatasetChangeEvent}
+     * to all registered listeners.
+     *
+     * @throws IllegalStateException if there is no update block in progress.
+     *
+     * @see #beginUpdate()
+     */
+    public void commitUpdate() {
+        if (this.updateDepth == 0) {
+            throw new IllegalStateException("No update in progress.");
+        }
+        this.updateDepth--;
+        if (this.updateDepth == 0 && this.updatePending) {
+            this.updatePending = false;
+            notifyListeners(new DatasetChangeEvent(this, this));
+        }
+    }
+
+    /**
+     * Returns the coalescer that batches the change notifications for this
+     * dataset.  The default value is {@code null}.
+     *
+     * @return The coalescer (possibly {@code null}).
+     */
+    public DatasetChangeCoalescer getChangeCoalescer() {
+        return this.changeCoalescer;
+    }
+
+    /**
+     * Sets the coalescer that batches the change notifications for this
+     * dataset.  With a coalescer in place, the listeners receive one
+     * {@code DatasetChangeEvent} per frame interval of the coalescer rather
+     * than one event per change, which suits datasets that are updated at a
+     * high rate.  Any changes that are pending with the current coalescer
+     * are delivered by that coalescer.
+     *
+     * @param coalescer  the coalescer ({@code null} permitted, to notify
+     *     listeners immediately).
+     */
+    public void setChangeCoalescer(DatasetChangeCoalescer coalescer) {
+        this.changeCoalescer = coalescer;
+    }
+
     /**
      * Registers an object to receive notification of changes to the dataset.
      *
@@ -153,7 +223,11 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
     }
 
     /**
-     * Notifies all registered listeners that the dataset has changed.
+     * Notifies all registered listeners that the dataset has changed.  Within
+     * an update block the notification is held back until the block is
+     * committed.  If a change coalescer is set, the notification is deferred
+     * to the coalescer, which will deliver a single (general) event for all
+     * the changes in its frame interval.
      *
      * @param event  contains information about the event that triggered the
      *               notification.
@@ -162,6 +236,26 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
      * @see #removeChangeListener(DatasetChangeListener)
      */
     protected void notifyListeners(DatasetChangeEvent event) {
+        if (this.updateDepth > 0) {
+            this.updatePending = true;
+            return;
+        }
+        DatasetChangeCoalescer coalescer = this.changeCoalescer;
+        if (coalescer != null) {
+            coalescer.datasetChanged(this);
+        } else {
+            deliverDatasetChanged(event);
+        }
+    }
+
+    /**
+     * Sends an event to all registered listeners, without reference to the
+     * change coalescer.  Subclasses can override this method to learn when
+     * a (possibly deferred) notification is delivered.
+     *
+     * @param event  the event.
+     */
+    protected void deliverDatasetChanged(DatasetChangeEvent event) {
         Object[] listeners = this.listenerList.getListenerList();
         for (int i = listeners.length - 2; i >= 0; i -= 2) {
             if (listeners[i] == DatasetChangeListener.class) {
@@ -174,7 +268,7 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
     /**
      * Returns a clone of the dataset. The cloned dataset will NOT include the
      * {@link DatasetChangeListener} references that have been registered with
-     * this dataset.
+     * this dataset, or the change coalescer.
      *
      * @return A clone.
      *
@@ -185,6 +279,9 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
     public Object clone() throws CloneNotSupportedException {
         AbstractDataset clone = (AbstractDataset) super.clone();
         clone.listenerList = new EventListenerList();
+        clone.changeCoalescer = null;
+        clone.updateDepth = 0;
+        clone.updatePending = false;
         return clone;
     }
 
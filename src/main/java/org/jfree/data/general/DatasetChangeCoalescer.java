@@ -0,0 +1,198 @@
+/* ======================================================
+ * JFreeChart : a chart library for the Java(tm) platform
+ * ======================================================
+ *
+ * (C) Copyright 2000-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------
+ * DatasetChangeCoalescer.java
+ * ---------------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+
+package org.jfree.data.general;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.jfree.chart.internal.Args;
+
+/**
+ * Batches the change notifications for one or more datasets, so that a
+ * dataset that is updated many times within a frame interval notifies its
+ * listeners (typically a plot, which then recalculates the axis ranges and
+ * triggers a repaint) just once.  For example:
+ * <pre>
+ * DatasetChangeCoalescer coalescer = new DatasetChangeCoalescer(16,
+ *         SwingUtilities::invokeLater);
+ * dataset.setChangeCoalescer(coalescer);
+ * </pre>
+ * The first change in a batch schedules a delivery after the frame interval,
+ * any further changes before then are absorbed into the same batch.  The
+ * delivery sends one {@link DatasetChangeEvent} to the listeners of each
+ * changed dataset, using the executor supplied to the constructor (for
+ * example {@code SwingUtilities::invokeLater} to notify on the Swing event
+ * dispatch thread).  Pending changes can also be delivered immediately on
+ * the calling thread with the {@link #flush()} method.
+ * <br><br>
+ * Note that datasets are not thread-safe, so when the datasets are updated
+ * on a different thread to the one that delivers the events, the caller is
+ * responsible for synchronizing access to the datasets.
+ */
+public class DatasetChangeCoalescer {
+
+    /** The timer shared by all coalescers (created on first use). */
+    private static ScheduledExecutorService timer;
+
+    /** The frame interval in milliseconds. */
+    private final long interval;
+
+    /** The executor used to deliver the events. */
+    private final Executor executor;
+
+    /**
+     * The datasets with pending changes, in the order of the first change
+     * (datasets are compared by identity, since their hash codes change
+     * with their data).
+     */
+    private final List<AbstractDataset> pending;
+
+    /** A flag that indicates whether a delivery is scheduled. */
+    private boolean scheduled;
+
+    /**
+     * Creates a new coalescer that delivers the events on a timer thread
+     * (suitable for headless use).
+     *
+     * @param interval  the frame interval in milliseconds (must be
+     *     positive).
+     */
+    public DatasetChangeCoalescer(long interval) {
+        this(interval, Runnable::run);
+    }
+
+    /**
+     * Creates a new coalescer.
+     *
+     * @param interval  the frame interval in milliseconds (must be
+     *     positive).
+     * @param executor  the executor used to deliver the events
+     *     ({@code null} not permitted).
+     */
+    public DatasetChangeCoalescer(long interval, Executor executor) {
+        if (interval <= 0) {
+            throw new IllegalArgumentException(
+                    "Requires 'interval' to be positive.");
+        }
+        Args.nullNotPermitted(executor, "executor");
+        this.interval = interval;
+        this.executor = executor;
+        this.pending = new ArrayList<>();
+    }
+
+    /**
+     * Returns the frame interval in milliseconds.
+     *
+     * @return The frame interval.
+     */
+    public long getInterval() {
+        return this.interval;
+    }
+
+    /**
+     * Returns {@code true} if there are changes that have not yet been
+     * delivered, and {@code false} otherwise.
+     *
+     * @return A boolean.
+     */
+    public synchronized boolean hasPendingChanges() {
+        return !this.pending.isEmpty();
+    }
+
+    /**
+     * Records a change to a dataset, scheduling a delivery if one is not
+     * already scheduled.
+     *
+     * @param dataset  the dataset ({@code null} not permitted).
+     */
+    synchronized void datasetChanged(AbstractDataset dataset) {
+        boolean found = false;
+        for (AbstractDataset d : this.pending) {
+            if (d == dataset) {
+                found = true;
+                break;
+            }
+        }
+        if (!found) {
+            this.pending.add(dataset);
+        }
+        if (!this.scheduled) {
+            this.scheduled = true;
+            getTimer().schedule(() -> this.executor.execute(this::flush),
+                    this.interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Delivers the pending changes immediately, on the calling thread.  A
+     * delivery that is already scheduled still runs, and delivers any
+     * changes made since this call.
+     */
+    public void flush() {
+        List<AbstractDataset> datasets;
+        synchronized (this) {
+            datasets = new ArrayList<>(this.pending);
+            this.pending.clear();
+            this.scheduled = false;
+        }
+        for (AbstractDataset dataset : datasets) {
+            dataset.deliverDatasetChanged(new DatasetChangeEvent(dataset,
+                    dataset));
+        }
+    }
+
+    /**
+     * Returns the shared timer, creating it if necessary.
+     *
+     * @return The timer.
+     */
+    private static synchronized ScheduledExecutorService getTimer() {
+        if (timer == null) {
+            timer = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "DatasetChangeCoalescer");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return timer;
+    }
+
+}
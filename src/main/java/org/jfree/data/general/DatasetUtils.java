@@ -1454,6 +1454,7 @@ public final class DatasetUtils {
 
         double minimum = Double.POSITIVE_INFINITY;
         double maximum = Double.NEGATIVE_INFINITY;
+        boolean ascending = dataset.getDomainOrder() == DomainOrder.ASCENDING;
 
         // handle three cases by dataset type
         if (includeInterval && dataset instanceof OHLCDataset) {
@@ -1461,8 +1462,9 @@ public final class DatasetUtils {
             OHLCDataset ohlc = (OHLCDataset) dataset;
             for (S seriesKey : visibleSeriesKeys) {
                 int series = dataset.indexOf(seriesKey);
-                int itemCount = dataset.getItemCount(series);
-                for (int item = 0; item < itemCount; item++) {
+                int[] items = findItemRangeForX(dataset, series, xRange,
+                        ascending);
+                for (int item = items[0]; item <= items[1]; item++) {
                     double x = ohlc.getXValue(series, item);
                     if (xRange.contains(x)) {
                         double lvalue = ohlc.getLowValue(series, item);
@@ -1483,8 +1485,9 @@ public final class DatasetUtils {
             BoxAndWhiskerXYDataset<S> bx = (BoxAndWhiskerXYDataset) dataset;
             for (S seriesKey : visibleSeriesKeys) {
                 int series = dataset.indexOf(seriesKey);
-                int itemCount = dataset.getItemCount(series);
-                for (int item = 0; item < itemCount; item++) {
+                int[] items = findItemRangeForX(dataset, series, xRange,
+                        ascending);
+                for (int item = items[0]; item <= items[1]; item++) {
                     double x = bx.getXValue(series, item);
                     if (xRange.contains(x)) {
                         Number lvalue = bx.getMinRegularValue(series, item);
@@ -1505,8 +1508,9 @@ public final class DatasetUtils {
             IntervalXYDataset<S> ixyd = (IntervalXYDataset) dataset;
             for (S seriesKey : visibleSeriesKeys) {
                 int series = dataset.indexOf(seriesKey);
-                int itemCount = dataset.getItemCount(series);
-                for (int item = 0; item < itemCount; item++) {
+                int[] items = findItemRangeForX(dataset, series, xRange,
+                        ascending);
+                for (int item = items[0]; item <= items[1]; item++) {
                     double x = ixyd.getXValue(series, item);
                     if (xRange.contains(x)) {
                         double yvalue = ixyd.getYValue(series, item);
@@ -1529,8 +1533,9 @@ public final class DatasetUtils {
             // standard case - plain XYDataset
             for (S seriesKey : visibleSeriesKeys) {
                 int series = dataset.indexOf(seriesKey);
-                int itemCount = dataset.getItemCount(series);
-                for (int item = 0; item < itemCount; item++) {
+                int[] items = findItemRangeForX(dataset, series, xRange,
+                        ascending);
+                for (int item = items[0]; item <= items[1]; item++) {
                     double x = dataset.getXValue(series, item);
                     double y = dataset.getYValue(series, item);
                     if (xRange.contains(x)) {
@@ -1549,6 +1554,53 @@ public final class DatasetUtils {
         }
     }
 
+    /**
+     * Returns the indices of the first and last items in a series that
+     * could have an x-value within the specified range.  When the x-values
+     * are in ascending order these are found by a binary search, otherwise
+     * the full range of items is returned (so the caller must still check
+     * each x-value).
+     *
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param series  the series index.
+     * @param xRange  the x-range ({@code null} not permitted).
+     * @param ascending  are the x-values in ascending order?
+     *
+     * @param <S>  the type for the series keys.
+     *
+     * @return The first and last item indices (the last is less than the
+     *     first if there are no items in the range).
+     */
+    private static <S extends Comparable<S>> int[] findItemRangeForX(
+            XYDataset<S> dataset, int series, Range xRange,
+            boolean ascending) {
+        int itemCount = dataset.getItemCount(series);
+        if (!ascending) {
+            return new int[] {0, itemCount - 1};
+        }
+        int low = 0;
+        int high = itemCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (dataset.getXValue(series, mid) < xRange.getLowerBound()) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        int first = low;
+        high = itemCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (dataset.getXValue(series, mid) <= xRange.getUpperBound()) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return new int[] {first, low - 1};
+    }
+
     /**
      * Returns the range of z-values in the specified dataset for the
      * data items belonging to the visible series and with x-values in the
@@ -36,9 +36,11 @@
 
 package org.jfree.data.general;
 
+import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.Paint;
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
 import org.jfree.chart.renderer.PaintScale;
 import org.jfree.chart.internal.Args;
 import org.jfree.data.xy.XYDataset;
@@ -98,6 +100,9 @@ public abstract class HeatMapUtils {
 
     /**
      * Creates an image that displays the values from the specified dataset.
+     * Colors are written directly into the image's pixel array; any 
+     * non-{@link Color} paint returned by the paint scale is filled as a 
+     * single pixel rectangle instead.
      *
      * @param dataset  the dataset ({@code null} not permitted).
      * @param paintScale  the paint scale for the z-values ({@code null}
@@ -114,15 +119,29 @@ public abstract class HeatMapUtils {
         int yCount = dataset.getYSampleCount();
         BufferedImage image = new BufferedImage(xCount, yCount,
                 BufferedImage.TYPE_INT_ARGB);
-        Graphics2D g2 = image.createGraphics();
-        for (int xIndex = 0; xIndex < xCount; xIndex++) {
-            for (int yIndex = 0; yIndex < yCount; yIndex++) {
+        int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer())
+                .getData();
+        PaintScale scale = paintScale.compile();
+        Graphics2D g2 = null;
+        for (int yIndex = 0; yIndex < yCount; yIndex++) {
+            int row = yCount - yIndex - 1;
+            for (int xIndex = 0; xIndex < xCount; xIndex++) {
                 double z = dataset.getZValue(xIndex, yIndex);
-                Paint p = paintScale.getPaint(z);
-                g2.setPaint(p);
-                g2.fillRect(xIndex, yCount - yIndex - 1, 1, 1);
+                Paint p = scale.getPaint(z);
+                if (p instanceof Color) {
+                    pixels[row * xCount + xIndex] = ((Color) p).getRGB();
+                } else {
+                    if (g2 == null) {
+                        g2 = image.createGraphics();
+                    }
+                    g2.setPaint(p);
+                    g2.fillRect(xIndex, row, 1, 1);
+                }
             }
         }
+        if (g2 != null) {
+            g2.dispose();
+        }
         return image;
     }
 
@@ -68,6 +68,12 @@ public abstract class Series<K extends Comparable<K>>
     /** A flag that controls whether changes are notified. */
     private boolean notify;
 
+    /** The depth of the update blocks in progress (see beginUpdate()). */
+    private transient int updateDepth;
+
+    /** A flag that records a change within an update block. */
+    private transient boolean updatePending;
+
     /**
      * Creates a new series with the specified key and description.
      *
@@ -116,6 +122,39 @@ public abstract class Series<K extends Comparable<K>>
         }
     }
 
+    /**
+     * Starts an update block.  Until the matching call to 
+     * {@link #commitUpdate()}, change events are held back, then a single
+     * {@link SeriesChangeEvent} is sent for all the changes in the block.
+     * Update blocks can be nested, in which case the event is sent when the
+     * outermost block is committed.
+     *
+     * @see #commitUpdate()
+     */
+    public void beginUpdate() {
+        this.updateDepth++;
+    }
+
+    /**
+     * Ends an update block and, if this is the outermost block and the 
+     * series changed within it, sends a single {@link SeriesChangeEvent} to 
+     * all registered listeners.
+     *
+     * @throws IllegalStateException if there is no update block in progress.
+     *
+     * @see #beginUpdate()
+     */
+    public void commitUpdate() {
+        if (this.updateDepth == 0) {
+            throw new IllegalStateException("No update in progress.");
+        }
+        this.updateDepth--;
+        if (this.updateDepth == 0 && this.updatePending) {
+            this.updatePending = false;
+            notifyListeners(new SeriesChangeEvent(this));
+        }
+    }
+
     /**
      * Returns {@code true} if the series contains no data items, and
      * {@code false} otherwise.
@@ -157,6 +196,8 @@ public abstract class Series<K extends Comparable<K>>
         @SuppressWarnings("unchecked")
         Series<K> clone = (Series) super.clone();
         clone.listeners = new EventListenerList();
+        clone.updateDepth = 0;
+        clone.updatePending = false;
         return clone;
     }
 
@@ -227,12 +268,17 @@ public abstract class Series<K extends Comparable<K>>
     }
 
     /**
-     * Sends a change event to all registered listeners.
+     * Sends a change event to all registered listeners (or, within an update
+     * block, records that the series has changed).
      *
      * @param event  contains information about the event that triggered the
      *               notification.
      */
     protected void notifyListeners(SeriesChangeEvent event) {
+        if (this.updateDepth > 0) {
+            this.updatePending = true;
+            return;
+        }
         Object[] listenerList = this.listeners.getListenerList();
         for (int i = listenerList.length - 2; i >= 0; i -= 2) {
             if (listenerList[i] == SeriesChangeListener.class) {
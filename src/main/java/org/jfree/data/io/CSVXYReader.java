@@ -0,0 +1,1151 @@
+/* ======================================================
+ * JFreeChart : a chart library for the Java(tm) platform
+ * ======================================================
+ *
+ * (C) Copyright 2000-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------
+ * CSVXYReader.java
+ * ----------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+
+package org.jfree.data.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.jfree.chart.internal.Args;
+import org.jfree.data.xy.PrimitiveXYSeries;
+import org.jfree.data.xy.PrimitiveXYSeriesCollection;
+
+/**
+ * A reader that loads XY data from a CSV file into a
+ * {@link PrimitiveXYSeriesCollection}.  One column supplies the x-values and
+ * each of the selected y-columns becomes a series in the dataset.
+ * <p>
+ * The input is processed a chunk at a time and the fields are parsed
+ * directly from the bytes of the input, without creating a string or a
+ * boxed value for each field, so large files can be loaded quickly and the
+ * memory required is governed by the size of the resulting dataset.  The
+ * input must use an ASCII-compatible encoding (for example UTF-8), and text
+ * delimiters are removed from a field but a delimited field cannot contain
+ * the field delimiter.
+ * <p>
+ * Empty or whitespace-only fields are read as missing values
+ * ({@code Double.NaN}).  Lines that have no x-value, and blank lines, are
+ * skipped.  A field that is not a valid number causes an
+ * {@link IOException} with a message that gives the line and column of the
+ * field.  Time series data can be loaded by writing the x-values as
+ * milliseconds since the epoch and displaying them with a
+ * {@link org.jfree.chart.axis.DateAxis}.
+ * <p>
+ * When a file is read via {@link #readXYDataset(Path)} the file is
+ * memory-mapped and, if the parallelism is greater than one, divided at line
+ * boundaries into segments that are parsed concurrently.
+ */
+public class CSVXYReader {
+
+    /** The default number of bytes processed between progress updates. */
+    private static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+
+    /** The maximum number of bytes mapped for a single segment of a file. */
+    private static final long MAX_SEGMENT_SIZE = 1L << 30;
+
+    /**
+     * The powers of ten that are exactly representable as a double, for the
+     * fast path in {@link #parseDouble(ByteBuffer, int, int)}.
+     */
+    private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4,
+            1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16,
+            1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    /** The field delimiter. */
+    private final byte fieldDelimiter;
+
+    /** The text delimiter. */
+    private final byte textDelimiter;
+
+    /** A flag that indicates whether the first line contains column names. */
+    private boolean firstLineHeader;
+
+    /** The index of the column containing the x-values. */
+    private int xColumn;
+
+    /**
+     * The indices of the columns containing the y-values ({@code null} for
+     * all columns other than the x-column).
+     */
+    private int[] yColumns;
+
+    /** The maximum number of threads used to parse a file. */
+    private int parallelism;
+
+    /** The number of bytes processed between progress updates. */
+    private int chunkSize;
+
+    /** The progress listener ({@code null} permitted). */
+    private ReadProgressListener progressListener;
+
+    /**
+     * Creates a new reader where the field delimiter is a comma, and the
+     * text delimiter is a double-quote.
+     */
+    public CSVXYReader() {
+        this(',', '"');
+    }
+
+    /**
+     * Creates a new reader with the specified field and text delimiters.
+     *
+     * @param fieldDelimiter  the field delimiter (an ASCII character, usually
+     *     a comma, semi-colon, colon, tab or space).
+     * @param textDelimiter  the text delimiter (an ASCII character, usually
+     *     a single or double quote).
+     */
+    public CSVXYReader(char fieldDelimiter, char textDelimiter) {
+        if (fieldDelimiter > 127 || textDelimiter > 127) {
+            throw new IllegalArgumentException(
+                    "Requires ASCII field and text delimiters.");
+        }
+        this.fieldDelimiter = (byte) fieldDelimiter;
+        this.textDelimiter = (byte) textDelimiter;
+        this.firstLineHeader = true;
+        this.xColumn = 0;
+        this.yColumns = null;
+        this.parallelism = 1;
+        this.chunkSize = DEFAULT_CHUNK_SIZE;
+    }
+
+    /**
+     * Returns the flag that indicates whether the first line of the input
+     * contains the column names (used as the series keys).  The default
+     * value is {@code true}.
+     *
+     * @return A boolean.
+     */
+    public boolean isFirstLineHeader() {
+        return this.firstLineHeader;
+    }
+
+    /**
+     * Sets the flag that indicates whether the first line of the input
+     * contains the column names.  If not, the series keys are created from
+     * the column indices.
+     *
+     * @param header  the new flag value.
+     */
+    public void setFirstLineHeader(boolean header) {
+        this.firstLineHeader = header;
+    }
+
+    /**
+     * Returns the index of the column containing the x-values.  The default
+     * value is {@code 0}.
+     *
+     * @return The column index.
+     */
+    public int getXColumn() {
+        return this.xColumn;
+    }
+
+    /**
+     * Sets the index of the column containing the x-values.
+     *
+     * @param column  the column index (must be &gt;= 0).
+     */
+    public void setXColumn(int column) {
+        Args.requireNonNegative(column, "column");
+        this.xColumn = column;
+    }
+
+    /**
+     * Returns the indices of the columns containing the y-values.
+     *
+     * @return The column indices (possibly {@code null}, meaning all
+     *     columns other than the x-column).
+     */
+    public int[] getYColumns() {
+        return this.yColumns == null ? null : this.yColumns.clone();
+    }
+
+    /**
+     * Sets the indices of the columns containing the y-values, one series
+     * is created for each column.
+     *
+     * @param columns  the column indices ({@code null} for all columns other
+     *     than the x-column).
+     */
+    public void setYColumns(int... columns) {
+        if (columns != null) {
+            for (int column : columns) {
+                Args.requireNonNegative(column, "column");
+            }
+        }
+        this.yColumns = columns == null ? null : columns.clone();
+    }
+
+    /**
+     * Returns the maximum number of threads used to parse a file.  The
+     * default value is {@code 1}.
+     *
+     * @return The parallelism.
+     */
+    public int getParallelism() {
+        return this.parallelism;
+    }
+
+    /**
+     * Sets the maximum number of threads used to parse a file read via
+     * {@link #readXYDataset(Path)} (the input for
+     * {@link #readXYDataset(ReadableByteChannel)} is always parsed in the
+     * calling thread).
+     *
+     * @param parallelism  the parallelism (must be &gt; 0).
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException(
+                    "Requires 'parallelism' to be positive.");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Returns the number of bytes that are processed between calls to the
+     * progress listener (this is also the initial size of the buffer used
+     * for reading from a channel).  The default is 1MB.
+     *
+     * @return The chunk size.
+     */
+    public int getChunkSize() {
+        return this.chunkSize;
+    }
+
+    /**
+     * Sets the number of bytes that are processed between calls to the
+     * progress listener.
+     *
+     * @param chunkSize  the chunk size (must be &gt; 0).
+     */
+    public void setChunkSize(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException(
+                    "Requires 'chunkSize' to be positive.");
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Returns the progress listener.
+     *
+     * @return The progress listener (possibly {@code null}).
+     */
+    public ReadProgressListener getProgressListener() {
+        return this.progressListener;
+    }
+
+    /**
+     * Sets the listener that is notified as each chunk of the input is
+     * processed.
+     *
+     * @param listener  the listener ({@code null} permitted).
+     */
+    public void setProgressListener(ReadProgressListener listener) {
+        this.progressListener = listener;
+    }
+
+    /**
+     * Reads an XY dataset from a channel.  The channel is read to the end
+     * but is not closed.
+     *
+     * @param channel  the channel ({@code null} not permitted).
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if there is an I/O problem, if two columns have
+     *     the same name or if a field is not a valid number.
+     */
+    public PrimitiveXYSeriesCollection<String> readXYDataset(
+            ReadableByteChannel channel) throws IOException {
+        Args.nullNotPermitted(channel, "channel");
+        long total = -1;
+        if (channel instanceof FileChannel) {
+            FileChannel fc = (FileChannel) channel;
+            total = fc.size() - fc.position();
+        }
+        Progress progress = new Progress(total);
+        ByteBuffer buffer = ByteBuffer.allocate(this.chunkSize);
+        LineParser parser = null;
+        ColumnData data = null;
+        boolean eof = false;
+        while (!eof) {
+            eof = channel.read(buffer) < 0;
+            buffer.flip();
+            int start = buffer.position();
+            int end = buffer.limit();
+            if (parser == null) {
+                int lineEnd = indexOfLineEnd(buffer, start, end);
+                if (lineEnd < 0 && !eof) {
+                    buffer = compact(buffer, start);
+                    continue;
+                }
+                if (lineEnd < 0) {
+                    lineEnd = end;
+                }
+                parser = createParser(buffer, start, lineEnd);
+                data = new ColumnData(parser.columnCount());
+                if (this.firstLineHeader) {
+                    start = Math.min(lineEnd + 1, end);
+                    data.lines = 1;
+                }
+            }
+            int next = parser.parseLines(buffer, start, end, eof, data, null);
+            progress.add(next - buffer.position());
+            buffer = compact(buffer, next);
+        }
+        if (parser == null) {
+            return new PrimitiveXYSeriesCollection<>();
+        }
+        return parser.createDataset(Arrays.asList(data));
+    }
+
+    /**
+     * Reads an XY dataset from a file.  The file is memory-mapped and, if
+     * the parallelism is greater than one, parsed in segments by several
+     * threads.
+     *
+     * @param path  the file ({@code null} not permitted).
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if there is an I/O problem, if two columns have
+     *     the same name or if a field is not a valid number.
+     */
+    public PrimitiveXYSeriesCollection<String> readXYDataset(Path path)
+            throws IOException {
+        Args.nullNotPermitted(path, "path");
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size == 0) {
+                return new PrimitiveXYSeriesCollection<>();
+            }
+            ByteBuffer firstLine = readFirstLine(channel);
+            LineParser parser = createParser(firstLine, 0,
+                    firstLine.limit());
+            long dataStart = this.firstLineHeader
+                    ? Math.min(firstLine.limit() + 1L, size) : 0L;
+
+            // divide the file into segments that start on a line boundary
+            long dataSize = size - dataStart;
+            int segmentCount = (int) Math.max(Math.min(this.parallelism,
+                    Math.max(dataSize / this.chunkSize, 1)),
+                    (dataSize + MAX_SEGMENT_SIZE - 1) / MAX_SEGMENT_SIZE);
+            long[] bounds = new long[segmentCount + 1];
+            bounds[0] = dataStart;
+            for (int i = 1; i < segmentCount; i++) {
+                bounds[i] = Math.max(bounds[i - 1], findLineStart(channel,
+                        dataStart + dataSize * i / segmentCount));
+            }
+            bounds[segmentCount] = size;
+
+            Progress progress = new Progress(size);
+            progress.add(dataStart);
+            List<ColumnData> parts = new ArrayList<>();
+            if (this.parallelism == 1 || segmentCount == 1) {
+                for (int i = 0; i < segmentCount; i++) {
+                    parts.add(parseSegment(channel, bounds[i], bounds[i + 1],
+                            parser, progress));
+                }
+            } else {
+                ExecutorService executor = Executors.newFixedThreadPool(
+                        Math.min(this.parallelism, segmentCount), r -> {
+                            Thread thread = new Thread(r, "CSVXYReader");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+                try {
+                    List<Future<ColumnData>> futures = new ArrayList<>();
+                    for (int i = 0; i < segmentCount; i++) {
+                        long start = bounds[i];
+                        long end = bounds[i + 1];
+                        futures.add(executor.submit(() -> parseSegment(
+                                channel, start, end, parser, progress)));
+                    }
+                    for (Future<ColumnData> future : futures) {
+                        parts.add(future.get());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while reading "
+                            + path + ".", e);
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof IOException) {
+                        throw (IOException) cause;
+                    }
+                    if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    }
+                    throw new IOException(cause);
+                } finally {
+                    executor.shutdownNow();
+                }
+            }
+            return parser.createDataset(parts);
+        }
+    }
+
+    /**
+     * Parses the lines in one segment of a file.
+     *
+     * @param channel  the file channel.
+     * @param start  the position of the first byte in the segment.
+     * @param end  the position after the last byte in the segment.
+     * @param parser  the line parser.
+     * @param progress  the progress tracker.
+     *
+     * @return The data.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private ColumnData parseSegment(FileChannel channel, long start, long end,
+            LineParser parser, Progress progress) throws IOException {
+        ColumnData data = new ColumnData(parser.columnCount());
+        if (end > start) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY,
+                    start, end - start);
+            try {
+                parser.parseLines(buffer, 0, buffer.limit(), true, data,
+                        progress);
+            } catch (FieldFormatException e) {
+                // the line numbers are counted from the segment start
+                throw e.moveLines(countLines(channel, start));
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Returns the number of line feeds in a file before the specified
+     * position.
+     *
+     * @param channel  the channel.
+     * @param position  the position.
+     *
+     * @return The number of lines.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private static long countLines(FileChannel channel, long position)
+            throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(8192);
+        long lines = 0;
+        long p = 0;
+        while (p < position) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), position - p));
+            int n = channel.read(buffer, p);
+            if (n < 0) {
+                break;
+            }
+            for (int i = 0; i < n; i++) {
+                if (buffer.get(i) == '\n') {
+                    lines++;
+                }
+            }
+            p += n;
+        }
+        return lines;
+    }
+
+    /**
+     * Reads the first line of a file (excluding the line terminator).
+     *
+     * @param channel  the channel.
+     *
+     * @return A buffer containing the first line.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private ByteBuffer readFirstLine(FileChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(8192);
+        long position = 0;
+        while (true) {
+            int n = channel.read(buffer, position);
+            if (n < 0) {
+                buffer.flip();
+                return buffer;
+            }
+            position += n;
+            int lineEnd = indexOfLineEnd(buffer, 0, buffer.position());
+            if (lineEnd >= 0) {
+                buffer.position(0);
+                buffer.limit(lineEnd);
+                return buffer;
+            }
+            if (!buffer.hasRemaining()) {
+                buffer.flip();
+                buffer = compact(buffer, 0);
+            }
+        }
+    }
+
+    /**
+     * Returns the position of the start of the first line that begins at or
+     * after the specified position (or the file size if there is none).
+     *
+     * @param channel  the channel.
+     * @param position  the position.
+     *
+     * @return The position of the start of the line.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private long findLineStart(FileChannel channel, long position)
+            throws IOException {
+        if (position <= 0) {
+            return 0;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(8192);
+        long p = position - 1;  // the line may start exactly at position
+        while (true) {
+            buffer.clear();
+            int n = channel.read(buffer, p);
+            if (n < 0) {
+                return channel.size();
+            }
+            int lineEnd = indexOfLineEnd(buffer, 0, n);
+            if (lineEnd >= 0) {
+                return p + lineEnd + 1;
+            }
+            p += n;
+        }
+    }
+
+    /**
+     * Returns the index of the first line feed in a range of bytes.
+     *
+     * @param buffer  the buffer.
+     * @param start  the index of the first byte.
+     * @param end  the index after the last byte.
+     *
+     * @return The index of the line feed, or -1.
+     */
+    private static int indexOfLineEnd(ByteBuffer buffer, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (buffer.get(i) == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Discards the bytes before {@code position} and prepares the buffer to
+     * receive more input, doubling its capacity if it is full.
+     *
+     * @param buffer  the buffer (in read mode).
+     * @param position  the index of the first byte to keep.
+     *
+     * @return The buffer (in write mode).
+     */
+    private static ByteBuffer compact(ByteBuffer buffer, int position) {
+        buffer.position(position);
+        if (position == 0 && buffer.limit() == buffer.capacity()) {
+            ByteBuffer larger = ByteBuffer.allocate(buffer.capacity() * 2);
+            larger.put(buffer);
+            return larger;
+        }
+        buffer.compact();
+        return buffer;
+    }
+
+    /**
+     * Creates the parser for the input, based on the first line (which
+     * supplies the column names, if there is a header, and otherwise the
+     * number of columns).
+     *
+     * @param buffer  the buffer.
+     * @param start  the start of the first line.
+     * @param end  the end of the first line.
+     *
+     * @return The parser.
+     *
+     * @throws IOException if two of the selected columns have the same name.
+     */
+    private LineParser createParser(ByteBuffer buffer, int start, int end)
+            throws IOException {
+        List<String> fields = new ArrayList<>();
+        int fieldStart = start;
+        for (int i = start; i <= end; i++) {
+            if (i == end || buffer.get(i) == this.fieldDelimiter) {
+                byte[] bytes = new byte[i - fieldStart];
+                for (int j = 0; j < bytes.length; j++) {
+                    bytes[j] = buffer.get(fieldStart + j);
+                }
+                fields.add(removeTextDelimiters(new String(bytes,
+                        StandardCharsets.UTF_8).trim()));
+                fieldStart = i + 1;
+            }
+        }
+        int[] columns = this.yColumns;
+        if (columns == null) {
+            columns = new int[Math.max(fields.size() - 1, 0)];
+            int c = 0;
+            for (int i = 0; i < fields.size(); i++) {
+                if (i != this.xColumn) {
+                    columns[c++] = i;
+                }
+            }
+            columns = Arrays.copyOf(columns, c);
+        }
+        String[] keys = new String[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            if (this.firstLineHeader && columns[i] < fields.size()) {
+                keys[i] = fields.get(columns[i]);
+            } else {
+                keys[i] = "Column " + columns[i];
+            }
+        }
+        // the keys must be unique within the dataset
+        Map<String, Integer> seen = new HashMap<>();
+        for (int i = 0; i < keys.length; i++) {
+            Integer previous = seen.putIfAbsent(keys[i], columns[i]);
+            if (previous != null) {
+                throw new IOException("Columns " + (previous + 1) + " and "
+                        + (columns[i] + 1) + " have the same name '"
+                        + keys[i] + "'.");
+            }
+        }
+        return new LineParser(this.xColumn, columns, keys);
+    }
+
+    /**
+     * Removes the text delimiters from a column name.
+     *
+     * @param s  the name (already trimmed).
+     *
+     * @return The name without delimiters.
+     */
+    private String removeTextDelimiters(String s) {
+        if (s.length() >= 2 && s.charAt(0) == this.textDelimiter
+                && s.charAt(s.length() - 1) == this.textDelimiter) {
+            return s.substring(1, s.length() - 1).trim();
+        }
+        return s;
+    }
+
+    /**
+     * Parses a double value from a range of bytes.  The common case of a
+     * decimal number with at most 18 significant digits and a small exponent
+     * is converted exactly without creating any objects, other values are
+     * passed to {@link Double#parseDouble(String)}.
+     *
+     * @param buffer  the buffer.
+     * @param start  the index of the first byte.
+     * @param end  the index after the last byte.
+     *
+     * @return The value ({@code Double.NaN} if the range is empty).
+     *
+     * @throws NumberFormatException if the bytes are not a valid number.
+     */
+    static double parseDouble(ByteBuffer buffer, int start, int end) {
+        if (start >= end) {
+            return Double.NaN;
+        }
+        int i = start;
+        boolean negative = false;
+        byte b = buffer.get(i);
+        if (b == '-' || b == '+') {
+            negative = b == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean any = false;
+        boolean exact = true;
+        while (i < end && (b = buffer.get(i)) >= '0' && b <= '9') {
+            if (digits < 18) {
+                mantissa = mantissa * 10 + (b - '0');
+                if (mantissa > 0) {
+                    digits++;
+                }
+            } else {
+                exponent++;
+                exact &= b == '0';
+            }
+            any = true;
+            i++;
+        }
+        if (i < end && buffer.get(i) == '.') {
+            i++;
+            while (i < end && (b = buffer.get(i)) >= '0' && b <= '9') {
+                if (digits < 18) {
+                    mantissa = mantissa * 10 + (b - '0');
+                    exponent--;
+                    if (mantissa > 0) {
+                        digits++;
+                    }
+                } else {
+                    exact &= b == '0';
+                }
+                any = true;
+                i++;
+            }
+        }
+        if (any && i < end && ((b = buffer.get(i)) == 'e' || b == 'E')) {
+            i++;
+            boolean negativeExponent = false;
+            if (i < end && ((b = buffer.get(i)) == '-' || b == '+')) {
+                negativeExponent = b == '-';
+                i++;
+            }
+            int e = 0;
+            boolean anyExponentDigits = false;
+            while (i < end && (b = buffer.get(i)) >= '0' && b <= '9') {
+                e = Math.min(e * 10 + (b - '0'), 100000);
+                anyExponentDigits = true;
+                i++;
+            }
+            any = anyExponentDigits;
+            exponent += negativeExponent ? -e : e;
+        }
+        if (any && i == end && exact && mantissa < (1L << 53)
+                && exponent >= -22 && exponent <= 22) {
+            double value = exponent >= 0 ? mantissa * POWERS_OF_TEN[exponent]
+                    : mantissa / POWERS_OF_TEN[-exponent];
+            return negative ? -value : value;
+        }
+        byte[] bytes = new byte[end - start];
+        for (int j = 0; j < bytes.length; j++) {
+            bytes[j] = buffer.get(start + j);
+        }
+        return Double.parseDouble(new String(bytes,
+                StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Parses lines of input into column data, for a fixed column selection.
+     * Instances are immutable, so one parser can be shared by the threads
+     * parsing the segments of a file.
+     */
+    private class LineParser {
+
+        /** For each field index, the data column (or -1 if not used). */
+        private final int[] targets;
+
+        /** The series keys. */
+        private final String[] keys;
+
+        /**
+         * Creates a new parser.
+         *
+         * @param xColumn  the x-column.
+         * @param yColumns  the y-columns.
+         * @param keys  the series keys.
+         */
+        LineParser(int xColumn, int[] yColumns, String[] keys) {
+            int fieldCount = xColumn + 1;
+            for (int column : yColumns) {
+                fieldCount = Math.max(fieldCount, column + 1);
+            }
+            this.targets = new int[fieldCount];
+            Arrays.fill(this.targets, -1);
+            for (int i = 0; i < yColumns.length; i++) {
+                this.targets[yColumns[i]] = i + 1;
+            }
+            this.targets[xColumn] = 0;
+            this.keys = keys;
+        }
+
+        /**
+         * Returns the number of data columns (the x-values and one column
+         * for each series).
+         *
+         * @return The column count.
+         */
+        int columnCount() {
+            return this.keys.length + 1;
+        }
+
+        /**
+         * Parses the complete lines in a range of bytes.
+         *
+         * @param buffer  the buffer.
+         * @param start  the index of the first byte.
+         * @param end  the index after the last byte.
+         * @param last  if {@code true}, the range ends at the end of the
+         *     input so a final line without a line feed is parsed too.
+         * @param data  the data to add to.
+         * @param progress  the progress tracker to update after each chunk
+         *     ({@code null} permitted).
+         *
+         * @return The index after the last line parsed.
+         *
+         * @throws FieldFormatException if a field is not a valid number.
+         */
+        int parseLines(ByteBuffer buffer, int start, int end, boolean last,
+                ColumnData data, Progress progress)
+                throws FieldFormatException {
+            double[] row = new double[columnCount()];
+            int lineStart = start;
+            int reported = start;
+            for (int i = start; i < end; i++) {
+                if (buffer.get(i) == '\n') {
+                    parseLine(buffer, lineStart, i, row, data);
+                    lineStart = i + 1;
+                    if (progress != null
+                            && lineStart - reported >= chunkSize) {
+                        progress.add(lineStart - reported);
+                        reported = lineStart;
+                    }
+                }
+            }
+            if (last && lineStart < end) {
+                parseLine(buffer, lineStart, end, row, data);
+                lineStart = end;
+            }
+            if (progress != null) {
+                progress.add(lineStart - reported);
+            }
+            return lineStart;
+        }
+
+        /**
+         * Parses one line.
+         *
+         * @param buffer  the buffer.
+         * @param start  the index of the first byte.
+         * @param end  the index of the line feed (or end of input).
+         * @param row  an array to hold the values for the line.
+         * @param data  the data to add to.
+         *
+         * @throws FieldFormatException if a field is not a valid number.
+         */
+        private void parseLine(ByteBuffer buffer, int start, int end,
+                double[] row, ColumnData data) throws FieldFormatException {
+            data.lines++;
+            if (end > start && buffer.get(end - 1) == '\r') {
+                end--;
+            }
+            Arrays.fill(row, Double.NaN);
+            int field = 0;
+            int fieldStart = start;
+            for (int i = start; i <= end && field < this.targets.length;
+                    i++) {
+                if (i == end || buffer.get(i) == fieldDelimiter) {
+                    int target = this.targets[field];
+                    if (target >= 0) {
+                        try {
+                            row[target] = parseField(buffer, fieldStart, i);
+                        } catch (NumberFormatException e) {
+                            byte[] bytes = new byte[i - fieldStart];
+                            for (int j = 0; j < bytes.length; j++) {
+                                bytes[j] = buffer.get(fieldStart + j);
+                            }
+                            throw new FieldFormatException(data.lines,
+                                    field + 1, new String(bytes,
+                                    StandardCharsets.UTF_8).trim(), e);
+                        }
+                    }
+                    field++;
+                    fieldStart = i + 1;
+                }
+            }
+            if (!Double.isNaN(row[0])) {
+                data.add(row);
+            }
+        }
+
+        /**
+         * Parses a field, ignoring surrounding white space and text
+         * delimiters.
+         *
+         * @param buffer  the buffer.
+         * @param start  the index of the first byte.
+         * @param end  the index after the last byte.
+         *
+         * @return The value.
+         */
+        private double parseField(ByteBuffer buffer, int start, int end) {
+            while (start < end && isWhitespace(buffer.get(start))) {
+                start++;
+            }
+            while (end > start && isWhitespace(buffer.get(end - 1))) {
+                end--;
+            }
+            if (end - start >= 2 && buffer.get(start) == textDelimiter
+                    && buffer.get(end - 1) == textDelimiter) {
+                start++;
+                end--;
+                while (start < end && isWhitespace(buffer.get(start))) {
+                    start++;
+                }
+                while (end > start && isWhitespace(buffer.get(end - 1))) {
+                    end--;
+                }
+            }
+            return parseDouble(buffer, start, end);
+        }
+
+        /**
+         * Creates the dataset from the data for one or more segments of
+         * the input (in order).
+         *
+         * @param parts  the data.
+         *
+         * @return The dataset.
+         *
+         * @throws IOException if there are too many items for a series.
+         */
+        PrimitiveXYSeriesCollection<String> createDataset(
+                List<ColumnData> parts) throws IOException {
+            long total = 0;
+            for (ColumnData part : parts) {
+                total += part.count;
+            }
+            if (total > Integer.MAX_VALUE - 8) {
+                throw new IOException("The input contains " + total
+                        + " rows, more than a series can hold.");
+            }
+            // the series adopt the column arrays, and the arrays for each
+            // part are released once merged, so the data is not held twice
+            // (the x- and y-arrays for a series must have the same length)
+            int length = parts.size() == 1 ? parts.get(0).values[0].length
+                    : (int) total;
+            PrimitiveXYSeriesCollection<String> dataset
+                    = new PrimitiveXYSeriesCollection<>();
+            for (int s = 0; s < this.keys.length; s++) {
+                boolean lastSeries = s == this.keys.length - 1;
+                double[] x = mergeColumn(parts, 0, length, lastSeries);
+                double[] y = mergeColumn(parts, s + 1, length, true);
+                dataset.addSeries(new PrimitiveXYSeries<>(this.keys[s], false,
+                        true, x, y, (int) total));
+            }
+            return dataset;
+        }
+
+        /**
+         * Returns the values for one data column from all parts of the
+         * input in a single array.  If there is only one part, its array
+         * is returned (or a copy if the array will be used again),
+         * otherwise the arrays are copied into a new array.
+         *
+         * @param parts  the data.
+         * @param column  the data column.
+         * @param length  the length of the array (at least the total number
+         *     of rows).
+         * @param release  if {@code true}, the column arrays of the parts
+         *     are not used again (so they can be released or returned).
+         *
+         * @return The values.
+         */
+        private double[] mergeColumn(List<ColumnData> parts, int column,
+                int length, boolean release) {
+            if (parts.size() == 1 && release) {
+                double[] values = parts.get(0).values[column];
+                parts.get(0).values[column] = null;
+                return values;
+            }
+            double[] values = new double[length];
+            int n = 0;
+            for (ColumnData part : parts) {
+                System.arraycopy(part.values[column], 0, values, n,
+                        part.count);
+                n += part.count;
+                if (release) {
+                    part.values[column] = null;
+                }
+            }
+            return values;
+        }
+
+    }
+
+    /**
+     * Returns {@code true} if the byte is a space or tab.
+     *
+     * @param b  the byte.
+     *
+     * @return A boolean.
+     */
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t';
+    }
+
+    /**
+     * Growable storage for the parsed values, one array per data column.
+     */
+    private static class ColumnData {
+
+        /** The values. */
+        double[][] values;
+
+        /** The number of rows. */
+        int count;
+
+        /**
+         * The number of lines read (including blank lines, lines without an
+         * x-value and, for the first segment, the header).
+         */
+        long lines;
+
+        /**
+         * Creates storage for the specified number of columns.
+         *
+         * @param columnCount  the column count.
+         */
+        ColumnData(int columnCount) {
+            this.values = new double[columnCount][1024];
+        }
+
+        /**
+         * Adds a row.
+         *
+         * @param row  the values for each column.
+         */
+        void add(double[] row) {
+            if (this.count == this.values[0].length) {
+                for (int c = 0; c < this.values.length; c++) {
+                    this.values[c] = Arrays.copyOf(this.values[c],
+                            this.count * 2);
+                }
+            }
+            for (int c = 0; c < row.length; c++) {
+                this.values[c][this.count] = row[c];
+            }
+            this.count++;
+        }
+
+    }
+
+    /**
+     * The exception thrown when a field is not a valid number.
+     */
+    private static class FieldFormatException extends IOException {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 3816437170208457297L;
+
+        /** The line number (starting at 1). */
+        private final long line;
+
+        /** The column number (starting at 1). */
+        private final int column;
+
+        /** The field text. */
+        private final String text;
+
+        /**
+         * Creates a new exception.
+         *
+         * @param line  the line number (starting at 1).
+         * @param column  the column number (starting at 1).
+         * @param text  the field text.
+         * @param cause  the cause.
+         */
+        FieldFormatException(long line, int column, String text,
+                Throwable cause) {
+            super("Invalid number '" + text + "' at line " + line
+                    + ", column " + column + ".", cause);
+            this.line = line;
+            this.column = column;
+            this.text = text;
+        }
+
+        /**
+         * Returns a copy of this exception with the line number moved down
+         * by the specified number of lines.
+         *
+         * @param lines  the number of lines.
+         *
+         * @return The exception.
+         */
+        FieldFormatException moveLines(long lines) {
+            return new FieldFormatException(this.line + lines, this.column,
+                    this.text, getCause());
+        }
+
+    }
+
+    /**
+     * Tracks the number of bytes processed and notifies the progress
+     * listener.
+     */
+    private class Progress {
+
+        /** The total number of bytes (or -1 if not known). */
+        private final long total;
+
+        /** The number of bytes processed so far. */
+        private long bytesRead;
+
+        /**
+         * Creates a new tracker.
+         *
+         * @param total  the total number of bytes (or -1 if not known).
+         */
+        Progress(long total) {
+            this.total = total;
+        }
+
+        /**
+         * Records that more bytes have been processed.
+         *
+         * @param bytes  the number of bytes.
+         */
+        synchronized void add(long bytes) {
+            if (bytes <= 0) {
+                return;
+            }
+            this.bytesRead += bytes;
+            if (progressListener != null) {
+                progressListener.progressUpdate(this.bytesRead, this.total);
+            }
+        }
+
+    }
+
+}
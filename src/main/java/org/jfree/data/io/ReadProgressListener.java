@@ -0,0 +1,61 @@
+/* ======================================================
+ * JFreeChart : a chart library for the Java(tm) platform
+ * ======================================================
+ *
+ * (C) Copyright 2000-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * ReadProgressListener.java
+ * -------------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+
+package org.jfree.data.io;
+
+import java.util.EventListener;
+
+/**
+ * The interface for receiving progress notifications while a large data
+ * file is being read.
+ *
+ * @see CSVXYReader#setProgressListener(ReadProgressListener)
+ */
+public interface ReadProgressListener extends EventListener {
+
+    /**
+     * Receives notification that another chunk of the input has been
+     * processed.  When the input is parsed in parallel, this method may be
+     * called from more than one thread (but never concurrently).
+     *
+     * @param bytesRead  the total number of bytes processed so far.
+     * @param totalBytes  the total number of bytes in the input, or -1 if
+     *     this is not known.
+     */
+    void progressUpdate(long bytesRead, long totalBytes);
+
+}
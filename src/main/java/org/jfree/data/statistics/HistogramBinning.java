@@ -0,0 +1,299 @@
+/* ======================================================
+ * JFreeChart : a chart library for the Java(tm) platform
+ * ======================================================
+ *
+ * (C) Copyright 2000-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------
+ * HistogramBinning.java
+ * ---------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * The bins for a {@link StreamingHistogramDataset}.  Two schemes are 
+ * available:
+ * <ul>
+ * <li>{@link #linear(double, double, int)} creates bins of equal width;</li>
+ * <li>{@link #logLinear(double, double, int)} divides each doubling of the 
+ * value (from the lowest value upwards) into a number of bins of equal 
+ * width, so that the bin width is proportional to the value (within a 
+ * factor of two).  This gives a constant relative precision over a wide 
+ * dynamic range, as for HDR histograms of latency measurements.</li>
+ * </ul>
+ * A value that falls on the boundary of two bins is assigned to the higher
+ * bin.  Instances of this class are immutable.
+ */
+public final class HistogramBinning implements Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 3322467364604461247L;
+
+    /** Is the binning log-linear? */
+    private final boolean logLinear;
+
+    /** The number of bins per doubling (log-linear binning only). */
+    private final int subBinCount;
+
+    /** The bin boundaries (one more than the number of bins). */
+    private final double[] bounds;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param logLinear  is the binning log-linear?
+     * @param subBinCount  the number of bins per doubling.
+     * @param bounds  the bin boundaries.
+     */
+    private HistogramBinning(boolean logLinear, int subBinCount, 
+            double[] bounds) {
+        this.logLinear = logLinear;
+        this.subBinCount = subBinCount;
+        this.bounds = bounds;
+    }
+
+    /**
+     * Creates bins of equal width.
+     *
+     * @param lower  the lower bound of the first bin.
+     * @param upper  the upper bound of the last bin (greater than 
+     *     {@code lower}).
+     * @param binCount  the number of bins (at least 1).
+     *
+     * @return The binning.
+     */
+    public static HistogramBinning linear(double lower, double upper, 
+            int binCount) {
+        if (!(lower < upper) || Double.isInfinite(upper - lower)) {
+            throw new IllegalArgumentException(
+                    "Requires 'lower' to be less than 'upper'.");
+        }
+        if (binCount < 1) {
+            throw new IllegalArgumentException(
+                    "Requires 'binCount' to be at least 1.");
+        }
+        double[] bounds = new double[binCount + 1];
+        double width = (upper - lower) / binCount;
+        for (int i = 0; i < binCount; i++) {
+            bounds[i] = lower + i * width;
+        }
+        bounds[binCount] = upper;
+        return new HistogramBinning(false, 0, bounds);
+    }
+
+    /**
+     * Creates log-linear bins.  The range from {@code lowest} to 
+     * {@code highest} is covered by doublings of {@code lowest} (so the 
+     * upper bound of the last bin can be up to twice {@code highest}), and
+     * each doubling is divided into {@code subBinCount} bins of equal width.
+     *
+     * @param lowest  the lower bound of the first bin (must be positive).
+     * @param highest  the highest value to be binned (greater than 
+     *     {@code lowest}).
+     * @param subBinCount  the number of bins per doubling (at least 1).
+     *
+     * @return The binning.
+     */
+    public static HistogramBinning logLinear(double lowest, double highest,
+            int subBinCount) {
+        if (!(lowest > 0.0) || Double.isInfinite(lowest)) {
+            throw new IllegalArgumentException(
+                    "Requires 'lowest' to be positive.");
+        }
+        if (!(highest > lowest) || Double.isInfinite(highest)) {
+            throw new IllegalArgumentException(
+                    "Requires 'highest' to be greater than 'lowest'.");
+        }
+        if (subBinCount < 1) {
+            throw new IllegalArgumentException(
+                    "Requires 'subBinCount' to be at least 1.");
+        }
+        int doublings = 1;
+        while (Math.scalb(lowest, doublings) <= highest) {
+            doublings++;
+        }
+        double[] bounds = new double[doublings * subBinCount + 1];
+        for (int e = 0; e < doublings; e++) {
+            double base = Math.scalb(lowest, e);
+            for (int j = 0; j < subBinCount; j++) {
+                bounds[e * subBinCount + j] = base 
+                        + base * j / subBinCount;
+            }
+        }
+        bounds[doublings * subBinCount] = Math.scalb(lowest, doublings);
+        return new HistogramBinning(true, subBinCount, bounds);
+    }
+
+    /**
+     * Returns {@code true} if the binning is log-linear, and {@code false} 
+     * if the bins have equal width.
+     *
+     * @return A boolean.
+     */
+    public boolean isLogLinear() {
+        return this.logLinear;
+    }
+
+    /**
+     * Returns the number of bins.
+     *
+     * @return The number of bins.
+     */
+    public int getBinCount() {
+        return this.bounds.length - 1;
+    }
+
+    /**
+     * Returns the lower bound of the first bin.
+     *
+     * @return The lower bound.
+     */
+    public double getLowerBound() {
+        return this.bounds[0];
+    }
+
+    /**
+     * Returns the upper bound of the last bin.
+     *
+     * @return The upper bound.
+     */
+    public double getUpperBound() {
+        return this.bounds[this.bounds.length - 1];
+    }
+
+    /**
+     * Returns the lower bound of a bin.
+     *
+     * @param bin  the bin index (zero-based).
+     *
+     * @return The lower bound.
+     */
+    public double getBinStart(int bin) {
+        return this.bounds[bin];
+    }
+
+    /**
+     * Returns the upper bound of a bin.
+     *
+     * @param bin  the bin index (zero-based).
+     *
+     * @return The upper bound.
+     */
+    public double getBinEnd(int bin) {
+        if (bin < 0) {
+            throw new IndexOutOfBoundsException("Index: " + bin);
+        }
+        return this.bounds[bin + 1];
+    }
+
+    /**
+     * Returns the index of the bin for a value.  A value below the lower 
+     * bound of the first bin returns {@code -1}, a value at or above the
+     * upper bound of the last bin returns {@link #getBinCount()}.
+     *
+     * @param value  the value (not {@code NaN}).
+     *
+     * @return The bin index.
+     */
+    public int getBinIndex(double value) {
+        int binCount = this.bounds.length - 1;
+        if (value < this.bounds[0]) {
+            return -1;
+        }
+        if (value >= this.bounds[binCount]) {
+            return binCount;
+        }
+        int i;
+        if (this.logLinear) {
+            double r = value / this.bounds[0];
+            int e = Math.getExponent(r);
+            double fraction = Math.scalb(r, -e) - 1.0;
+            i = e * this.subBinCount + (int) (fraction * this.subBinCount);
+        } else {
+            double width = (this.bounds[binCount] - this.bounds[0]) 
+                    / binCount;
+            i = (int) ((value - this.bounds[0]) / width);
+        }
+        // correct any rounding error against the stored boundaries
+        i = Math.max(0, Math.min(i, binCount - 1));
+        while (i > 0 && value < this.bounds[i]) {
+            i--;
+        }
+        while (i < binCount - 1 && value >= this.bounds[i + 1]) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Tests this instance for equality with an arbitrary object.
+     *
+     * @param obj  the object ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof HistogramBinning)) {
+            return false;
+        }
+        HistogramBinning that = (HistogramBinning) obj;
+        if (this.logLinear != that.logLinear) {
+            return false;
+        }
+        if (this.subBinCount != that.subBinCount) {
+            return false;
+        }
+        if (!Arrays.equals(this.bounds, that.bounds)) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 7;
+        hash = 53 * hash + (this.logLinear ? 1 : 0);
+        hash = 53 * hash + this.subBinCount;
+        hash = 53 * hash + Arrays.hashCode(this.bounds);
+        return hash;
+    }
+
+}
@@ -0,0 +1,761 @@
+/* ======================================================
+ * JFreeChart : a chart library for the Java(tm) platform
+ * ======================================================
+ *
+ * (C) Copyright 2000-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------------
+ * StreamingHistogramDataset.java
+ * ------------------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import org.jfree.chart.api.PublicCloneable;
+import org.jfree.chart.internal.Args;
+import org.jfree.data.general.DatasetChangeCoalescer;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.xy.AbstractIntervalXYDataset;
+import org.jfree.data.xy.IntervalXYDataset;
+
+/**
+ * A histogram dataset that accepts values incrementally.  Unlike 
+ * {@link HistogramDataset}, which requires all the values for a series up
+ * front, values can be added to this dataset at any time, from any thread,
+ * and are counted into a fixed set of bins (see {@link HistogramBinning}) 
+ * using lock-free counters.  Log-linear binning gives a constant relative 
+ * precision over a wide range of values, which suits latency distributions.
+ * Histograms with the same binning can be combined with 
+ * {@link #merge(StreamingHistogramDataset)}, for example to aggregate 
+ * histograms recorded by several threads or nodes.
+ * <p>
+ * Each item in a series is one bin:  the x-value is the middle of the bin, 
+ * the start and end x-values are the bin bounds and the y-value is the count
+ * (or relative frequency, see {@link #setType(HistogramType)}), so the 
+ * dataset can be displayed with an {@code XYBarRenderer}.  Values outside 
+ * the bins are counted separately (see {@link #getUnderflowCount(int)} and
+ * {@link #getOverflowCount(int)}) and are included in the total.
+ * <p>
+ * A change event is fired for the first value added after the last event
+ * was delivered, further values are absorbed until the listeners have been
+ * notified.  By default the dataset has a {@link DatasetChangeCoalescer}
+ * with a 16 millisecond frame interval, so the events are delivered at most
+ * once per frame interval, on the coalescer's timer thread rather than on
+ * the threads that are adding values.  Set a different coalescer to deliver
+ * the events elsewhere (for example, on the Swing event dispatch thread),
+ * or set {@code null} to deliver each event immediately.
+ *
+ * @param <S> the series key type.
+ *
+ * @see HistogramDataset
+ */
+public class StreamingHistogramDataset<S extends Comparable<S>> 
+        extends AbstractIntervalXYDataset<S> 
+        implements IntervalXYDataset<S>, PublicCloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 7081904539929132141L;
+
+    /** The frame interval (in milliseconds) for the default coalescer. */
+    private static final long DEFAULT_CHANGE_INTERVAL = 16L;
+
+    /** The bins. */
+    private final HistogramBinning binning;
+
+    /** The histogram type. */
+    private HistogramType type;
+
+    /** The series. */
+    private CopyOnWriteArrayList<HistogramSeries<S>> series;
+
+    /** 
+     * A flag that is set when a change event has been fired for added 
+     * values, and cleared when the event is delivered.
+     */
+    private transient AtomicBoolean changePending;
+
+    /**
+     * Creates a new (empty) dataset with the specified bins and a default 
+     * type of {@link HistogramType#FREQUENCY}.
+     *
+     * @param binning  the bins ({@code null} not permitted).
+     */
+    public StreamingHistogramDataset(HistogramBinning binning) {
+        Args.nullNotPermitted(binning, "binning");
+        this.binning = binning;
+        this.type = HistogramType.FREQUENCY;
+        this.series = new CopyOnWriteArrayList<>();
+        this.changePending = new AtomicBoolean();
+        setChangeCoalescer(new DatasetChangeCoalescer(
+                DEFAULT_CHANGE_INTERVAL));
+    }
+
+    /**
+     * Returns the bins used by the dataset.
+     *
+     * @return The bins (never {@code null}).
+     */
+    public HistogramBinning getBinning() {
+        return this.binning;
+    }
+
+    /**
+     * Returns the histogram type.
+     *
+     * @return The type (never {@code null}).
+     */
+    public HistogramType getType() {
+        return this.type;
+    }
+
+    /**
+     * Sets the histogram type and sends a {@link DatasetChangeEvent} to all
+     * registered listeners.
+     *
+     * @param type  the type ({@code null} not permitted).
+     */
+    public void setType(HistogramType type) {
+        Args.nullNotPermitted(type, "type");
+        this.type = type;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Adds a new (empty) series to the dataset and sends a 
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param key  the series key ({@code null} not permitted, must be 
+     *     unique within the dataset).
+     *
+     * @return The index of the new series.
+     */
+    public int addSeries(S key) {
+        Args.nullNotPermitted(key, "key");
+        int index;
+        synchronized (this.series) {
+            if (getSeriesIndex(key) >= 0) {
+                throw new IllegalArgumentException("Duplicate key: " + key);
+            }
+            this.series.add(new HistogramSeries<>(key, 
+                    this.binning.getBinCount()));
+            index = this.series.size() - 1;
+        }
+        fireDatasetChanged();
+        return index;
+    }
+
+    /**
+     * Adds a value to a series.  This method does not block, and can be 
+     * called from any thread.  {@code NaN} values are ignored.
+     *
+     * @param series  the series index (zero-based).
+     * @param value  the value.
+     */
+    public void add(int series, double value) {
+        add(series, value, 1);
+    }
+
+    /**
+     * Adds a value to a series a number of times (for example, to record
+     * a value that has been pre-aggregated).  This method does not block, 
+     * and can be called from any thread.  {@code NaN} values are ignored.
+     *
+     * @param series  the series index (zero-based).
+     * @param value  the value.
+     * @param count  the number of occurrences of the value (not negative).
+     */
+    public void add(int series, double value, long count) {
+        if (count < 0) {
+            throw new IllegalArgumentException(
+                    "Requires 'count' to be non-negative.");
+        }
+        HistogramSeries<S> s = this.series.get(series);
+        if (Double.isNaN(value) || count == 0) {
+            return;
+        }
+        s.add(this.binning.getBinIndex(value), count);
+        valuesChanged();
+    }
+
+    /**
+     * Adds an array of values to a series.  {@code NaN} values are ignored.
+     *
+     * @param series  the series index (zero-based).
+     * @param values  the values ({@code null} not permitted).
+     */
+    public void addAll(int series, double[] values) {
+        Args.nullNotPermitted(values, "values");
+        HistogramSeries<S> s = this.series.get(series);
+        boolean changed = false;
+        for (double value : values) {
+            if (!Double.isNaN(value)) {
+                s.add(this.binning.getBinIndex(value), 1);
+                changed = true;
+            }
+        }
+        if (changed) {
+            valuesChanged();
+        }
+    }
+
+    /**
+     * Adds the counts from another dataset to this dataset and sends a 
+     * {@link DatasetChangeEvent} to all registered listeners.  Series are
+     * matched by key, a series in {@code other} that is not in this dataset
+     * is added to it.  The other dataset can be updated while it is being
+     * merged, in which case the values added to it concurrently may or may 
+     * not be included.
+     *
+     * @param other  the other dataset ({@code null} not permitted, must 
+     *     have the same binning as this dataset).
+     */
+    public void merge(StreamingHistogramDataset<S> other) {
+        Args.nullNotPermitted(other, "other");
+        if (!this.binning.equals(other.binning)) {
+            throw new IllegalArgumentException("Requires the same binning.");
+        }
+        for (HistogramSeries<S> os : other.series) {
+            HistogramSeries<S> s;
+            synchronized (this.series) {
+                int index = getSeriesIndex(os.key);
+                if (index < 0) {
+                    s = new HistogramSeries<>(os.key, 
+                            this.binning.getBinCount());
+                    this.series.add(s);
+                } else {
+                    s = this.series.get(index);
+                }
+            }
+            s.merge(os);
+        }
+        fireDatasetChanged();
+    }
+
+    /**
+     * Resets all the counts to zero (the series are retained) and sends a 
+     * {@link DatasetChangeEvent} to all registered listeners.  Values that 
+     * are added concurrently may or may not be cleared.
+     */
+    public void clear() {
+        for (HistogramSeries<S> s : this.series) {
+            s.clear();
+        }
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the count for one bin in a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param bin  the bin index (zero-based).
+     *
+     * @return The count.
+     */
+    public long getCount(int series, int bin) {
+        return this.series.get(series).counts.get(bin);
+    }
+
+    /**
+     * Returns the number of values in a series that are less than the 
+     * lower bound of the first bin.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The count.
+     */
+    public long getUnderflowCount(int series) {
+        return this.series.get(series).underflow.get();
+    }
+
+    /**
+     * Returns the number of values in a series that are greater than or 
+     * equal to the upper bound of the last bin.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The count.
+     */
+    public long getOverflowCount(int series) {
+        return this.series.get(series).overflow.get();
+    }
+
+    /**
+     * Returns the total number of values in a series, including the values
+     * outside the bins.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The total.
+     */
+    public long getTotal(int series) {
+        return this.series.get(series).total.sum();
+    }
+
+    /**
+     * Returns the index of the series with the specified key.
+     *
+     * @param key  the series key ({@code null} permitted).
+     *
+     * @return The series index, or {@code -1} if there is no such series.
+     */
+    public int getSeriesIndex(S key) {
+        List<HistogramSeries<S>> list = this.series;
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i).key.equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of series in the dataset.
+     *
+     * @return The series count.
+     */
+    @Override
+    public int getSeriesCount() {
+        return this.series.size();
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The series key.
+     */
+    @Override
+    public S getSeriesKey(int series) {
+        return this.series.get(series).key;
+    }
+
+    /**
+     * Returns the number of items (bins) in a series.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount(int series) {
+        return this.binning.getBinCount();
+    }
+
+    /**
+     * Returns the x-value for a bin (the middle of the bin).
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        return (this.binning.getBinStart(item) 
+                + this.binning.getBinEnd(item)) / 2.0;
+    }
+
+    /**
+     * Returns the x-value for a bin (the middle of the bin).
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public Number getX(int series, int item) {
+        return getXValue(series, item);
+    }
+
+    /**
+     * Returns the y-value for a bin, calculated according to the histogram
+     * type.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value.
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        HistogramSeries<S> s = this.series.get(series);
+        double count = s.counts.get(item);
+        if (this.type == HistogramType.FREQUENCY) {
+            return count;
+        }
+        long total = s.total.sum();
+        if (total == 0) {
+            return 0.0;
+        }
+        if (this.type == HistogramType.RELATIVE_FREQUENCY) {
+            return count / total;
+        }
+        else if (this.type == HistogramType.SCALE_AREA_TO_1) {
+            double binWidth = this.binning.getBinEnd(item) 
+                    - this.binning.getBinStart(item);
+            return count / (binWidth * total);
+        }
+        else { // pretty sure this shouldn't ever happen
+            throw new IllegalStateException();
+        }
+    }
+
+    /**
+     * Returns the y-value for a bin, calculated according to the histogram
+     * type.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value.
+     */
+    @Override
+    public Number getY(int series, int item) {
+        return getYValue(series, item);
+    }
+
+    /**
+     * Returns the start x-value (the lower bound) for a bin.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The start x-value.
+     */
+    @Override
+    public double getStartXValue(int series, int item) {
+        return this.binning.getBinStart(item);
+    }
+
+    /**
+     * Returns the start x-value (the lower bound) for a bin.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The start x-value.
+     */
+    @Override
+    public Number getStartX(int series, int item) {
+        return getStartXValue(series, item);
+    }
+
+    /**
+     * Returns the end x-value (the upper bound) for a bin.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The end x-value.
+     */
+    @Override
+    public double getEndXValue(int series, int item) {
+        return this.binning.getBinEnd(item);
+    }
+
+    /**
+     * Returns the end x-value (the upper bound) for a bin.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The end x-value.
+     */
+    @Override
+    public Number getEndX(int series, int item) {
+        return getEndXValue(series, item);
+    }
+
+    /**
+     * Returns the start y-value for a bin (which is the same as the y-value).
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The start y-value.
+     */
+    @Override
+    public Number getStartY(int series, int item) {
+        return getY(series, item);
+    }
+
+    /**
+     * Returns the end y-value for a bin (which is the same as the y-value).
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The end y-value.
+     */
+    @Override
+    public Number getEndY(int series, int item) {
+        return getY(series, item);
+    }
+
+    /**
+     * Fires a change event for added values, unless an event has already
+     * been fired and not yet delivered.
+     */
+    private void valuesChanged() {
+        if (getNotify() && this.changePending.compareAndSet(false, true)) {
+            fireDatasetChanged();
+        }
+    }
+
+    /**
+     * Clears the pending flag (so that the next value added fires a new 
+     * event) and then sends the event to all registered listeners.
+     *
+     * @param event  the event.
+     */
+    @Override
+    protected void deliverDatasetChanged(DatasetChangeEvent event) {
+        this.changePending.set(false);
+        super.deliverDatasetChanged(event);
+    }
+
+    /**
+     * Tests this dataset for equality with an arbitrary object.
+     *
+     * @param obj  the object to test against ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof StreamingHistogramDataset)) {
+            return false;
+        }
+        StreamingHistogramDataset<?> that = (StreamingHistogramDataset<?>) obj;
+        if (!this.binning.equals(that.binning)) {
+            return false;
+        }
+        if (!Objects.equals(this.type, that.type)) {
+            return false;
+        }
+        if (!Objects.equals(this.series, that.series)) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 5;
+        hash = 41 * hash + this.binning.hashCode();
+        hash = 41 * hash + Objects.hashCode(this.type);
+        hash = 41 * hash + this.series.size();
+        return hash;
+    }
+
+    /**
+     * Returns a clone of the dataset.  The counts are copied, so the clone
+     * is independent of this dataset, and the clone has a new default
+     * coalescer.
+     *
+     * @return A clone of the dataset.
+     *
+     * @throws CloneNotSupportedException if the object cannot be cloned.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        @SuppressWarnings("unchecked")
+        StreamingHistogramDataset<S> clone 
+                = (StreamingHistogramDataset<S>) super.clone();
+        clone.series = new CopyOnWriteArrayList<>();
+        for (HistogramSeries<S> s : this.series) {
+            HistogramSeries<S> copy = new HistogramSeries<>(s.key, 
+                    this.binning.getBinCount());
+            copy.merge(s);
+            clone.series.add(copy);
+        }
+        clone.changePending = new AtomicBoolean();
+        clone.setChangeCoalescer(new DatasetChangeCoalescer(
+                DEFAULT_CHANGE_INTERVAL));
+        return clone;
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.changePending = new AtomicBoolean();
+        setChangeCoalescer(new DatasetChangeCoalescer(
+                DEFAULT_CHANGE_INTERVAL));
+    }
+
+    /**
+     * The counts for one series.
+     *
+     * @param <S> the series key type.
+     */
+    private static final class HistogramSeries<S> implements Serializable {
+
+        /** For serialization. */
+        private static final long serialVersionUID = -1091768274368770474L;
+
+        /** The series key. */
+        final S key;
+
+        /** The count for each bin. */
+        final AtomicLongArray counts;
+
+        /** The number of values below the first bin. */
+        final AtomicLong underflow;
+
+        /** The number of values above the last bin. */
+        final AtomicLong overflow;
+
+        /** The total number of values. */
+        final LongAdder total;
+
+        /**
+         * Creates a new series with all counts zero.
+         *
+         * @param key  the series key.
+         * @param binCount  the number of bins.
+         */
+        HistogramSeries(S key, int binCount) {
+            this.key = key;
+            this.counts = new AtomicLongArray(binCount);
+            this.underflow = new AtomicLong();
+            this.overflow = new AtomicLong();
+            this.total = new LongAdder();
+        }
+
+        /**
+         * Adds to the count for a bin.
+         *
+         * @param bin  the bin index ({@code -1} for underflow, the bin count
+         *     for overflow).
+         * @param count  the count.
+         */
+        void add(int bin, long count) {
+            if (bin < 0) {
+                this.underflow.addAndGet(count);
+            } else if (bin >= this.counts.length()) {
+                this.overflow.addAndGet(count);
+            } else {
+                this.counts.addAndGet(bin, count);
+            }
+            this.total.add(count);
+        }
+
+        /**
+         * Adds the counts from another series with the same number of bins.
+         *
+         * @param other  the other series.
+         */
+        void merge(HistogramSeries<?> other) {
+            long sum = 0;
+            for (int i = 0; i < this.counts.length(); i++) {
+                long c = other.counts.get(i);
+                if (c != 0) {
+                    this.counts.addAndGet(i, c);
+                    sum += c;
+                }
+            }
+            long u = other.underflow.get();
+            long o = other.overflow.get();
+            this.underflow.addAndGet(u);
+            this.overflow.addAndGet(o);
+            this.total.add(sum + u + o);
+        }
+
+        /**
+         * Resets all the counts to zero.
+         */
+        void clear() {
+            long sum = 0;
+            for (int i = 0; i < this.counts.length(); i++) {
+                sum += this.counts.getAndSet(i, 0L);
+            }
+            sum += this.underflow.getAndSet(0L);
+            sum += this.overflow.getAndSet(0L);
+            this.total.add(-sum);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof HistogramSeries)) {
+                return false;
+            }
+            HistogramSeries<?> that = (HistogramSeries<?>) obj;
+            if (!Objects.equals(this.key, that.key)) {
+                return false;
+            }
+            if (this.counts.length() != that.counts.length()) {
+                return false;
+            }
+            for (int i = 0; i < this.counts.length(); i++) {
+                if (this.counts.get(i) != that.counts.get(i)) {
+                    return false;
+                }
+            }
+            return this.underflow.get() == that.underflow.get()
+                    && this.overflow.get() == that.overflow.get();
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(this.key);
+        }
+
+    }
+
+}
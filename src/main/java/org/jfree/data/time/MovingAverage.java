@@ -42,7 +42,10 @@ import org.jfree.data.xy.XYSeries;
 import org.jfree.data.xy.XYSeriesCollection;
 
 /**
- * A utility class for calculating moving averages of time series data.
+ * A utility class for calculating moving averages of time series data.  The
+ * methods in this class create a new series each time they are called, see
+ * {@link org.jfree.data.xy.RollingStatisticsDataset} for a dataset that 
+ * keeps a moving average up to date as items are added to the source.
  */
 public class MovingAverage {
 
@@ -0,0 +1,627 @@
+/* ======================================================
+ * JFreeChart : a chart library for the Java(tm) platform
+ * ======================================================
+ *
+ * (C) Copyright 2000-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * RingBufferTimeSeries.java
+ * -------------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.io.Serializable;
+
+import org.jfree.chart.internal.Args;
+import org.jfree.data.Range;
+import org.jfree.data.general.Series;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesException;
+
+/**
+ * A fixed-capacity time series intended for streaming data.  The items are
+ * held in a ring buffer of primitive values (the first and last millisecond
+ * of each time period, plus a {@code double} y-value), so that appending a
+ * new item and discarding the oldest item are both O(1) operations.  The
+ * minimum and maximum y-values are maintained with a pair of monotonic
+ * queues, so {@link #getMinY()} and {@link #getMaxY()} never require a scan
+ * of the data, even as old items are discarded.
+ * <p>
+ * Items must be added in time order (a new item cannot start before the
+ * last item in the series).  When the series is full, adding an item
+ * discards the oldest item.  Items can also be discarded on the basis of
+ * their age, see {@link #setMaximumItemAge(long)}.  Missing y-values are
+ * represented by {@code Double.NaN}.
+ * <p>
+ * Use a {@link RingBufferTimeSeriesCollection} to present one or more of
+ * these series as a dataset.
+ *
+ * @param <K> the series key type.
+ */
+public class RingBufferTimeSeries<K extends Comparable<K>> extends Series<K>
+        implements Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -2453781593047739431L;
+
+    /** The first millisecond of each time period (indexed by slot). */
+    private long[] firstMillis;
+
+    /** The last millisecond of each time period (indexed by slot). */
+    private long[] lastMillis;
+
+    /** The y-values (indexed by slot). */
+    private double[] values;
+
+    /** The sequence number of the oldest item in the series. */
+    private long head;
+
+    /** The number of items in the series. */
+    private int count;
+
+    /**
+     * The maximum age (in milliseconds, relative to the start of the newest
+     * item) of the items retained in the series.
+     */
+    private long maximumItemAge;
+
+    /**
+     * Sequence numbers of candidate maximum y-values, in order of arrival
+     * with strictly decreasing values (the front is the current maximum).
+     */
+    private long[] maxQueue;
+
+    /** The index of the front of the max queue. */
+    private int maxQueueHead;
+
+    /** The number of entries in the max queue. */
+    private int maxQueueSize;
+
+    /**
+     * Sequence numbers of candidate minimum y-values, in order of arrival
+     * with strictly increasing values (the front is the current minimum).
+     */
+    private long[] minQueue;
+
+    /** The index of the front of the min queue. */
+    private int minQueueHead;
+
+    /** The number of entries in the min queue. */
+    private int minQueueSize;
+
+    /**
+     * Creates a new empty series that can hold up to {@code capacity} items.
+     *
+     * @param key  the series key ({@code null} not permitted).
+     * @param capacity  the maximum number of items (must be positive).
+     */
+    public RingBufferTimeSeries(K key, int capacity) {
+        super(key);
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Requires 'capacity' > 0.");
+        }
+        this.firstMillis = new long[capacity];
+        this.lastMillis = new long[capacity];
+        this.values = new double[capacity];
+        this.maxQueue = new long[capacity];
+        this.minQueue = new long[capacity];
+        this.maximumItemAge = Long.MAX_VALUE;
+    }
+
+    /**
+     * Returns the maximum number of items that the series can hold.
+     *
+     * @return The capacity.
+     */
+    public int getCapacity() {
+        return this.values.length;
+    }
+
+    /**
+     * Returns the number of items in the series.
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns the maximum age (in milliseconds) of the items retained in the
+     * series.  The default value is {@code Long.MAX_VALUE}.
+     *
+     * @return The maximum item age.
+     *
+     * @see #setMaximumItemAge(long)
+     */
+    public long getMaximumItemAge() {
+        return this.maximumItemAge;
+    }
+
+    /**
+     * Sets the maximum age (in milliseconds) of the items retained in the
+     * series.  Whenever an item is added, any item that starts more than
+     * this number of milliseconds before the start of the newest item is
+     * discarded.  If this causes items to be removed immediately, a
+     * {@link SeriesChangeEvent} is sent to all registered listeners.
+     *
+     * @param millis  the maximum age (must be non-negative).
+     */
+    public void setMaximumItemAge(long millis) {
+        if (millis < 0) {
+            throw new IllegalArgumentException("Negative 'millis' argument.");
+        }
+        this.maximumItemAge = millis;
+        if (removeAgedItems()) {
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Adds a value for the specified time period and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.  The period's
+     * first and last millisecond are computed using its pegged calendar.
+     *
+     * @param period  the time period ({@code null} not permitted).
+     * @param value  the value ({@code Double.NaN} for a missing value).
+     */
+    public void add(RegularTimePeriod period, double value) {
+        add(period, value, true);
+    }
+
+    /**
+     * Adds a value for the specified time period and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param period  the time period ({@code null} not permitted).
+     * @param value  the value ({@code Double.NaN} for a missing value).
+     * @param notify  notify listeners?
+     */
+    public void add(RegularTimePeriod period, double value, boolean notify) {
+        Args.nullNotPermitted(period, "period");
+        add(period.getFirstMillisecond(), period.getLastMillisecond(), value,
+                notify);
+    }
+
+    /**
+     * Adds a value for the specified instant (in milliseconds since the
+     * epoch) and sends a {@link SeriesChangeEvent} to all registered
+     * listeners.
+     *
+     * @param millis  the time.
+     * @param value  the value ({@code Double.NaN} for a missing value).
+     */
+    public void add(long millis, double value) {
+        add(millis, millis, value, true);
+    }
+
+    /**
+     * Adds a value for the specified instant (in milliseconds since the
+     * epoch) and, if requested, sends a {@link SeriesChangeEvent} to all
+     * registered listeners.
+     *
+     * @param millis  the time.
+     * @param value  the value ({@code Double.NaN} for a missing value).
+     * @param notify  notify listeners?
+     */
+    public void add(long millis, double value, boolean notify) {
+        add(millis, millis, value, notify);
+    }
+
+    /**
+     * Adds a value for the time period defined by the specified first and
+     * last millisecond and, if requested, sends a {@link SeriesChangeEvent}
+     * to all registered listeners.  If the series is full, the oldest item
+     * is discarded.
+     *
+     * @param first  the first millisecond of the time period.
+     * @param last  the last millisecond of the time period.
+     * @param value  the value ({@code Double.NaN} for a missing value).
+     * @param notify  notify listeners?
+     *
+     * @throws SeriesException if the time period starts before the last
+     *     item in the series.
+     */
+    public void add(long first, long last, double value, boolean notify) {
+        if (last < first) {
+            throw new IllegalArgumentException("Requires 'first' <= 'last'.");
+        }
+        if (this.count > 0 && first < getFirstMillisecond(this.count - 1)) {
+            throw new SeriesException("Items must be added in time order.");
+        }
+        int capacity = this.values.length;
+        if (this.count == capacity) {
+            removeOldest();
+        }
+        long seq = this.head + this.count;
+        int slot = (int) (seq % capacity);
+        this.firstMillis[slot] = first;
+        this.lastMillis[slot] = last;
+        this.values[slot] = value;
+        this.count++;
+        if (!Double.isNaN(value)) {
+            offerMax(seq, value);
+            offerMin(seq, value);
+        }
+        removeAgedItems();
+        if (notify) {
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Removes all items from the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     */
+    public void clear() {
+        if (this.count > 0) {
+            this.head += this.count;
+            this.count = 0;
+            this.maxQueueSize = 0;
+            this.minQueueSize = 0;
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Returns the first millisecond of the time period for an item.
+     *
+     * @param index  the item index (zero-based, 0 is the oldest item).
+     *
+     * @return The first millisecond.
+     */
+    public long getFirstMillisecond(int index) {
+        return this.firstMillis[slot(index)];
+    }
+
+    /**
+     * Returns the last millisecond of the time period for an item.
+     *
+     * @param index  the item index (zero-based, 0 is the oldest item).
+     *
+     * @return The last millisecond.
+     */
+    public long getLastMillisecond(int index) {
+        return this.lastMillis[slot(index)];
+    }
+
+    /**
+     * Returns the millisecond for an item at the specified anchor point.
+     *
+     * @param index  the item index (zero-based, 0 is the oldest item).
+     * @param anchor  the anchor ({@code null} not permitted).
+     *
+     * @return The millisecond.
+     */
+    public long getMillisecond(int index, TimePeriodAnchor anchor) {
+        int slot = slot(index);
+        long m1 = this.firstMillis[slot];
+        switch (anchor) {
+            case START:
+                return m1;
+            case MIDDLE:
+                return m1 + (this.lastMillis[slot] - m1) / 2;
+            case END:
+                return this.lastMillis[slot];
+            default:
+                throw new IllegalStateException("Unrecognised anchor: "
+                        + anchor);
+        }
+    }
+
+    /**
+     * Returns the value for an item.
+     *
+     * @param index  the item index (zero-based, 0 is the oldest item).
+     *
+     * @return The value (possibly {@code Double.NaN}).
+     */
+    public double getValue(int index) {
+        return this.values[slot(index)];
+    }
+
+    /**
+     * Returns the smallest y-value in the series, ignoring any Double.NaN
+     * values.  This method returns Double.NaN if there is no smallest y-value
+     * (for example, when the series is empty).  This is an O(1) operation.
+     *
+     * @return The smallest y-value.
+     */
+    public double getMinY() {
+        if (this.minQueueSize == 0) {
+            return Double.NaN;
+        }
+        return valueForSequence(this.minQueue[this.minQueueHead]);
+    }
+
+    /**
+     * Returns the largest y-value in the series, ignoring any Double.NaN
+     * values.  This method returns Double.NaN if there is no largest y-value
+     * (for example, when the series is empty).  This is an O(1) operation.
+     *
+     * @return The largest y-value.
+     */
+    public double getMaxY() {
+        if (this.maxQueueSize == 0) {
+            return Double.NaN;
+        }
+        return valueForSequence(this.maxQueue[this.maxQueueHead]);
+    }
+
+    /**
+     * Returns the index of the first item with a millisecond (at the
+     * specified anchor point) greater than or equal to {@code millis}.  The
+     * result is {@code getItemCount()} if there is no such item.
+     *
+     * @param millis  the time.
+     * @param anchor  the anchor ({@code null} not permitted).
+     *
+     * @return The index.
+     */
+    public int findLowerIndex(double millis, TimePeriodAnchor anchor) {
+        int low = 0;
+        int high = this.count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (getMillisecond(mid, anchor) < millis) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the range of y-values for the items with a millisecond (at the
+     * specified anchor point) that falls within {@code xRange}.  The items
+     * are located with a binary search, so only the items in the range are
+     * examined.
+     *
+     * @param xRange  the x-range ({@code null} not permitted).
+     * @param anchor  the anchor ({@code null} not permitted).
+     *
+     * @return The range of y-values, or {@code null} if no item in the
+     *     x-range has a y-value.
+     */
+    public Range findValueRange(Range xRange, TimePeriodAnchor anchor) {
+        Args.nullNotPermitted(xRange, "xRange");
+        Args.nullNotPermitted(anchor, "anchor");
+        double low = Double.POSITIVE_INFINITY;
+        double high = Double.NEGATIVE_INFINITY;
+        int start = findLowerIndex(xRange.getLowerBound(), anchor);
+        for (int i = start; i < this.count; i++) {
+            if (getMillisecond(i, anchor) > xRange.getUpperBound()) {
+                break;
+            }
+            double v = getValue(i);
+            if (!Double.isNaN(v)) {
+                low = Math.min(low, v);
+                high = Math.max(high, v);
+            }
+        }
+        if (low > high) {
+            return null;
+        }
+        return new Range(low, high);
+    }
+
+    /**
+     * Returns the buffer slot for an item index.
+     *
+     * @param index  the item index.
+     *
+     * @return The slot.
+     */
+    private int slot(int index) {
+        Args.requireInRange(index, "index", 0, this.count - 1);
+        return (int) ((this.head + index) % this.values.length);
+    }
+
+    /**
+     * Returns the y-value for a sequence number (the item must be in the
+     * buffer).
+     *
+     * @param seq  the sequence number.
+     *
+     * @return The value.
+     */
+    private double valueForSequence(long seq) {
+        return this.values[(int) (seq % this.values.length)];
+    }
+
+    /**
+     * Discards the oldest item in the series, updating the min/max queues.
+     */
+    private void removeOldest() {
+        long seq = this.head;
+        if (this.maxQueueSize > 0 && this.maxQueue[this.maxQueueHead] == seq) {
+            this.maxQueueHead = (this.maxQueueHead + 1) % this.maxQueue.length;
+            this.maxQueueSize--;
+        }
+        if (this.minQueueSize > 0 && this.minQueue[this.minQueueHead] == seq) {
+            this.minQueueHead = (this.minQueueHead + 1) % this.minQueue.length;
+            this.minQueueSize--;
+        }
+        this.head++;
+        this.count--;
+    }
+
+    /**
+     * Discards items that are older than the maximum item age.
+     *
+     * @return A boolean indicating whether any items were removed.
+     */
+    private boolean removeAgedItems() {
+        if (this.count == 0 || this.maximumItemAge == Long.MAX_VALUE) {
+            return false;
+        }
+        long latest = getFirstMillisecond(this.count - 1);
+        boolean removed = false;
+        while (this.count > 0
+                && latest - getFirstMillisecond(0) > this.maximumItemAge) {
+            removeOldest();
+            removed = true;
+        }
+        return removed;
+    }
+
+    /**
+     * Adds a new item to the back of the max queue, first discarding any
+     * entries with a value that is less than or equal to the new value
+     * (those entries can never be the maximum again).
+     *
+     * @param seq  the sequence number of the new item.
+     * @param value  the value (not NaN).
+     */
+    private void offerMax(long seq, double value) {
+        int capacity = this.maxQueue.length;
+        while (this.maxQueueSize > 0) {
+            int tail = (this.maxQueueHead + this.maxQueueSize - 1) % capacity;
+            if (valueForSequence(this.maxQueue[tail]) > value) {
+                break;
+            }
+            this.maxQueueSize--;
+        }
+        this.maxQueue[(this.maxQueueHead + this.maxQueueSize) % capacity]
+                = seq;
+        this.maxQueueSize++;
+    }
+
+    /**
+     * Adds a new item to the back of the min queue, first discarding any
+     * entries with a value that is greater than or equal to the new value
+     * (those entries can never be the minimum again).
+     *
+     * @param seq  the sequence number of the new item.
+     * @param value  the value (not NaN).
+     */
+    private void offerMin(long seq, double value) {
+        int capacity = this.minQueue.length;
+        while (this.minQueueSize > 0) {
+            int tail = (this.minQueueHead + this.minQueueSize - 1) % capacity;
+            if (valueForSequence(this.minQueue[tail]) < value) {
+                break;
+            }
+            this.minQueueSize--;
+        }
+        this.minQueue[(this.minQueueHead + this.minQueueSize) % capacity]
+                = seq;
+        this.minQueueSize++;
+    }
+
+    /**
+     * Returns a clone of the series.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object clone() throws CloneNotSupportedException {
+        RingBufferTimeSeries<K> clone = (RingBufferTimeSeries) super.clone();
+        clone.firstMillis = this.firstMillis.clone();
+        clone.lastMillis = this.lastMillis.clone();
+        clone.values = this.values.clone();
+        clone.maxQueue = this.maxQueue.clone();
+        clone.minQueue = this.minQueue.clone();
+        return clone;
+    }
+
+    /**
+     * Tests this series for equality with an arbitrary object.  Two series
+     * are considered equal if they have the same key, capacity, maximum item
+     * age and items (the position of the items within the ring buffer is
+     * not significant).
+     *
+     * @param obj  the object ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof RingBufferTimeSeries)) {
+            return false;
+        }
+        if (!super.equals(obj)) {
+            return false;
+        }
+        RingBufferTimeSeries<?> that = (RingBufferTimeSeries) obj;
+        if (getCapacity() != that.getCapacity()) {
+            return false;
+        }
+        if (this.maximumItemAge != that.maximumItemAge) {
+            return false;
+        }
+        if (this.count != that.count) {
+            return false;
+        }
+        for (int i = 0; i < this.count; i++) {
+            if (getFirstMillisecond(i) != that.getFirstMillisecond(i)) {
+                return false;
+            }
+            if (getLastMillisecond(i) != that.getLastMillisecond(i)) {
+                return false;
+            }
+            if (Double.doubleToLongBits(getValue(i))
+                    != Double.doubleToLongBits(that.getValue(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int result = super.hashCode();
+        // it is too slow to look at every data item, so let's just look at
+        // the first and last items...
+        if (this.count > 0) {
+            result = 29 * result + Long.hashCode(getFirstMillisecond(0));
+            result = 29 * result + Double.hashCode(getValue(0));
+            result = 29 * result + Long.hashCode(
+                    getFirstMillisecond(this.count - 1));
+            result = 29 * result + Double.hashCode(getValue(this.count - 1));
+        }
+        result = 29 * result + getCapacity();
+        result = 29 * result + Long.hashCode(this.maximumItemAge);
+        return result;
+    }
+
+}
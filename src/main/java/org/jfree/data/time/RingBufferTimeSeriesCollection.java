@@ -0,0 +1,683 @@
+/* ======================================================
+ * JFreeChart : a chart library for the Java(tm) platform
+ * ======================================================
+ *
+ * (C) Copyright 2000-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------------------
+ * RingBufferTimeSeriesCollection.java
+ * -----------------------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.jfree.chart.api.PublicCloneable;
+import org.jfree.chart.internal.Args;
+import org.jfree.chart.internal.CloneUtils;
+import org.jfree.data.DomainInfo;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
+import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.xy.AbstractIntervalXYDataset;
+import org.jfree.data.xy.IntervalXYDataset;
+import org.jfree.data.xy.XYDomainInfo;
+import org.jfree.data.xy.XYRangeInfo;
+
+/**
+ * A collection of {@link RingBufferTimeSeries} objects that can be used as a
+ * dataset.  Like {@link TimeSeriesCollection}, the x-values are milliseconds
+ * since the epoch (taken from the start, middle or end of each time period
+ * according to the {@code xPosition} attribute) and the start and end
+ * x-values are the first and last millisecond of each period.  Because the
+ * series store the milliseconds directly, no calendar calculations (and no
+ * synchronization) are required to read the x-values, and the bounds of the
+ * data are available without iterating over the items.
+ *
+ * @param <S> the series key type.
+ */
+public class RingBufferTimeSeriesCollection<S extends Comparable<S>>
+        extends AbstractIntervalXYDataset<S>
+        implements IntervalXYDataset<S>, DomainInfo, RangeInfo,
+        XYDomainInfo<S>, XYRangeInfo, PublicCloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 6291482015739364570L;
+
+    /** Storage for the series. */
+    private List<RingBufferTimeSeries<S>> data;
+
+    /**
+     * The point within each time period that is used for the x-value.  This
+     * can be the start, middle or end of the time period.
+     */
+    private TimePeriodAnchor xPosition;
+
+    /**
+     * Creates a new empty dataset.
+     */
+    public RingBufferTimeSeriesCollection() {
+        this(null);
+    }
+
+    /**
+     * Creates a new dataset containing a single series (more can be added).
+     *
+     * @param series  the series ({@code null} permitted).
+     */
+    public RingBufferTimeSeriesCollection(RingBufferTimeSeries<S> series) {
+        super();
+        this.data = new ArrayList<>();
+        if (series != null) {
+            this.data.add(series);
+            series.addChangeListener(this);
+        }
+        this.xPosition = TimePeriodAnchor.START;
+    }
+
+    /**
+     * Returns the order of the domain values in this dataset.
+     *
+     * @return {@link DomainOrder#ASCENDING}
+     */
+    @Override
+    public DomainOrder getDomainOrder() {
+        return DomainOrder.ASCENDING;
+    }
+
+    /**
+     * Returns the position within each time period that is used for the X
+     * value when the collection is used as an
+     * {@link org.jfree.data.xy.XYDataset}.
+     *
+     * @return The anchor position (never {@code null}).
+     */
+    public TimePeriodAnchor getXPosition() {
+        return this.xPosition;
+    }
+
+    /**
+     * Sets the position within each time period that is used for the X values
+     * when the collection is used as an {@link org.jfree.data.xy.XYDataset},
+     * then sends a {@link DatasetChangeEvent} to all registered
+     * listeners.
+     *
+     * @param anchor  the anchor position ({@code null} not permitted).
+     */
+    public void setXPosition(TimePeriodAnchor anchor) {
+        Args.nullNotPermitted(anchor, "anchor");
+        this.xPosition = anchor;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns an unmodifiable list of all the series in the collection.
+     *
+     * @return The list (never {@code null}).
+     */
+    public List<RingBufferTimeSeries<S>> getSeries() {
+        return Collections.unmodifiableList(this.data);
+    }
+
+    /**
+     * Returns the number of series in the collection.
+     *
+     * @return The series count.
+     */
+    @Override
+    public int getSeriesCount() {
+        return this.data.size();
+    }
+
+    /**
+     * Returns a series.
+     *
+     * @param series  the index of the series (zero-based).
+     *
+     * @return The series.
+     */
+    public RingBufferTimeSeries<S> getSeries(int series) {
+        Args.requireInRange(series, "series", 0, this.data.size() - 1);
+        return this.data.get(series);
+    }
+
+    /**
+     * Returns the series with the specified key.
+     *
+     * @param key  the series key ({@code null} not permitted).
+     *
+     * @return The series with the matching key.
+     *
+     * @throws UnknownKeyException if {@code key} is not found in the
+     *         collection.
+     */
+    public RingBufferTimeSeries<S> getSeries(S key) {
+        Args.nullNotPermitted(key, "key");
+        for (RingBufferTimeSeries<S> series : this.data) {
+            if (key.equals(series.getKey())) {
+                return series;
+            }
+        }
+        throw new UnknownKeyException("Key not found: " + key);
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the index of the series (zero-based).
+     *
+     * @return The key for a series.
+     */
+    @Override
+    public S getSeriesKey(int series) {
+        // check arguments...delegated
+        return getSeries(series).getKey();
+    }
+
+    /**
+     * Returns the index of the series with the specified key, or -1 if no
+     * series has that key.
+     *
+     * @param key  the key ({@code null} not permitted).
+     *
+     * @return The index.
+     */
+    public int getSeriesIndex(S key) {
+        Args.nullNotPermitted(key, "key");
+        int seriesCount = getSeriesCount();
+        for (int i = 0; i < seriesCount; i++) {
+            if (key.equals(this.data.get(i).getKey())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Adds a series to the collection and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.
+     *
+     * @param series  the series ({@code null} not permitted).
+     *
+     * @throws IllegalArgumentException if the key for the series is not
+     *     unique within the dataset.
+     */
+    public void addSeries(RingBufferTimeSeries<S> series) {
+        Args.nullNotPermitted(series, "series");
+        if (getSeriesIndex(series.getKey()) >= 0) {
+            throw new IllegalArgumentException(
+                "This dataset already contains a series with the key "
+                + series.getKey());
+        }
+        this.data.add(series);
+        series.addChangeListener(this);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes the specified series from the collection and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param series  the series ({@code null} not permitted).
+     */
+    public void removeSeries(RingBufferTimeSeries<S> series) {
+        Args.nullNotPermitted(series, "series");
+        if (this.data.remove(series)) {
+            series.removeChangeListener(this);
+            fireDatasetChanged();
+        }
+    }
+
+    /**
+     * Removes a series from the collection and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param index  the series index (zero-based).
+     */
+    public void removeSeries(int index) {
+        removeSeries(getSeries(index));
+    }
+
+    /**
+     * Removes all the series from the collection and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     */
+    public void removeAllSeries() {
+        for (RingBufferTimeSeries<S> series : this.data) {
+            series.removeChangeListener(this);
+        }
+        this.data.clear();
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the number of items in the specified series.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount(int series) {
+        return getSeries(series).getItemCount();
+    }
+
+    /**
+     * Returns the x-value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        return this.data.get(series).getMillisecond(item, this.xPosition);
+    }
+
+    /**
+     * Returns the x-value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value.
+     */
+    @Override
+    public Number getX(int series, int item) {
+        return this.data.get(series).getMillisecond(item, this.xPosition);
+    }
+
+    /**
+     * Returns the starting x-value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value.
+     */
+    @Override
+    public double getStartXValue(int series, int item) {
+        return this.data.get(series).getFirstMillisecond(item);
+    }
+
+    /**
+     * Returns the starting x-value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value.
+     */
+    @Override
+    public Number getStartX(int series, int item) {
+        return this.data.get(series).getFirstMillisecond(item);
+    }
+
+    /**
+     * Returns the ending x-value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value.
+     */
+    @Override
+    public double getEndXValue(int series, int item) {
+        return this.data.get(series).getLastMillisecond(item);
+    }
+
+    /**
+     * Returns the ending x-value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value.
+     */
+    @Override
+    public Number getEndX(int series, int item) {
+        return this.data.get(series).getLastMillisecond(item);
+    }
+
+    /**
+     * Returns the y-value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value (possibly {@code Double.NaN}).
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        return this.data.get(series).getValue(item);
+    }
+
+    /**
+     * Returns the y-value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value (never {@code null}, missing values are represented
+     *     by {@code Double.NaN}).
+     */
+    @Override
+    public Number getY(int series, int item) {
+        return this.data.get(series).getValue(item);
+    }
+
+    /**
+     * Returns the starting y-value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value.
+     */
+    @Override
+    public double getStartYValue(int series, int item) {
+        return getYValue(series, item);
+    }
+
+    /**
+     * Returns the starting y-value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value.
+     */
+    @Override
+    public Number getStartY(int series, int item) {
+        return getY(series, item);
+    }
+
+    /**
+     * Returns the ending y-value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value.
+     */
+    @Override
+    public double getEndYValue(int series, int item) {
+        return getYValue(series, item);
+    }
+
+    /**
+     * Returns the ending y-value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value.
+     */
+    @Override
+    public Number getEndY(int series, int item) {
+        return getY(series, item);
+    }
+
+    /**
+     * Returns the minimum x-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether the
+     *                         x-interval is taken into account.
+     *
+     * @return The minimum value.
+     */
+    @Override
+    public double getDomainLowerBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return (r != null ? r.getLowerBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the maximum x-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether the
+     *                         x-interval is taken into account.
+     *
+     * @return The maximum value.
+     */
+    @Override
+    public double getDomainUpperBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return (r != null ? r.getUpperBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the range of the values in this dataset's domain.  Since the
+     * items in each series are ordered, only the first and last item in each
+     * series are examined.
+     *
+     * @param includeInterval  a flag that determines whether the
+     *                         x-interval is taken into account.
+     *
+     * @return The range (possibly {@code null}).
+     */
+    @Override
+    public Range getDomainBounds(boolean includeInterval) {
+        Range result = null;
+        for (RingBufferTimeSeries<S> series : this.data) {
+            result = Range.combine(result,
+                    seriesDomainBounds(series, includeInterval));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the bounds of the domain values for the specified series.
+     *
+     * @param visibleSeriesKeys  a list of keys for the visible series.
+     * @param includeInterval  include the x-interval?
+     *
+     * @return A range (possibly {@code null}).
+     */
+    @Override
+    public Range getDomainBounds(List<S> visibleSeriesKeys,
+            boolean includeInterval) {
+        Range result = null;
+        for (S key : visibleSeriesKeys) {
+            result = Range.combine(result,
+                    seriesDomainBounds(getSeries(key), includeInterval));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the domain bounds for one series.
+     *
+     * @param series  the series.
+     * @param includeInterval  include the x-interval?
+     *
+     * @return The range, or {@code null} if the series is empty.
+     */
+    private Range seriesDomainBounds(RingBufferTimeSeries<S> series,
+            boolean includeInterval) {
+        int count = series.getItemCount();
+        if (count == 0) {
+            return null;
+        }
+        if (includeInterval) {
+            return new Range(series.getFirstMillisecond(0),
+                    series.getLastMillisecond(count - 1));
+        }
+        return new Range(series.getMillisecond(0, this.xPosition),
+                series.getMillisecond(count - 1, this.xPosition));
+    }
+
+    /**
+     * Returns the minimum y-value in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The minimum value.
+     */
+    @Override
+    public double getRangeLowerBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return (r != null ? r.getLowerBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the maximum y-value in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The maximum value.
+     */
+    @Override
+    public double getRangeUpperBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return (r != null ? r.getUpperBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the bounds for the y-values in the dataset.  The minimum and
+     * maximum values are maintained by each series, so this is an O(1)
+     * operation per series.
+     *
+     * @param includeInterval  ignored for this dataset.
+     *
+     * @return The range of values in the dataset (possibly {@code null}).
+     */
+    @Override
+    public Range getRangeBounds(boolean includeInterval) {
+        Range result = null;
+        for (RingBufferTimeSeries<S> series : this.data) {
+            Range r = new Range(series.getMinY(), series.getMaxY());
+            result = Range.combineIgnoringNaN(result, r);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the bounds for the y-values of the items in the visible series
+     * that fall within the specified x-range.
+     *
+     * @param visibleSeriesKeys  the visible series keys.
+     * @param xRange  the x-range ({@code null} not permitted).
+     * @param includeInterval  ignored.
+     *
+     * @return The bounds (possibly {@code null}).
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Range getRangeBounds(List visibleSeriesKeys, Range xRange,
+            boolean includeInterval) {
+        Range result = null;
+        for (Object key : visibleSeriesKeys) {
+            RingBufferTimeSeries<S> series = getSeries((S) key);
+            Range r = series.findValueRange(xRange, this.xPosition);
+            result = Range.combineIgnoringNaN(result, r);
+        }
+        return result;
+    }
+
+    /**
+     * Tests this collection for equality with an arbitrary object.
+     *
+     * @param obj  the object ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof RingBufferTimeSeriesCollection)) {
+            return false;
+        }
+        RingBufferTimeSeriesCollection<?> that
+                = (RingBufferTimeSeriesCollection) obj;
+        if (this.xPosition != that.xPosition) {
+            return false;
+        }
+        return Objects.equals(this.data, that.data);
+    }
+
+    /**
+     * Returns a hash code value for the object.
+     *
+     * @return The hashcode.
+     */
+    @Override
+    public int hashCode() {
+        int result = this.data.hashCode();
+        result = 29 * result + this.xPosition.hashCode();
+        return result;
+    }
+
+    /**
+     * Returns a clone of this collection.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object clone() throws CloneNotSupportedException {
+        RingBufferTimeSeriesCollection<S> clone
+                = (RingBufferTimeSeriesCollection) super.clone();
+        clone.data = CloneUtils.cloneList(this.data);
+        for (RingBufferTimeSeries<S> series : clone.data) {
+            series.addChangeListener(clone);
+        }
+        return clone;
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        for (RingBufferTimeSeries<S> series : this.data) {
+            series.addChangeListener(this);
+        }
+    }
+
+}
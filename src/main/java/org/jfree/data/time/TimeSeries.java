@@ -41,10 +41,12 @@ import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.GregorianCalendar;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
@@ -56,6 +58,7 @@ import org.jfree.data.Range;
 import org.jfree.data.general.Series;
 import org.jfree.data.general.SeriesChangeEvent;
 import org.jfree.data.general.SeriesException;
+import org.jfree.data.xy.XYPyramidIndex;
 
 /**
  * Represents a sequence of zero or more data items in the form (period, value)
@@ -101,6 +104,45 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
      */
     private double maxY;
 
+    /**
+     * A copy of the y-values (with {@code null} stored as {@code Double.NaN})
+     * for the items that have been added to the value index, starting at
+     * {@code valueOffset}.  The index compares the values in this array
+     * when it is built and queried, reading them from the data items
+     * instead would mean unboxing a {@code Number} (through two references)
+     * for every comparison.  The copy costs 8 bytes per item, a small
+     * fraction of the size of a {@link TimeSeriesDataItem} with its time
+     * period and value objects.
+     */
+    private transient double[] yValues;
+
+    /**
+     * An index over the y-values, used to find the range of values within
+     * a subrange of x-values without visiting every item.  This is created
+     * when first required, extended as items are appended, and cleared when
+     * existing items are moved (other than by removing items from the start
+     * of the series).
+     */
+    private transient XYPyramidIndex valueIndex;
+
+    /**
+     * The position in {@code yValues} (and in the value index) of the first
+     * item.  Removing items from the start of the series advances this
+     * offset, so the index remains valid, and the space is reclaimed when
+     * the array is full.
+     */
+    private transient int valueOffset;
+
+    /**
+     * The first, middle and last millisecond of the time period for each
+     * item, as calculated with one calendar.  This is created when first
+     * required, extended as items are appended, and truncated when existing
+     * items are moved.  A new instance is created for each change, and the
+     * arrays are only written beyond the entries that any earlier instance
+     * can read, so an instance never changes once it has been published.
+     */
+    private transient volatile PeriodMillis periodMillis;
+
     /**
      * Creates a new (empty) time series.  By default, a daily time series is
      * created.  Use one of the other constructors if you require a different
@@ -279,29 +321,57 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
      * @return The range of y-values.
      */
     public Range findValueRange(Range xRange, TimePeriodAnchor xAnchor, Calendar calendar) {
-        // since the items are ordered, we could be more clever here and avoid
-        // iterating over all the data
-        double lowY = Double.POSITIVE_INFINITY;
-        double highY = Double.NEGATIVE_INFINITY;
-        for (TimeSeriesDataItem item : this.data) {
-            long millis = item.getPeriod().getMillisecond(xAnchor, calendar);
-            if (xRange.contains(millis)) {
-                Number n = item.getValue();
-                if (n != null) {
-                    double v = n.doubleValue();
-                    lowY = minIgnoreNaN(lowY, v);
-                    highY = maxIgnoreNaN(highY, v);
-                }
-            }
+        // the items are ordered by time period, so a binary search finds the
+        // items in the x-range and the value index finds the min and max
+        int first = findFirstItem(xRange.getLowerBound(), false, xAnchor,
+                calendar);
+        int last = findFirstItem(xRange.getUpperBound(), true, xAnchor,
+                calendar) - 1;
+        XYPyramidIndex index = getValueIndex();
+        first = this.valueOffset + Math.max(first, 0);
+        last = this.valueOffset + Math.min(last, this.data.size() - 1);
+        int minItem = index.findMinItem(this.yValues, first, last);
+        if (minItem < 0) {
+            return new Range(Double.NaN, Double.NaN);
+        }
+        int maxItem = index.findMaxItem(this.yValues, first, last);
+        double lowY = this.yValues[minItem];
+        double highY = this.yValues[maxItem];
+        if (Double.isInfinite(lowY) && Double.isInfinite(highY)
+                && lowY >= highY) {
+            return new Range(Double.NaN, Double.NaN);
         }
-        if (Double.isInfinite(lowY) && Double.isInfinite(highY)) {
-            if (lowY < highY) {
-                return new Range(lowY, highY);
+        return new Range(lowY, highY);
+    }
+
+    /**
+     * Returns the index of the first item with an x-value (the millisecond
+     * for the given anchor) that is greater than or equal to {@code x} (or
+     * strictly greater than {@code x} if {@code skipEqual} is {@code true}).
+     * If there is no such item, the item count is returned.
+     *
+     * @param x  the x-value.
+     * @param skipEqual  skip items with an x-value equal to {@code x}?
+     * @param xAnchor  the anchor point for the x-values.
+     * @param calendar  the calendar.
+     *
+     * @return The item index.
+     */
+    private int findFirstItem(double x, boolean skipEqual,
+            TimePeriodAnchor xAnchor, Calendar calendar) {
+        int low = 0;
+        int high = this.data.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            long millis = this.data.get(mid).getPeriod().getMillisecond(
+                    xAnchor, calendar);
+            if (millis < x || (skipEqual && millis == x)) {
+                low = mid + 1;
             } else {
-                return new Range(Double.NaN, Double.NaN);
+                high = mid;
             }
         }
-        return new Range(lowY, highY);
+        return low;
     }
 
     /**
@@ -570,6 +640,7 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
                 int index = Collections.binarySearch(this.data, item);
                 if (index < 0) {
                     this.data.add(-index - 1, item);
+                    invalidateIndexes(-index - 1);
                     added = true;
                 }
                 else {
@@ -589,6 +660,7 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
             // check if this addition will exceed the maximum item count...
             if (getItemCount() > this.maximumItemCount) {
                 TimeSeriesDataItem d = this.data.remove(0);
+                itemsRemovedFromStart(1);
                 updateBoundsForRemovedItem(d);
             }
 
@@ -655,6 +727,98 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
         add(item, notify);
     }
 
+    /**
+     * Adds a block of data items to the series and sends a single
+     * {@link SeriesChangeEvent} to all registered listeners.  This is much
+     * faster than adding the items one at a time, since the items are
+     * sorted and the bounds are calculated just once.
+     *
+     * @param periods  the time periods ({@code null} not permitted, all the
+     *     periods must have the same class as the existing periods).
+     * @param values  the values ({@code null} not permitted, the length
+     *     must match the periods).
+     *
+     * @throws SeriesException if the periods include a duplicate (of another
+     *     period or an existing period) or a period of the wrong class (in
+     *     which case the series is not changed).
+     *
+     * @see #replaceAll(RegularTimePeriod[], double[])
+     */
+    public void addAll(RegularTimePeriod[] periods, double[] values) {
+        setItems(periods, values, true);
+    }
+
+    /**
+     * Replaces all the data items in the series and sends a single
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param periods  the time periods ({@code null} not permitted, all the
+     *     periods must have the same class).
+     * @param values  the values ({@code null} not permitted, the length
+     *     must match the periods).
+     *
+     * @throws SeriesException if the periods include a duplicate or periods
+     *     of different classes (in which case the series is not changed).
+     *
+     * @see #addAll(RegularTimePeriod[], double[])
+     */
+    public void replaceAll(RegularTimePeriod[] periods, double[] values) {
+        setItems(periods, values, false);
+    }
+
+    /**
+     * Sets the items for the series, for the bulk methods.
+     *
+     * @param periods  the time periods ({@code null} not permitted).
+     * @param values  the values ({@code null} not permitted).
+     * @param keep  keep the existing items?
+     */
+    private void setItems(RegularTimePeriod[] periods, double[] values,
+            boolean keep) {
+        Args.nullNotPermitted(periods, "periods");
+        Args.nullNotPermitted(values, "values");
+        if (periods.length != values.length) {
+            throw new IllegalArgumentException(
+                    "Requires periods and values to have the same length.");
+        }
+        Class periodClass = keep ? this.timePeriodClass : null;
+        List<TimeSeriesDataItem> items = new ArrayList<>(periods.length
+                + (keep ? this.data.size() : 0));
+        if (keep) {
+            items.addAll(this.data);
+        }
+        for (int i = 0; i < periods.length; i++) {
+            Args.nullNotPermitted(periods[i], "periods[i]");
+            if (periodClass == null) {
+                periodClass = periods[i].getClass();
+            } else if (!periodClass.equals(periods[i].getClass())) {
+                throw new SeriesException("Expecting time periods of class "
+                        + periodClass.getName() + " but found "
+                        + periods[i].getClass().getName() + ".");
+            }
+            items.add(new TimeSeriesDataItem(periods[i], values[i]));
+        }
+        Collections.sort(items);
+        for (int i = 1; i < items.size(); i++) {
+            if (items.get(i).compareTo(items.get(i - 1)) == 0) {
+                throw new SeriesException("Duplicate time period "
+                        + items.get(i).getPeriod() + ", duplicates are not "
+                        + "permitted.");
+            }
+        }
+        if (items.size() > this.maximumItemCount) {
+            items = items.subList(items.size() - this.maximumItemCount,
+                    items.size());
+        }
+        this.data.clear();
+        this.data.addAll(items);
+        invalidateIndexes(0);
+        this.timePeriodClass = periodClass;
+        removeAgedItems(false);
+        updateMinMaxYByIteration();
+        fireSeriesChanged();
+    }
+
     /**
      * Updates (changes) the value for a time period.  Throws a
      * {@link SeriesException} if the period does not exist.
@@ -702,6 +866,7 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
             }
         }
         item.setValue(value);
+        updateValueIndex(index);
         if (iterate) {
             updateMinMaxYByIteration();
         }
@@ -805,6 +970,7 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
                 iterate = oldY <= this.minY || oldY >= this.maxY;
             }
             existing.setValue(item.getValue());
+            updateValueIndex(index);
             if (iterate) {
                 updateMinMaxYByIteration();
             }
@@ -817,11 +983,13 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
         else {
             item = (TimeSeriesDataItem) item.clone();
             this.data.add(-index - 1, item);
+            invalidateIndexes(-index - 1);
             updateBoundsForAddedItem(item);
 
             // check if this addition will exceed the maximum item count...
             if (getItemCount() > this.maximumItemCount) {
                 TimeSeriesDataItem d = this.data.remove(0);
+                itemsRemovedFromStart(1);
                 updateBoundsForRemovedItem(d);
             }
         }
@@ -846,13 +1014,14 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
         // count...
         if (getItemCount() > 1) {
             long latest = getTimePeriod(getItemCount() - 1).getSerialIndex();
-            boolean removed = false;
+            int removed = 0;
             while ((latest - getTimePeriod(0).getSerialIndex())
                     > this.maximumItemAge) {
                 this.data.remove(0);
-                removed = true;
+                removed++;
             }
-            if (removed) {
+            if (removed > 0) {
+                itemsRemovedFromStart(removed);
                 updateMinMaxYByIteration();
                 if (notify) {
                     fireSeriesChanged();
@@ -898,13 +1067,14 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
 
         // check if there are any values earlier than specified by the history
         // count...
-        boolean removed = false;
+        int removed = 0;
         while (getItemCount() > 0 && (index
                 - getTimePeriod(0).getSerialIndex()) > this.maximumItemAge) {
             this.data.remove(0);
-            removed = true;
+            removed++;
         }
-        if (removed) {
+        if (removed > 0) {
+            itemsRemovedFromStart(removed);
             updateMinMaxYByIteration();
             if (notify) {
                 fireSeriesChanged();
@@ -919,6 +1089,7 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
     public void clear() {
         if (this.data.size() > 0) {
             this.data.clear();
+            invalidateIndexes(0);
             this.timePeriodClass = null;
             this.minY = Double.NaN;
             this.maxY = Double.NaN;
@@ -938,6 +1109,7 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
         int index = getIndex(period);
         if (index >= 0) {
             TimeSeriesDataItem item = this.data.remove(index);
+            invalidateIndexes(index);
             updateBoundsForRemovedItem(item);
             if (this.data.isEmpty()) {
                 this.timePeriodClass = null;
@@ -972,6 +1144,11 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
         for (int i = 0; i <= (end - start); i++) {
             this.data.remove(start);
         }
+        if (start == 0) {
+            itemsRemovedFromStart(end + 1);
+        } else {
+            invalidateIndexes(start);
+        }
         updateMinMaxYByIteration();
         if (this.data.isEmpty()) {
             this.timePeriodClass = null;
@@ -1000,6 +1177,10 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
     public Object clone() throws CloneNotSupportedException {
         TimeSeries<S> clone = (TimeSeries) super.clone();
         clone.data = CloneUtils.cloneList(this.data);
+        clone.yValues = null;
+        clone.valueIndex = null;
+        clone.valueOffset = 0;
+        clone.periodMillis = null;
         return clone;
     }
 
@@ -1203,6 +1384,241 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
         }
     }
 
+    /**
+     * Returns the value index, after adding any items that have been
+     * appended since it was last used.
+     *
+     * @return The value index (never {@code null}).
+     */
+    private XYPyramidIndex getValueIndex() {
+        if (this.valueIndex == null) {
+            this.valueIndex = new XYPyramidIndex();
+            this.valueOffset = 0;
+        }
+        int count = this.data.size();
+        int end = this.valueOffset + count;
+        if (this.valueIndex.getItemCount() > end) {
+            clearValueIndex();
+            end = count;
+        }
+        if (this.yValues == null) {
+            this.yValues = new double[count];
+        } else if (this.yValues.length < end) {
+            if (this.valueOffset >= count) {
+                // at least half of the array holds removed items, so
+                // rebuild from the start (the cost is amortized over the
+                // removals)
+                clearValueIndex();
+                end = count;
+            }
+            if (this.yValues.length < end) {
+                this.yValues = Arrays.copyOf(this.yValues,
+                        Math.max(end, this.yValues.length * 2));
+            }
+        }
+        int indexed = this.valueIndex.getItemCount();
+        if (indexed < end) {
+            for (int p = indexed; p < end; p++) {
+                this.yValues[p] = toDouble(this.data.get(
+                        p - this.valueOffset).getValue());
+            }
+            this.valueIndex.append(this.yValues, end);
+        }
+        return this.valueIndex;
+    }
+
+    /**
+     * Clears the value index (it is rebuilt when next required).
+     */
+    private void clearValueIndex() {
+        if (this.valueIndex != null) {
+            this.valueIndex.clear();
+        }
+        this.valueOffset = 0;
+    }
+
+    /**
+     * Updates the indexes after {@code count} items have been removed from
+     * the start of the series.  The value index is kept by advancing its
+     * offset.
+     *
+     * @param count  the number of items removed.
+     */
+    private void itemsRemovedFromStart(int count) {
+        if (this.valueIndex != null) {
+            int indexed = this.valueIndex.getItemCount() - this.valueOffset;
+            if (count <= indexed) {
+                this.valueOffset += count;
+            } else {
+                clearValueIndex();
+            }
+        }
+        PeriodMillis pm = this.periodMillis;
+        if (pm != null) {
+            // the entries keep their positions, so the arrays can still be
+            // extended in place
+            this.periodMillis = count < pm.count ? new PeriodMillis(
+                    pm.calendar, pm.offset + count, pm.count - count,
+                    pm.extendable, pm.first, pm.middle, pm.last) : null;
+        }
+    }
+
+    /**
+     * Clears the value index and truncates the period milliseconds if items
+     * from {@code first} onward have been moved, inserted or removed (both
+     * are rebuilt when next required).
+     *
+     * @param first  the index of the first item affected.
+     */
+    private void invalidateIndexes(int first) {
+        if (this.valueIndex != null && this.valueOffset + first
+                < this.valueIndex.getItemCount()) {
+            clearValueIndex();
+        }
+        PeriodMillis pm = this.periodMillis;
+        if (pm != null && first < pm.count) {
+            // earlier instances can still read the entries after the new
+            // count, so the arrays must be copied before they are extended
+            this.periodMillis = first > 0 ? new PeriodMillis(pm.calendar,
+                    pm.offset, first, false, pm.first, pm.middle, pm.last)
+                    : null;
+        }
+    }
+
+    /**
+     * Returns the first, middle and last millisecond of the time period for
+     * each item, as calculated with the specified calendar.  The values are
+     * calculated once and reused until the items are moved, and the result
+     * can be read by several threads without locking.  The values are
+     * shared by calendars with the same rules (see
+     * {@link #isEquivalent(Calendar, Calendar)}), so a series can be added to
+     * several collections with the same time zone.  Only one set of values
+     * is kept, so if the series is used alternately with calendars that
+     * have different rules (for example, by collections with different
+     * time zones) the values are recalculated on each change of calendar.
+     *
+     * @param calendar  the calendar ({@code null} not permitted).
+     *
+     * @return The period milliseconds (never {@code null}).
+     */
+    PeriodMillis getPeriodMillis(Calendar calendar) {
+        int count = this.data.size();
+        PeriodMillis pm = this.periodMillis;
+        if (pm != null && pm.count == count
+                && isEquivalent(pm.calendar, calendar)) {
+            return pm;
+        }
+        // the calendar is not thread-safe, so hold its lock while it is used
+        synchronized (calendar) {
+            pm = this.periodMillis;
+            int start = 0;
+            int offset = 0;
+            long[] first;
+            long[] middle;
+            long[] last;
+            if (pm != null && pm.count <= count
+                    && isEquivalent(pm.calendar, calendar)) {
+                start = pm.count;
+                first = pm.first;
+                middle = pm.middle;
+                last = pm.last;
+                offset = pm.offset;
+                // the arrays are only written in place by the calendar that
+                // created them (whose lock is held), otherwise they are
+                // copied
+                if (!pm.extendable || pm.calendar != calendar
+                        || offset + count > first.length) {
+                    int capacity = first.length < offset + count
+                            ? count * 2 : first.length;
+                    first = Arrays.copyOfRange(first, offset,
+                            offset + capacity);
+                    middle = Arrays.copyOfRange(middle, offset,
+                            offset + capacity);
+                    last = Arrays.copyOfRange(last, offset,
+                            offset + capacity);
+                    offset = 0;
+                }
+            } else {
+                first = new long[count];
+                middle = new long[count];
+                last = new long[count];
+            }
+            for (int i = start; i < count; i++) {
+                RegularTimePeriod period = this.data.get(i).getPeriod();
+                first[offset + i] = period.getFirstMillisecond(calendar);
+                middle[offset + i] = period.getMiddleMillisecond(calendar);
+                last[offset + i] = period.getLastMillisecond(calendar);
+            }
+            pm = new PeriodMillis(calendar, offset, count, true, first,
+                    middle, last);
+            this.periodMillis = pm;
+        }
+        return pm;
+    }
+
+    /**
+     * Returns {@code true} if two calendars calculate the same milliseconds
+     * for any time period, that is, if they are the same type of calendar
+     * and have the same time zone, week rules and leniency.
+     *
+     * @param c1  the first calendar ({@code null} not permitted).
+     * @param c2  the second calendar ({@code null} not permitted).
+     *
+     * @return A boolean.
+     */
+    static boolean isEquivalent(Calendar c1, Calendar c2) {
+        if (c1 == c2) {
+            return true;
+        }
+        if (c1.getClass() != c2.getClass()) {
+            return false;
+        }
+        if (!c1.getTimeZone().equals(c2.getTimeZone())) {
+            return false;
+        }
+        if (c1.getFirstDayOfWeek() != c2.getFirstDayOfWeek()) {
+            return false;
+        }
+        if (c1.getMinimalDaysInFirstWeek()
+                != c2.getMinimalDaysInFirstWeek()) {
+            return false;
+        }
+        if (c1.isLenient() != c2.isLenient()) {
+            return false;
+        }
+        if (c1 instanceof GregorianCalendar && !((GregorianCalendar) c1)
+                .getGregorianChange().equals(
+                ((GregorianCalendar) c2).getGregorianChange())) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Updates the value index after the value of one item has changed.
+     *
+     * @param item  the index of the item.
+     */
+    private void updateValueIndex(int item) {
+        int p = this.valueOffset + item;
+        if (this.valueIndex != null && p < this.valueIndex.getItemCount()) {
+            this.yValues[p] = toDouble(this.data.get(item).getValue());
+            this.valueIndex.update(this.yValues, p);
+        }
+    }
+
+    /**
+     * Converts a data value to a {@code double}, with {@code null} mapped
+     * to {@code Double.NaN}.
+     *
+     * @param n  the value ({@code null} permitted).
+     *
+     * @return The value.
+     */
+    private static double toDouble(Number n) {
+        return n != null ? n.doubleValue() : Double.NaN;
+    }
+
     /**
      * A function to find the minimum of two values, but ignoring any
      * Double.NaN values.
@@ -1243,4 +1659,72 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
         }
     }
 
+    /**
+     * The first, middle and last millisecond of the time periods for the
+     * items in a series, as calculated with one calendar.  Only the
+     * {@code count} entries starting at {@code offset} in each array are
+     * valid.
+     */
+    static final class PeriodMillis {
+
+        /** The calendar used to calculate the milliseconds. */
+        final Calendar calendar;
+
+        /** The position in the arrays of the entry for the first item. */
+        final int offset;
+
+        /** The number of valid entries. */
+        final int count;
+
+        /**
+         * A flag that indicates whether the arrays can be written after the
+         * valid entries (this is {@code false} when an earlier instance
+         * sharing the arrays has more entries).
+         */
+        final boolean extendable;
+
+        /** The first millisecond of each time period. */
+        final long[] first;
+
+        /** The middle millisecond of each time period. */
+        final long[] middle;
+
+        /** The last millisecond of each time period. */
+        final long[] last;
+
+        PeriodMillis(Calendar calendar, int offset, int count,
+                boolean extendable, long[] first, long[] middle, long[] last) {
+            this.calendar = calendar;
+            this.offset = offset;
+            this.count = count;
+            this.extendable = extendable;
+            this.first = first;
+            this.middle = middle;
+            this.last = last;
+        }
+
+        /**
+         * Returns the millisecond for the specified item and anchor.
+         *
+         * @param item  the item index.
+         * @param anchor  the anchor.
+         *
+         * @return The millisecond.
+         */
+        long get(int item, TimePeriodAnchor anchor) {
+            if (item >= this.count) {
+                throw new IndexOutOfBoundsException("Index: " + item
+                        + ", Size: " + this.count);
+            }
+            if (anchor == TimePeriodAnchor.START) {
+                return this.first[this.offset + item];
+            } else if (anchor == TimePeriodAnchor.MIDDLE) {
+                return this.middle[this.offset + item];
+            } else if (anchor == TimePeriodAnchor.END) {
+                return this.last[this.offset + item];
+            }
+            return 0L;
+        }
+    }
+
 }
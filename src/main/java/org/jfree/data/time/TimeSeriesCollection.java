@@ -69,7 +69,11 @@ public class TimeSeriesCollection<S extends Comparable<S>>
     /** Storage for the time series. */
     private List<TimeSeries<S>> data;
 
-    /** A working calendar (to recycle) */
+    /** 
+     * A working calendar (to recycle).  Code that uses it holds its lock, 
+     * since the period milliseconds cached by each series are calculated 
+     * with it.
+     */
     private Calendar workingCalendar;
 
     /**
@@ -343,8 +347,8 @@ public class TimeSeriesCollection<S extends Comparable<S>>
     @Override
     public double getXValue(int series, int item) {
         TimeSeries<S> s = this.data.get(series);
-        RegularTimePeriod period = s.getTimePeriod(item);
-        return getX(period);
+        return s.getPeriodMillis(this.workingCalendar).get(item, 
+                this.xPosition);
     }
 
     /**
@@ -358,8 +362,8 @@ public class TimeSeriesCollection<S extends Comparable<S>>
     @Override
     public Number getX(int series, int item) {
         TimeSeries<S> ts = this.data.get(series);
-        RegularTimePeriod period = ts.getTimePeriod(item);
-        return getX(period);
+        return ts.getPeriodMillis(this.workingCalendar).get(item, 
+                this.xPosition);
     }
 
     /**
@@ -369,16 +373,18 @@ public class TimeSeriesCollection<S extends Comparable<S>>
      *
      * @return The x-value.
      */
-    protected synchronized long getX(RegularTimePeriod period) {
+    protected long getX(RegularTimePeriod period) {
         long result = 0L;
-        if (this.xPosition == TimePeriodAnchor.START) {
-            result = period.getFirstMillisecond(this.workingCalendar);
-        }
-        else if (this.xPosition == TimePeriodAnchor.MIDDLE) {
-            result = period.getMiddleMillisecond(this.workingCalendar);
-        }
-        else if (this.xPosition == TimePeriodAnchor.END) {
-            result = period.getLastMillisecond(this.workingCalendar);
+        synchronized (this.workingCalendar) {
+            if (this.xPosition == TimePeriodAnchor.START) {
+                result = period.getFirstMillisecond(this.workingCalendar);
+            }
+            else if (this.xPosition == TimePeriodAnchor.MIDDLE) {
+                result = period.getMiddleMillisecond(this.workingCalendar);
+            }
+            else if (this.xPosition == TimePeriodAnchor.END) {
+                result = period.getLastMillisecond(this.workingCalendar);
+            }
         }
         return result;
     }
@@ -392,9 +398,10 @@ public class TimeSeriesCollection<S extends Comparable<S>>
      * @return The value.
      */
     @Override
-    public synchronized Number getStartX(int series, int item) {
+    public Number getStartX(int series, int item) {
         TimeSeries<S> ts = this.data.get(series);
-        return ts.getTimePeriod(item).getFirstMillisecond(this.workingCalendar);
+        return ts.getPeriodMillis(this.workingCalendar).get(item, 
+                TimePeriodAnchor.START);
     }
 
     /**
@@ -406,9 +413,10 @@ public class TimeSeriesCollection<S extends Comparable<S>>
      * @return The value.
      */
     @Override
-    public synchronized Number getEndX(int series, int item) {
+    public Number getEndX(int series, int item) {
         TimeSeries<S> ts = this.data.get(series);
-        return ts.getTimePeriod(item).getLastMillisecond(this.workingCalendar);
+        return ts.getPeriodMillis(this.workingCalendar).get(item, 
+                TimePeriodAnchor.END);
     }
 
     /**
@@ -465,9 +473,10 @@ public class TimeSeriesCollection<S extends Comparable<S>>
     public int[] getSurroundingItems(int series, long milliseconds) {
         int[] result = new int[] {-1, -1};
         TimeSeries<S> timeSeries = getSeries(series);
-        for (int i = 0; i < timeSeries.getItemCount(); i++) {
-            Number x = getX(series, i);
-            long m = x.longValue();
+        TimeSeries.PeriodMillis pm = timeSeries.getPeriodMillis(
+                this.workingCalendar);
+        for (int i = 0; i < pm.count; i++) {
+            long m = pm.get(i, this.xPosition);
             if (m <= milliseconds) {
                 result[0] = i;
             }
@@ -527,18 +536,18 @@ public class TimeSeriesCollection<S extends Comparable<S>>
     public Range getDomainBounds(boolean includeInterval) {
         Range result = null;
         for (TimeSeries<S> series : this.data) {
-            int count = series.getItemCount();
+            TimeSeries.PeriodMillis pm = series.getPeriodMillis(
+                    this.workingCalendar);
+            int count = pm.count;
             if (count > 0) {
-                RegularTimePeriod start = series.getTimePeriod(0);
-                RegularTimePeriod end = series.getTimePeriod(count - 1);
                 Range temp;
                 if (!includeInterval) {
-                    temp = new Range(getX(start), getX(end));
+                    temp = new Range(pm.get(0, this.xPosition), 
+                            pm.get(count - 1, this.xPosition));
                 }
                 else {
-                    temp = new Range(
-                            start.getFirstMillisecond(this.workingCalendar),
-                            end.getLastMillisecond(this.workingCalendar));
+                    temp = new Range(pm.get(0, TimePeriodAnchor.START),
+                            pm.get(count - 1, TimePeriodAnchor.END));
                 }
                 result = Range.combine(result, temp);
             }
@@ -563,18 +572,18 @@ public class TimeSeriesCollection<S extends Comparable<S>>
         for (Object visibleSeriesKey : visibleSeriesKeys) {
             Comparable seriesKey = (Comparable) visibleSeriesKey;
             TimeSeries<S> series = getSeries((S) seriesKey);
-            int count = series.getItemCount();
+            TimeSeries.PeriodMillis pm = series.getPeriodMillis(
+                    this.workingCalendar);
+            int count = pm.count;
             if (count > 0) {
-                RegularTimePeriod start = series.getTimePeriod(0);
-                RegularTimePeriod end = series.getTimePeriod(count - 1);
                 Range temp;
                 if (!includeInterval) {
-                    temp = new Range(getX(start), getX(end));
+                    temp = new Range(pm.get(0, this.xPosition), 
+                            pm.get(count - 1, this.xPosition));
                 }
                 else {
-                    temp = new Range(
-                            start.getFirstMillisecond(this.workingCalendar),
-                            end.getLastMillisecond(this.workingCalendar));
+                    temp = new Range(pm.get(0, TimePeriodAnchor.START),
+                            pm.get(count - 1, TimePeriodAnchor.END));
                 }
                 result = Range.combine(result, temp);
             }
@@ -618,8 +627,11 @@ public class TimeSeriesCollection<S extends Comparable<S>>
         for (Object visibleSeriesKey : visibleSeriesKeys) {
             Comparable seriesKey = (Comparable) visibleSeriesKey;
             TimeSeries<S> series = getSeries((S) seriesKey);
-            Range r = series.findValueRange(xRange, this.xPosition,
-                    this.workingCalendar);
+            Range r;
+            synchronized (this.workingCalendar) {
+                r = series.findValueRange(xRange, this.xPosition,
+                        this.workingCalendar);
+            }
             result = Range.combineIgnoringNaN(result, r);
         }
         return result;
@@ -0,0 +1,212 @@
+/* ======================================================
+ * JFreeChart : a chart library for the Java(tm) platform
+ * ======================================================
+ *
+ * (C) Copyright 2000-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * DecimatedXYDataset.java
+ * -----------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import org.jfree.chart.internal.Args;
+import org.jfree.data.DomainOrder;
+
+/**
+ * A read-only view of an {@link XYDataset} that presents a subset of the
+ * items in each series.  The items in the subset are specified by their
+ * index in the source dataset and retain their original order, so that a
+ * renderer that connects each item to the preceding item (a line or area
+ * renderer, for example) connects the items in the subset.
+ * <p>
+ * This class is used by {@link org.jfree.chart.plot.XYPlot} to pass a
+ * decimated dataset to a renderer, see
+ * {@link org.jfree.chart.plot.XYDecimator}.  Use
+ * {@link #getSourceItem(int, int)} to map an item index in this view back to
+ * the index of the same item in the source dataset.
+ *
+ * @param <S> the series key type.
+ */
+public class DecimatedXYDataset<S extends Comparable<S>>
+        extends AbstractXYDataset<S> {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 3589871928303531440L;
+
+    /** The source dataset. */
+    private final XYDataset<S> source;
+
+    /**
+     * The source item indices for each series ({@code null} for a series
+     * that includes all the items from the source dataset).
+     */
+    private final int[][] items;
+
+    /**
+     * Creates a new view.
+     *
+     * @param source  the source dataset ({@code null} not permitted).
+     * @param items  an array (one entry per series in the source dataset)
+     *     containing the ascending indices of the source items to include
+     *     (an entry can be {@code null} to include all items for a series).
+     */
+    public DecimatedXYDataset(XYDataset<S> source, int[][] items) {
+        Args.nullNotPermitted(source, "source");
+        Args.nullNotPermitted(items, "items");
+        if (items.length != source.getSeriesCount()) {
+            throw new IllegalArgumentException(
+                    "Requires one 'items' entry per series.");
+        }
+        this.source = source;
+        this.items = items;
+    }
+
+    /**
+     * Returns the source dataset.
+     *
+     * @return The source dataset (never {@code null}).
+     */
+    public XYDataset<S> getSource() {
+        return this.source;
+    }
+
+    /**
+     * Returns the index in the source dataset of an item in this view.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index in this view (zero-based).
+     *
+     * @return The index of the item in the source dataset.
+     */
+    public int getSourceItem(int series, int item) {
+        int[] indices = this.items[series];
+        return (indices == null ? item : indices[item]);
+    }
+
+    /**
+     * Returns the domain order of the source dataset (the subset has the
+     * same order).
+     *
+     * @return The domain order.
+     */
+    @Override
+    public DomainOrder getDomainOrder() {
+        return this.source.getDomainOrder();
+    }
+
+    /**
+     * Returns the number of series in the dataset.
+     *
+     * @return The series count.
+     */
+    @Override
+    public int getSeriesCount() {
+        return this.source.getSeriesCount();
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The series key.
+     */
+    @Override
+    public S getSeriesKey(int series) {
+        return this.source.getSeriesKey(series);
+    }
+
+    /**
+     * Returns the number of items in a series of this view.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount(int series) {
+        int[] indices = this.items[series];
+        return (indices == null ? this.source.getItemCount(series)
+                : indices.length);
+    }
+
+    /**
+     * Returns the x-value for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public Number getX(int series, int item) {
+        return this.source.getX(series, getSourceItem(series, item));
+    }
+
+    /**
+     * Returns the x-value for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        return this.source.getXValue(series, getSourceItem(series, item));
+    }
+
+    /**
+     * Returns the y-value for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value (possibly {@code null}).
+     */
+    @Override
+    public Number getY(int series, int item) {
+        return this.source.getY(series, getSourceItem(series, item));
+    }
+
+    /**
+     * Returns the y-value for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value.
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        return this.source.getYValue(series, getSourceItem(series, item));
+    }
+
+}
@@ -0,0 +1,709 @@
+/* ======================================================
+ * JFreeChart : a chart library for the Java(tm) platform
+ * ======================================================
+ *
+ * (C) Copyright 2000-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------
+ * MappedXYDataset.java
+ * --------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+
+package org.jfree.data.xy;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.jfree.chart.api.PublicCloneable;
+import org.jfree.chart.internal.Args;
+import org.jfree.data.DomainInfo;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
+
+/**
+ * An {@link IntervalXYDataset} where each series is read from a
+ * memory-mapped file, so that the data does not need to fit on the Java
+ * heap.  The values are read directly from the mapped buffers on each call
+ * to {@link #getXValue(int, int)} and similar methods, so the operating
+ * system only pages in the parts of the file that are accessed (for
+ * example, the items in the visible range when a renderer uses
+ * {@link org.jfree.chart.renderer.RendererUtils#findLiveItems(XYDataset,
+ * int, double, double)} on a dataset with ascending x-values).
+ * <p>
+ * Series files are created with a {@link MappedXYSeriesWriter}.  Each file
+ * has a small header (containing the item count, the bounds of the values
+ * and a flag recording whether the x-values are in ascending order)
+ * followed by the items as packed big-endian doubles: x and y, optionally
+ * followed by start-x, end-x, start-y and end-y.  If a series has no
+ * interval values, the start and end values are equal to the x- and
+ * y-values.  The files must not be modified while they are in use by the
+ * dataset.
+ *
+ * @param <S>  the type for the series keys.
+ */
+public class MappedXYDataset<S extends Comparable<S>>
+        extends AbstractIntervalXYDataset<S>
+        implements DomainInfo, RangeInfo, PublicCloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -4512690817325568211L;
+
+    /** The value identifying a series file ("JFXY"). */
+    static final int MAGIC = 0x4A465859;
+
+    /** The file format version. */
+    static final int VERSION = 1;
+
+    /** The size of the file header, in bytes. */
+    static final int HEADER_SIZE = 96;
+
+    /** The flag indicating the x-values are in ascending order. */
+    static final int FLAG_ASCENDING = 1;
+
+    /** The flag indicating the file contains interval values. */
+    static final int FLAG_INTERVALS = 2;
+
+    /** The series. */
+    private List<MappedSeries<S>> series;
+
+    /**
+     * Creates a new dataset with no series.
+     */
+    public MappedXYDataset() {
+        this.series = new ArrayList<>();
+    }
+
+    /**
+     * Adds a series that is read from the specified file, and sends a
+     * {@link org.jfree.data.general.DatasetChangeEvent} to all registered
+     * listeners.
+     *
+     * @param key  the series key ({@code null} not permitted, and must be
+     *     different to the keys of the existing series).
+     * @param path  the file ({@code null} not permitted).
+     *
+     * @throws IOException if the file cannot be read or is not a valid
+     *     series file.
+     */
+    public void addSeries(S key, Path path) throws IOException {
+        Args.nullNotPermitted(key, "key");
+        Args.nullNotPermitted(path, "path");
+        if (indexOf(key) >= 0) {
+            throw new IllegalArgumentException(
+                    "This dataset already contains a series with the key "
+                    + key);
+        }
+        MappedSeries<S> s = new MappedSeries<>(key,
+                path.toAbsolutePath().toString());
+        s.open();
+        this.series.add(s);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a series and sends a
+     * {@link org.jfree.data.general.DatasetChangeEvent} to all registered
+     * listeners.  The mapping for the file is released when it is no longer
+     * referenced.
+     *
+     * @param series  the series index (in the range {@code 0} to
+     *     {@code getSeriesCount() - 1}).
+     */
+    public void removeSeries(int series) {
+        Args.requireInRange(series, "series", 0, this.series.size() - 1);
+        this.series.remove(series);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the path of the file for a series.
+     *
+     * @param series  the series index.
+     *
+     * @return The path.
+     */
+    public Path getSeriesPath(int series) {
+        return Paths.get(this.series.get(series).path);
+    }
+
+    /**
+     * Returns the number of series in the dataset.
+     *
+     * @return The series count.
+     */
+    @Override
+    public int getSeriesCount() {
+        return this.series.size();
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index (in the range {@code 0} to
+     *     {@code getSeriesCount() - 1}).
+     *
+     * @return The key for the series.
+     */
+    @Override
+    public S getSeriesKey(int series) {
+        Args.requireInRange(series, "series", 0, this.series.size() - 1);
+        return this.series.get(series).key;
+    }
+
+    /**
+     * Returns the order of the x-values.  This is
+     * {@code DomainOrder.ASCENDING} if the writer found the x-values in every
+     * series file to be in ascending order, and {@code DomainOrder.NONE}
+     * otherwise.
+     *
+     * @return The domain order.
+     */
+    @Override
+    public DomainOrder getDomainOrder() {
+        for (MappedSeries<S> s : this.series) {
+            if ((s.flags & FLAG_ASCENDING) == 0) {
+                return DomainOrder.NONE;
+            }
+        }
+        return DomainOrder.ASCENDING;
+    }
+
+    /**
+     * Returns the number of items in a series.
+     *
+     * @param series  the series index.
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount(int series) {
+        return this.series.get(series).itemCount;
+    }
+
+    /**
+     * Returns the x-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The x-value.
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        return this.series.get(series).get(item, 0);
+    }
+
+    /**
+     * Returns the x-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The x-value.
+     */
+    @Override
+    public Number getX(int series, int item) {
+        return getXValue(series, item);
+    }
+
+    /**
+     * Returns the y-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The y-value.
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        return this.series.get(series).get(item, 1);
+    }
+
+    /**
+     * Returns the y-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The y-value.
+     */
+    @Override
+    public Number getY(int series, int item) {
+        return getYValue(series, item);
+    }
+
+    /**
+     * Returns the start x-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The start x-value.
+     */
+    @Override
+    public double getStartXValue(int series, int item) {
+        return this.series.get(series).get(item, 2);
+    }
+
+    /**
+     * Returns the start x-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The start x-value.
+     */
+    @Override
+    public Number getStartX(int series, int item) {
+        return getStartXValue(series, item);
+    }
+
+    /**
+     * Returns the end x-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The end x-value.
+     */
+    @Override
+    public double getEndXValue(int series, int item) {
+        return this.series.get(series).get(item, 3);
+    }
+
+    /**
+     * Returns the end x-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The end x-value.
+     */
+    @Override
+    public Number getEndX(int series, int item) {
+        return getEndXValue(series, item);
+    }
+
+    /**
+     * Returns the start y-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The start y-value.
+     */
+    @Override
+    public double getStartYValue(int series, int item) {
+        return this.series.get(series).get(item, 4);
+    }
+
+    /**
+     * Returns the start y-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The start y-value.
+     */
+    @Override
+    public Number getStartY(int series, int item) {
+        return getStartYValue(series, item);
+    }
+
+    /**
+     * Returns the end y-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The end y-value.
+     */
+    @Override
+    public double getEndYValue(int series, int item) {
+        return this.series.get(series).get(item, 5);
+    }
+
+    /**
+     * Returns the end y-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The end y-value.
+     */
+    @Override
+    public Number getEndY(int series, int item) {
+        return getEndYValue(series, item);
+    }
+
+    /**
+     * Returns the minimum x-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether the
+     *                         x-interval is taken into account.
+     *
+     * @return The minimum value.
+     */
+    @Override
+    public double getDomainLowerBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return (r != null ? r.getLowerBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the maximum x-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether the
+     *                         x-interval is taken into account.
+     *
+     * @return The maximum value.
+     */
+    @Override
+    public double getDomainUpperBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return (r != null ? r.getUpperBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the range of the values in this dataset's domain.  The bounds
+     * are read from the file headers, so this method does not need to
+     * access the data items.
+     *
+     * @param includeInterval  a flag that determines whether the
+     *                         x-interval is taken into account.
+     *
+     * @return The range (or {@code null} if the dataset contains no
+     *     values).
+     */
+    @Override
+    public Range getDomainBounds(boolean includeInterval) {
+        return findBounds(includeInterval ? 4 : 0);
+    }
+
+    /**
+     * Returns the minimum y-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether the
+     *                         y-interval is taken into account.
+     *
+     * @return The minimum value.
+     */
+    @Override
+    public double getRangeLowerBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return (r != null ? r.getLowerBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the maximum y-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether the
+     *                         y-interval is taken into account.
+     *
+     * @return The maximum value.
+     */
+    @Override
+    public double getRangeUpperBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return (r != null ? r.getUpperBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the range of the values in this dataset's range.  The bounds
+     * are read from the file headers, so this method does not need to
+     * access the data items.
+     *
+     * @param includeInterval  a flag that determines whether the
+     *                         y-interval is taken into account.
+     *
+     * @return The range (or {@code null} if the dataset contains no
+     *     values).
+     */
+    @Override
+    public Range getRangeBounds(boolean includeInterval) {
+        return findBounds(includeInterval ? 6 : 2);
+    }
+
+    /**
+     * Combines the header bounds for all series.
+     *
+     * @param index  the index of the lower bound in the header bounds.
+     *
+     * @return The range (possibly {@code null}).
+     */
+    private Range findBounds(int index) {
+        Range result = null;
+        for (MappedSeries<S> s : this.series) {
+            double lower = s.bounds[index];
+            double upper = s.bounds[index + 1];
+            if (!Double.isNaN(lower)) {
+                result = Range.combine(result, new Range(lower, upper));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Tests this dataset for equality with an arbitrary object.  Two
+     * datasets are equal if they have the same series keys read from the
+     * same files.
+     *
+     * @param obj  the object ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof MappedXYDataset)) {
+            return false;
+        }
+        MappedXYDataset<?> that = (MappedXYDataset<?>) obj;
+        return this.series.equals(that.series);
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        return this.series.hashCode();
+    }
+
+    /**
+     * Returns a clone of this dataset.  The clone shares the (read-only)
+     * mappings of the series files.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if the dataset cannot be cloned.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        @SuppressWarnings("unchecked")
+        MappedXYDataset<S> clone = (MappedXYDataset<S>) super.clone();
+        clone.series = new ArrayList<>(this.series);
+        return clone;
+    }
+
+    /**
+     * A series backed by a memory-mapped file.  The file is mapped in
+     * regions of at most 1GB (each holding a power of two number of items),
+     * since a single mapping cannot exceed 2GB.
+     *
+     * @param <S>  the type for the series key.
+     */
+    private static class MappedSeries<S extends Comparable<S>>
+            implements Serializable {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 6934307126871502339L;
+
+        /** The series key. */
+        private final S key;
+
+        /** The absolute path of the series file. */
+        private final String path;
+
+        /** The header flags. */
+        private transient int flags;
+
+        /** The number of items. */
+        private transient int itemCount;
+
+        /**
+         * The bounds from the header: the x- and y-values, then the
+         * interval values (minimum and maximum in each case).
+         */
+        private transient double[] bounds;
+
+        /** The number of bytes for each item. */
+        private transient int recordSize;
+
+        /** The base 2 logarithm of the number of items in each region. */
+        private transient int regionShift;
+
+        /** The mapped regions of the file. */
+        private transient ByteBuffer[] regions;
+
+        /**
+         * Creates a new series (call {@link #open()} before use).
+         *
+         * @param key  the key.
+         * @param path  the absolute path of the file.
+         */
+        MappedSeries(S key, String path) {
+            this.key = key;
+            this.path = path;
+        }
+
+        /**
+         * Reads the header and maps the file.
+         *
+         * @throws IOException if there is an I/O problem or the file is not
+         *     valid.
+         */
+        void open() throws IOException {
+            try (FileChannel channel = FileChannel.open(Paths.get(this.path),
+                    StandardOpenOption.READ)) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+                while (header.hasRemaining()) {
+                    if (channel.read(header, header.position()) < 0) {
+                        throw new IOException(this.path
+                                + " is not a series file (no header).");
+                    }
+                }
+                header.flip();
+                if (header.getInt() != MAGIC) {
+                    throw new IOException(this.path
+                            + " is not a series file.");
+                }
+                int version = header.getInt();
+                if (version != VERSION) {
+                    throw new IOException(this.path
+                            + " has an unsupported version " + version + ".");
+                }
+                int f = header.getInt();
+                header.getInt();
+                long count = header.getLong();
+                int columns = (f & FLAG_INTERVALS) != 0 ? 6 : 2;
+                int size = columns * 8;
+                if (count < 0 || count > Integer.MAX_VALUE
+                        || channel.size() < HEADER_SIZE + count * size) {
+                    throw new IOException(this.path
+                            + " is truncated or has an invalid item count.");
+                }
+                double[] b = new double[8];
+                for (int i = 0; i < b.length; i++) {
+                    b[i] = header.getDouble();
+                }
+                int shift = 31 - Integer.numberOfLeadingZeros(
+                        (1 << 30) / size);
+                int regionItems = 1 << shift;
+                int regionCount = (int) ((count + regionItems - 1)
+                        >>> shift);
+                ByteBuffer[] r = new ByteBuffer[regionCount];
+                for (int i = 0; i < regionCount; i++) {
+                    long first = (long) i << shift;
+                    long items = Math.min(regionItems, count - first);
+                    r[i] = channel.map(FileChannel.MapMode.READ_ONLY,
+                            HEADER_SIZE + first * size, items * size);
+                }
+                this.flags = f;
+                this.itemCount = (int) count;
+                this.bounds = b;
+                this.recordSize = size;
+                this.regionShift = shift;
+                this.regions = r;
+            }
+        }
+
+        /**
+         * Returns a value for an item.  Columns 2 to 5 (the interval values)
+         * return the x- or y-value if the file has no interval values.
+         *
+         * @param item  the item index.
+         * @param column  the column (x, y, start-x, end-x, start-y, end-y).
+         *
+         * @return The value.
+         */
+        double get(int item, int column) {
+            if (item < 0 || item >= this.itemCount) {
+                throw new IndexOutOfBoundsException("Index " + item
+                        + " out of bounds for length " + this.itemCount);
+            }
+            if (column >= 2 && this.recordSize == 16) {
+                column = column < 4 ? 0 : 1;
+            }
+            ByteBuffer region = this.regions[item >>> this.regionShift];
+            int offset = (item & ((1 << this.regionShift) - 1))
+                    * this.recordSize;
+            return region.getDouble(offset + column * 8);
+        }
+
+        /**
+         * Tests this series for equality with an arbitrary object.
+         *
+         * @param obj  the object ({@code null} permitted).
+         *
+         * @return A boolean.
+         */
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof MappedSeries)) {
+                return false;
+            }
+            MappedSeries<?> that = (MappedSeries<?>) obj;
+            return this.key.equals(that.key) && this.path.equals(that.path);
+        }
+
+        /**
+         * Returns a hash code for this instance.
+         *
+         * @return A hash code.
+         */
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.key, this.path);
+        }
+
+        /**
+         * Provides serialization support (the file is mapped again).
+         *
+         * @param stream  the input stream.
+         *
+         * @throws IOException  if there is an I/O error.
+         * @throws ClassNotFoundException  if there is a classpath problem.
+         */
+        private void readObject(ObjectInputStream stream)
+                throws IOException, ClassNotFoundException {
+            stream.defaultReadObject();
+            open();
+        }
+
+    }
+
+}
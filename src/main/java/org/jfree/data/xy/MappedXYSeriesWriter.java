@@ -0,0 +1,282 @@
+/* ======================================================
+ * JFreeChart : a chart library for the Java(tm) platform
+ * ======================================================
+ *
+ * (C) Copyright 2000-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * MappedXYSeriesWriter.java
+ * -------------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+
+package org.jfree.data.xy;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.jfree.chart.internal.Args;
+
+/**
+ * Writes a data series to a file in the format read by
+ * {@link MappedXYDataset}.  Items are streamed to the file as they are added,
+ * and the header (item count, bounds and a flag recording whether the
+ * x-values are in ascending order) is written when the writer is closed.
+ *
+ * @see MappedXYDataset#addSeries(Comparable, Path)
+ */
+public class MappedXYSeriesWriter implements Closeable {
+
+    /** The channel for the file. */
+    private final FileChannel channel;
+
+    /** A flag that indicates whether interval columns are written. */
+    private final boolean intervals;
+
+    /** The output buffer. */
+    private final ByteBuffer buffer;
+
+    /** The values for the item being written (reused for each item). */
+    private final double[] values;
+
+    /** The number of items written. */
+    private long itemCount;
+
+    /** The last x-value written. */
+    private double lastX;
+
+    /** A flag that records whether the x-values are in ascending order. */
+    private boolean ascending;
+
+    /**
+     * The bounds of the x, y, start-x, end-x, start-y and end-y values (the
+     * minimum and maximum for each column in turn).
+     */
+    private final double[] bounds;
+
+    /** A flag that records whether the writer has been closed. */
+    private boolean closed;
+
+    /**
+     * Creates a writer for a new file (or replaces an existing file).
+     *
+     * @param path  the file ({@code null} not permitted).
+     * @param intervals  write start and end values for x and y with each
+     *     item?
+     *
+     * @throws IOException if the file cannot be created.
+     */
+    public MappedXYSeriesWriter(Path path, boolean intervals)
+            throws IOException {
+        Args.nullNotPermitted(path, "path");
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        this.channel.position(MappedXYDataset.HEADER_SIZE);
+        this.intervals = intervals;
+        this.buffer = ByteBuffer.allocate(1 << 16);
+        this.values = new double[intervals ? 6 : 2];
+        this.lastX = Double.NEGATIVE_INFINITY;
+        this.ascending = true;
+        this.bounds = new double[12];
+        for (int i = 0; i < this.bounds.length; i += 2) {
+            this.bounds[i] = Double.POSITIVE_INFINITY;
+            this.bounds[i + 1] = Double.NEGATIVE_INFINITY;
+        }
+    }
+
+    /**
+     * Returns the number of items written so far.
+     *
+     * @return The item count.
+     */
+    public long getItemCount() {
+        return this.itemCount;
+    }
+
+    /**
+     * Adds an item.  If the writer includes interval columns, the start and
+     * end values are set to the x- and y-values.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value ({@code Double.NaN} for a missing value).
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void add(double x, double y) throws IOException {
+        if (this.intervals) {
+            add(x, y, x, x, y, y);
+        } else {
+            this.values[0] = x;
+            this.values[1] = y;
+            write();
+        }
+    }
+
+    /**
+     * Adds an item with start and end values for x and y.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value.
+     * @param startX  the start x-value.
+     * @param endX  the end x-value.
+     * @param startY  the start y-value.
+     * @param endY  the end y-value.
+     *
+     * @throws IOException if there is an I/O problem.
+     * @throws IllegalStateException if the writer was created without
+     *     interval columns.
+     */
+    public void add(double x, double y, double startX, double endX,
+            double startY, double endY) throws IOException {
+        if (!this.intervals) {
+            throw new IllegalStateException(
+                    "This writer does not write interval values.");
+        }
+        this.values[0] = x;
+        this.values[1] = y;
+        this.values[2] = startX;
+        this.values[3] = endX;
+        this.values[4] = startY;
+        this.values[5] = endY;
+        write();
+    }
+
+    /**
+     * Writes the item in {@code values} and updates the bounds.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void write() throws IOException {
+        double[] values = this.values;
+        if (this.closed) {
+            throw new IllegalStateException("The writer is closed.");
+        }
+        if (this.itemCount == Integer.MAX_VALUE) {
+            throw new IllegalStateException("Too many items for a series.");
+        }
+        if (this.buffer.remaining() < values.length * 8) {
+            flush();
+        }
+        for (int i = 0; i < values.length; i++) {
+            double v = values[i];
+            this.buffer.putDouble(v);
+            if (!Double.isNaN(v)) {
+                this.bounds[i * 2] = Math.min(this.bounds[i * 2], v);
+                this.bounds[i * 2 + 1] = Math.max(this.bounds[i * 2 + 1], v);
+            }
+        }
+        if (!(values[0] >= this.lastX)) {
+            this.ascending = false;
+        }
+        this.lastX = values[0];
+        this.itemCount++;
+    }
+
+    /**
+     * Writes the buffered items to the file.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void flush() throws IOException {
+        this.buffer.flip();
+        while (this.buffer.hasRemaining()) {
+            this.channel.write(this.buffer);
+        }
+        this.buffer.clear();
+    }
+
+    /**
+     * Writes any buffered items and the file header, then closes the file.
+     * Calling this method more than once has no effect.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        try {
+            flush();
+            ByteBuffer header = ByteBuffer.allocate(
+                    MappedXYDataset.HEADER_SIZE);
+            header.putInt(MappedXYDataset.MAGIC);
+            header.putInt(MappedXYDataset.VERSION);
+            int flags = 0;
+            if (this.ascending) {
+                flags |= MappedXYDataset.FLAG_ASCENDING;
+            }
+            if (this.intervals) {
+                flags |= MappedXYDataset.FLAG_INTERVALS;
+            }
+            header.putInt(flags);
+            header.putInt(0);
+            header.putLong(this.itemCount);
+            // the x and y bounds, then the interval bounds
+            putBounds(header, 0, 1, 2, 3);
+            if (this.intervals) {
+                putBounds(header, 4, 7, 8, 11);
+            } else {
+                putBounds(header, 0, 1, 2, 3);
+            }
+            header.clear();  // write the full header, including padding
+            long position = 0;
+            while (header.hasRemaining()) {
+                position += this.channel.write(header, position);
+            }
+        } finally {
+            this.channel.close();
+        }
+    }
+
+    /**
+     * Writes a set of bounds to the header, with {@code Double.NaN} for a
+     * column that has no values.
+     *
+     * @param header  the header buffer.
+     * @param minX  the index of the minimum x-value in the bounds array.
+     * @param maxX  the index of the maximum x-value.
+     * @param minY  the index of the minimum y-value.
+     * @param maxY  the index of the maximum y-value.
+     */
+    private void putBounds(ByteBuffer header, int minX, int maxX, int minY,
+            int maxY) {
+        boolean hasX = this.bounds[minX] <= this.bounds[maxX];
+        boolean hasY = this.bounds[minY] <= this.bounds[maxY];
+        header.putDouble(hasX ? this.bounds[minX] : Double.NaN);
+        header.putDouble(hasX ? this.bounds[maxX] : Double.NaN);
+        header.putDouble(hasY ? this.bounds[minY] : Double.NaN);
+        header.putDouble(hasY ? this.bounds[maxY] : Double.NaN);
+    }
+
+}
@@ -0,0 +1,1101 @@
+/* ======================================================
+ * JFreeChart : a chart library for the Java(tm) platform
+ * ======================================================
+ *
+ * (C) Copyright 2000-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * PrimitiveXYSeries.java
+ * ----------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.jfree.chart.internal.Args;
+import org.jfree.data.general.Series;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesException;
+
+/**
+ * A sequence of zero or more (x, y) data items stored in two columns of
+ * primitive {@code double} values.  This is an alternative to
+ * {@link XYSeries} for series with a large number of items: there is no
+ * per-item object, appending is amortized O(1) and the values can be read
+ * without boxing.  Missing y-values are represented by {@code Double.NaN}.
+ * <p>
+ * By default, items are sorted into ascending order by x-value and duplicate
+ * x-values are permitted (both defaults can be changed in the constructor).
+ * Adding an item with an x-value greater than or equal to the current last
+ * x-value is the fast path and never moves existing data.
+ * <p>
+ * The series also maintains an {@link XYPyramidIndex} over its y-values
+ * (created when first used, then extended as items are appended), so that
+ * the minimum and maximum y-values for any range of items can be found in
+ * O(log n) time.  Removing items from the start of the series (as happens
+ * when a maximum item count is set) only advances an offset into the
+ * storage arrays, the space is reclaimed in batches when the arrays are
+ * full, so appending to a series with a maximum item count is also
+ * amortized O(1).  Inserting items, or removing items other than from the
+ * start, invalidates the index, which is rebuilt the next time it is needed.
+ *
+ * @param <K> the series key type.
+ *
+ * @see PrimitiveXYSeriesCollection
+ */
+public class PrimitiveXYSeries<K extends Comparable<K>> extends Series<K>
+        implements Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 2783604813470374105L;
+
+    /** The default initial capacity. */
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    /**
+     * The x-values (only the {@code itemCount} values from {@code start}
+     * are used).
+     */
+    private transient double[] xValues;
+
+    /**
+     * The y-values (only the {@code itemCount} values from {@code start}
+     * are used).
+     */
+    private transient double[] yValues;
+
+    /** The index of the first item in the storage arrays. */
+    private transient int start;
+
+    /** The number of items in the series. */
+    private transient int itemCount;
+
+    /** The maximum number of items for the series. */
+    private int maximumItemCount = Integer.MAX_VALUE;
+
+    /**
+     * A flag that controls whether the items are automatically sorted
+     * (by x-value ascending).
+     */
+    private final boolean autoSort;
+
+    /** A flag that controls whether duplicate x-values are allowed. */
+    private final boolean allowDuplicateXValues;
+
+    /**
+     * A flag that records whether the x-values are currently in ascending
+     * order (always {@code true} when {@code autoSort} is set).
+     */
+    private transient boolean ascending;
+
+    /** The lowest x-value in the series, excluding Double.NaN values. */
+    private transient double minX;
+
+    /** The highest x-value in the series, excluding Double.NaN values. */
+    private transient double maxX;
+
+    /** The lowest y-value in the series, excluding Double.NaN values. */
+    private transient double minY;
+
+    /** The highest y-value in the series, excluding Double.NaN values. */
+    private transient double maxY;
+
+    /**
+     * An index over the y-values in the storage arrays ({@code null} until
+     * first used, and possibly not yet covering the most recently appended
+     * items).  The index uses array positions, so it remains valid when
+     * {@code start} is advanced.
+     */
+    private transient XYPyramidIndex pyramid;
+
+    /**
+     * Creates a new empty series.  By default, items added to the series will
+     * be sorted into ascending order by x-value, and duplicate x-values will
+     * be allowed (these defaults can be modified with another constructor).
+     *
+     * @param key  the series key ({@code null} not permitted).
+     */
+    public PrimitiveXYSeries(K key) {
+        this(key, true, true);
+    }
+
+    /**
+     * Constructs a new empty series, with the auto-sort flag set as requested,
+     * and duplicate values allowed.
+     *
+     * @param key  the series key ({@code null} not permitted).
+     * @param autoSort  a flag that controls whether the items in the
+     *                  series are sorted.
+     */
+    public PrimitiveXYSeries(K key, boolean autoSort) {
+        this(key, autoSort, true);
+    }
+
+    /**
+     * Constructs a new series that contains no data.  You can specify
+     * whether the items are sorted and whether duplicate x-values are allowed
+     * for the series.
+     *
+     * @param key  the series key ({@code null} not permitted).
+     * @param autoSort  a flag that controls whether the items in the
+     *                  series are sorted.
+     * @param allowDuplicateXValues  a flag that controls whether duplicate
+     *                               x-values are allowed.
+     */
+    public PrimitiveXYSeries(K key, boolean autoSort,
+            boolean allowDuplicateXValues) {
+        super(key);
+        this.xValues = new double[DEFAULT_INITIAL_CAPACITY];
+        this.yValues = new double[DEFAULT_INITIAL_CAPACITY];
+        this.itemCount = 0;
+        this.autoSort = autoSort;
+        this.allowDuplicateXValues = allowDuplicateXValues;
+        this.ascending = true;
+        this.minX = Double.NaN;
+        this.maxX = Double.NaN;
+        this.minY = Double.NaN;
+        this.maxY = Double.NaN;
+    }
+
+    /**
+     * Constructs a new series containing the first {@code itemCount} values
+     * in the supplied arrays.  The arrays are used directly as the storage
+     * for the series (they are not copied), so loading a large series does
+     * not need a second copy of the data, but the caller must not modify
+     * the arrays afterwards.
+     *
+     * @param key  the series key ({@code null} not permitted).
+     * @param autoSort  a flag that controls whether the items in the
+     *                  series are sorted (if {@code true} the x-values must
+     *                  already be in ascending order).
+     * @param allowDuplicateXValues  a flag that controls whether duplicate
+     *                               x-values are allowed.
+     * @param xValues  the x-values ({@code null} not permitted).
+     * @param yValues  the y-values ({@code null} not permitted).
+     * @param itemCount  the number of items (at most the length of the
+     *     arrays, which must be equal).
+     *
+     * @throws SeriesException if the x-values contain duplicates and the
+     *     {@code allowDuplicateXValues} flag is not set.
+     */
+    public PrimitiveXYSeries(K key, boolean autoSort,
+            boolean allowDuplicateXValues, double[] xValues, double[] yValues,
+            int itemCount) {
+        super(key);
+        Args.nullNotPermitted(xValues, "xValues");
+        Args.nullNotPermitted(yValues, "yValues");
+        if (xValues.length != yValues.length) {
+            throw new IllegalArgumentException(
+                    "Requires 'xValues' and 'yValues' to have the same length.");
+        }
+        if (itemCount < 0 || itemCount > xValues.length) {
+            throw new IllegalArgumentException(
+                    "Requires 'itemCount' in the range 0 to the array length.");
+        }
+        this.xValues = xValues;
+        this.yValues = yValues;
+        this.itemCount = itemCount;
+        this.autoSort = autoSort;
+        this.allowDuplicateXValues = allowDuplicateXValues;
+        findBoundsByIteration();
+        if (autoSort && !this.ascending) {
+            throw new IllegalArgumentException(
+                    "Requires the x-values to be in ascending order.");
+        }
+        if (!allowDuplicateXValues && itemCount > 1) {
+            double[] sorted = xValues;
+            if (!this.ascending) {
+                sorted = Arrays.copyOf(xValues, itemCount);
+                Arrays.sort(sorted);
+            }
+            for (int i = 1; i < itemCount; i++) {
+                if (sorted[i] == sorted[i - 1]) {
+                    throw new SeriesException("X-value already exists.");
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the flag that controls whether the items in the series are
+     * automatically sorted.  There is no setter for this flag, it must be
+     * defined in the series constructor.
+     *
+     * @return A boolean.
+     */
+    public boolean getAutoSort() {
+        return this.autoSort;
+    }
+
+    /**
+     * Returns a flag that controls whether duplicate x-values are allowed.
+     * This flag can only be set in the constructor.
+     *
+     * @return A boolean.
+     */
+    public boolean getAllowDuplicateXValues() {
+        return this.allowDuplicateXValues;
+    }
+
+    /**
+     * Returns {@code true} if the x-values in the series are currently in
+     * ascending order, and {@code false} otherwise.  This is always
+     * {@code true} for a series with the {@code autoSort} flag set, and is
+     * also {@code true} for an unsorted series to which the items happen to
+     * have been added in order.
+     *
+     * @return A boolean.
+     */
+    public boolean isAscending() {
+        return this.ascending;
+    }
+
+    /**
+     * Returns the smallest x-value in the series, ignoring any Double.NaN
+     * values.  This method returns Double.NaN if there is no smallest x-value
+     * (for example, when the series is empty).
+     *
+     * @return The smallest x-value.
+     *
+     * @see #getMaxX()
+     */
+    public double getMinX() {
+        return this.minX;
+    }
+
+    /**
+     * Returns the largest x-value in the series, ignoring any Double.NaN
+     * values.  This method returns Double.NaN if there is no largest x-value
+     * (for example, when the series is empty).
+     *
+     * @return The largest x-value.
+     *
+     * @see #getMinX()
+     */
+    public double getMaxX() {
+        return this.maxX;
+    }
+
+    /**
+     * Returns the smallest y-value in the series, ignoring any Double.NaN
+     * values.  This method returns Double.NaN if there is no smallest y-value
+     * (for example, when the series is empty).
+     *
+     * @return The smallest y-value.
+     *
+     * @see #getMaxY()
+     */
+    public double getMinY() {
+        return this.minY;
+    }
+
+    /**
+     * Returns the largest y-value in the series, ignoring any Double.NaN
+     * values.  This method returns Double.NaN if there is no largest y-value
+     * (for example, when the series is empty).
+     *
+     * @return The largest y-value.
+     *
+     * @see #getMinY()
+     */
+    public double getMaxY() {
+        return this.maxY;
+    }
+
+    /**
+     * Returns the number of items in the series.
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount() {
+        return this.itemCount;
+    }
+
+    /**
+     * Returns the maximum number of items that will be retained in the series.
+     * The default value is {@code Integer.MAX_VALUE}.
+     *
+     * @return The maximum item count.
+     *
+     * @see #setMaximumItemCount(int)
+     */
+    public int getMaximumItemCount() {
+        return this.maximumItemCount;
+    }
+
+    /**
+     * Sets the maximum number of items that will be retained in the series.
+     * If you add a new item to the series such that the number of items will
+     * exceed the maximum item count, then the first element in the series is
+     * automatically removed, ensuring that the maximum item count is not
+     * exceeded.  If the series already contains more items than the new
+     * maximum, the excess items are removed from the start of the series
+     * and a {@link SeriesChangeEvent} is sent to all registered listeners.
+     *
+     * @param maximum  the maximum number of items for the series.
+     */
+    public void setMaximumItemCount(int maximum) {
+        Args.requireNonNegative(maximum, "maximum");
+        this.maximumItemCount = maximum;
+        int remove = this.itemCount - maximum;
+        if (remove > 0) {
+            removeRange(0, remove);
+            findBoundsByIteration();
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Ensures that the series can hold at least the specified number of
+     * items without reallocating its storage.  Calling this before adding
+     * a large number of items avoids repeated array copies.
+     *
+     * @param capacity  the required capacity.
+     */
+    public void ensureCapacity(int capacity) {
+        if (this.start + capacity > this.xValues.length) {
+            reallocate(Math.max(capacity, this.xValues.length));
+        }
+    }
+
+    /**
+     * Copies the items to new storage arrays with the specified capacity,
+     * starting at index 0.
+     *
+     * @param capacity  the capacity (at least the item count).
+     */
+    private void reallocate(int capacity) {
+        double[] xs = new double[capacity];
+        double[] ys = new double[capacity];
+        System.arraycopy(this.xValues, this.start, xs, 0, this.itemCount);
+        System.arraycopy(this.yValues, this.start, ys, 0, this.itemCount);
+        this.xValues = xs;
+        this.yValues = ys;
+        if (this.start > 0) {
+            this.start = 0;
+            invalidatePyramid();
+        }
+    }
+
+    /**
+     * Adds a data item to the series and sends a {@link SeriesChangeEvent} to
+     * all registered listeners.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value ({@code Double.NaN} for a missing value).
+     */
+    public void add(double x, double y) {
+        add(x, y, true);
+    }
+
+    /**
+     * Adds a data item to the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value ({@code Double.NaN} for a missing value).
+     * @param notify  a flag that controls whether a
+     *                {@link SeriesChangeEvent} is sent to all registered
+     *                listeners.
+     *
+     * @throws SeriesException if the x-value is a duplicate and the
+     *     {@code allowDuplicateXValues} flag is not set for this series.
+     */
+    public void add(double x, double y, boolean notify) {
+        int last = this.start + this.itemCount - 1;
+        if (this.autoSort) {
+            if (this.itemCount == 0 || x > this.xValues[last]) {
+                append(x, y);
+            } else if (x == this.xValues[last]) {
+                if (!this.allowDuplicateXValues) {
+                    throw new SeriesException("X-value already exists.");
+                }
+                append(x, y);
+            } else {
+                // the insertion point is *after* any duplicates
+                int index = upperBound(x);
+                if (!this.allowDuplicateXValues && index > 0
+                        && this.xValues[this.start + index - 1] == x) {
+                    throw new SeriesException("X-value already exists.");
+                }
+                insert(index, x, y);
+            }
+        } else {
+            if (!this.allowDuplicateXValues && indexOf(x) >= 0) {
+                throw new SeriesException("X-value already exists.");
+            }
+            if (this.itemCount > 0 && !(x >= this.xValues[last])) {
+                this.ascending = false;
+            }
+            append(x, y);
+        }
+        updateBoundsForAddedItem(x, y);
+        if (this.itemCount > this.maximumItemCount) {
+            double removedX = this.xValues[this.start];
+            double removedY = this.yValues[this.start];
+            removeRange(0, 1);
+            updateBoundsForRemovedItem(removedX, removedY);
+        }
+        if (notify) {
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Appends an item to the end of the arrays, growing them if necessary.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value.
+     */
+    private void append(double x, double y) {
+        int end = this.start + this.itemCount;
+        if (end == this.xValues.length) {
+            makeRoom();
+            end = this.itemCount;
+        }
+        this.xValues[end] = x;
+        this.yValues[end] = y;
+        this.itemCount++;
+    }
+
+    /**
+     * Inserts an item at the specified index, growing the arrays if
+     * necessary.
+     *
+     * @param index  the index.
+     * @param x  the x-value.
+     * @param y  the y-value.
+     */
+    private void insert(int index, double x, double y) {
+        invalidatePyramid();
+        if (this.start + this.itemCount == this.xValues.length) {
+            makeRoom();
+        }
+        int p = this.start + index;
+        int tail = this.itemCount - index;
+        System.arraycopy(this.xValues, p, this.xValues, p + 1, tail);
+        System.arraycopy(this.yValues, p, this.yValues, p + 1, tail);
+        this.xValues[p] = x;
+        this.yValues[p] = y;
+        this.itemCount++;
+    }
+
+    /**
+     * Makes room for at least one item at the end of the storage arrays,
+     * either by moving the items to the start of the arrays (when at least
+     * half of the arrays is taken up by removed items, so that the cost of
+     * the copy is amortized over the items appended since the last one) or
+     * by growing the arrays by 50%.
+     */
+    private void makeRoom() {
+        int capacity = this.xValues.length;
+        if (this.start > 0 && this.itemCount <= capacity / 2) {
+            System.arraycopy(this.xValues, this.start, this.xValues, 0,
+                    this.itemCount);
+            System.arraycopy(this.yValues, this.start, this.yValues, 0,
+                    this.itemCount);
+            this.start = 0;
+            invalidatePyramid();
+            return;
+        }
+        int newCapacity = Math.max(this.itemCount + 1,
+                capacity + (capacity >> 1));
+        if (newCapacity < 0) { // overflow
+            newCapacity = Integer.MAX_VALUE - 8;
+        }
+        reallocate(newCapacity);
+    }
+
+    /**
+     * Removes the items from {@code start} (inclusive) to {@code end}
+     * (exclusive) from the arrays.  Items removed from the start of the
+     * series are skipped by advancing the offset of the first item, which
+     * does not move any data.  The cached bounds are not updated.
+     *
+     * @param start  the start index.
+     * @param end  the end index.
+     */
+    private void removeRange(int start, int end) {
+        if (start == 0 && end < this.itemCount) {
+            this.start += end;
+            this.itemCount -= end;
+            return;
+        }
+        invalidatePyramid();
+        int tail = this.itemCount - end;
+        System.arraycopy(this.xValues, this.start + end, this.xValues,
+                this.start + start, tail);
+        System.arraycopy(this.yValues, this.start + end, this.yValues,
+                this.start + start, tail);
+        this.itemCount -= (end - start);
+        if (this.itemCount == 0) {
+            this.start = 0;
+        }
+    }
+
+    /**
+     * Returns the index of the first item with an x-value greater than
+     * {@code x} (the series must be sorted).
+     *
+     * @param x  the x-value.
+     *
+     * @return The index.
+     */
+    private int upperBound(double x) {
+        int low = this.start;
+        int high = this.start + this.itemCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.xValues[mid] <= x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low - this.start;
+    }
+
+    /**
+     * Deletes a range of items from the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param start  the start index (zero-based).
+     * @param end  the end index (zero-based, inclusive).
+     */
+    public void delete(int start, int end) {
+        Args.requireInRange(start, "start", 0, this.itemCount - 1);
+        Args.requireInRange(end, "end", start, this.itemCount - 1);
+        removeRange(start, end + 1);
+        findBoundsByIteration();
+        fireSeriesChanged();
+    }
+
+    /**
+     * Removes the item at the specified index and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param index  the index.
+     */
+    public void remove(int index) {
+        Args.requireInRange(index, "index", 0, this.itemCount - 1);
+        double x = this.xValues[this.start + index];
+        double y = this.yValues[this.start + index];
+        removeRange(index, index + 1);
+        updateBoundsForRemovedItem(x, y);
+        fireSeriesChanged();
+    }
+
+    /**
+     * Removes all data items from the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.  The storage
+     * capacity of the series is retained.
+     */
+    public void clear() {
+        if (this.itemCount > 0) {
+            this.itemCount = 0;
+            this.start = 0;
+            invalidatePyramid();
+            this.ascending = true;
+            this.minX = Double.NaN;
+            this.maxX = Double.NaN;
+            this.minY = Double.NaN;
+            this.maxY = Double.NaN;
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Returns the x-value at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The x-value.
+     */
+    public double getXValue(int index) {
+        Args.requireInRange(index, "index", 0, this.itemCount - 1);
+        return this.xValues[this.start + index];
+    }
+
+    /**
+     * Returns the y-value at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The y-value (possibly {@code Double.NaN}).
+     */
+    public double getYValue(int index) {
+        Args.requireInRange(index, "index", 0, this.itemCount - 1);
+        return this.yValues[this.start + index];
+    }
+
+    /**
+     * Returns the x-value at the specified index.  Note that this method
+     * creates a new {@code Number} instance, prefer {@link #getXValue(int)}.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The x-value (never {@code null}).
+     */
+    public Number getX(int index) {
+        return getXValue(index);
+    }
+
+    /**
+     * Returns the y-value at the specified index.  Note that this method
+     * creates a new {@code Number} instance, prefer {@link #getYValue(int)}.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The y-value (never {@code null}).
+     */
+    public Number getY(int index) {
+        return getYValue(index);
+    }
+
+    /**
+     * Updates the y-value of an item in the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param index  the item (zero based index).
+     * @param y  the new value ({@code Double.NaN} for a missing value).
+     */
+    public void updateByIndex(int index, double y) {
+        Args.requireInRange(index, "index", 0, this.itemCount - 1);
+        int p = this.start + index;
+        double oldY = this.yValues[p];
+        this.yValues[p] = y;
+        if (this.pyramid != null && p < this.pyramid.getItemCount()) {
+            this.pyramid.update(this.yValues, p);
+        }
+        if (!Double.isNaN(oldY) && (oldY <= this.minY || oldY >= this.maxY)) {
+            findBoundsByIteration();
+        } else {
+            this.minY = minIgnoreNaN(this.minY, y);
+            this.maxY = maxIgnoreNaN(this.maxY, y);
+        }
+        fireSeriesChanged();
+    }
+
+    /**
+     * Returns the index of the item with the minimum y-value among the items
+     * from {@code first} to {@code last} (inclusive).  Missing values are
+     * ignored.
+     *
+     * @param first  the index of the first item.
+     * @param last  the index of the last item.
+     *
+     * @return The item index, or -1 if there is no non-missing y-value in
+     *     the range.
+     */
+    public int findMinYItem(int first, int last) {
+        return toItem(getPyramid().findMinItem(this.yValues,
+                firstPosition(first), lastPosition(last)));
+    }
+
+    /**
+     * Returns the index of the item with the maximum y-value among the items
+     * from {@code first} to {@code last} (inclusive).  Missing values are
+     * ignored.
+     *
+     * @param first  the index of the first item.
+     * @param last  the index of the last item.
+     *
+     * @return The item index, or -1 if there is no non-missing y-value in
+     *     the range.
+     */
+    public int findMaxYItem(int first, int last) {
+        return toItem(getPyramid().findMaxItem(this.yValues,
+                firstPosition(first), lastPosition(last)));
+    }
+
+    /**
+     * Returns the index of the first item with a missing y-value among the
+     * items from {@code first} to {@code last} (inclusive).
+     *
+     * @param first  the index of the first item.
+     * @param last  the index of the last item.
+     *
+     * @return The item index, or -1 if there is no missing y-value in the
+     *     range.
+     */
+    public int findFirstMissingYItem(int first, int last) {
+        return toItem(getPyramid().findFirstMissingItem(this.yValues,
+                firstPosition(first), lastPosition(last)));
+    }
+
+    /**
+     * Returns the number of non-missing y-values among the items from
+     * {@code first} to {@code last} (inclusive).
+     *
+     * @param first  the index of the first item.
+     * @param last  the index of the last item.
+     *
+     * @return The number of non-missing y-values.
+     */
+    public int getYValueCount(int first, int last) {
+        return getPyramid().getValueCount(this.yValues,
+                firstPosition(first), lastPosition(last));
+    }
+
+    /**
+     * Converts the index of the first item in a range to a position in the
+     * storage arrays (never before the first item).
+     *
+     * @param first  the index of the first item.
+     *
+     * @return The position.
+     */
+    private int firstPosition(int first) {
+        return this.start + Math.max(0, Math.min(first, this.itemCount));
+    }
+
+    /**
+     * Converts the index of the last item in a range to a position in the
+     * storage arrays (never after the last item).
+     *
+     * @param last  the index of the last item.
+     *
+     * @return The position.
+     */
+    private int lastPosition(int last) {
+        return this.start + Math.min(last, this.itemCount - 1);
+    }
+
+    /**
+     * Converts a position in the storage arrays to an item index.
+     *
+     * @param position  the position (-1 for none).
+     *
+     * @return The item index (-1 for none).
+     */
+    private int toItem(int position) {
+        return position < 0 ? -1 : position - this.start;
+    }
+
+    /**
+     * Returns the index over the y-values, creating it or adding any items
+     * appended since it was last used.
+     *
+     * @return The index.
+     */
+    private XYPyramidIndex getPyramid() {
+        if (this.pyramid == null) {
+            this.pyramid = new XYPyramidIndex();
+        }
+        int end = this.start + this.itemCount;
+        if (this.pyramid.getItemCount() > end) {
+            this.pyramid.clear();
+        }
+        if (this.pyramid.getItemCount() != end) {
+            this.pyramid.append(this.yValues, end);
+        }
+        return this.pyramid;
+    }
+
+    /**
+     * Clears the index over the y-values, following a change that moves
+     * existing items.
+     */
+    private void invalidatePyramid() {
+        if (this.pyramid != null) {
+            this.pyramid.clear();
+        }
+    }
+
+    /**
+     * Returns the index of the item with the specified x-value, or a negative
+     * index if the series does not contain an item with that x-value.  For
+     * a sorted series the negative value is {@code -(insertion point) - 1},
+     * for an unsorted series the items are examined one by one and the
+     * result is {@code -1} if there is no match.
+     *
+     * @param x  the x-value.
+     *
+     * @return The index.
+     */
+    public int indexOf(double x) {
+        int end = this.start + this.itemCount;
+        if (this.autoSort) {
+            int index = Arrays.binarySearch(this.xValues, this.start, end, x);
+            return index >= 0 ? index - this.start : index + this.start;
+        }
+        for (int i = this.start; i < end; i++) {
+            if (this.xValues[i] == x) {
+                return i - this.start;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a new array containing the x and y values from this series.
+     *
+     * @return A new array containing the x and y values from this series.
+     */
+    public double[][] toArray() {
+        int end = this.start + this.itemCount;
+        return new double[][] {
+                Arrays.copyOfRange(this.xValues, this.start, end),
+                Arrays.copyOfRange(this.yValues, this.start, end)};
+    }
+
+    /**
+     * Updates the cached values for the minimum and maximum data values.
+     *
+     * @param x  the x-value added.
+     * @param y  the y-value added.
+     */
+    private void updateBoundsForAddedItem(double x, double y) {
+        this.minX = minIgnoreNaN(this.minX, x);
+        this.maxX = maxIgnoreNaN(this.maxX, x);
+        this.minY = minIgnoreNaN(this.minY, y);
+        this.maxY = maxIgnoreNaN(this.maxY, y);
+    }
+
+    /**
+     * Updates the cached values for the minimum and maximum data values on
+     * the basis that the specified item has just been removed.
+     *
+     * @param x  the x-value removed.
+     * @param y  the y-value removed.
+     */
+    private void updateBoundsForRemovedItem(double x, double y) {
+        boolean xBound = !Double.isNaN(x) && (x <= this.minX || x >= this.maxX);
+        boolean yBound = !Double.isNaN(y) && (y <= this.minY || y >= this.maxY);
+        if (yBound || (xBound && !this.ascending)) {
+            findBoundsByIteration();
+        } else if (xBound) {
+            if (this.itemCount > 0) {
+                this.minX = this.xValues[this.start];
+                this.maxX = this.xValues[this.start + this.itemCount - 1];
+            } else {
+                this.minX = Double.NaN;
+                this.maxX = Double.NaN;
+            }
+        }
+    }
+
+    /**
+     * Finds the bounds of the x and y values for the series, by iterating
+     * through all the data items.  This also refreshes the flag that
+     * records whether the x-values are in ascending order.
+     */
+    private void findBoundsByIteration() {
+        this.minX = Double.NaN;
+        this.maxX = Double.NaN;
+        this.minY = Double.NaN;
+        this.maxY = Double.NaN;
+        boolean asc = true;
+        int end = this.start + this.itemCount;
+        for (int i = this.start; i < end; i++) {
+            if (i > this.start && !(this.xValues[i] >= this.xValues[i - 1])) {
+                asc = false;
+            }
+            updateBoundsForAddedItem(this.xValues[i], this.yValues[i]);
+        }
+        this.ascending = asc;
+    }
+
+    /**
+     * A function to find the minimum of two values, but ignoring any
+     * Double.NaN values.
+     *
+     * @param a  the first value.
+     * @param b  the second value.
+     *
+     * @return The minimum of the two values.
+     */
+    private static double minIgnoreNaN(double a, double b) {
+        if (Double.isNaN(a)) {
+            return b;
+        }
+        if (Double.isNaN(b)) {
+            return a;
+        }
+        return Math.min(a, b);
+    }
+
+    /**
+     * A function to find the maximum of two values, but ignoring any
+     * Double.NaN values.
+     *
+     * @param a  the first value.
+     * @param b  the second value.
+     *
+     * @return The maximum of the two values.
+     */
+    private static double maxIgnoreNaN(double a, double b) {
+        if (Double.isNaN(a)) {
+            return b;
+        }
+        if (Double.isNaN(b)) {
+            return a;
+        }
+        return Math.max(a, b);
+    }
+
+    /**
+     * Returns a clone of the series.
+     *
+     * @return A clone of the series.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object clone() throws CloneNotSupportedException {
+        PrimitiveXYSeries<K> clone = (PrimitiveXYSeries) super.clone();
+        clone.xValues = this.xValues.clone();
+        clone.yValues = this.yValues.clone();
+        clone.pyramid = null;
+        return clone;
+    }
+
+    /**
+     * Tests this series for equality with an arbitrary object.
+     *
+     * @param obj  the object to test against for equality
+     *             ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof PrimitiveXYSeries)) {
+            return false;
+        }
+        if (!super.equals(obj)) {
+            return false;
+        }
+        PrimitiveXYSeries<?> that = (PrimitiveXYSeries) obj;
+        if (this.maximumItemCount != that.maximumItemCount) {
+            return false;
+        }
+        if (this.autoSort != that.autoSort) {
+            return false;
+        }
+        if (this.allowDuplicateXValues != that.allowDuplicateXValues) {
+            return false;
+        }
+        if (this.itemCount != that.itemCount) {
+            return false;
+        }
+        int end = this.start + this.itemCount;
+        int thatEnd = that.start + that.itemCount;
+        if (!Arrays.equals(this.xValues, this.start, end, that.xValues,
+                that.start, thatEnd)) {
+            return false;
+        }
+        return Arrays.equals(this.yValues, this.start, end, that.yValues,
+                that.start, thatEnd);
+    }
+
+    /**
+     * Returns a hash code.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int result = super.hashCode();
+        // it is too slow to look at every data item, so let's just look at
+        // the first, middle and last items...
+        int count = this.itemCount;
+        int s = this.start;
+        if (count > 0) {
+            result = 29 * result + Double.hashCode(this.xValues[s]);
+            result = 29 * result + Double.hashCode(this.yValues[s]);
+        }
+        if (count > 1) {
+            int last = s + count - 1;
+            result = 29 * result + Double.hashCode(this.xValues[last]);
+            result = 29 * result + Double.hashCode(this.yValues[last]);
+        }
+        if (count > 2) {
+            int middle = s + count / 2;
+            result = 29 * result + Double.hashCode(this.xValues[middle]);
+            result = 29 * result + Double.hashCode(this.yValues[middle]);
+        }
+        result = 29 * result + this.maximumItemCount;
+        result = 29 * result + (this.autoSort ? 1 : 0);
+        result = 29 * result + (this.allowDuplicateXValues ? 1 : 0);
+        return result;
+    }
+
+    /**
+     * Provides serialization support (only the used portion of the storage
+     * arrays is written).
+     *
+     * @param stream  the output stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     */
+    private void writeObject(ObjectOutputStream stream) throws IOException {
+        stream.defaultWriteObject();
+        stream.writeInt(this.itemCount);
+        int end = this.start + this.itemCount;
+        for (int i = this.start; i < end; i++) {
+            stream.writeDouble(this.xValues[i]);
+            stream.writeDouble(this.yValues[i]);
+        }
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        int count = stream.readInt();
+        int capacity = Math.max(count, DEFAULT_INITIAL_CAPACITY);
+        this.xValues = new double[capacity];
+        this.yValues = new double[capacity];
+        for (int i = 0; i < count; i++) {
+            this.xValues[i] = stream.readDouble();
+            this.yValues[i] = stream.readDouble();
+        }
+        this.start = 0;
+        this.itemCount = count;
+        findBoundsByIteration();
+    }
+
+}
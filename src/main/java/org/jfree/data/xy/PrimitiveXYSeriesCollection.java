@@ -0,0 +1,914 @@
+/* ======================================================
+ * JFreeChart : a chart library for the Java(tm) platform
+ * ======================================================
+ *
+ * (C) Copyright 2000-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------------
+ * PrimitiveXYSeriesCollection.java
+ * --------------------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.jfree.chart.api.PublicCloneable;
+import org.jfree.chart.internal.Args;
+import org.jfree.chart.internal.CloneUtils;
+import org.jfree.chart.internal.HashUtils;
+import org.jfree.data.DomainInfo;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
+import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.DatasetChangeEvent;
+
+/**
+ * A collection of {@link PrimitiveXYSeries} objects that can be used as a
+ * dataset.  This class offers the same features as
+ * {@link XYSeriesCollection} but reads the data values directly from the
+ * primitive arrays in each series, so that renderers calling
+ * {@link #getXValue(int, int)} and {@link #getYValue(int, int)} never see
+ * a {@code Number} instance.  The domain order is reported as
+ * {@link DomainOrder#ASCENDING} whenever every series in the collection has
+ * its x-values in ascending order, which allows renderers to use a binary
+ * search to find the items that are visible.  The collection also
+ * implements {@link XYRangeInfo} and {@link XYItemRangeInfo} using the
+ * {@link XYPyramidIndex} maintained by each series, so that the y-range for
+ * the visible x-range (and the per-pixel extremes used for decimation) can
+ * be found without iterating over every visible item.
+ *
+ * @param <S> the series key type.
+ */
+public class PrimitiveXYSeriesCollection<S extends Comparable<S>>
+        extends AbstractIntervalXYDataset<S>
+        implements IntervalXYDataset<S>, DomainInfo, RangeInfo, XYRangeInfo,
+        XYItemRangeInfo, PublicCloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -3189478466281349785L;
+
+    /** The series that are included in the collection. */
+    private List<PrimitiveXYSeries<S>> data;
+
+    /** The interval delegate (used to calculate the start and end x-values). */
+    private IntervalXYDelegate intervalDelegate;
+
+    /**
+     * Constructs an empty dataset.
+     */
+    public PrimitiveXYSeriesCollection() {
+        this(null);
+    }
+
+    /**
+     * Constructs a dataset and populates it with a single series.
+     *
+     * @param series  the series ({@code null} ignored).
+     */
+    public PrimitiveXYSeriesCollection(PrimitiveXYSeries<S> series) {
+        super();
+        this.data = new ArrayList<>();
+        this.intervalDelegate = new IntervalXYDelegate(this, false);
+        addChangeListener(this.intervalDelegate);
+        if (series != null) {
+            this.data.add(series);
+            series.addChangeListener(this);
+        }
+    }
+
+    /**
+     * Returns the order of the domain (X) values.  This is
+     * {@link DomainOrder#ASCENDING} if the x-values in every series are in
+     * ascending order, and {@link DomainOrder#NONE} otherwise.
+     *
+     * @return The domain order.
+     */
+    @Override
+    public DomainOrder getDomainOrder() {
+        for (PrimitiveXYSeries<S> s : this.data) {
+            if (!s.isAscending()) {
+                return DomainOrder.NONE;
+            }
+        }
+        return DomainOrder.ASCENDING;
+    }
+
+    /**
+     * Adds a series to the collection and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.
+     *
+     * @param series  the series ({@code null} not permitted).
+     *
+     * @throws IllegalArgumentException if the key for the series is null or
+     *     not unique within the dataset.
+     */
+    public void addSeries(PrimitiveXYSeries<S> series) {
+        Args.nullNotPermitted(series, "series");
+        if (getSeriesIndex(series.getKey()) >= 0) {
+            throw new IllegalArgumentException(
+                "This dataset already contains a series with the key "
+                + series.getKey());
+        }
+        this.data.add(series);
+        series.addChangeListener(this);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a series from the collection and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param series  the series index (zero-based).
+     */
+    public void removeSeries(int series) {
+        Args.requireInRange(series, "series", 0, this.data.size() - 1);
+        removeSeries(this.data.get(series));
+    }
+
+    /**
+     * Removes a series from the collection and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param series  the series ({@code null} not permitted).
+     */
+    public void removeSeries(PrimitiveXYSeries<S> series) {
+        Args.nullNotPermitted(series, "series");
+        if (this.data.contains(series)) {
+            series.removeChangeListener(this);
+            this.data.remove(series);
+            fireDatasetChanged();
+        }
+    }
+
+    /**
+     * Removes all the series from the collection and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     */
+    public void removeAllSeries() {
+        for (PrimitiveXYSeries<S> series : this.data) {
+            series.removeChangeListener(this);
+        }
+        this.data.clear();
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the number of series in the collection.
+     *
+     * @return The series count.
+     */
+    @Override
+    public int getSeriesCount() {
+        return this.data.size();
+    }
+
+    /**
+     * Returns an unmodifiable list of all the series in the collection.
+     *
+     * @return The list (never {@code null}).
+     */
+    public List<PrimitiveXYSeries<S>> getSeries() {
+        return Collections.unmodifiableList(this.data);
+    }
+
+    /**
+     * Returns the index of the specified series, or -1 if that series is not
+     * present in the dataset.
+     *
+     * @param series  the series ({@code null} not permitted).
+     *
+     * @return The series index.
+     */
+    public int indexOf(PrimitiveXYSeries<S> series) {
+        Args.nullNotPermitted(series, "series");
+        return this.data.indexOf(series);
+    }
+
+    /**
+     * Returns a series from the collection.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The series.
+     *
+     * @throws IllegalArgumentException if {@code series} is not in the
+     *     range {@code 0} to {@code getSeriesCount() - 1}.
+     */
+    public PrimitiveXYSeries<S> getSeries(int series) {
+        Args.requireInRange(series, "series", 0, this.data.size() - 1);
+        return this.data.get(series);
+    }
+
+    /**
+     * Returns a series from the collection.
+     *
+     * @param key  the key ({@code null} not permitted).
+     *
+     * @return The series with the specified key.
+     *
+     * @throws UnknownKeyException if {@code key} is not found in the
+     *         collection.
+     */
+    public PrimitiveXYSeries<S> getSeries(S key) {
+        Args.nullNotPermitted(key, "key");
+        for (PrimitiveXYSeries<S> series : this.data) {
+            if (key.equals(series.getKey())) {
+                return series;
+            }
+        }
+        throw new UnknownKeyException("Key not found: " + key);
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index (in the range {@code 0} to
+     *     {@code getSeriesCount() - 1}).
+     *
+     * @return The key for a series.
+     *
+     * @throws IllegalArgumentException if {@code series} is not in the
+     *     specified range.
+     */
+    @Override
+    public S getSeriesKey(int series) {
+        // defer argument checking
+        return getSeries(series).getKey();
+    }
+
+    /**
+     * Returns the index of the series with the specified key, or -1 if no
+     * series has that key.
+     *
+     * @param key  the key ({@code null} not permitted).
+     *
+     * @return The index.
+     */
+    public int getSeriesIndex(S key) {
+        Args.nullNotPermitted(key, "key");
+        int seriesCount = getSeriesCount();
+        for (int i = 0; i < seriesCount; i++) {
+            PrimitiveXYSeries<S> series = this.data.get(i);
+            if (key.equals(series.getKey())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of items in the specified series.
+     *
+     * @param series  the series (zero-based index).
+     *
+     * @return The item count.
+     *
+     * @throws IllegalArgumentException if {@code series} is not in the
+     *     range {@code 0} to {@code getSeriesCount() - 1}.
+     */
+    @Override
+    public int getItemCount(int series) {
+        // defer argument checking
+        return getSeries(series).getItemCount();
+    }
+
+    /**
+     * Returns the x-value for the specified series and item.  Note that this
+     * method creates a new {@code Number} instance, renderers should call
+     * {@link #getXValue(int, int)} instead.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value.
+     */
+    @Override
+    public Number getX(int series, int item) {
+        return getXValue(series, item);
+    }
+
+    /**
+     * Returns the x-value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value.
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        return this.data.get(series).getXValue(item);
+    }
+
+    /**
+     * Returns the starting X value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The starting X value.
+     */
+    @Override
+    public Number getStartX(int series, int item) {
+        return getStartXValue(series, item);
+    }
+
+    /**
+     * Returns the starting X value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The starting X value.
+     */
+    @Override
+    public double getStartXValue(int series, int item) {
+        return this.intervalDelegate.getStartXValue(series, item);
+    }
+
+    /**
+     * Returns the ending X value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The ending X value.
+     */
+    @Override
+    public Number getEndX(int series, int item) {
+        return getEndXValue(series, item);
+    }
+
+    /**
+     * Returns the ending X value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The ending X value.
+     */
+    @Override
+    public double getEndXValue(int series, int item) {
+        return this.intervalDelegate.getEndXValue(series, item);
+    }
+
+    /**
+     * Returns the y-value for the specified series and item.  Note that this
+     * method creates a new {@code Number} instance, renderers should call
+     * {@link #getYValue(int, int)} instead.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value (never {@code null}, missing values are represented
+     *     by {@code Double.NaN}).
+     */
+    @Override
+    public Number getY(int series, int item) {
+        return getYValue(series, item);
+    }
+
+    /**
+     * Returns the y-value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value (possibly {@code Double.NaN}).
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        return this.data.get(series).getYValue(item);
+    }
+
+    /**
+     * Returns the starting Y value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The starting Y value.
+     */
+    @Override
+    public Number getStartY(int series, int item) {
+        return getY(series, item);
+    }
+
+    /**
+     * Returns the starting Y value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The starting Y value.
+     */
+    @Override
+    public double getStartYValue(int series, int item) {
+        return getYValue(series, item);
+    }
+
+    /**
+     * Returns the ending Y value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The ending Y value.
+     */
+    @Override
+    public Number getEndY(int series, int item) {
+        return getY(series, item);
+    }
+
+    /**
+     * Returns the ending Y value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The ending Y value.
+     */
+    @Override
+    public double getEndYValue(int series, int item) {
+        return getYValue(series, item);
+    }
+
+    /**
+     * Returns the minimum x-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether the
+     *                         x-interval is taken into account.
+     *
+     * @return The minimum value.
+     */
+    @Override
+    public double getDomainLowerBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return (r != null ? r.getLowerBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the maximum x-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether the
+     *                         x-interval is taken into account.
+     *
+     * @return The maximum value.
+     */
+    @Override
+    public double getDomainUpperBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return (r != null ? r.getUpperBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the range of the values in this dataset's domain.  The bounds
+     * are cached by each series, so this method does not need to iterate
+     * over the data items.
+     *
+     * @param includeInterval  a flag that determines whether the
+     *                         x-interval is taken into account.
+     *
+     * @return The range (or {@code null} if the dataset contains no
+     *     values).
+     */
+    @Override
+    public Range getDomainBounds(boolean includeInterval) {
+        double lower = Double.POSITIVE_INFINITY;
+        double upper = Double.NEGATIVE_INFINITY;
+        for (PrimitiveXYSeries<S> series : this.data) {
+            double minX = series.getMinX();
+            if (!Double.isNaN(minX)) {
+                lower = Math.min(lower, minX);
+            }
+            double maxX = series.getMaxX();
+            if (!Double.isNaN(maxX)) {
+                upper = Math.max(upper, maxX);
+            }
+        }
+        if (lower > upper) {
+            return null;
+        }
+        if (includeInterval) {
+            double width = this.intervalDelegate.getIntervalWidth();
+            double lowerAdj = width
+                    * this.intervalDelegate.getIntervalPositionFactor();
+            lower = lower - lowerAdj;
+            upper = upper + (width - lowerAdj);
+        }
+        return new Range(lower, upper);
+    }
+
+    /**
+     * Returns the minimum y-value in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The minimum value.
+     */
+    @Override
+    public double getRangeLowerBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return (r != null ? r.getLowerBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the maximum y-value in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The maximum value.
+     */
+    @Override
+    public double getRangeUpperBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return (r != null ? r.getUpperBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the range of the values in this dataset's range.  The bounds
+     * are cached by each series, so this method does not need to iterate
+     * over the data items.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The range (or {@code null} if the dataset contains no
+     *     values).
+     */
+    @Override
+    public Range getRangeBounds(boolean includeInterval) {
+        double lower = Double.POSITIVE_INFINITY;
+        double upper = Double.NEGATIVE_INFINITY;
+        for (PrimitiveXYSeries<S> series : this.data) {
+            double minY = series.getMinY();
+            if (!Double.isNaN(minY)) {
+                lower = Math.min(lower, minY);
+            }
+            double maxY = series.getMaxY();
+            if (!Double.isNaN(maxY)) {
+                upper = Math.max(upper, maxY);
+            }
+        }
+        if (lower > upper) {
+            return null;
+        }
+        return new Range(lower, upper);
+    }
+
+    /**
+     * Returns the range of the y-values for the items in the visible series
+     * that have x-values within the specified range.  For series with
+     * x-values in ascending order, the items are located by a binary search
+     * and the extreme values are read from the series index, so the cost
+     * does not depend on the number of items in the x-range.
+     *
+     * @param visibleSeriesKeys  the keys of the visible series
+     *     ({@code null} not permitted).
+     * @param xRange  the x-range ({@code null} not permitted).
+     * @param includeInterval  ignored.
+     *
+     * @return The range (or {@code null} if there are no values in the
+     *     x-range).
+     */
+    @Override
+    public Range getRangeBounds(List visibleSeriesKeys, Range xRange,
+            boolean includeInterval) {
+        Args.nullNotPermitted(visibleSeriesKeys, "visibleSeriesKeys");
+        Args.nullNotPermitted(xRange, "xRange");
+        double lower = Double.POSITIVE_INFINITY;
+        double upper = Double.NEGATIVE_INFINITY;
+        for (PrimitiveXYSeries<S> series : this.data) {
+            if (!visibleSeriesKeys.contains(series.getKey())) {
+                continue;
+            }
+            if (series.isAscending()) {
+                int first = firstItemAtOrAbove(series, xRange.getLowerBound());
+                int last = firstItemAbove(series, xRange.getUpperBound()) - 1;
+                int min = series.findMinYItem(first, last);
+                if (min >= 0) {
+                    lower = Math.min(lower, series.getYValue(min));
+                    upper = Math.max(upper,
+                            series.getYValue(series.findMaxYItem(first, last)));
+                }
+            } else {
+                int itemCount = series.getItemCount();
+                for (int item = 0; item < itemCount; item++) {
+                    double y = series.getYValue(item);
+                    if (xRange.contains(series.getXValue(item))
+                            && !Double.isNaN(y)) {
+                        lower = Math.min(lower, y);
+                        upper = Math.max(upper, y);
+                    }
+                }
+            }
+        }
+        if (lower > upper) {
+            return null;
+        }
+        return new Range(lower, upper);
+    }
+
+    /**
+     * Returns the index of the first item in an ascending series with an
+     * x-value greater than or equal to {@code x}.
+     *
+     * @param series  the series.
+     * @param x  the x-value.
+     *
+     * @return The item index (equal to the item count if there is no such
+     *     item).
+     */
+    private static int firstItemAtOrAbove(PrimitiveXYSeries<?> series,
+            double x) {
+        int low = 0;
+        int high = series.getItemCount();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (series.getXValue(mid) < x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first item in an ascending series with an
+     * x-value greater than {@code x}.
+     *
+     * @param series  the series.
+     * @param x  the x-value.
+     *
+     * @return The item index (equal to the item count if there is no such
+     *     item).
+     */
+    private static int firstItemAbove(PrimitiveXYSeries<?> series, double x) {
+        int low = 0;
+        int high = series.getItemCount();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (series.getXValue(mid) <= x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the item with the minimum y-value among the items
+     * from {@code first} to {@code last} (inclusive) in a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param first  the index of the first item.
+     * @param last  the index of the last item.
+     *
+     * @return The item index, or -1 if there is no non-missing y-value in
+     *     the range.
+     */
+    @Override
+    public int findMinYItem(int series, int first, int last) {
+        return this.data.get(series).findMinYItem(first, last);
+    }
+
+    /**
+     * Returns the index of the item with the maximum y-value among the items
+     * from {@code first} to {@code last} (inclusive) in a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param first  the index of the first item.
+     * @param last  the index of the last item.
+     *
+     * @return The item index, or -1 if there is no non-missing y-value in
+     *     the range.
+     */
+    @Override
+    public int findMaxYItem(int series, int first, int last) {
+        return this.data.get(series).findMaxYItem(first, last);
+    }
+
+    /**
+     * Returns the index of the first item with a missing y-value among the
+     * items from {@code first} to {@code last} (inclusive) in a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param first  the index of the first item.
+     * @param last  the index of the last item.
+     *
+     * @return The item index, or -1 if there is no missing y-value in the
+     *     range.
+     */
+    @Override
+    public int findFirstMissingYItem(int series, int first, int last) {
+        return this.data.get(series).findFirstMissingYItem(first, last);
+    }
+
+    /**
+     * Returns the number of non-missing y-values among the items from
+     * {@code first} to {@code last} (inclusive) in a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param first  the index of the first item.
+     * @param last  the index of the last item.
+     *
+     * @return The number of non-missing y-values.
+     */
+    @Override
+    public int getYValueCount(int series, int first, int last) {
+        return this.data.get(series).getYValueCount(first, last);
+    }
+
+    /**
+     * Returns the interval width. This is used to calculate the start and end
+     * x-values, if/when the dataset is used as an {@link IntervalXYDataset}.
+     *
+     * @return The interval width.
+     */
+    public double getIntervalWidth() {
+        return this.intervalDelegate.getIntervalWidth();
+    }
+
+    /**
+     * Sets the interval width and sends a {@link DatasetChangeEvent} to all
+     * registered listeners.
+     *
+     * @param width  the width (negative values not permitted).
+     */
+    public void setIntervalWidth(double width) {
+        if (width < 0.0) {
+            throw new IllegalArgumentException("Negative 'width' argument.");
+        }
+        this.intervalDelegate.setFixedIntervalWidth(width);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the interval position factor.
+     *
+     * @return The interval position factor.
+     */
+    public double getIntervalPositionFactor() {
+        return this.intervalDelegate.getIntervalPositionFactor();
+    }
+
+    /**
+     * Sets the interval position factor. This controls where the x-value is in
+     * relation to the interval surrounding the x-value (0.0 means the x-value
+     * will be positioned at the start, 0.5 in the middle, and 1.0 at the end).
+     *
+     * @param factor  the factor.
+     */
+    public void setIntervalPositionFactor(double factor) {
+        this.intervalDelegate.setIntervalPositionFactor(factor);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns whether the interval width is automatically calculated or not.
+     *
+     * @return Whether the width is automatically calculated or not.
+     */
+    public boolean isAutoWidth() {
+        return this.intervalDelegate.isAutoWidth();
+    }
+
+    /**
+     * Sets the flag that indicates whether the interval width is automatically
+     * calculated or not.
+     *
+     * @param b  a boolean.
+     */
+    public void setAutoWidth(boolean b) {
+        this.intervalDelegate.setAutoWidth(b);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Tests this collection for equality with an arbitrary object.
+     *
+     * @param obj  the object ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof PrimitiveXYSeriesCollection)) {
+            return false;
+        }
+        PrimitiveXYSeriesCollection<?> that
+                = (PrimitiveXYSeriesCollection) obj;
+        if (!this.intervalDelegate.equals(that.intervalDelegate)) {
+            return false;
+        }
+        return Objects.equals(this.data, that.data);
+    }
+
+    /**
+     * Returns a hash code.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 7;
+        hash = HashUtils.hashCode(hash, this.intervalDelegate);
+        hash = HashUtils.hashCode(hash, this.data);
+        return hash;
+    }
+
+    /**
+     * Returns a clone of this instance.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object clone() throws CloneNotSupportedException {
+        PrimitiveXYSeriesCollection<S> clone
+                = (PrimitiveXYSeriesCollection) super.clone();
+        clone.data = CloneUtils.cloneList(this.data);
+        for (PrimitiveXYSeries<S> series : clone.data) {
+            series.addChangeListener(clone);
+        }
+        // the delegate holds a reference to its dataset, so create a new one
+        clone.intervalDelegate = new IntervalXYDelegate(clone, false);
+        clone.intervalDelegate.setIntervalPositionFactor(
+                this.intervalDelegate.getIntervalPositionFactor());
+        clone.intervalDelegate.setFixedIntervalWidth(
+                this.intervalDelegate.getFixedIntervalWidth());
+        clone.intervalDelegate.setAutoWidth(
+                this.intervalDelegate.isAutoWidth());
+        clone.addChangeListener(clone.intervalDelegate);
+        return clone;
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the output stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     */
+    private void writeObject(ObjectOutputStream stream) throws IOException {
+        stream.defaultWriteObject();
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        addChangeListener(this.intervalDelegate);
+        for (PrimitiveXYSeries<S> item : this.data) {
+            item.addChangeListener(this);
+        }
+    }
+
+}
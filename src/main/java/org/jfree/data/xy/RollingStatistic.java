@@ -0,0 +1,70 @@
+/* ======================================================
+ * JFreeChart : a chart library for the Java(tm) platform
+ * ======================================================
+ *
+ * (C) Copyright 2000-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------
+ * RollingStatistic.java
+ * ---------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.xy;
+
+/**
+ * The statistics that can be calculated by a 
+ * {@link RollingStatisticsDataset}.
+ */
+public enum RollingStatistic {
+
+    /** The mean of the y-values in the window (a simple moving average). */
+    MEAN,
+
+    /** 
+     * An exponential moving average of the y-values, with a smoothing 
+     * factor of {@code 2 / (window + 1)}.
+     */
+    EXPONENTIAL_MEAN,
+
+    /** The minimum y-value in the window. */
+    MINIMUM,
+
+    /** The maximum y-value in the window. */
+    MAXIMUM,
+
+    /** The (population) standard deviation of the y-values in the window. */
+    STANDARD_DEVIATION,
+
+    /** 
+     * Bollinger bands: the mean of the y-values in the window, with a 
+     * y-interval that extends a multiple of the standard deviation either
+     * side of the mean.
+     */
+    BOLLINGER_BANDS
+
+}
@@ -0,0 +1,901 @@
+/* ======================================================
+ * JFreeChart : a chart library for the Java(tm) platform
+ * ======================================================
+ *
+ * (C) Copyright 2000-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------------
+ * RollingStatisticsDataset.java
+ * -----------------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import org.jfree.chart.api.PublicCloneable;
+import org.jfree.chart.internal.Args;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+
+/**
+ * A live dataset that calculates a rolling statistic (a moving average, 
+ * exponential moving average, rolling minimum, maximum or standard deviation,
+ * or Bollinger bands) for each series in a source {@link XYDataset}.  The 
+ * dataset listens for changes to the source and, when items have been 
+ * appended to a series (or removed from the start of a series, as happens
+ * when a series has a maximum item count), updates the statistic in 
+ * constant time per item rather than recalculating it.  It can be used
+ * directly as a renderer dataset in an {@link org.jfree.chart.plot.XYPlot},
+ * for example with a {@code DeviationRenderer} to display Bollinger bands.
+ * <p>
+ * The window is a number of items.  Except for 
+ * {@link RollingStatistic#EXPONENTIAL_MEAN}, the statistic for an item is 
+ * {@code Double.NaN} until the window is full, and is also {@code NaN} when
+ * the window contains a missing ({@code null} or {@code NaN}) y-value.  
+ * The x-values are those of the source dataset.
+ * <p>
+ * After each change event the dataset checks that the items it has already
+ * processed are still at the end of each source series; if they are not,
+ * the series is recalculated.  A change to an earlier item that leaves the 
+ * last item in place is not detected, in that case call {@link #refresh()}.
+ * To stop listening to the source, remove this dataset from the source's
+ * change listeners.
+ *
+ * @param <S> the series key type.
+ *
+ * @see org.jfree.data.time.MovingAverage
+ */
+public class RollingStatisticsDataset<S extends Comparable<S>> 
+        extends AbstractIntervalXYDataset<S>
+        implements IntervalXYDataset<S>, DatasetChangeListener, 
+        PublicCloneable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 633522646419485448L;
+
+    /** The source dataset. */
+    private XYDataset<S> source;
+
+    /** The statistic. */
+    private final RollingStatistic statistic;
+
+    /** The number of items in the window. */
+    private final int window;
+
+    /** 
+     * The multiple of the standard deviation used for the Bollinger band 
+     * y-intervals.
+     */
+    private double bandWidth;
+
+    /** The calculated values for each series. */
+    private List<RollingSeries> series;
+
+    /**
+     * Creates a new dataset and registers it as a listener with the source
+     * dataset.
+     *
+     * @param source  the source dataset ({@code null} not permitted).
+     * @param statistic  the statistic ({@code null} not permitted).
+     * @param window  the number of items in the window (at least 1).
+     */
+    public RollingStatisticsDataset(XYDataset<S> source, 
+            RollingStatistic statistic, int window) {
+        Args.nullNotPermitted(source, "source");
+        Args.nullNotPermitted(statistic, "statistic");
+        if (window < 1) {
+            throw new IllegalArgumentException(
+                    "Requires 'window' to be at least 1.");
+        }
+        this.source = source;
+        this.statistic = statistic;
+        this.window = window;
+        this.bandWidth = 2.0;
+        this.series = new ArrayList<>();
+        update();
+        this.source.addChangeListener(this);
+    }
+
+    /**
+     * Returns the source dataset.
+     *
+     * @return The source dataset (never {@code null}).
+     */
+    public XYDataset<S> getSource() {
+        return this.source;
+    }
+
+    /**
+     * Returns the statistic calculated by this dataset.
+     *
+     * @return The statistic (never {@code null}).
+     */
+    public RollingStatistic getStatistic() {
+        return this.statistic;
+    }
+
+    /**
+     * Returns the number of items in the window.
+     *
+     * @return The window size.
+     */
+    public int getWindow() {
+        return this.window;
+    }
+
+    /**
+     * Returns the multiple of the standard deviation that the y-interval 
+     * extends either side of the mean, for 
+     * {@link RollingStatistic#BOLLINGER_BANDS}.  The default is 2.0.
+     *
+     * @return The band width.
+     *
+     * @see #setBandWidth(double)
+     */
+    public double getBandWidth() {
+        return this.bandWidth;
+    }
+
+    /**
+     * Sets the multiple of the standard deviation that the y-interval 
+     * extends either side of the mean (for 
+     * {@link RollingStatistic#BOLLINGER_BANDS}) and sends a 
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param bandWidth  the band width (zero or greater).
+     *
+     * @see #getBandWidth()
+     */
+    public void setBandWidth(double bandWidth) {
+        Args.requireNonNegative(bandWidth, "bandWidth");
+        this.bandWidth = bandWidth;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Recalculates the statistic for every series and sends a 
+     * {@link DatasetChangeEvent} to all registered listeners.  This is only
+     * required after a change to the source dataset that the incremental 
+     * update cannot detect (see the class description).
+     */
+    public void refresh() {
+        this.series.clear();
+        update();
+        fireDatasetChanged();
+    }
+
+    /**
+     * Brings the calculated values up to date with the source dataset.
+     */
+    private void update() {
+        int seriesCount = this.source.getSeriesCount();
+        if (this.series.size() != seriesCount) {
+            this.series.clear();
+            for (int s = 0; s < seriesCount; s++) {
+                this.series.add(new RollingSeries(this.statistic, 
+                        this.window));
+            }
+        }
+        for (int s = 0; s < seriesCount; s++) {
+            update(s, this.series.get(s));
+        }
+    }
+
+    /**
+     * Brings the calculated values for one series up to date with the
+     * source dataset, processing only the appended items when possible.
+     *
+     * @param s  the series index.
+     * @param rs  the calculated values for the series.
+     */
+    private void update(int s, RollingSeries rs) {
+        int itemCount = this.source.getItemCount(s);
+        if (rs.count > 0) {
+            // find the number of items removed from the start of the series
+            // and check that the last processed item is still in place
+            int removed = 0;
+            if (itemCount > 0) {
+                double x0 = this.source.getXValue(s, 0);
+                while (removed < rs.count 
+                        && !same(rs.getX(removed), x0)) {
+                    removed++;
+                }
+            }
+            int last = rs.count - 1 - removed;
+            boolean valid = removed < rs.count && last < itemCount
+                    && same(rs.getX(rs.count - 1), 
+                            this.source.getXValue(s, last))
+                    && same(rs.getSourceY(rs.count - 1), 
+                            this.source.getYValue(s, last));
+            if (!valid || (removed > 0 && rs.count - removed < this.window)) {
+                rs.clear();
+            } else if (removed > 0) {
+                rs.removeFirst(removed);
+            }
+        }
+        for (int i = rs.count; i < itemCount; i++) {
+            rs.append(this.source.getXValue(s, i), 
+                    this.source.getYValue(s, i));
+        }
+    }
+
+    /**
+     * Returns {@code true} if two values are the same (treating 
+     * {@code NaN} as equal to {@code NaN}).
+     *
+     * @param v1  the first value.
+     * @param v2  the second value.
+     *
+     * @return A boolean.
+     */
+    private static boolean same(double v1, double v2) {
+        return Double.compare(v1, v2) == 0;
+    }
+
+    /**
+     * Receives notification of a change to the source dataset, updates the
+     * calculated values and sends a {@link DatasetChangeEvent} to all 
+     * registered listeners.
+     *
+     * @param event  information about the event.
+     */
+    @Override
+    public void datasetChanged(DatasetChangeEvent event) {
+        update();
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the domain order of the source dataset.
+     *
+     * @return The domain order.
+     */
+    @Override
+    public DomainOrder getDomainOrder() {
+        return this.source.getDomainOrder();
+    }
+
+    /**
+     * Returns the number of series in the dataset.
+     *
+     * @return The series count.
+     */
+    @Override
+    public int getSeriesCount() {
+        return this.series.size();
+    }
+
+    /**
+     * Returns the key for a series (the key of the source series).
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The series key.
+     */
+    @Override
+    public S getSeriesKey(int series) {
+        return this.source.getSeriesKey(series);
+    }
+
+    /**
+     * Returns the number of items in a series.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount(int series) {
+        return this.series.get(series).count;
+    }
+
+    /**
+     * Returns the x-value for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public Number getX(int series, int item) {
+        return getXValue(series, item);
+    }
+
+    /**
+     * Returns the x-value (as a double primitive) for an item within a 
+     * series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        return this.series.get(series).getX(item);
+    }
+
+    /**
+     * Returns the starting x-value for an item within a series (the same
+     * as the x-value).
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public Number getStartX(int series, int item) {
+        return getXValue(series, item);
+    }
+
+    /**
+     * Returns the ending x-value for an item within a series (the same
+     * as the x-value).
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public Number getEndX(int series, int item) {
+        return getXValue(series, item);
+    }
+
+    /**
+     * Returns the value of the statistic for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The value (possibly {@code Double.NaN}).
+     */
+    @Override
+    public Number getY(int series, int item) {
+        return getYValue(series, item);
+    }
+
+    /**
+     * Returns the value of the statistic (as a double primitive) for an item
+     * within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The value (possibly {@code Double.NaN}).
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        return this.series.get(series).getY(item);
+    }
+
+    /**
+     * Returns the lower bound of the y-interval for an item within a series
+     * (the mean less the band width multiple of the standard deviation for 
+     * {@link RollingStatistic#BOLLINGER_BANDS}, otherwise the y-value).
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The value (possibly {@code Double.NaN}).
+     */
+    @Override
+    public Number getStartY(int series, int item) {
+        return getStartYValue(series, item);
+    }
+
+    /**
+     * Returns the lower bound of the y-interval (as a double primitive) for
+     * an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The value (possibly {@code Double.NaN}).
+     */
+    @Override
+    public double getStartYValue(int series, int item) {
+        RollingSeries rs = this.series.get(series);
+        return rs.getY(item) - this.bandWidth * rs.getDeviation(item);
+    }
+
+    /**
+     * Returns the upper bound of the y-interval for an item within a series
+     * (the mean plus the band width multiple of the standard deviation for 
+     * {@link RollingStatistic#BOLLINGER_BANDS}, otherwise the y-value).
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The value (possibly {@code Double.NaN}).
+     */
+    @Override
+    public Number getEndY(int series, int item) {
+        return getEndYValue(series, item);
+    }
+
+    /**
+     * Returns the upper bound of the y-interval (as a double primitive) for
+     * an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The value (possibly {@code Double.NaN}).
+     */
+    @Override
+    public double getEndYValue(int series, int item) {
+        RollingSeries rs = this.series.get(series);
+        return rs.getY(item) + this.bandWidth * rs.getDeviation(item);
+    }
+
+    /**
+     * Tests this dataset for equality with an arbitrary object.
+     *
+     * @param obj  the object ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof RollingStatisticsDataset)) {
+            return false;
+        }
+        RollingStatisticsDataset<S> that = (RollingStatisticsDataset) obj;
+        if (!this.source.equals(that.source)) {
+            return false;
+        }
+        if (this.statistic != that.statistic) {
+            return false;
+        }
+        if (this.window != that.window) {
+            return false;
+        }
+        if (this.bandWidth != that.bandWidth) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.source, this.statistic, this.window, 
+                this.bandWidth);
+    }
+
+    /**
+     * Returns an independent copy of the dataset.  The copy is registered 
+     * as a listener with the source dataset, which is only cloned if it 
+     * implements the {@link PublicCloneable} interface.  The listeners 
+     * registered with this dataset are not carried over to the copy.
+     *
+     * @return An independent copy of the dataset.
+     *
+     * @throws CloneNotSupportedException if the dataset cannot be cloned for
+     *         any reason.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        RollingStatisticsDataset<S> clone 
+                = (RollingStatisticsDataset) super.clone();
+        if (this.source instanceof PublicCloneable) {
+            PublicCloneable pc = (PublicCloneable) this.source;
+            clone.source = (XYDataset) pc.clone();
+        }
+        clone.series = new ArrayList<>(this.series.size());
+        for (RollingSeries rs : this.series) {
+            clone.series.add(rs.copy());
+        }
+        clone.source.addChangeListener(clone);
+        return clone;
+    }
+
+    /**
+     * The calculated values for one series, with the running state of the
+     * window.  The items are stored from index {@code start} in each array,
+     * so that items can be removed from the start in constant time.
+     */
+    private static final class RollingSeries implements Serializable {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 1438854639670311476L;
+
+        /** The statistic. */
+        private final RollingStatistic statistic;
+
+        /** The window size. */
+        private final int window;
+
+        /** The x-values. */
+        private double[] x;
+
+        /** The source y-values. */
+        private double[] sourceY;
+
+        /** The values of the statistic. */
+        private double[] y;
+
+        /** The standard deviations (for Bollinger bands only). */
+        private double[] deviation;
+
+        /** The array index of the first item. */
+        private int start;
+
+        /** The number of items. */
+        private int count;
+
+        /** The number of items removed from the start since the last clear. */
+        private long removed;
+
+        /** The number of non-missing y-values in the window. */
+        private int n;
+
+        /** The number of missing y-values in the window. */
+        private int missing;
+
+        /** The mean of the non-missing y-values in the window. */
+        private double mean;
+
+        /** The sum of squared differences from the mean. */
+        private double m2;
+
+        /** The exponential moving average. */
+        private double ema;
+
+        /** The candidates for the minimum or maximum of the window. */
+        private MonotonicQueue extremes;
+
+        RollingSeries(RollingStatistic statistic, int window) {
+            this.statistic = statistic;
+            this.window = window;
+            int capacity = Math.max(16, window);
+            this.x = new double[capacity];
+            this.sourceY = new double[capacity];
+            this.y = new double[capacity];
+            if (statistic == RollingStatistic.BOLLINGER_BANDS) {
+                this.deviation = new double[capacity];
+            }
+            clear();
+        }
+
+        /**
+         * Clears all items and the running state.
+         */
+        void clear() {
+            this.start = 0;
+            this.count = 0;
+            this.removed = 0L;
+            this.n = 0;
+            this.missing = 0;
+            this.mean = 0.0;
+            this.m2 = 0.0;
+            this.ema = Double.NaN;
+            if (this.statistic == RollingStatistic.MINIMUM) {
+                this.extremes = new MonotonicQueue(this.window, true);
+            } else if (this.statistic == RollingStatistic.MAXIMUM) {
+                this.extremes = new MonotonicQueue(this.window, false);
+            }
+        }
+
+        double getX(int item) {
+            checkIndex(item);
+            return this.x[this.start + item];
+        }
+
+        double getSourceY(int item) {
+            checkIndex(item);
+            return this.sourceY[this.start + item];
+        }
+
+        double getY(int item) {
+            checkIndex(item);
+            return this.y[this.start + item];
+        }
+
+        double getDeviation(int item) {
+            checkIndex(item);
+            return this.deviation == null ? 0.0 
+                    : this.deviation[this.start + item];
+        }
+
+        private void checkIndex(int item) {
+            if (item < 0 || item >= this.count) {
+                throw new IndexOutOfBoundsException("Index: " + item 
+                        + ", Size: " + this.count);
+            }
+        }
+
+        /**
+         * Appends an item and calculates the statistic for it.
+         *
+         * @param xx  the x-value.
+         * @param yy  the source y-value ({@code NaN} for a missing value).
+         */
+        void append(double xx, double yy) {
+            ensureCapacity();
+            int i = this.start + this.count;
+            long seq = this.removed + this.count;
+            this.x[i] = xx;
+            this.sourceY[i] = yy;
+            this.count++;
+
+            // add the new value to the window...
+            boolean isMissing = Double.isNaN(yy);
+            if (isMissing) {
+                this.missing++;
+            } else {
+                this.n++;
+                double d = yy - this.mean;
+                this.mean += d / this.n;
+                this.m2 += d * (yy - this.mean);
+                if (this.extremes != null) {
+                    this.extremes.add(seq, yy);
+                }
+            }
+            // ...and remove the value that has left it
+            if (this.count > this.window) {
+                double old = this.sourceY[i - this.window];
+                if (Double.isNaN(old)) {
+                    this.missing--;
+                } else {
+                    this.n--;
+                    if (this.n == 0) {
+                        this.mean = 0.0;
+                        this.m2 = 0.0;
+                    } else {
+                        double d = old - this.mean;
+                        this.mean -= d / this.n;
+                        this.m2 -= d * (old - this.mean);
+                    }
+                }
+                if (this.extremes != null) {
+                    this.extremes.removeBefore(seq - this.window + 1);
+                }
+            }
+
+            boolean full = this.count >= this.window && this.missing == 0;
+            double stdDev = Double.NaN;
+            if (full) {
+                stdDev = Math.sqrt(Math.max(this.m2, 0.0) / this.n);
+            }
+            double result;
+            switch (this.statistic) {
+                case EXPONENTIAL_MEAN:
+                    if (!isMissing) {
+                        this.ema = Double.isNaN(this.ema) ? yy 
+                                : this.ema + 2.0 / (this.window + 1.0) 
+                                * (yy - this.ema);
+                    }
+                    result = isMissing ? Double.NaN : this.ema;
+                    break;
+                case MINIMUM:
+                case MAXIMUM:
+                    result = full ? this.extremes.first() : Double.NaN;
+                    break;
+                case STANDARD_DEVIATION:
+                    result = stdDev;
+                    break;
+                default: // MEAN, BOLLINGER_BANDS
+                    result = full ? this.mean : Double.NaN;
+            }
+            this.y[i] = result;
+            if (this.deviation != null) {
+                this.deviation[i] = stdDev;
+            }
+        }
+
+        /**
+         * Removes items from the start of the series.  The caller ensures 
+         * that at least {@code window} items remain, so the running state
+         * is unaffected; the items that no longer have a full window are
+         * set to {@code NaN} (the exponential mean is kept, since it 
+         * depends on all the preceding values).
+         *
+         * @param k  the number of items to remove.
+         */
+        void removeFirst(int k) {
+            this.start += k;
+            this.count -= k;
+            this.removed += k;
+            if (this.statistic != RollingStatistic.EXPONENTIAL_MEAN) {
+                int end = Math.min(this.window - 1, this.count);
+                for (int j = 0; j < end; j++) {
+                    this.y[this.start + j] = Double.NaN;
+                    if (this.deviation != null) {
+                        this.deviation[this.start + j] = Double.NaN;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Ensures that there is room to append one item, moving the items to
+         * the start of the arrays or growing the arrays as required.
+         */
+        private void ensureCapacity() {
+            if (this.start + this.count < this.x.length) {
+                return;
+            }
+            int capacity = this.x.length;
+            if (this.count >= capacity / 2) {
+                capacity *= 2;
+            }
+            this.x = move(this.x, capacity);
+            this.sourceY = move(this.sourceY, capacity);
+            this.y = move(this.y, capacity);
+            if (this.deviation != null) {
+                this.deviation = move(this.deviation, capacity);
+            }
+            this.start = 0;
+        }
+
+        private double[] move(double[] array, int capacity) {
+            double[] result = capacity == array.length ? array 
+                    : new double[capacity];
+            System.arraycopy(array, this.start, result, 0, this.count);
+            return result;
+        }
+
+        /**
+         * Returns an independent copy.
+         *
+         * @return A copy.
+         */
+        RollingSeries copy() {
+            RollingSeries copy = new RollingSeries(this.statistic, 
+                    this.window);
+            copy.x = this.x.clone();
+            copy.sourceY = this.sourceY.clone();
+            copy.y = this.y.clone();
+            copy.deviation = this.deviation == null ? null 
+                    : this.deviation.clone();
+            copy.start = this.start;
+            copy.count = this.count;
+            copy.removed = this.removed;
+            copy.n = this.n;
+            copy.missing = this.missing;
+            copy.mean = this.mean;
+            copy.m2 = this.m2;
+            copy.ema = this.ema;
+            copy.extremes = this.extremes == null ? null 
+                    : this.extremes.copy();
+            return copy;
+        }
+    }
+
+    /**
+     * A queue of (sequence number, value) pairs in which the values are 
+     * kept in increasing order (for a minimum) or decreasing order (for a
+     * maximum), so that the first value is the extreme of the window.  Each
+     * value is added and removed at most once, so the cost per item is 
+     * constant (amortized).
+     */
+    private static final class MonotonicQueue implements Serializable {
+
+        /** For serialization. */
+        private static final long serialVersionUID = -6357124196746183286L;
+
+        /** Keep increasing values (for a minimum)? */
+        private final boolean minimum;
+
+        /** The sequence numbers (a ring buffer). */
+        private long[] seqs;
+
+        /** The values (a ring buffer). */
+        private double[] values;
+
+        /** The ring buffer index of the first entry. */
+        private int head;
+
+        /** The number of entries. */
+        private int size;
+
+        MonotonicQueue(int window, boolean minimum) {
+            this.minimum = minimum;
+            this.seqs = new long[window];
+            this.values = new double[window];
+        }
+
+        /**
+         * Adds a value, first removing the entries that it supersedes.
+         *
+         * @param seq  the sequence number.
+         * @param value  the value (not {@code NaN}).
+         */
+        void add(long seq, double value) {
+            int capacity = this.values.length;
+            while (this.size > 0) {
+                double last = this.values[(this.head + this.size - 1) 
+                        % capacity];
+                if (this.minimum ? last >= value : last <= value) {
+                    this.size--;
+                } else {
+                    break;
+                }
+            }
+            // the window holds at most 'capacity' values, but the entry 
+            // that has just left it is removed after this call
+            if (this.size == capacity) {
+                this.head = (this.head + 1) % capacity;
+                this.size--;
+            }
+            int i = (this.head + this.size) % capacity;
+            this.seqs[i] = seq;
+            this.values[i] = value;
+            this.size++;
+        }
+
+        /**
+         * Removes the entries with a sequence number less than 
+         * {@code seq}.
+         *
+         * @param seq  the sequence number of the first item in the window.
+         */
+        void removeBefore(long seq) {
+            while (this.size > 0 && this.seqs[this.head] < seq) {
+                this.head = (this.head + 1) % this.values.length;
+                this.size--;
+            }
+        }
+
+        /**
+         * Returns the first (extreme) value.
+         *
+         * @return The value ({@code NaN} if the queue is empty).
+         */
+        double first() {
+            return this.size == 0 ? Double.NaN : this.values[this.head];
+        }
+
+        MonotonicQueue copy() {
+            MonotonicQueue copy = new MonotonicQueue(this.values.length, 
+                    this.minimum);
+            copy.seqs = this.seqs.clone();
+            copy.values = this.values.clone();
+            copy.head = this.head;
+            copy.size = this.size;
+            return copy;
+        }
+    }
+
+}
@@ -0,0 +1,103 @@
+/* ======================================================
+ * JFreeChart : a chart library for the Java(tm) platform
+ * ======================================================
+ *
+ * (C) Copyright 2000-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------
+ * XYItemRangeInfo.java
+ * --------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.xy;
+
+/**
+ * An interface that can (optionally) be implemented by an {@link XYDataset}
+ * that maintains an index (for example an {@link XYPyramidIndex}) over the
+ * y-values of each series, so that the extreme values for any range of
+ * items can be found without examining every item.  When the x-values are
+ * also in ascending order this allows the minimum and maximum y-values in
+ * the visible x-range to be found in O(log n) time, regardless of the number
+ * of items in the range.
+ */
+public interface XYItemRangeInfo {
+
+    /**
+     * Returns the index of the item with the minimum y-value among the items
+     * from {@code first} to {@code last} (inclusive) in a series.  Missing
+     * values are ignored.
+     *
+     * @param series  the series index (zero-based).
+     * @param first  the index of the first item.
+     * @param last  the index of the last item.
+     *
+     * @return The item index, or -1 if there is no non-missing y-value in
+     *     the range.
+     */
+    int findMinYItem(int series, int first, int last);
+
+    /**
+     * Returns the index of the item with the maximum y-value among the items
+     * from {@code first} to {@code last} (inclusive) in a series.  Missing
+     * values are ignored.
+     *
+     * @param series  the series index (zero-based).
+     * @param first  the index of the first item.
+     * @param last  the index of the last item.
+     *
+     * @return The item index, or -1 if there is no non-missing y-value in
+     *     the range.
+     */
+    int findMaxYItem(int series, int first, int last);
+
+    /**
+     * Returns the index of the first item with a missing y-value among the
+     * items from {@code first} to {@code last} (inclusive) in a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param first  the index of the first item.
+     * @param last  the index of the last item.
+     *
+     * @return The item index, or -1 if there is no missing y-value in the
+     *     range.
+     */
+    int findFirstMissingYItem(int series, int first, int last);
+
+    /**
+     * Returns the number of non-missing y-values among the items from
+     * {@code first} to {@code last} (inclusive) in a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param first  the index of the first item.
+     * @param last  the index of the last item.
+     *
+     * @return The number of non-missing y-values.
+     */
+    int getYValueCount(int series, int first, int last);
+
+}
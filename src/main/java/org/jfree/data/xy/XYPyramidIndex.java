@@ -0,0 +1,519 @@
+/* ======================================================
+ * JFreeChart : a chart library for the Java(tm) platform
+ * ======================================================
+ *
+ * (C) Copyright 2000-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------
+ * XYPyramidIndex.java
+ * -------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.util.Arrays;
+
+import org.jfree.chart.internal.Args;
+
+/**
+ * A multi-resolution summary of a sequence of y-values, used to find the
+ * minimum value, maximum value and number of non-missing values for any
+ * range of items in O(log n) time.  The items are divided into buckets of
+ * 64 items, and each higher level of the pyramid combines two buckets of
+ * the level below (in the style of a segment tree), so the index needs
+ * roughly one extra {@code int} for every five items.
+ * <p>
+ * The index does not hold a reference to the y-values, the owner passes its
+ * current array to each method.  Items appended to the end of the array are
+ * added to the index in O(log n) time via {@link #append(double[], int)},
+ * a changed value is handled in the same time via
+ * {@link #update(double[], int)}, while any change that moves existing items
+ * requires the index to be cleared and rebuilt.  Missing values are
+ * represented by {@code Double.NaN} and are ignored for the minimum and
+ * maximum.
+ *
+ * @see PrimitiveXYSeries
+ */
+public class XYPyramidIndex {
+
+    /** The base 2 logarithm of the number of items in a level 0 bucket. */
+    private static final int LEAF_SHIFT = 6;
+
+    /** The initial number of buckets allocated for a new level. */
+    private static final int INITIAL_BUCKETS = 8;
+
+    /** The item with the minimum value for each bucket (-1 if none). */
+    private int[][] minItems;
+
+    /** The item with the maximum value for each bucket (-1 if none). */
+    private int[][] maxItems;
+
+    /** The number of non-missing values in each bucket. */
+    private int[][] counts;
+
+    /** The number of levels in the pyramid. */
+    private int levelCount;
+
+    /** The number of items that have been added to the index. */
+    private int itemCount;
+
+    /**
+     * Creates a new empty index.
+     */
+    public XYPyramidIndex() {
+        this.minItems = new int[0][];
+        this.maxItems = new int[0][];
+        this.counts = new int[0][];
+    }
+
+    /**
+     * Returns the number of items that have been added to the index.
+     *
+     * @return The item count.
+     */
+    public int getItemCount() {
+        return this.itemCount;
+    }
+
+    /**
+     * Removes all items from the index.
+     */
+    public void clear() {
+        this.minItems = new int[0][];
+        this.maxItems = new int[0][];
+        this.counts = new int[0][];
+        this.levelCount = 0;
+        this.itemCount = 0;
+    }
+
+    /**
+     * Adds the items from {@link #getItemCount()} up to (but not including)
+     * {@code count} to the index.
+     *
+     * @param values  the values ({@code null} not permitted).
+     * @param count  the new item count.
+     */
+    public void append(double[] values, int count) {
+        Args.nullNotPermitted(values, "values");
+        Args.requireInRange(count, "count", this.itemCount, values.length);
+        for (int item = this.itemCount; item < count; item++) {
+            appendItem(values, item);
+        }
+        this.itemCount = count;
+    }
+
+    /**
+     * Adds a single item (which must follow the last item in the index) to
+     * each level of the pyramid, adding a level if required.
+     *
+     * @param values  the values.
+     * @param item  the item index.
+     */
+    private void appendItem(double[] values, int item) {
+        for (int level = 0; ; level++) {
+            if (level == this.levelCount) {
+                addLevel();
+            }
+            int shift = LEAF_SHIFT + level;
+            int bucket = item >>> shift;
+            if (bucket >= this.minItems[level].length) {
+                int length = this.minItems[level].length;
+                int newLength = Math.max(bucket + 1, length + (length >> 1));
+                this.minItems[level] = Arrays.copyOf(this.minItems[level],
+                        newLength);
+                this.maxItems[level] = Arrays.copyOf(this.maxItems[level],
+                        newLength);
+                this.counts[level] = Arrays.copyOf(this.counts[level],
+                        newLength);
+            }
+            if ((item & ((1 << shift) - 1)) == 0) {
+                this.minItems[level][bucket] = -1;
+                this.maxItems[level][bucket] = -1;
+                this.counts[level][bucket] = 0;
+            }
+            double y = values[item];
+            if (!Double.isNaN(y)) {
+                this.counts[level][bucket]++;
+                int min = this.minItems[level][bucket];
+                if (min < 0 || y < values[min]) {
+                    this.minItems[level][bucket] = item;
+                }
+                int max = this.maxItems[level][bucket];
+                if (max < 0 || y > values[max]) {
+                    this.maxItems[level][bucket] = item;
+                }
+            }
+            if (bucket == 0 && level + 1 >= this.levelCount) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Adds a new top level to the pyramid.  The first bucket of the new
+     * level covers all items currently in the index, so it is initialised
+     * from the first bucket of the level below.
+     */
+    private void addLevel() {
+        int level = this.levelCount;
+        this.minItems = Arrays.copyOf(this.minItems, level + 1);
+        this.maxItems = Arrays.copyOf(this.maxItems, level + 1);
+        this.counts = Arrays.copyOf(this.counts, level + 1);
+        this.minItems[level] = new int[INITIAL_BUCKETS];
+        this.maxItems[level] = new int[INITIAL_BUCKETS];
+        this.counts[level] = new int[INITIAL_BUCKETS];
+        if (level > 0) {
+            this.minItems[level][0] = this.minItems[level - 1][0];
+            this.maxItems[level][0] = this.maxItems[level - 1][0];
+            this.counts[level][0] = this.counts[level - 1][0];
+        } else {
+            this.minItems[level][0] = -1;
+            this.maxItems[level][0] = -1;
+        }
+        this.levelCount++;
+    }
+
+    /**
+     * Updates the index after the value for one item has changed.  Items
+     * that have not yet been added to the index are ignored.
+     *
+     * @param values  the values ({@code null} not permitted).
+     * @param item  the index of the item that changed.
+     */
+    public void update(double[] values, int item) {
+        Args.nullNotPermitted(values, "values");
+        if (item < 0 || item >= this.itemCount) {
+            return;
+        }
+        int bucket = item >>> LEAF_SHIFT;
+        int first = bucket << LEAF_SHIFT;
+        int last = Math.min(first + (1 << LEAF_SHIFT), this.itemCount) - 1;
+        int min = -1;
+        int max = -1;
+        int count = 0;
+        for (int i = first; i <= last; i++) {
+            double y = values[i];
+            if (!Double.isNaN(y)) {
+                count++;
+                if (min < 0 || y < values[min]) {
+                    min = i;
+                }
+                if (max < 0 || y > values[max]) {
+                    max = i;
+                }
+            }
+        }
+        this.minItems[0][bucket] = min;
+        this.maxItems[0][bucket] = max;
+        this.counts[0][bucket] = count;
+        for (int level = 1; level < this.levelCount; level++) {
+            bucket = bucket >>> 1;
+            int left = bucket << 1;
+            int right = left + 1;
+            boolean hasRight = right <= ((this.itemCount - 1)
+                    >>> (LEAF_SHIFT + level - 1));
+            min = this.minItems[level - 1][left];
+            max = this.maxItems[level - 1][left];
+            count = this.counts[level - 1][left];
+            if (hasRight) {
+                min = minItem(values, min, this.minItems[level - 1][right]);
+                max = maxItem(values, max, this.maxItems[level - 1][right]);
+                count += this.counts[level - 1][right];
+            }
+            this.minItems[level][bucket] = min;
+            this.maxItems[level][bucket] = max;
+            this.counts[level][bucket] = count;
+        }
+    }
+
+    /**
+     * Returns the index of the item with the minimum (non-missing) value in
+     * the specified range of items.  If there is more than one item with the
+     * minimum value, the first is returned.
+     *
+     * @param values  the values ({@code null} not permitted).
+     * @param first  the index of the first item.
+     * @param last  the index of the last item (inclusive).
+     *
+     * @return The item index, or -1 if all the values in the range are
+     *     missing or the range is empty.
+     */
+    public int findMinItem(double[] values, int first, int last) {
+        Args.nullNotPermitted(values, "values");
+        first = Math.max(first, 0);
+        last = Math.min(last, this.itemCount - 1);
+        if (first > last) {
+            return -1;
+        }
+        return findItem(values, this.levelCount - 1, 0, first, last, true);
+    }
+
+    /**
+     * Returns the index of the item with the maximum (non-missing) value in
+     * the specified range of items.  If there is more than one item with the
+     * maximum value, the first is returned.
+     *
+     * @param values  the values ({@code null} not permitted).
+     * @param first  the index of the first item.
+     * @param last  the index of the last item (inclusive).
+     *
+     * @return The item index, or -1 if all the values in the range are
+     *     missing or the range is empty.
+     */
+    public int findMaxItem(double[] values, int first, int last) {
+        Args.nullNotPermitted(values, "values");
+        first = Math.max(first, 0);
+        last = Math.min(last, this.itemCount - 1);
+        if (first > last) {
+            return -1;
+        }
+        return findItem(values, this.levelCount - 1, 0, first, last, false);
+    }
+
+    /**
+     * Returns the index of the first item with a missing value in the
+     * specified range of items.
+     *
+     * @param values  the values ({@code null} not permitted).
+     * @param first  the index of the first item.
+     * @param last  the index of the last item (inclusive).
+     *
+     * @return The item index, or -1 if there is no missing value in the
+     *     range.
+     */
+    public int findFirstMissingItem(double[] values, int first, int last) {
+        Args.nullNotPermitted(values, "values");
+        first = Math.max(first, 0);
+        last = Math.min(last, this.itemCount - 1);
+        if (first > last) {
+            return -1;
+        }
+        return findMissing(values, this.levelCount - 1, 0, first, last);
+    }
+
+    /**
+     * Returns the number of non-missing values in the specified range of
+     * items.
+     *
+     * @param values  the values ({@code null} not permitted).
+     * @param first  the index of the first item.
+     * @param last  the index of the last item (inclusive).
+     *
+     * @return The number of non-missing values.
+     */
+    public int getValueCount(double[] values, int first, int last) {
+        Args.nullNotPermitted(values, "values");
+        first = Math.max(first, 0);
+        last = Math.min(last, this.itemCount - 1);
+        if (first > last) {
+            return 0;
+        }
+        return count(values, this.levelCount - 1, 0, first, last);
+    }
+
+    /**
+     * Returns the index of the first item in a bucket.
+     *
+     * @param level  the level.
+     * @param bucket  the bucket.
+     *
+     * @return The item index.
+     */
+    private static long bucketStart(int level, int bucket) {
+        return ((long) bucket) << (LEAF_SHIFT + level);
+    }
+
+    /**
+     * Returns the index of the last item in a bucket (which may be beyond
+     * the last item in the index).
+     *
+     * @param level  the level.
+     * @param bucket  the bucket.
+     *
+     * @return The item index.
+     */
+    private static long bucketEnd(int level, int bucket) {
+        return bucketStart(level, bucket + 1) - 1;
+    }
+
+    /**
+     * Finds the item with the minimum or maximum value in the intersection
+     * of a bucket and the range {@code first} to {@code last}.
+     *
+     * @param values  the values.
+     * @param level  the level.
+     * @param bucket  the bucket.
+     * @param first  the first item.
+     * @param last  the last item.
+     * @param min  {@code true} to find the minimum, {@code false} for the
+     *     maximum.
+     *
+     * @return The item index (or -1).
+     */
+    private int findItem(double[] values, int level, int bucket, int first,
+            int last, boolean min) {
+        long start = bucketStart(level, bucket);
+        long end = Math.min(bucketEnd(level, bucket), this.itemCount - 1);
+        if (end < first || start > last) {
+            return -1;
+        }
+        if (first <= start && end <= last) {
+            return min ? this.minItems[level][bucket]
+                    : this.maxItems[level][bucket];
+        }
+        if (level == 0) {
+            int result = -1;
+            int to = (int) Math.min(end, last);
+            for (int i = (int) Math.max(start, first); i <= to; i++) {
+                result = min ? minItem(values, result, i)
+                        : maxItem(values, result, i);
+            }
+            return result;
+        }
+        int left = findItem(values, level - 1, bucket << 1, first, last,
+                min);
+        int right = findItem(values, level - 1, (bucket << 1) + 1, first,
+                last, min);
+        return min ? minItem(values, left, right)
+                : maxItem(values, left, right);
+    }
+
+    /**
+     * Finds the first item with a missing value in the intersection of a
+     * bucket and the range {@code first} to {@code last}.
+     *
+     * @param values  the values.
+     * @param level  the level.
+     * @param bucket  the bucket.
+     * @param first  the first item.
+     * @param last  the last item.
+     *
+     * @return The item index (or -1).
+     */
+    private int findMissing(double[] values, int level, int bucket,
+            int first, int last) {
+        long start = bucketStart(level, bucket);
+        long end = Math.min(bucketEnd(level, bucket), this.itemCount - 1);
+        if (end < first || start > last
+                || this.counts[level][bucket] == end - start + 1) {
+            return -1;
+        }
+        if (level == 0) {
+            int to = (int) Math.min(end, last);
+            for (int i = (int) Math.max(start, first); i <= to; i++) {
+                if (Double.isNaN(values[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        int result = findMissing(values, level - 1, bucket << 1, first, last);
+        if (result < 0) {
+            result = findMissing(values, level - 1, (bucket << 1) + 1, first,
+                    last);
+        }
+        return result;
+    }
+
+    /**
+     * Counts the non-missing values in the intersection of a bucket and the
+     * range {@code first} to {@code last}.
+     *
+     * @param values  the values.
+     * @param level  the level.
+     * @param bucket  the bucket.
+     * @param first  the first item.
+     * @param last  the last item.
+     *
+     * @return The count.
+     */
+    private int count(double[] values, int level, int bucket, int first,
+            int last) {
+        long start = bucketStart(level, bucket);
+        long end = Math.min(bucketEnd(level, bucket), this.itemCount - 1);
+        if (end < first || start > last) {
+            return 0;
+        }
+        if (first <= start && end <= last) {
+            return this.counts[level][bucket];
+        }
+        if (level == 0) {
+            int result = 0;
+            int to = (int) Math.min(end, last);
+            for (int i = (int) Math.max(start, first); i <= to; i++) {
+                if (!Double.isNaN(values[i])) {
+                    result++;
+                }
+            }
+            return result;
+        }
+        return count(values, level - 1, bucket << 1, first, last)
+                + count(values, level - 1, (bucket << 1) + 1, first, last);
+    }
+
+    /**
+     * Returns whichever of two items has the lower value (the first item
+     * if the values are equal).
+     *
+     * @param values  the values.
+     * @param a  the first item (or -1).
+     * @param b  the second item (or -1).
+     *
+     * @return The item (or -1).
+     */
+    private static int minItem(double[] values, int a, int b) {
+        if (b < 0 || Double.isNaN(values[b])) {
+            return a;
+        }
+        if (a < 0 || values[b] < values[a]) {
+            return b;
+        }
+        return a;
+    }
+
+    /**
+     * Returns whichever of two items has the higher value (the first item
+     * if the values are equal).
+     *
+     * @param values  the values.
+     * @param a  the first item (or -1).
+     * @param b  the second item (or -1).
+     *
+     * @return The item (or -1).
+     */
+    private static int maxItem(double[] values, int a, int b) {
+        if (b < 0 || Double.isNaN(values[b])) {
+            return a;
+        }
+        if (a < 0 || values[b] > values[a]) {
+            return b;
+        }
+        return a;
+    }
+
+}
@@ -42,7 +42,9 @@ package org.jfree.data.xy;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.Objects;
 
 import org.jfree.chart.internal.Args;
@@ -513,6 +515,96 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
         }
     }
 
+    /**
+     * Adds a block of data items to the series and sends a single
+     * {@link SeriesChangeEvent} to all registered listeners.  This is much
+     * faster than adding the items one at a time, since the items are 
+     * sorted (if the series is sorted) and the bounds are calculated just 
+     * once.  Items with the same x-value as existing items are added after
+     * the existing items.
+     *
+     * @param xValues  the x-values ({@code null} not permitted).
+     * @param yValues  the y-values ({@code null} not permitted, the length
+     *     must match the x-values).
+     *
+     * @throws SeriesException if duplicate x-values are not permitted and 
+     *     the items would include a duplicate (the series is not changed).
+     *
+     * @see #replaceAll(double[], double[])
+     */
+    public void addAll(double[] xValues, double[] yValues) {
+        setItems(xValues, yValues, true);
+    }
+
+    /**
+     * Replaces all the data items in the series and sends a single
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param xValues  the x-values ({@code null} not permitted).
+     * @param yValues  the y-values ({@code null} not permitted, the length
+     *     must match the x-values).
+     *
+     * @throws SeriesException if duplicate x-values are not permitted and 
+     *     the items include a duplicate (the series is not changed).
+     *
+     * @see #addAll(double[], double[])
+     */
+    public void replaceAll(double[] xValues, double[] yValues) {
+        setItems(xValues, yValues, false);
+    }
+
+    /**
+     * Sets the items for the series, for the bulk methods.
+     *
+     * @param xValues  the x-values ({@code null} not permitted).
+     * @param yValues  the y-values ({@code null} not permitted).
+     * @param keep  keep the existing items?
+     */
+    private void setItems(double[] xValues, double[] yValues, boolean keep) {
+        Args.nullNotPermitted(xValues, "xValues");
+        Args.nullNotPermitted(yValues, "yValues");
+        if (xValues.length != yValues.length) {
+            throw new IllegalArgumentException(
+                    "Requires xValues and yValues to have the same length.");
+        }
+        List<XYDataItem> items = new ArrayList<>(xValues.length 
+                + (keep ? this.data.size() : 0));
+        if (keep) {
+            items.addAll(this.data);
+        }
+        for (int i = 0; i < xValues.length; i++) {
+            items.add(new XYDataItem(xValues[i], yValues[i]));
+        }
+        if (this.autoSort) {
+            // the sort is stable, so new items follow existing duplicates
+            Collections.sort(items);
+        }
+        if (!this.allowDuplicateXValues) {
+            if (this.autoSort) {
+                for (int i = 1; i < items.size(); i++) {
+                    if (items.get(i).compareTo(items.get(i - 1)) == 0) {
+                        throw new SeriesException("X-value already exists.");
+                    }
+                }
+            } else {
+                Set<Number> xs = new HashSet<>();
+                for (XYDataItem item : items) {
+                    if (!xs.add(item.getX())) {
+                        throw new SeriesException("X-value already exists.");
+                    }
+                }
+            }
+        }
+        if (items.size() > this.maximumItemCount) {
+            items = items.subList(items.size() - this.maximumItemCount, 
+                    items.size());
+        }
+        this.data.clear();
+        this.data.addAll(items);
+        findBoundsByIteration();
+        fireSeriesChanged();
+    }
+
     /**
      * Deletes a range of items from the series and sends a
      * {@link SeriesChangeEvent} to all registered listeners.
@@ -0,0 +1,143 @@
+/* ======================================================
+ * JFreeChart : a chart library for the Java(tm) platform
+ * ======================================================
+ *
+ * (C) Copyright 2000-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------
+ * ChartRenderServiceTest.java
+ * ---------------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+
+package org.jfree.chart;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import org.jfree.data.general.DefaultPieDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link ChartRenderService} class.
+ */
+public class ChartRenderServiceTest {
+
+    /**
+     * Creates a dataset for testing.
+     *
+     * @param seed  the seed for the values.
+     *
+     * @return A dataset.
+     */
+    private XYSeriesCollection<String> createDataset(int seed) {
+        XYSeries<String> series = new XYSeries<>("S" + seed);
+        for (int i = 0; i < 50; i++) {
+            series.add(i, Math.sin(i * 0.3 + seed) * (seed + 1));
+        }
+        return new XYSeriesCollection<>(series);
+    }
+
+    /**
+     * Some checks for the constructor arguments.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Test
+    public void testConstructor() throws CloneNotSupportedException {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ChartRenderService(null));
+        JFreeChart chart = ChartFactory.createXYLineChart("T", "X", "Y",
+                null);
+        assertThrows(IllegalArgumentException.class,
+                () -> new ChartRenderService(chart, 0));
+    }
+
+    /**
+     * Charts rendered concurrently match charts created directly from the
+     * request datasets (including the legend, which must show the series
+     * of the request rather than those of the template).
+     *
+     * @throws Exception if there is a problem.
+     */
+    @Test
+    public void testConcurrentRendering() throws Exception {
+        JFreeChart template = ChartFactory.createXYLineChart("Title", "X",
+                "Y", createDataset(99));
+        ChartRenderService service = new ChartRenderService(template, 4);
+        List<Future<BufferedImage>> futures = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            futures.add(service.renderImage(200, 150, createDataset(i)));
+        }
+        for (int i = 0; i < 16; i++) {
+            JFreeChart chart = ChartFactory.createXYLineChart("Title", "X",
+                    "Y", createDataset(i));
+            BufferedImage expected = chart.createBufferedImage(200, 150);
+            BufferedImage image = futures.get(i).get();
+            for (int x = 0; x < 200; x++) {
+                for (int y = 0; y < 150; y++) {
+                    assertEquals(expected.getRGB(x, y), image.getRGB(x, y));
+                }
+            }
+        }
+
+        // changes to the template are not seen by the service
+        template.setTitle("Changed");
+        byte[] png = service.renderPNG(200, 150, createDataset(0)).get();
+        assertEquals((byte) 0x89, png[0]);
+        assertEquals((byte) 'P', png[1]);
+        service.shutdown();
+    }
+
+    /**
+     * A dataset index that the plot cannot accept is reported through the
+     * future.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Test
+    public void testUnsupportedDataset() throws CloneNotSupportedException {
+        JFreeChart template = ChartFactory.createPieChart("Pie",
+                new DefaultPieDataset<String>());
+        ChartRenderService service = new ChartRenderService(template, 1);
+        Future<BufferedImage> future = service.renderImage(100, 100,
+                new DefaultPieDataset<String>(),
+                new DefaultPieDataset<String>());
+        ExecutionException e = assertThrows(ExecutionException.class,
+                future::get);
+        assertTrue(e.getCause() instanceof IllegalArgumentException);
+        service.shutdown();
+    }
+
+}
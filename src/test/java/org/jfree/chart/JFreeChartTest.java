@@ -40,13 +40,19 @@ import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.GradientPaint;
+import java.awt.Graphics2D;
 import java.awt.RenderingHints;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 import java.util.List;
 
 import org.jfree.chart.event.ChartChangeEvent;
 import org.jfree.chart.event.ChartChangeListener;
+import org.jfree.chart.annotations.XYTextAnnotation;
 import org.jfree.chart.plot.pie.PiePlot;
 import org.jfree.chart.plot.RingPlot;
+import org.jfree.chart.plot.ValueMarker;
+import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.legend.LegendTitle;
 import org.jfree.chart.title.TextTitle;
 import org.jfree.chart.title.Title;
@@ -59,6 +65,7 @@ import org.jfree.data.time.Day;
 import org.jfree.data.time.RegularTimePeriod;
 import org.jfree.data.time.TimeSeries;
 import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.DefaultXYDataset;
 import org.junit.jupiter.api.Test;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -452,6 +459,56 @@ public class JFreeChartTest implements ChartChangeListener {
                 new DefaultPieDataset<String>()).getTitle().getText());
     }
 
+    /**
+     * Drawing the data layer over the static layer gives the same image and
+     * entities as drawing the whole chart.
+     */
+    @Test
+    public void testDrawLayers() {
+        DefaultXYDataset<String> dataset = new DefaultXYDataset<>();
+        dataset.addSeries("S1", new double[][] {{1.0, 2.0, 3.0, 4.0},
+                {4.0, 1.0, 3.0, 2.0}});
+        JFreeChart chart = ChartFactory.createXYLineChart("Title", "X", "Y",
+                dataset);
+        chart.setAntiAlias(false);
+        chart.setTextAntiAlias(false);
+        XYPlot<?> plot = (XYPlot<?>) chart.getPlot();
+        plot.addRangeMarker(new ValueMarker(2.5));
+        plot.addAnnotation(new XYTextAnnotation("A", 2.0, 3.0));
+        plot.setDomainCrosshairVisible(true);
+        plot.setDomainCrosshairValue(1.5);
+        Rectangle2D area = new Rectangle2D.Double(0, 0, 300, 200);
+
+        BufferedImage expected = new BufferedImage(300, 200,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = expected.createGraphics();
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        chart.draw(g2, area, info);
+        g2.dispose();
+
+        BufferedImage layered = new BufferedImage(300, 200,
+                BufferedImage.TYPE_INT_ARGB);
+        g2 = layered.createGraphics();
+        g2.setRenderingHint(JFreeChart.KEY_DATA_LAYER, Boolean.FALSE);
+        ChartRenderingInfo staticInfo = new ChartRenderingInfo();
+        chart.draw(g2, area, staticInfo);
+        g2.setRenderingHint(JFreeChart.KEY_DATA_LAYER, Boolean.TRUE);
+        ChartRenderingInfo dataInfo = new ChartRenderingInfo();
+        chart.draw(g2, area, dataInfo);
+        g2.dispose();
+
+        for (int x = 0; x < 300; x++) {
+            for (int y = 0; y < 200; y++) {
+                assertEquals(expected.getRGB(x, y), layered.getRGB(x, y));
+            }
+        }
+        assertEquals(info.getEntityCollection().getEntityCount(),
+                staticInfo.getEntityCollection().getEntityCount()
+                + dataInfo.getEntityCollection().getEntityCount());
+        assertEquals(info.getPlotInfo().getDataArea(),
+                dataInfo.getPlotInfo().getDataArea());
+    }
+
     /** The last ChartChangeEvent received. */
     private ChartChangeEvent lastChartChangeEvent;
 
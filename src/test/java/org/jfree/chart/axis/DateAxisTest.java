@@ -1252,4 +1252,36 @@ public class DateAxisTest {
         
     }
     
+    /**
+     * The ticks are reused until the axis changes.
+     */
+    @Test
+    public void testTickCache() {
+        DateAxis axis = new DateAxis("Date", TimeZone.getTimeZone("UTC"), 
+                Locale.UK);
+        axis.setRange(new Date(0L), new Date(10 * 24 * 60 * 60 * 1000L));
+        BufferedImage image = new BufferedImage(200, 100,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        Rectangle2D area = new Rectangle2D.Double(0.0, 0.0, 200, 100);
+        List<? extends Tick> ticks1 = axis.refreshTicks(g2, new AxisState(), 
+                area, RectangleEdge.BOTTOM);
+        DateTickUnit unit1 = axis.getTickUnit();
+        List<? extends Tick> ticks2 = axis.refreshTicks(g2, new AxisState(), 
+                area, RectangleEdge.BOTTOM);
+        assertEquals(ticks1, ticks2);
+        assertEquals(unit1, axis.getTickUnit());
+        assertEquals(1, axis.getTickCacheHitCount());
+        assertEquals(1, axis.getTickCacheMissCount());
+
+        // the format override is not part of the key, the change event 
+        // clears the cache
+        axis.setDateFormatOverride(new SimpleDateFormat("yyyy", Locale.UK));
+        List<? extends Tick> ticks3 = axis.refreshTicks(g2, new AxisState(), 
+                area, RectangleEdge.BOTTOM);
+        assertEquals("1970", ticks3.get(0).getText());
+        assertEquals(2, axis.getTickCacheMissCount());
+        g2.dispose();
+    }
+
 }
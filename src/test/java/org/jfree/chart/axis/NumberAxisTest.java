@@ -36,8 +36,11 @@
 
 package org.jfree.chart.axis;
 
+import java.awt.Graphics2D;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 import java.text.DecimalFormat;
+import java.util.List;
 
 import org.jfree.chart.ChartFactory;
 import org.jfree.chart.JFreeChart;
@@ -48,6 +51,7 @@ import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.renderer.category.BarRenderer;
 import org.jfree.chart.api.RectangleEdge;
 import org.jfree.chart.internal.CloneUtils;
+import org.jfree.data.Range;
 import org.jfree.data.RangeType;
 import org.jfree.data.category.DefaultCategoryDataset;
 import org.jfree.data.xy.XYSeries;
@@ -389,4 +393,108 @@ public class NumberAxisTest {
         //assertEquals(0.0, axis.getLowerBound(), EPSILON);
     }
 
+    /**
+     * The ticks are reused while the range, area and font are unchanged, 
+     * and recalculated when any of them changes.
+     */
+    @Test
+    public void testTickCache() {
+        NumberAxis axis = new NumberAxis("X");
+        axis.setRange(0.0, 10.0);
+        BufferedImage image = new BufferedImage(200, 100,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        Rectangle2D area = new Rectangle2D.Double(0.0, 0.0, 200, 100);
+        List ticks1 = axis.refreshTicks(g2, new AxisState(), area, 
+                RectangleEdge.LEFT);
+        NumberTickUnit unit1 = axis.getTickUnit();
+        assertEquals(0, axis.getTickCacheHitCount());
+        assertEquals(1, axis.getTickCacheMissCount());
+        List ticks2 = axis.refreshTicks(g2, new AxisState(), area, 
+                RectangleEdge.LEFT);
+        assertEquals(ticks1, ticks2);
+        assertNotSame(ticks1, ticks2);
+        assertEquals(unit1, axis.getTickUnit());
+        assertEquals(1, axis.getTickCacheHitCount());
+
+        // a different area size is a miss
+        axis.refreshTicks(g2, new AxisState(), 
+                new Rectangle2D.Double(0.0, 0.0, 200, 50), RectangleEdge.LEFT);
+        assertEquals(2, axis.getTickCacheMissCount());
+
+        // a range change (with or without an event) is a miss
+        axis.setRange(0.0, 100.0);
+        List ticks3 = axis.refreshTicks(g2, new AxisState(), area, 
+                RectangleEdge.LEFT);
+        assertNotEquals(ticks1, ticks3);
+        axis.setRange(new Range(0.0, 10.0), true, false);
+        List ticks4 = axis.refreshTicks(g2, new AxisState(), area, 
+                RectangleEdge.LEFT);
+        assertEquals(ticks1, ticks4);
+        assertEquals(unit1, axis.getTickUnit());
+        assertEquals(4, axis.getTickCacheMissCount());
+
+        // a fixed tick unit set without an event is a miss
+        axis.setTickUnit(new NumberTickUnit(5.0), false, true);
+        List ticks5 = axis.refreshTicks(g2, new AxisState(), area, 
+                RectangleEdge.LEFT);
+        assertEquals(3, ticks5.size());
+        assertEquals(5, axis.getTickCacheMissCount());
+        g2.dispose();
+    }
+
+    /**
+     * A subclass does not use the tick cache unless it overrides
+     * isTickCacheSupported().
+     */
+    @Test
+    public void testTickCacheSubclass() {
+        NumberAxis axis1 = new NumberAxis("X") {};
+        NumberAxis axis2 = new NumberAxis("X") {
+            @Override
+            protected boolean isTickCacheSupported() {
+                return true;
+            }
+        };
+        BufferedImage image = new BufferedImage(200, 100,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        Rectangle2D area = new Rectangle2D.Double(0.0, 0.0, 200, 100);
+        for (int i = 0; i < 2; i++) {
+            axis1.refreshTicks(g2, new AxisState(), area, RectangleEdge.LEFT);
+            axis2.refreshTicks(g2, new AxisState(), area, RectangleEdge.LEFT);
+        }
+        assertEquals(0, axis1.getTickCacheHitCount());
+        assertEquals(1, axis2.getTickCacheHitCount());
+        assertFalse(new SymbolAxis("S", new String[] {"A"})
+                .isTickCacheSupported());
+        g2.dispose();
+    }
+
+    /**
+     * Drawing a chart a second time reuses the ticks and space calculated 
+     * for the value axes.
+     */
+    @Test
+    public void testTickCacheWhenDrawingChart() 
+            throws CloneNotSupportedException {
+        XYSeries<String> s = new XYSeries<>("S1");
+        s.add(1.0, 2.0);
+        s.add(5.0, 8.0);
+        XYSeriesCollection<String> dataset = new XYSeriesCollection<>(s);
+        JFreeChart chart = ChartFactory.createXYLineChart("Title", "X", "Y",
+                dataset);
+        XYPlot<?> plot = (XYPlot) chart.getPlot();
+        NumberAxis yAxis = (NumberAxis) plot.getRangeAxis();
+        chart.createBufferedImage(300, 200);
+        long misses = yAxis.getTickCacheMissCount();
+        assertTrue(misses > 0);
+        chart.createBufferedImage(300, 200);
+        assertEquals(misses, yAxis.getTickCacheMissCount());
+        assertTrue(yAxis.getTickCacheHitCount() > 0);
+
+        // clones start with an empty cache
+        assertEquals(0, CloneUtils.clone(yAxis).getTickCacheHitCount());
+    }
+
 }
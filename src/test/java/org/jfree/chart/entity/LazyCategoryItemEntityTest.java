@@ -0,0 +1,107 @@
+/* ======================================================
+ * JFreeChart : a chart library for the Java(tm) platform
+ * ======================================================
+ *
+ * (C) Copyright 2000-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------------
+ * LazyCategoryItemEntityTest.java
+ * -------------------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.entity;
+
+import java.awt.geom.Rectangle2D;
+
+import org.jfree.chart.TestUtils;
+import org.jfree.chart.labels.StandardCategoryToolTipGenerator;
+import org.jfree.chart.urls.StandardCategoryURLGenerator;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link LazyCategoryItemEntity} class.
+ */
+public class LazyCategoryItemEntityTest {
+
+    /**
+     * Creates a dataset for testing.
+     *
+     * @return A dataset.
+     */
+    private DefaultCategoryDataset<String, String> createDataset() {
+        DefaultCategoryDataset<String, String> d
+                = new DefaultCategoryDataset<>();
+        d.addValue(1.0, "R1", "C1");
+        d.addValue(2.0, "R1", "C2");
+        d.addValue(3.0, "R2", "C2");
+        return d;
+    }
+
+    /**
+     * The text is generated when requested, and matches the text of an
+     * entity created with the text.
+     */
+    @Test
+    public void testText() {
+        DefaultCategoryDataset<String, String> dataset = createDataset();
+        StandardCategoryToolTipGenerator ttg
+                = new StandardCategoryToolTipGenerator();
+        StandardCategoryURLGenerator ug = new StandardCategoryURLGenerator();
+        Rectangle2D area = new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0);
+        LazyCategoryItemEntity<String, String> e1
+                = new LazyCategoryItemEntity<>(area, dataset, 1, 1, ttg, ug);
+        CategoryItemEntity<String, String> e2 = new CategoryItemEntity<>(area,
+                ttg.generateToolTip(dataset, 1, 1),
+                ug.generateURL(dataset, 1, 1), dataset, "R2", "C2");
+        assertEquals("R2", e1.getRowKey());
+        assertEquals("C2", e1.getColumnKey());
+        assertEquals(e2.getToolTipText(), e1.getToolTipText());
+        assertEquals(e2.getURLText(), e1.getURLText());
+        assertEquals(e1, e2);
+
+        e1.setURLText(null);
+        assertNull(e1.getURLText());
+    }
+
+    /**
+     * A lazy entity is serialized as a regular entity with the text.
+     */
+    @Test
+    public void testSerialization() {
+        CategoryItemEntity<String, String> e1 = new LazyCategoryItemEntity<>(
+                new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0), createDataset(),
+                0, 1, new StandardCategoryToolTipGenerator(), null);
+        CategoryItemEntity<String, String> e2 = TestUtils.serialised(e1);
+        assertSame(CategoryItemEntity.class, e2.getClass());
+        assertEquals(e1, e2);
+    }
+
+}
@@ -0,0 +1,149 @@
+/* ======================================================
+ * JFreeChart : a chart library for the Java(tm) platform
+ * ======================================================
+ *
+ * (C) Copyright 2000-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * LazyXYItemEntityTest.java
+ * -------------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.entity;
+
+import java.awt.geom.Rectangle2D;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.TestUtils;
+import org.jfree.chart.labels.StandardXYToolTipGenerator;
+import org.jfree.chart.urls.StandardXYURLGenerator;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link LazyXYItemEntity} class.
+ */
+public class LazyXYItemEntityTest {
+
+    /**
+     * Creates a dataset for testing.
+     *
+     * @return A dataset.
+     */
+    private XYSeriesCollection<String> createDataset() {
+        XYSeries<String> s = new XYSeries<>("S1");
+        for (int i = 0; i < 100; i++) {
+            s.add(i, i * 2.0);
+        }
+        return new XYSeriesCollection<>(s);
+    }
+
+    /**
+     * The text is generated when requested, and matches the text of an
+     * entity created with the text.
+     */
+    @Test
+    public void testText() {
+        XYSeriesCollection<String> dataset = createDataset();
+        StandardXYToolTipGenerator ttg = new StandardXYToolTipGenerator();
+        StandardXYURLGenerator ug = new StandardXYURLGenerator();
+        Rectangle2D area = new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0);
+        LazyXYItemEntity e1 = new LazyXYItemEntity(area, dataset, 0, 5, ttg,
+                ug);
+        XYItemEntity e2 = new XYItemEntity(area, dataset, 0, 5,
+                ttg.generateToolTip(dataset, 0, 5),
+                ug.generateURL(dataset, 0, 5));
+        assertEquals(e2.getToolTipText(), e1.getToolTipText());
+        assertEquals(e2.getURLText(), e1.getURLText());
+        assertEquals(e1, e2);
+        assertEquals(e2, e1);
+
+        e1.setToolTipText("Tip");
+        assertEquals("Tip", e1.getToolTipText());
+        LazyXYItemEntity e3 = new LazyXYItemEntity(area, dataset, 0, 5, null,
+                null);
+        assertNull(e3.getToolTipText());
+        assertNull(e3.getURLText());
+    }
+
+    /**
+     * A lazy entity is serialized as a regular entity with the text.
+     */
+    @Test
+    public void testSerialization() {
+        XYSeriesCollection<String> dataset = createDataset();
+        XYItemEntity e1 = new LazyXYItemEntity(new Rectangle2D.Double(1.0,
+                2.0, 3.0, 4.0), dataset, 0, 7,
+                new StandardXYToolTipGenerator(), null);
+        XYItemEntity e2 = TestUtils.serialised(e1);
+        assertSame(XYItemEntity.class, e2.getClass());
+        assertEquals(e1, e2);
+    }
+
+    /**
+     * Drawing a chart with an entity collection in lazy mode, and with a
+     * maximum entity count.
+     */
+    @Test
+    public void testDrawWithLazyEntities() {
+        JFreeChart chart = ChartFactory.createScatterPlot("Title", "X", "Y",
+                createDataset());
+        ChartRenderingInfo info1 = new ChartRenderingInfo();
+        chart.createBufferedImage(300, 200, info1);
+
+        StandardEntityCollection entities = new StandardEntityCollection();
+        entities.setLazyItemEntities(true);
+        ChartRenderingInfo info2 = new ChartRenderingInfo(entities);
+        chart.createBufferedImage(300, 200, info2);
+        assertEquals(info1.getEntityCollection().getEntityCount(),
+                entities.getEntityCount());
+        int lazyCount = 0;
+        for (int i = 0; i < entities.getEntityCount(); i++) {
+            ChartEntity entity = entities.getEntity(i);
+            if (entity instanceof LazyXYItemEntity) {
+                lazyCount++;
+            }
+            ChartEntity expected = info1.getEntityCollection().getEntity(i);
+            assertEquals(expected.getToolTipText(), entity.getToolTipText());
+            assertEquals(expected.getShapeCoords(), entity.getShapeCoords());
+        }
+        assertEquals(100, lazyCount);
+
+        entities = new StandardEntityCollection();
+        entities.setMaximumEntityCount(20);
+        chart.createBufferedImage(300, 200, new ChartRenderingInfo(entities));
+        assertEquals(20, entities.getEntityCount());
+        assertTrue(entities.isFull());
+    }
+
+}
@@ -36,7 +36,12 @@
 
 package org.jfree.chart.entity;
 
+import java.awt.Shape;
+import java.awt.geom.Ellipse2D;
 import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 
 import org.jfree.chart.TestUtils;
 import org.jfree.chart.internal.CloneUtils;
@@ -71,6 +76,16 @@ public class StandardEntityCollectionTest {
                 "ToolTip", "URL");
         c2.add(e2);
         assertEquals(c1, c2);
+
+        c1.setMaximumEntityCount(10);
+        assertNotEquals(c1, c2);
+        c2.setMaximumEntityCount(10);
+        assertEquals(c1, c2);
+
+        c1.setLazyItemEntities(true);
+        assertNotEquals(c1, c2);
+        c2.setLazyItemEntities(true);
+        assertEquals(c1, c2);
     }
 
     /**
@@ -107,6 +122,118 @@ public class StandardEntityCollectionTest {
         c1.add(e1);
         StandardEntityCollection c2 = TestUtils.serialised(c1);
         assertEquals(c1, c2);
+        assertEquals(Integer.MAX_VALUE, c2.getMaximumEntityCount());
+
+        c1.setMaximumEntityCount(0);
+        c1.setLazyItemEntities(true);
+        c2 = TestUtils.serialised(c1);
+        assertEquals(c1, c2);
+        assertEquals(0, c2.getMaximumEntityCount());
+        assertTrue(c2.isLazyItemEntities());
+    }
+
+    /**
+     * Creates a collection with many small entities and one entity that
+     * covers all the others.
+     *
+     * @param random  the random number generator.
+     *
+     * @return The collection.
+     */
+    private StandardEntityCollection createCollection(Random random) {
+        StandardEntityCollection c = new StandardEntityCollection();
+        c.add(new ChartEntity(new Rectangle2D.Double(0, 0, 500, 500), "A"));
+        for (int i = 0; i < 2000; i++) {
+            double x = random.nextDouble() * 480;
+            double y = random.nextDouble() * 480;
+            Shape shape = random.nextBoolean()
+                    ? new Rectangle2D.Double(x, y, 8, 6)
+                    : new Ellipse2D.Double(x, y, 20, 10);
+            c.add(new ChartEntity(shape, "E" + i));
+        }
+        c.add(new ChartEntity(new Rectangle2D.Double(200, 200, 100, 100),
+                "B"));
+        return c;
+    }
+
+    /**
+     * The indexed point query returns the same (last added) entity as a
+     * linear search.
+     */
+    @Test
+    public void testGetEntityIndexed() {
+        Random random = new Random(1L);
+        StandardEntityCollection c = createCollection(random);
+        List<ChartEntity> all = new ArrayList<>(c.getEntities());
+        for (int k = 0; k < 2000; k++) {
+            double x = random.nextDouble() * 520 - 10;
+            double y = random.nextDouble() * 520 - 10;
+            ChartEntity expected = null;
+            for (int i = all.size() - 1; i >= 0; i--) {
+                if (all.get(i).getArea().contains(x, y)) {
+                    expected = all.get(i);
+                    break;
+                }
+            }
+            assertSame(expected, c.getEntity(x, y));
+        }
+        assertEquals("B", c.getEntity(250, 250).getToolTipText());
+
+        // adding an entity after a query is reflected in the next query
+        c.add(new ChartEntity(new Rectangle2D.Double(249, 249, 2, 2), "C"));
+        assertEquals("C", c.getEntity(250, 250).getToolTipText());
+        assertNull(c.getEntity(600, 600));
+    }
+
+    /**
+     * The area query returns the same entities, in the same order, as a
+     * linear search.
+     */
+    @Test
+    public void testGetEntitiesForArea() {
+        Random random = new Random(2L);
+        StandardEntityCollection c = createCollection(random);
+        for (int k = 0; k < 50; k++) {
+            Rectangle2D area = new Rectangle2D.Double(
+                    random.nextDouble() * 500, random.nextDouble() * 500,
+                    random.nextDouble() * 100, random.nextDouble() * 100);
+            List<ChartEntity> expected = new ArrayList<>();
+            for (ChartEntity entity : c.getEntities()) {
+                if (entity.getArea().intersects(area)) {
+                    expected.add(entity);
+                }
+            }
+            assertEquals(expected, c.getEntities(area));
+        }
+        StandardEntityCollection small = new StandardEntityCollection();
+        small.add(new ChartEntity(new Rectangle2D.Double(0, 0, 10, 10)));
+        assertEquals(1, small.getEntities(
+                new Rectangle2D.Double(5, 5, 1, 1)).size());
+        assertTrue(small.getEntities(
+                new Rectangle2D.Double(50, 5, 1, 1)).isEmpty());
+    }
+
+    /**
+     * Entities beyond the maximum entity count are ignored.
+     */
+    @Test
+    public void testMaximumEntityCount() {
+        StandardEntityCollection c1 = new StandardEntityCollection();
+        c1.setMaximumEntityCount(2);
+        c1.add(new ChartEntity(new Rectangle2D.Double(0, 0, 1, 1), "A"));
+        assertFalse(c1.isFull());
+        c1.add(new ChartEntity(new Rectangle2D.Double(0, 0, 1, 1), "B"));
+        assertTrue(c1.isFull());
+        c1.add(new ChartEntity(new Rectangle2D.Double(0, 0, 1, 1), "C"));
+        assertEquals(2, c1.getEntityCount());
+        assertEquals("B", c1.getEntity(0.5, 0.5).getToolTipText());
+
+        StandardEntityCollection c2 = new StandardEntityCollection();
+        c2.add(new ChartEntity(new Rectangle2D.Double(0, 0, 1, 1), "D"));
+        c2.setMaximumEntityCount(2);
+        c2.addAll(c1);
+        assertEquals(2, c2.getEntityCount());
+        assertEquals("A", c2.getEntity(1).getToolTipText());
     }
 
 }
@@ -137,6 +137,8 @@ public class LegendTitleTest {
         assertNotEquals(t1, t2);
         t2.setBounds(new Rectangle2D.Double(40.0, 30.0, 20.0, 10.0));
         assertEquals(t1, t2);
+        assertNotSame(t1.getSources(), t2.getSources());
+        assertNotSame(t1.getItemContainer(), t2.getItemContainer());
     }
 
     /**
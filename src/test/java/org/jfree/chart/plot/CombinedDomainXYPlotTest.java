@@ -43,11 +43,13 @@ import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.TestUtils;
 import org.jfree.chart.annotations.XYTextAnnotation;
 import org.jfree.chart.axis.AxisLocation;
 import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.event.ChartChangeEvent;
 import org.jfree.chart.event.ChartChangeListener;
 import org.jfree.chart.renderer.xy.StandardXYItemRenderer;
@@ -112,6 +114,11 @@ public class CombinedDomainXYPlotTest implements ChartChangeListener {
         CombinedDomainXYPlot<String> plot2 = createPlot();
         assertEquals(plot1, plot2);
         assertEquals(plot2, plot1);
+
+        plot1.setParallelRendering(true);
+        assertNotEquals(plot1, plot2);
+        plot2.setParallelRendering(true);
+        assertEquals(plot1, plot2);
     }
 
     /**
@@ -237,6 +244,73 @@ public class CombinedDomainXYPlotTest implements ChartChangeListener {
 
     }
 
+    /**
+     * Draws the chart with and without parallel rendering of the subplots
+     * and checks that the images and rendering info are the same (with
+     * antialiasing switched off, since antialiased edges drawn over
+     * existing content can differ by one colour level).
+     */
+    @Test
+    public void testParallelRendering() {
+        JFreeChart chart = new JFreeChart(createPlot());
+        chart.setAntiAlias(false);
+        chart.setTextAntiAlias(false);
+        CombinedDomainXYPlot<String> plot = (CombinedDomainXYPlot<String>) chart.getPlot();
+        ChartRenderingInfo info1 = new ChartRenderingInfo();
+        BufferedImage image1 = chart.createBufferedImage(400, 300, info1);
+        plot.setParallelRendering(true);
+        ChartRenderingInfo info2 = new ChartRenderingInfo();
+        BufferedImage image2 = chart.createBufferedImage(400, 300, info2);
+        assertArrayEquals(image1.getRGB(0, 0, 400, 300, null, 0, 400),
+                image2.getRGB(0, 0, 400, 300, null, 0, 400));
+        PlotRenderingInfo p1 = info1.getPlotInfo();
+        PlotRenderingInfo p2 = info2.getPlotInfo();
+        assertEquals(2, p2.getSubplotCount());
+        for (int i = 0; i < 2; i++) {
+            assertEquals(p1.getSubplotInfo(i).getDataArea(),
+                    p2.getSubplotInfo(i).getDataArea());
+            assertSame(info2, p2.getSubplotInfo(i).getOwner());
+        }
+        EntityCollection e1 = info1.getEntityCollection();
+        EntityCollection e2 = info2.getEntityCollection();
+        assertEquals(e1.getEntityCount(), e2.getEntityCount());
+        for (int i = 0; i < e1.getEntityCount(); i++) {
+            assertEquals(e1.getEntity(i).getShapeCoords(),
+                    e2.getEntity(i).getShapeCoords());
+        }
+    }
+
+    /**
+     * Series that are not shown in the legend are assigned the same paints
+     * with and without parallel rendering (the paints are assigned from the
+     * shared drawing supplier before the subplots are drawn).
+     */
+    @Test
+    public void testParallelRenderingHiddenLegendItems() {
+        CombinedDomainXYPlot<String> plot1 = createPlot();
+        CombinedDomainXYPlot<String> plot2 = createPlot();
+        plot2.setParallelRendering(true);
+        for (CombinedDomainXYPlot<String> plot : List.of(plot1, plot2)) {
+            for (XYPlot<String> subplot : plot.getSubplots()) {
+                subplot.getRenderer().setSeriesVisibleInLegend(0, false);
+            }
+            JFreeChart chart = new JFreeChart(plot);
+            chart.setAntiAlias(false);
+            chart.setTextAntiAlias(false);
+            chart.createBufferedImage(400, 300, null);
+        }
+        for (int i = 0; i < 2; i++) {
+            XYItemRenderer r1 = plot1.getSubplots().get(i).getRenderer();
+            XYItemRenderer r2 = plot2.getSubplots().get(i).getRenderer();
+            int seriesCount = plot1.getSubplots().get(i).getSeriesCount();
+            for (int series = 0; series < seriesCount; series++) {
+                assertNotNull(r2.getSeriesPaint(series));
+                assertEquals(r1.getSeriesPaint(series),
+                        r2.getSeriesPaint(series));
+            }
+        }
+    }
+
     /**
      * Creates a sample plot.
      *
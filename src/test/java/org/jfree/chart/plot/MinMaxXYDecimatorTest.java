@@ -0,0 +1,328 @@
+/* ======================================================
+ * JFreeChart : a chart library for the Java(tm) platform
+ * ======================================================
+ *
+ * (C) Copyright 2000-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------
+ * MinMaxXYDecimatorTest.java
+ * --------------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.plot;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.TestUtils;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.renderer.xy.XYAreaRenderer;
+import org.jfree.chart.renderer.xy.XYBarRenderer;
+import org.jfree.chart.renderer.xy.XYErrorRenderer;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.chart.renderer.xy.XYSplineRenderer;
+import org.jfree.data.xy.DecimatedXYDataset;
+import org.jfree.data.xy.DefaultXYDataset;
+import org.jfree.data.xy.PrimitiveXYSeries;
+import org.jfree.data.xy.PrimitiveXYSeriesCollection;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link MinMaxXYDecimator} class.
+ */
+public class MinMaxXYDecimatorTest {
+
+    /**
+     * Creates a dataset with one series of {@code n} items.
+     *
+     * @param n  the item count.
+     *
+     * @return The dataset.
+     */
+    private XYSeriesCollection<String> createDataset(int n) {
+        XYSeries<String> s = new XYSeries<>("S1");
+        for (int i = 0; i < n; i++) {
+            s.add(i, Math.sin(i / 10.0) * 100 + (i % 7), false);
+        }
+        return new XYSeriesCollection<>(s);
+    }
+
+    /**
+     * Creates a plot for the dataset with a domain axis covering all items,
+     * and a renderer that draws lines only and creates no entities.
+     *
+     * @param dataset  the dataset.
+     *
+     * @return The plot.
+     */
+    private XYPlot<String> createPlot(XYDataset<String> dataset) {
+        NumberAxis xAxis = new NumberAxis("X");
+        xAxis.setRange(0.0, dataset.getItemCount(0) - 1);
+        XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer(true, 
+                false);
+        renderer.setDefaultCreateEntities(false);
+        return new XYPlot<>(dataset, xAxis, new NumberAxis("Y"), renderer);
+    }
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        MinMaxXYDecimator d1 = new MinMaxXYDecimator();
+        MinMaxXYDecimator d2 = new MinMaxXYDecimator();
+        assertEquals(d1, d2);
+        assertEquals(d1.hashCode(), d2.hashCode());
+        d1 = new MinMaxXYDecimator(2.0);
+        assertNotEquals(d1, d2);
+        d2 = new MinMaxXYDecimator(2.0);
+        assertEquals(d1, d2);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        MinMaxXYDecimator d1 = new MinMaxXYDecimator(3.0);
+        MinMaxXYDecimator d2 = TestUtils.serialised(d1);
+        assertEquals(d1, d2);
+    }
+
+    /**
+     * A large series is reduced to at most five items per pixel column and
+     * the extreme values are retained.
+     */
+    @Test
+    public void testDecimate() {
+        XYSeriesCollection<String> dataset = createDataset(100000);
+        XYPlot<String> plot = createPlot(dataset);
+        Rectangle2D area = new Rectangle2D.Double(0, 0, 100, 50);
+        MinMaxXYDecimator decimator = new MinMaxXYDecimator();
+        XYDataset<String> result = decimator.decimate(plot, dataset,
+                plot.getRenderer(), plot.getDomainAxis(), area, null);
+        assertTrue(result instanceof DecimatedXYDataset);
+        DecimatedXYDataset<String> view = (DecimatedXYDataset<String>) result;
+        int count = view.getItemCount(0);
+        assertTrue(count <= 101 * 5);
+        assertEquals(0, view.getSourceItem(0, 0));
+        assertEquals(99999, view.getSourceItem(0, count - 1));
+
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        int previous = -1;
+        for (int i = 0; i < count; i++) {
+            assertTrue(view.getSourceItem(0, i) > previous);
+            previous = view.getSourceItem(0, i);
+            min = Math.min(min, view.getYValue(0, i));
+            max = Math.max(max, view.getYValue(0, i));
+        }
+        assertEquals(dataset.getRangeLowerBound(false), min);
+        assertEquals(dataset.getRangeUpperBound(false), max);
+    }
+
+    /**
+     * The dataset is returned unchanged when decimation does not apply.
+     */
+    @Test
+    public void testNoDecimation() {
+        Rectangle2D area = new Rectangle2D.Double(0, 0, 100, 50);
+        MinMaxXYDecimator decimator = new MinMaxXYDecimator();
+
+        // too few items
+        XYSeriesCollection<String> small = createDataset(300);
+        XYPlot<String> plot = createPlot(small);
+        assertSame(small, decimator.decimate(plot, small, plot.getRenderer(),
+                plot.getDomainAxis(), area, null));
+
+        // renderer not supported
+        XYSeriesCollection<String> large = createDataset(10000);
+        plot = createPlot(large);
+        assertSame(large, decimator.decimate(plot, large,
+                new XYBarRenderer(), plot.getDomainAxis(), area, null));
+
+        // x-values not known to be in order
+        DefaultXYDataset<String> unordered = new DefaultXYDataset<>();
+        unordered.addSeries("S1", large.getSeries(0).toArray());
+        plot = createPlot(unordered);
+        assertSame(unordered, decimator.decimate(plot, unordered,
+                plot.getRenderer(), plot.getDomainAxis(), area, null));
+    }
+
+    /**
+     * A renderer that draws shapes, item labels or entities (when an entity
+     * collection is being filled) for a series needs every item, so the
+     * dataset is returned unchanged.
+     */
+    @Test
+    public void testNoDecimationWithShapesLabelsOrEntities() {
+        Rectangle2D area = new Rectangle2D.Double(0, 0, 100, 50);
+        MinMaxXYDecimator decimator = new MinMaxXYDecimator();
+        XYSeriesCollection<String> large = createDataset(10000);
+        XYPlot<String> plot = createPlot(large);
+        XYLineAndShapeRenderer renderer
+                = (XYLineAndShapeRenderer) plot.getRenderer();
+        assertNotSame(large, decimator.decimate(plot, large, renderer,
+                plot.getDomainAxis(), area, null));
+
+        renderer.setSeriesShapesVisible(0, true);
+        assertSame(large, decimator.decimate(plot, large, renderer,
+                plot.getDomainAxis(), area, null));
+        renderer.setSeriesShapesVisible(0, false);
+        renderer.setSeriesItemLabelsVisible(0, true);
+        assertSame(large, decimator.decimate(plot, large, renderer,
+                plot.getDomainAxis(), area, null));
+        renderer.setSeriesItemLabelsVisible(0, false);
+        renderer.setSeriesCreateEntities(0, true);
+        assertNotSame(large, decimator.decimate(plot, large, renderer,
+                plot.getDomainAxis(), area, null));
+        PlotRenderingInfo info = new ChartRenderingInfo().getPlotInfo();
+        assertSame(large, decimator.decimate(plot, large, renderer,
+                plot.getDomainAxis(), area, info));
+        renderer.setSeriesCreateEntities(0, null);
+        assertNotSame(large, decimator.decimate(plot, large, renderer,
+                plot.getDomainAxis(), area, info));
+
+        // entities are only a concern when they are collected
+        XYLineAndShapeRenderer linesOnly = new XYLineAndShapeRenderer(true,
+                false);
+        assertNotSame(large, decimator.decimate(plot, large, linesOnly,
+                plot.getDomainAxis(), area, null));
+        assertSame(large, decimator.decimate(plot, large, linesOnly,
+                plot.getDomainAxis(), area, info));
+
+        // the curve or error bars depend on every item
+        XYSplineRenderer spline = new XYSplineRenderer();
+        spline.setDefaultShapesVisible(false);
+        assertSame(large, decimator.decimate(plot, large, spline,
+                plot.getDomainAxis(), area, null));
+        XYErrorRenderer error = new XYErrorRenderer();
+        error.setDefaultShapesVisible(false);
+        error.setDefaultLinesVisible(true);
+        assertSame(large, decimator.decimate(plot, large, error,
+                plot.getDomainAxis(), area, null));
+
+        // the default renderer draws shapes
+        assertSame(large, decimator.decimate(plot, large,
+                new XYLineAndShapeRenderer(), plot.getDomainAxis(), area, null));
+        XYAreaRenderer areaRenderer = new XYAreaRenderer(XYAreaRenderer.AREA);
+        areaRenderer.setDefaultCreateEntities(false);
+        assertNotSame(large, decimator.decimate(plot, large, areaRenderer,
+                plot.getDomainAxis(), area, null));
+        areaRenderer = new XYAreaRenderer(XYAreaRenderer.AREA_AND_SHAPES);
+        areaRenderer.setDefaultCreateEntities(false);
+        assertSame(large, decimator.decimate(plot, large, areaRenderer,
+                plot.getDomainAxis(), area, null));
+    }
+
+    /**
+     * Draws a chart with a decimator, to check that no exception is thrown.
+     */
+    @Test
+    public void testDrawWithDecimator() {
+        JFreeChart chart = ChartFactory.createXYLineChart("Title", "X", "Y",
+                createDataset(20000));
+        XYPlot<?> plot = (XYPlot<?>) chart.getPlot();
+        plot.getRenderer().setDefaultCreateEntities(false);
+        plot.setDecimator(new MinMaxXYDecimator());
+        BufferedImage image = new BufferedImage(200, 100,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 200, 100), null, null);
+        g2.dispose();
+    }
+
+    /**
+     * Draws a decimated chart with an anchor point set, so that the
+     * renderer updates the crosshair state for the items in the
+     * {@link DecimatedXYDataset} view.
+     */
+    @Test
+    public void testDrawWithDecimatorAndAnchor() {
+        XYSeriesCollection<String> dataset = createDataset(20000);
+        JFreeChart chart = ChartFactory.createXYLineChart("Title", "X", "Y",
+                dataset);
+        XYPlot<String> plot = (XYPlot<String>) chart.getPlot();
+        plot.setDecimator(new MinMaxXYDecimator());
+        plot.setDomainCrosshairVisible(true);
+        plot.setRangeCrosshairVisible(true);
+        Rectangle2D area = new Rectangle2D.Double(0, 0, 400, 300);
+        assertEquals(0, plot.indexOf(new DecimatedXYDataset<>(dataset,
+                new int[1][])));
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        chart.draw(g2, area, new Point2D.Double(200, 150), null);
+        plot.getRenderer().setDefaultCreateEntities(false);
+        chart.draw(g2, area, new Point2D.Double(200, 150),
+                new ChartRenderingInfo());
+        g2.dispose();
+        assertTrue(plot.getDomainCrosshairValue() > 0.0);
+    }
+
+    /**
+     * A dataset with an index over the y-values is decimated to the same
+     * items as a dataset without one.
+     */
+    @Test
+    public void testDecimateIndexed() {
+        XYSeriesCollection<String> dataset = createDataset(50000);
+        dataset.getSeries(0).updateByIndex(1234, Double.NaN);
+        PrimitiveXYSeries<String> s = new PrimitiveXYSeries<>("S1");
+        for (int i = 0; i < 50000; i++) {
+            s.add(dataset.getXValue(0, i), dataset.getYValue(0, i));
+        }
+        PrimitiveXYSeriesCollection<String> indexed
+                = new PrimitiveXYSeriesCollection<>(s);
+        XYPlot<String> plot = createPlot(dataset);
+        plot.getDomainAxis().setRange(1000.0, 30000.0);
+        Rectangle2D area = new Rectangle2D.Double(0, 0, 321, 50);
+        MinMaxXYDecimator decimator = new MinMaxXYDecimator();
+        DecimatedXYDataset<String> d1 = (DecimatedXYDataset<String>)
+                decimator.decimate(plot, dataset, plot.getRenderer(),
+                plot.getDomainAxis(), area, null);
+        DecimatedXYDataset<String> d2 = (DecimatedXYDataset<String>)
+                decimator.decimate(plot, indexed, plot.getRenderer(),
+                plot.getDomainAxis(), area, null);
+        assertEquals(d1.getItemCount(0), d2.getItemCount(0));
+        for (int i = 0; i < d1.getItemCount(0); i++) {
+            assertEquals(d1.getSourceItem(0, i), d2.getSourceItem(0, i));
+        }
+    }
+
+}
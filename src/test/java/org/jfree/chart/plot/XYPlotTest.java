@@ -409,6 +409,12 @@ public class XYPlotTest {
         plot2.setShadowGenerator(null);
         assertEquals(plot1, plot2);
 
+        // decimator
+        plot1.setDecimator(new MinMaxXYDecimator(2.0));
+        assertNotEquals(plot1, plot2);
+        plot2.setDecimator(new MinMaxXYDecimator(2.0));
+        assertEquals(plot1, plot2);
+
         LegendItemCollection lic1 = new LegendItemCollection();
         lic1.add(new LegendItem("XYZ", Color.RED));
         plot1.setFixedLegendItems(lic1);
@@ -1415,4 +1421,90 @@ public class XYPlotTest {
         assertEquals(new Range(1.0, 6.0), plot.getDataRange(xAxis));
         assertEquals(new Range(2.0, 10.0), plot.getDataRange(yAxis)); // only y-values for items in the x-range        
     }    
+
+    /**
+     * The data bounds are cached until the dataset or renderer changes.
+     */
+    @Test
+    public void testDataRangeCache() {
+        final int[] reads = new int[1];
+        DefaultXYDataset<String> dataset = new DefaultXYDataset<String>() {
+            @Override
+            public double getXValue(int series, int item) {
+                reads[0]++;
+                return super.getXValue(series, item);
+            }
+        };
+        dataset.addSeries("S1", new double[][] {{1.0, 2.0, 3.0},
+                {4.0, 5.0, 6.0}});
+        NumberAxis xAxis = new NumberAxis("X");
+        NumberAxis yAxis = new NumberAxis("Y");
+        XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer();
+        XYPlot<String> plot = new XYPlot<>(dataset, xAxis, yAxis, renderer);
+        assertEquals(new Range(1.0, 3.0), plot.getDataRange(xAxis));
+        reads[0] = 0;
+        assertEquals(new Range(1.0, 3.0), plot.getDataRange(xAxis));
+        assertEquals(new Range(4.0, 6.0), plot.getDataRange(yAxis));
+        assertEquals(0, reads[0]);
+
+        // a dataset change discards the cached bounds
+        dataset.addSeries("S2", new double[][] {{0.0}, {9.0}});
+        assertEquals(new Range(0.0, 3.0), plot.getDataRange(xAxis));
+        assertEquals(new Range(4.0, 9.0), plot.getDataRange(yAxis));
+
+        // ...as does a renderer change
+        renderer.setSeriesVisible(1, false);
+        assertEquals(new Range(1.0, 3.0), plot.getDataRange(xAxis));
+        assertEquals(new Range(4.0, 6.0), plot.getDataRange(yAxis));
+
+        // the visible y-range follows the domain axis range
+        xAxis.setRange(1.5, 2.5);
+        assertEquals(new Range(5.0, 5.0), plot.getDataRange(yAxis));
+
+        // clones have their own cache
+        reads[0] = 0;
+        XYPlot<String> clone = assertDoesNotThrow(() -> CloneUtils.clone(plot));
+        assertEquals(new Range(1.0, 3.0), clone.getDataRange(
+                clone.getDomainAxis()));
+        assertTrue(reads[0] > 0);
+    }
+
+    /**
+     * A change to one dataset or renderer keeps the cached bounds for the
+     * other datasets.
+     */
+    @Test
+    public void testDataRangeCacheKeepsUnchangedDatasets() {
+        final int[] reads = new int[1];
+        DefaultXYDataset<String> d1 = new DefaultXYDataset<String>() {
+            @Override
+            public double getXValue(int series, int item) {
+                reads[0]++;
+                return super.getXValue(series, item);
+            }
+        };
+        d1.addSeries("S1", new double[][] {{1.0, 2.0, 3.0}, {4.0, 5.0, 6.0}});
+        DefaultXYDataset<String> d2 = new DefaultXYDataset<>();
+        d2.addSeries("S2", new double[][] {{0.0, 1.0}, {7.0, 8.0}});
+        NumberAxis xAxis = new NumberAxis("X");
+        NumberAxis yAxis = new NumberAxis("Y");
+        XYLineAndShapeRenderer r1 = new XYLineAndShapeRenderer();
+        r1.setDataBoundsIncludesVisibleSeriesOnly(false);
+        XYPlot<String> plot = new XYPlot<>(d1, xAxis, yAxis, r1);
+        XYLineAndShapeRenderer r2 = new XYLineAndShapeRenderer();
+        plot.setDataset(1, d2);
+        plot.setRenderer(1, r2);
+        assertEquals(new Range(0.0, 3.0), plot.getDataRange(xAxis));
+        reads[0] = 0;
+        d2.addSeries("S3", new double[][] {{-1.0}, {9.0}});
+        r2.setSeriesVisible(0, false);
+        assertEquals(new Range(-1.0, 3.0), plot.getDataRange(xAxis));
+        assertEquals(new Range(4.0, 9.0), plot.getDataRange(yAxis));
+        assertEquals(0, reads[0]);
+
+        // replacing the renderer for the first dataset discards its bounds
+        plot.setRenderer(0, new XYLineAndShapeRenderer());
+        assertEquals(new Range(-1.0, 3.0), plot.getDataRange(xAxis));
+        assertTrue(reads[0] > 0);
+    }
 }
@@ -38,13 +38,21 @@ package org.jfree.chart.plot.flow;
 
 import java.awt.Color;
 import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 import java.util.Arrays;
 import java.util.List;
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.JFreeChart;
 import org.jfree.chart.TestUtils;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.FlowEntity;
 import org.jfree.chart.api.VerticalAlignment;
 import org.jfree.chart.event.PlotChangeEvent;
 import org.jfree.chart.event.PlotChangeListener;
 import org.jfree.chart.labels.StandardFlowLabelGenerator;
+import org.jfree.data.flow.DefaultFlowDataset;
 import org.jfree.data.flow.NodeKey;
 import org.junit.jupiter.api.Test;
 
@@ -274,4 +282,70 @@ public class FlowPlotTest implements PlotChangeListener {
         assertEquals(p1, p2);
     }
  
+    /**
+     * The plot reuses its layout between draws, so check that a change to 
+     * the dataset is picked up on the next draw.
+     */
+    @Test
+    public void testDrawAfterDatasetChange() {
+        DefaultFlowDataset<String> dataset = new DefaultFlowDataset<>();
+        dataset.setFlow(0, "A", "X", 1.0);
+        dataset.setFlow(0, "B", "X", 2.0);
+        FlowPlot<String> plot = new FlowPlot<>(dataset);
+        JFreeChart chart = new JFreeChart(plot);
+        assertEquals(2, countFlowEntities(chart));
+        assertEquals(2, countFlowEntities(chart));
+        
+        dataset.setFlow(0, "B", "Y", 3.0);
+        assertEquals(3, countFlowEntities(chart));
+
+        DefaultFlowDataset<String> dataset2 = new DefaultFlowDataset<>();
+        dataset2.setFlow(0, "C", "Z", 1.0);
+        plot.setDataset(dataset2);
+        assertEquals(1, countFlowEntities(chart));
+        dataset2.setFlow(1, "Z", "W", 1.0);
+        assertEquals(2, countFlowEntities(chart));
+    }
+
+    /**
+     * A cloned or deserialized plot must also pick up dataset changes,
+     * since it caches its own layout.
+     */
+    @Test
+    public void testDrawCloneAfterDatasetChange()
+            throws CloneNotSupportedException {
+        DefaultFlowDataset<String> dataset = new DefaultFlowDataset<>();
+        dataset.setFlow(0, "A", "X", 1.0);
+        FlowPlot<String> plot = new FlowPlot<>(dataset);
+        FlowPlot<String> clone = (FlowPlot<String>) plot.clone();
+        JFreeChart chart = new JFreeChart(clone);
+        assertEquals(1, countFlowEntities(chart));
+        dataset.setFlow(0, "B", "X", 2.0);
+        assertEquals(2, countFlowEntities(chart));
+
+        JFreeChart chart2 = TestUtils.serialised(new JFreeChart(plot));
+        assertEquals(2, countFlowEntities(chart2));
+        DefaultFlowDataset<String> dataset2 = (DefaultFlowDataset<String>)
+                ((FlowPlot<String>) chart2.getPlot()).getDataset();
+        dataset2.setFlow(0, "C", "X", 3.0);
+        assertEquals(3, countFlowEntities(chart2));
+    }
+
+    private static int countFlowEntities(JFreeChart chart) {
+        BufferedImage image = new BufferedImage(200, 100, 
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 200, 100), null, info);
+        g2.dispose();
+        EntityCollection ec = info.getEntityCollection();
+        int count = 0;
+        for (Object entity : ec.getEntities()) {
+            if (entity instanceof FlowEntity) {
+                count++;
+            }
+        }
+        return count;
+    }
+
 }
@@ -0,0 +1,191 @@
+/* ======================================================
+ * JFreeChart : a chart library for the Java(tm) platform
+ * ======================================================
+ *
+ * (C) Copyright 2000-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------
+ * CompiledPaintScaleTest.java
+ * ---------------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.renderer;
+
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Paint;
+import java.io.NotSerializableException;
+import java.util.Random;
+import org.jfree.chart.TestUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link CompiledPaintScale} class.
+ */
+public class CompiledPaintScaleTest {
+
+    /**
+     * Checks that the compiled scale returns the same paint as the source
+     * for a range of values.
+     *
+     * @param source  the source scale.
+     * @param compiled  the compiled scale.
+     */
+    private static void checkSamePaints(PaintScale source, 
+            PaintScale compiled) {
+        double lower = source.getLowerBound();
+        double upper = source.getUpperBound();
+        double[] specials = {Double.NaN, Double.NEGATIVE_INFINITY, 
+                Double.POSITIVE_INFINITY, lower, upper, Math.nextDown(lower),
+                Math.nextUp(lower), Math.nextDown(upper), Math.nextUp(upper)};
+        for (double v : specials) {
+            assertEquals(source.getPaint(v), compiled.getPaint(v));
+        }
+        Random random = new Random(123);
+        for (int i = 0; i < 10000; i++) {
+            double v = lower - 0.1 + random.nextDouble() * (upper - lower + 0.2);
+            assertEquals(source.getPaint(v), compiled.getPaint(v));
+        }
+        for (int i = 0; i <= 1000; i++) {
+            double v = lower + i * (upper - lower) / 1000;
+            assertEquals(source.getPaint(v), compiled.getPaint(v));
+        }
+    }
+
+    @Test
+    public void testGrayPaintScale() {
+        GrayPaintScale s1 = new GrayPaintScale(-2.0, 3.0, 128);
+        PaintScale c1 = s1.compile();
+        assertTrue(c1 instanceof CompiledPaintScale);
+        assertSame(c1, s1.compile());
+        assertEquals(-2.0, c1.getLowerBound());
+        assertEquals(3.0, c1.getUpperBound());
+        checkSamePaints(s1, c1);
+        checkSamePaints(s1, new CompiledPaintScale(s1, 7));
+    }
+
+    @Test
+    public void testLookupPaintScale() {
+        LookupPaintScale s1 = new LookupPaintScale(0.0, 10.0, Color.WHITE);
+        assertTrue(s1.compile() instanceof CompiledPaintScale);
+        checkSamePaints(s1, s1.compile());
+        s1.add(1.0, Color.RED);
+        s1.add(2.5, Color.GREEN);
+        s1.add(2.5001, Color.BLUE);  // a narrow band 
+        s1.add(2.5002, Color.GREEN);
+        s1.add(7.0, new GradientPaint(0f, 0f, Color.RED, 1f, 1f, 
+                Color.BLUE));
+        s1.add(8.0, Color.YELLOW);
+        PaintScale c1 = s1.compile();
+        assertSame(c1, s1.compile());
+        checkSamePaints(s1, c1);
+        assertEquals(Color.BLUE, c1.getPaint(2.50015));
+
+        // adding an entry discards the compiled scale
+        s1.add(9.0, Color.BLACK);
+        PaintScale c2 = s1.compile();
+        assertNotSame(c1, c2);
+        checkSamePaints(s1, c2);
+        assertEquals(Color.BLACK, c2.getPaint(9.5));
+    }
+
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        LookupPaintScale s1 = new LookupPaintScale(0.0, 10.0, Color.WHITE);
+        s1.add(1.0, Color.RED);
+        PaintScale c1 = s1.compile();
+        LookupPaintScale s2 = (LookupPaintScale) s1.clone();
+        s2.add(5.0, Color.GREEN);
+        assertEquals(Color.RED, c1.getPaint(6.0));
+        assertEquals(Color.GREEN, s2.compile().getPaint(6.0));
+    }
+
+    @Test
+    public void testCompileReturnsSelf() {
+        CompiledPaintScale c1 = new CompiledPaintScale(new GrayPaintScale(), 
+                16);
+        assertSame(c1, c1.compile());
+        assertEquals(16, c1.getBinCount());
+    }
+
+    @Test
+    public void testEquals() {
+        LookupPaintScale s1 = new LookupPaintScale(0.0, 10.0, Color.WHITE);
+        s1.add(1.0, Color.RED);
+        CompiledPaintScale c1 = new CompiledPaintScale(s1, 16);
+        CompiledPaintScale c2 = new CompiledPaintScale(s1, 16);
+        assertEquals(c1, c2);
+        assertEquals(c1.hashCode(), c2.hashCode());
+        c2 = new CompiledPaintScale(s1, 32);
+        assertNotEquals(c1, c2);
+        c2 = new CompiledPaintScale(s1, 16, new double[] {5.0});
+        assertNotEquals(c1, c2);
+        c2 = new CompiledPaintScale(new GrayPaintScale(0.0, 10.0), 16);
+        assertNotEquals(c1, c2);
+    }
+
+    @Test
+    public void testSerialization() {
+        LookupPaintScale s1 = new LookupPaintScale(0.0, 10.0, Color.WHITE);
+        s1.add(1.0, Color.RED);
+        CompiledPaintScale c1 = new CompiledPaintScale(s1, 16);
+        CompiledPaintScale c2 = TestUtils.serialised(c1);
+        assertEquals(c1, c2);
+        assertEquals(Color.RED, c2.getPaint(5.0));
+
+        // a source scale that is not serializable
+        PaintScale s2 = new PaintScale() {
+            @Override
+            public double getLowerBound() {
+                return 0.0;
+            }
+            @Override
+            public double getUpperBound() {
+                return 1.0;
+            }
+            @Override
+            public Paint getPaint(double value) {
+                return Color.RED;
+            }
+        };
+        RuntimeException e = assertThrows(RuntimeException.class,
+                () -> TestUtils.serialised(new CompiledPaintScale(s2, 4)));
+        assertTrue(e.getCause() instanceof NotSerializableException);
+    }
+
+    @Test
+    public void testConstructor() {
+        assertThrows(IllegalArgumentException.class, 
+                () -> new CompiledPaintScale(null, 16));
+        assertThrows(IllegalArgumentException.class, 
+                () -> new CompiledPaintScale(new GrayPaintScale(), 0));
+    }
+
+}
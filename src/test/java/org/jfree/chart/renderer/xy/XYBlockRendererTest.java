@@ -37,13 +37,23 @@
 package org.jfree.chart.renderer.xy;
 
 import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.JFreeChart;
 import org.jfree.chart.TestUtils;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.entity.XYItemEntity;
+import org.jfree.chart.plot.XYPlot;
 
 import org.jfree.chart.renderer.GrayPaintScale;
 import org.jfree.chart.renderer.LookupPaintScale;
 import org.jfree.chart.internal.CloneUtils;
 import org.jfree.chart.api.PublicCloneable;
+import org.jfree.chart.api.RectangleInsets;
 import org.jfree.data.Range;
 import org.jfree.data.xy.DefaultXYZDataset;
 import org.jfree.data.xy.XYSeriesCollection;
@@ -89,6 +99,12 @@ public class XYBlockRendererTest {
         r2.setPaintScale(new GrayPaintScale(0.0, 1.0));
         assertEquals(r1, r2);
 
+        // drawGridAsImage
+        r1.setDrawGridAsImage(true);
+        assertNotEquals(r1, r2);
+        r2.setDrawGridAsImage(true);
+        assertEquals(r1, r2);
+
     }
 
     /**
@@ -209,4 +225,117 @@ public class XYBlockRendererTest {
         assertNull(r);
     }    
            
+    /**
+     * A regular grid drawn as a single image should give the same colors as
+     * the blocks drawn one at a time.
+     */
+    @Test
+    public void testDrawGridAsImage() {
+        int n = 8;
+        double[][] data = new double[3][n * n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                int k = j * n + i;
+                data[0][k] = i * 2.0;
+                data[1][k] = j * 0.5;
+                data[2][k] = (i + j) / (2.0 * n);
+            }
+        }
+        DefaultXYZDataset<String> dataset = new DefaultXYZDataset<>();
+        dataset.addSeries("S1", data);
+        XYBlockRenderer r1 = new XYBlockRenderer();
+        r1.setBlockWidth(2.0);
+        r1.setBlockHeight(0.5);
+        r1.setDrawOutlines(false);
+        r1.setPaintScale(new GrayPaintScale(0.0, 1.0));
+        XYBlockRenderer r2 = new XYBlockRenderer();
+        r2.setBlockWidth(2.0);
+        r2.setBlockHeight(0.5);
+        r2.setDrawOutlines(false);
+        r2.setPaintScale(new GrayPaintScale(0.0, 1.0));
+        r2.setDrawGridAsImage(true);
+        
+        BufferedImage image1 = drawBlocks(dataset, r1, false);
+        BufferedImage image2 = drawBlocks(dataset, r2, false);
+        BufferedImage image3 = drawBlocks(dataset, r2, true);
+        // compare at the block centers, the edges may be anti-aliased
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                int x = (int) ((i + 0.5) * 200 / n);
+                int y = (int) ((j + 0.5) * 200 / n);
+                assertEquals(image1.getRGB(x, y), image2.getRGB(x, y));
+                assertEquals(image1.getRGB(x, 199 - y), image3.getRGB(x, y));
+            }
+        }
+        
+        // no entities are created for a series drawn as an image
+        XYPlot<String> plot = new XYPlot<>(dataset, new NumberAxis("X"), 
+                new NumberAxis("Y"), r2);
+        JFreeChart chart = new JFreeChart(plot);
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        chart.createBufferedImage(200, 200, info);
+        assertFalse(TestUtils.containsInstanceOf(
+                info.getEntityCollection().getEntities(), XYItemEntity.class));
+        r2.setDrawOutlines(true);
+        chart.createBufferedImage(200, 200, info);
+        assertTrue(TestUtils.containsInstanceOf(
+                info.getEntityCollection().getEntities(), XYItemEntity.class));
+    }
+    
+    /**
+     * Drawing the grid as an image must not leave an interpolation hint on
+     * the graphics target.
+     */
+    @Test
+    public void testDrawGridAsImageRestoresHints() {
+        DefaultXYZDataset<String> dataset = new DefaultXYZDataset<>();
+        dataset.addSeries("S1", new double[][] {{0.0, 1.0}, {0.0, 0.0},
+                {0.2, 0.8}});
+        XYBlockRenderer renderer = new XYBlockRenderer();
+        renderer.setDrawOutlines(false);
+        renderer.setDrawGridAsImage(true);
+        XYPlot<String> plot = new XYPlot<>(dataset, new NumberAxis("X"),
+                new NumberAxis("Y"), renderer);
+        JFreeChart chart = new JFreeChart(plot);
+        BufferedImage image = new BufferedImage(200, 200,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        assertNull(g2.getRenderingHint(RenderingHints.KEY_INTERPOLATION));
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 200, 200));
+        assertNull(g2.getRenderingHint(RenderingHints.KEY_INTERPOLATION));
+        g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 200, 200));
+        assertEquals(RenderingHints.VALUE_INTERPOLATION_BICUBIC,
+                g2.getRenderingHint(RenderingHints.KEY_INTERPOLATION));
+        g2.dispose();
+    }
+
+    private static BufferedImage drawBlocks(DefaultXYZDataset<String> dataset,
+            XYBlockRenderer renderer, boolean invertRangeAxis) {
+        NumberAxis xAxis = new NumberAxis("X");
+        NumberAxis yAxis = new NumberAxis("Y");
+        xAxis.setRange(-1.0, 15.0);
+        yAxis.setRange(-0.25, 3.75);
+        yAxis.setInverted(invertRangeAxis);
+        XYPlot<String> plot = new XYPlot<>(dataset, xAxis, yAxis, renderer);
+        plot.setAxisOffset(RectangleInsets.ZERO_INSETS);
+        plot.setInsets(RectangleInsets.ZERO_INSETS);
+        plot.setOutlineVisible(false);
+        plot.setDomainGridlinesVisible(false);
+        plot.setRangeGridlinesVisible(false);
+        xAxis.setVisible(false);
+        yAxis.setVisible(false);
+        JFreeChart chart = new JFreeChart(plot);
+        chart.removeLegend();
+        chart.setPadding(RectangleInsets.ZERO_INSETS);
+        chart.setBorderVisible(false);
+        BufferedImage image = new BufferedImage(200, 200, 
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 200, 200));
+        g2.dispose();
+        return image;
+    }
+
 }
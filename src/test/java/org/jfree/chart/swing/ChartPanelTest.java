@@ -90,6 +90,26 @@ public class ChartPanelTest implements ChartChangeListener, ChartMouseListener {
         assertNull(panel.getChart());
     }
 
+    /**
+     * Check the layered buffer flag, and that a dataset change marks only
+     * the data layer for refreshing.
+     */
+    @Test
+    public void testLayeredBuffer() {
+        DefaultXYDataset<String> dataset = new DefaultXYDataset<>();
+        JFreeChart chart = ChartFactory.createXYLineChart("Title", "X", "Y",
+                dataset);
+        ChartPanel panel = new ChartPanel(chart);
+        assertFalse(panel.isLayeredBuffer());
+        panel.setLayeredBuffer(true);
+        assertTrue(panel.isLayeredBuffer());
+        panel.setRefreshBuffer(false);
+        dataset.addSeries("S1", new double[][] {{1.0}, {2.0}});
+        assertFalse(panel.getRefreshBuffer());
+        chart.setTitle("New Title");
+        assertTrue(panel.getRefreshBuffer());
+    }
+
     /**
      * Test that it is possible to set the panel's chart to null.
      */
@@ -0,0 +1,166 @@
+/* ======================================================
+ * JFreeChart : a chart library for the Java(tm) platform
+ * ======================================================
+ *
+ * (C) Copyright 2000-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * TextMetricsCacheTest.java
+ * -------------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.text;
+
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link TextMetricsCache} class.
+ */
+public class TextMetricsCacheTest {
+
+    private BufferedImage image;
+
+    private Graphics2D g2;
+
+    @BeforeEach
+    public void setUp() {
+        this.image = new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB);
+        this.g2 = this.image.createGraphics();
+        this.g2.setFont(new Font("SansSerif", Font.PLAIN, 12));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        this.g2.dispose();
+    }
+
+    /**
+     * Repeated lookups are answered from the cache.
+     */
+    @Test
+    public void testHitsAndMisses() {
+        TextMetricsCache cache = new TextMetricsCache();
+        FontMetrics fm = this.g2.getFontMetrics();
+        TextMetricsCache.Metrics m1 = cache.getMetrics("ABC", this.g2, fm, 
+                false);
+        assertEquals(0, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        TextMetricsCache.Metrics m2 = cache.getMetrics("ABC", this.g2, fm, 
+                false);
+        assertSame(m1, m2);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+
+        // a different font or flag is a different entry
+        FontMetrics fm2 = this.g2.getFontMetrics(
+                new Font("SansSerif", Font.BOLD, 14));
+        cache.getMetrics("ABC", this.g2, fm2, false);
+        cache.getMetrics("ABC", this.g2, fm, true);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(3, cache.getMissCount());
+        assertEquals(3, cache.getSize());
+
+        cache.resetStatistics();
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+    }
+
+    /**
+     * The cached measurements match those of an uncached lookup.
+     */
+    @Test
+    public void testSameAsUncached() {
+        TextMetricsCache cache = new TextMetricsCache();
+        TextMetricsCache uncached = new TextMetricsCache(0);
+        FontMetrics fm = this.g2.getFontMetrics();
+        String[] strings = {"", "Series 1", "0.25", "Qwerty gjpqy"};
+        for (boolean flag : new boolean[] {false, true}) {
+            for (String s : strings) {
+                cache.getMetrics(s, this.g2, fm, flag);
+                TextMetricsCache.Metrics m1 = cache.getMetrics(s, this.g2, 
+                        fm, flag);
+                TextMetricsCache.Metrics m2 = uncached.getMetrics(s, this.g2,
+                        fm, flag);
+                assertEquals(m2.x, m1.x);
+                assertEquals(m2.y, m1.y);
+                assertEquals(m2.width, m1.width);
+                assertEquals(m2.height, m1.height);
+                assertEquals(m2.ascent, m1.ascent);
+                assertEquals(m2.descent, m1.descent);
+                assertEquals(m2.leading, m1.leading);
+            }
+        }
+        assertEquals(0, uncached.getSize());
+        assertEquals(0, uncached.getHitCount());
+    }
+
+    /**
+     * The number of entries never exceeds the maximum size.
+     */
+    @Test
+    public void testBounded() {
+        TextMetricsCache cache = new TextMetricsCache(10);
+        FontMetrics fm = this.g2.getFontMetrics();
+        for (int i = 0; i < 100; i++) {
+            cache.getMetrics("Label " + i, this.g2, fm, false);
+            assertTrue(cache.getSize() <= 10);
+        }
+        cache.setMaxSize(5);
+        assertTrue(cache.getSize() <= 5);
+        cache.clear();
+        assertEquals(0, cache.getSize());
+        assertThrows(IllegalArgumentException.class, 
+                () -> cache.setMaxSize(-1));
+        assertThrows(IllegalArgumentException.class, 
+                () -> new TextMetricsCache(-1));
+    }
+
+    /**
+     * The bounds returned by {@link TextUtils} do not change when they are
+     * served from the shared cache.
+     */
+    @Test
+    public void testTextUtilsGetTextBounds() {
+        FontMetrics fm = this.g2.getFontMetrics();
+        TextMetricsCache shared = TextUtils.getTextMetricsCache();
+        long hits = shared.getHitCount();
+        assertEquals(TextUtils.getTextBounds("Category 7", this.g2, fm),
+                TextUtils.getTextBounds("Category 7", this.g2, fm));
+        assertTrue(shared.getHitCount() > hits);
+        assertNull(TextUtils.getTextBounds(null, this.g2, fm));
+    }
+
+}
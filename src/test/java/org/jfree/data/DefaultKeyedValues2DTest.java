@@ -36,6 +36,7 @@
 
 package org.jfree.data;
 
+import java.util.Arrays;
 import org.jfree.chart.TestUtils;
 import org.jfree.chart.internal.CloneUtils;
 import org.junit.jupiter.api.Test;
@@ -321,4 +322,40 @@ public class DefaultKeyedValues2DTest {
         assertTrue(pass);
     }
 
+    /**
+     * The bulk setValues() method gives the same result as setting each
+     * value in turn.
+     */
+    @Test
+    public void testSetValues() {
+        for (boolean sorted : new boolean[] {false, true}) {
+            DefaultKeyedValues2D<String, String> d1
+                    = new DefaultKeyedValues2D<>(sorted);
+            DefaultKeyedValues2D<String, String> d2
+                    = new DefaultKeyedValues2D<>(sorted);
+            d1.setValue(1.0, "R2", "C1");
+            d2.setValue(1.0, "R2", "C1");
+            String[] rows = {"R3", "R2", "R1"};
+            String[] columns = {"C2", "C1"};
+            double[][] values = {{1.0, 2.0}, {3.0, Double.NaN}, {5.0, 6.0}};
+            d1.setValues(Arrays.asList(rows), Arrays.asList(columns), values);
+            for (int r = 0; r < rows.length; r++) {
+                for (int c = 0; c < columns.length; c++) {
+                    double v = values[r][c];
+                    d2.setValue(Double.isNaN(v) ? null : v, rows[r],
+                            columns[c]);
+                }
+            }
+            assertEquals(d2, d1);
+            assertEquals(d2.getRowKeys(), d1.getRowKeys());
+            assertEquals(d2.getColumnKeys(), d1.getColumnKeys());
+            assertNull(d1.getValue("R2", "C1"));
+        }
+        DefaultKeyedValues2D<String, String> d
+                = new DefaultKeyedValues2D<>();
+        assertThrows(IllegalArgumentException.class, () -> d.setValues(
+                Arrays.asList("R1", null), Arrays.asList("C1"),
+                new double[][] {{1.0}, {2.0}}));
+    }
+
 }
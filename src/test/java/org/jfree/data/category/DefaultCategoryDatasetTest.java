@@ -36,6 +36,9 @@
 
 package org.jfree.data.category;
 
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.jfree.chart.TestUtils;
 import org.jfree.chart.internal.CloneUtils;
 import org.jfree.chart.api.PublicCloneable;
@@ -379,4 +382,28 @@ public class DefaultCategoryDatasetTest {
         assertTrue(pass);
     }
 
+    /**
+     * The bulk method and update blocks send a single event.
+     */
+    @Test
+    public void testBulkUpdate() {
+        DefaultCategoryDataset<String, String> d
+                = new DefaultCategoryDataset<>();
+        AtomicInteger events = new AtomicInteger();
+        d.addChangeListener(e -> events.incrementAndGet());
+        d.setValues(Arrays.asList("R1", "R2"), Arrays.asList("C1", "C2"),
+                new double[][] {{1.0, 2.0}, {3.0, Double.NaN}});
+        assertEquals(1, events.get());
+        assertEquals(3.0, d.getValue("R2", "C1"));
+        assertNull(d.getValue("R2", "C2"));
+        assertThrows(IllegalArgumentException.class, () -> d.setValues(
+                Arrays.asList("R1"), Arrays.asList("C1"), new double[0][]));
+
+        d.beginUpdate();
+        d.setValue(5.0, "R3", "C1");
+        d.removeRow("R1");
+        d.commitUpdate();
+        assertEquals(2, events.get());
+    }
+
 }
@@ -0,0 +1,257 @@
+/* ======================================================
+ * JFreeChart : a chart library for the Java(tm) platform
+ * ======================================================
+ *
+ * (C) Copyright 2000-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------------
+ * DenseCategoryDatasetTest.java
+ * -----------------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+
+package org.jfree.data.category;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jfree.chart.TestUtils;
+import org.jfree.chart.api.PublicCloneable;
+import org.jfree.chart.internal.CloneUtils;
+import org.jfree.data.Range;
+import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.DatasetUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link DenseCategoryDataset} class.
+ */
+public class DenseCategoryDatasetTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * Creates a dataset for testing.
+     *
+     * @return A dataset.
+     */
+    private DenseCategoryDataset<String, String> createDataset() {
+        DenseCategoryDataset<String, String> d = new DenseCategoryDataset<>();
+        d.setValue(1.0, "R1", "C1");
+        d.setValue(2.0, "R1", "C2");
+        d.setValue(3.0, "R2", "C1");
+        return d;
+    }
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        DenseCategoryDataset<String, String> d1 = createDataset();
+        DenseCategoryDataset<String, String> d2 = createDataset();
+        assertEquals(d1, d2);
+        assertEquals(d1.hashCode(), d2.hashCode());
+
+        d1.setValue(9.0, "R2", "C2");
+        assertNotEquals(d1, d2);
+        d2.setValue(9.0, "R2", "C2");
+        assertEquals(d1, d2);
+
+        d1.setValue(null, "R3", "C1");
+        assertNotEquals(d1, d2);
+        d2.setValue(null, "R3", "C1");
+        assertEquals(d1, d2);
+
+        // equal to other category datasets with the same data
+        DefaultCategoryDataset<String, String> d3
+                = new DefaultCategoryDataset<>();
+        d3.setValue(1.0, "R1", "C1");
+        d3.setValue(2.0, "R1", "C2");
+        d3.setValue(3.0, "R2", "C1");
+        assertEquals(createDataset(), d3);
+    }
+
+    /**
+     * Confirm that cloning works.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        DenseCategoryDataset<String, String> d1 = createDataset();
+        DenseCategoryDataset<String, String> d2 = CloneUtils.clone(d1);
+        assertNotSame(d1, d2);
+        assertSame(d1.getClass(), d2.getClass());
+        assertEquals(d1, d2);
+
+        // check independence
+        d1.setValue(5.0, "R1", "C1");
+        assertNotEquals(d1, d2);
+        d2.setValue(5.0, "R1", "C1");
+        assertEquals(d1, d2);
+        d1.setValue(5.0, "R9", "C9");
+        assertEquals(2, d2.getRowCount());
+    }
+
+    /**
+     * Verify that this class implements {@link PublicCloneable}.
+     */
+    @Test
+    public void testPublicCloneable() {
+        assertTrue(new DenseCategoryDataset<String, String>()
+                instanceof PublicCloneable);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        DenseCategoryDataset<String, String> d1 = createDataset();
+        DenseCategoryDataset<String, String> d2 = TestUtils.serialised(d1);
+        assertEquals(d1, d2);
+        assertEquals(1, d2.getRowIndex("R2"));
+    }
+
+    /**
+     * Some checks for the values and keys.
+     */
+    @Test
+    public void testValues() {
+        DenseCategoryDataset<String, String> d = createDataset();
+        assertEquals(2, d.getRowCount());
+        assertEquals(2, d.getColumnCount());
+        assertEquals(Arrays.asList("R1", "R2"), d.getRowKeys());
+        assertEquals(Arrays.asList("C1", "C2"), d.getColumnKeys());
+        assertEquals(1, d.getColumnIndex("C2"));
+        assertEquals(-1, d.getColumnIndex("XX"));
+        assertEquals(2.0, d.getValue("R1", "C2").doubleValue(), EPSILON);
+        assertNull(d.getValue("R2", "C2"));
+        assertTrue(Double.isNaN(d.getDoubleValue(1, 1)));
+        assertThrows(UnknownKeyException.class, () -> d.getValue("XX", "C1"));
+        assertThrows(UnknownKeyException.class, () -> d.getValue("R1", "XX"));
+        assertThrows(IndexOutOfBoundsException.class, () -> d.getValue(0, 2));
+        assertThrows(IllegalArgumentException.class,
+                () -> d.getRowIndex(null));
+        assertEquals(new Range(1.0, 3.0), DatasetUtils.findRangeBounds(d));
+
+        d.removeValue("R1", "C1");
+        assertNull(d.getValue(0, 0));
+    }
+
+    /**
+     * A large dataset grows as required and keeps its values.
+     */
+    @Test
+    public void testGrowth() {
+        DenseCategoryDataset<Integer, Integer> d
+                = new DenseCategoryDataset<>(0, 0);
+        for (Integer r = 0; r < 100; r++) {
+            for (Integer c = 0; c < 150; c++) {
+                d.setValue(r * 1000.0 + c, r, c);
+            }
+        }
+        assertEquals(100, d.getRowCount());
+        assertEquals(150, d.getColumnCount());
+        assertEquals(99149.0, d.getDoubleValue(99, 149), EPSILON);
+        assertEquals(42007.0, d.getValue(42, 7).doubleValue(), EPSILON);
+        assertEquals(57, d.getRowIndex(57));
+    }
+
+    /**
+     * The bulk methods send one event each.
+     */
+    @Test
+    public void testBulkMethods() {
+        DenseCategoryDataset<String, String> d = new DenseCategoryDataset<>();
+        AtomicInteger events = new AtomicInteger();
+        d.addChangeListener(e -> events.incrementAndGet());
+        d.setValues(Arrays.asList("R1", "R2"), Arrays.asList("C1", "C2", "C3"),
+                new double[][] {{1.0, 2.0, 3.0}, {4.0, Double.NaN, 6.0}});
+        assertEquals(1, events.get());
+        assertEquals(6.0, d.getValue("R2", "C3").doubleValue(), EPSILON);
+        assertNull(d.getValue("R2", "C2"));
+
+        // a second block with existing and new keys, in a different order
+        d.setValues(Arrays.asList("R3", "R1"), Arrays.asList("C3", "C4"),
+                new double[][] {{7.0, 8.0}, {9.0, 10.0}});
+        assertEquals(2, events.get());
+        assertEquals(Arrays.asList("R1", "R2", "R3"), d.getRowKeys());
+        assertEquals(9.0, d.getValue("R1", "C3").doubleValue(), EPSILON);
+        assertEquals(1.0, d.getValue("R1", "C1").doubleValue(), EPSILON);
+        assertNull(d.getValue("R3", "C1"));
+
+        d.setRow("R4", new double[] {1.0, 2.0, 3.0, 4.0});
+        assertEquals(3, events.get());
+        assertEquals(4.0, d.getValue("R4", "C4").doubleValue(), EPSILON);
+        d.setColumn("C5", new double[] {1.0, 2.0, 3.0, 4.0});
+        assertEquals(4, events.get());
+        assertEquals(3.0, d.getValue("R3", "C5").doubleValue(), EPSILON);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> d.setRow("R5", new double[] {1.0}));
+        assertThrows(IllegalArgumentException.class,
+                () -> d.setColumn("C6", new double[] {1.0}));
+        assertThrows(IllegalArgumentException.class,
+                () -> d.setValues(Arrays.asList("R1"), Arrays.asList("C1"),
+                new double[][] {{1.0, 2.0}}));
+    }
+
+    /**
+     * Removing rows and columns keeps the index for the remaining keys.
+     */
+    @Test
+    public void testRemove() {
+        DenseCategoryDataset<String, String> d = createDataset();
+        d.setValue(4.0, "R3", "C3");
+        d.removeColumn("C1");
+        assertEquals(Arrays.asList("C2", "C3"), d.getColumnKeys());
+        assertEquals(0, d.getColumnIndex("C2"));
+        assertEquals(2.0, d.getValue("R1", "C2").doubleValue(), EPSILON);
+        d.removeRow("R1");
+        assertEquals(Arrays.asList("R2", "R3"), d.getRowKeys());
+        assertEquals(1, d.getRowIndex("R3"));
+        assertEquals(4.0, d.getValue("R3", "C3").doubleValue(), EPSILON);
+        assertNull(d.getValue("R2", "C2"));
+
+        // the reused row and column are empty
+        d.setValue(1.0, "R4", "C4");
+        assertNull(d.getValue("R4", "C2"));
+        assertNull(d.getValue("R2", "C4"));
+        assertThrows(UnknownKeyException.class, () -> d.removeRow("XX"));
+
+        d.clear();
+        assertEquals(0, d.getRowCount());
+        assertEquals(0, d.getColumnCount());
+        d.setValue(1.0, "R1", "C1");
+        assertEquals(1.0, d.getValue(0, 0).doubleValue(), EPSILON);
+    }
+
+}
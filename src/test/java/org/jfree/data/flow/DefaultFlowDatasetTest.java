@@ -37,6 +37,7 @@
 package org.jfree.data.flow;
 
 
+import java.util.Arrays;
 import org.jfree.chart.TestUtils;
 import org.jfree.chart.api.PublicCloneable;
 import org.junit.jupiter.api.Test;
@@ -58,6 +59,35 @@ public class DefaultFlowDatasetTest {
         assertEquals(1.5, d.getFlow(0, "A", "Z"));
     }
 
+    /**
+     * Some checks for the getInFlows() and getOutFlows() methods.
+     */
+    @Test
+    public void testGetInAndOutFlows() {
+        DefaultFlowDataset<String> d = new DefaultFlowDataset<>();
+        d.setFlow(0, "A", "Z", 1.0);
+        d.setFlow(0, "B", "Z", 2.0);
+        d.setFlow(0, "A", "Y", 3.0);
+        d.setFlow(1, "Z", "P", 4.0);
+        d.setFlow(0, "A", "Z", 5.0);  // an update, not a new flow
+        assertEquals(Arrays.asList(new FlowKey<>(0, "A", "Z"), 
+                new FlowKey<>(0, "B", "Z")), d.getInFlows(new NodeKey<>(1, "Z")));
+        assertEquals(Arrays.asList(new FlowKey<>(0, "A", "Z"), 
+                new FlowKey<>(0, "A", "Y")), d.getOutFlows(new NodeKey<>(0, "A")));
+        assertEquals(Arrays.asList(new FlowKey<>(1, "Z", "P")), 
+                d.getOutFlows(new NodeKey<>(1, "Z")));
+        assertTrue(d.getInFlows(new NodeKey<>(0, "A")).isEmpty());
+        assertTrue(d.getInFlows(new NodeKey<>(1, "Q")).isEmpty());
+        assertTrue(d.getOutFlows(new NodeKey<>(2, "P")).isEmpty());
+        
+        // the indexes are rebuilt after serialization
+        DefaultFlowDataset<String> d2 = TestUtils.serialised(d);
+        assertEquals(d.getInFlows(new NodeKey<>(1, "Z")), 
+                d2.getInFlows(new NodeKey<>(1, "Z")));
+        assertEquals(d.getOutFlows(new NodeKey<>(0, "A")), 
+                d2.getOutFlows(new NodeKey<>(0, "A")));
+    }
+
     /**
      * Some tests for the getStageCount() method.
      */
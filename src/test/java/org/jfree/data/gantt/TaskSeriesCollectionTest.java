@@ -194,6 +194,16 @@ public class TaskSeriesCollectionTest {
         TaskSeriesCollection<String, String> c = createCollection1();
         assertEquals(0, c.getRowIndex("S1"));
         assertEquals(1, c.getRowIndex("S2"));
+        assertEquals(-1, c.getRowIndex("S3"));
+        
+        // the row index follows changes to the collection
+        c.remove(0);
+        assertEquals(-1, c.getRowIndex("S1"));
+        assertEquals(0, c.getRowIndex("S2"));
+        c.add(new TaskSeries<>("S1"));
+        assertEquals(1, c.getRowIndex("S1"));
+        c.removeAll();
+        assertEquals(-1, c.getRowIndex("S2"));
     }
 
     /**
@@ -35,10 +35,15 @@
 
 package org.jfree.data.gantt;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
+import java.util.Random;
 
 import org.jfree.chart.TestUtils;
 import org.jfree.chart.internal.CloneUtils;
+import org.jfree.data.time.SimpleTimePeriod;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -116,4 +121,95 @@ public class TaskSeriesTest {
         assertNull(t3);
     }
 
+    /**
+     * The description lookup is indexed, check that it follows changes to
+     * the series.
+     */
+    @Test
+    public void testGetTaskAfterChanges() {
+        TaskSeries<String> s1 = new TaskSeries<>("S");
+        Task t1 = new Task("T1", new Date(1), new Date(2));
+        Task t2 = new Task("T2", new Date(11), new Date(22));
+        Task t3 = new Task("T1", new Date(5), new Date(6));
+        s1.add(t1);
+        assertSame(t1, s1.get("T1"));
+        s1.add(t2);
+        s1.add(t3);
+        assertSame(t1, s1.get("T1"));  // the first match wins
+        assertSame(t2, s1.get("T2"));
+        s1.remove(t1);
+        assertSame(t3, s1.get("T1"));
+        
+        // a change made directly to a task is seen without a change event
+        t2.setDescription("T9");
+        assertNull(s1.get("T2"));
+        assertSame(t2, s1.get("T9"));
+        t2.setDescription("T1");
+        assertSame(t2, s1.get("T1"));  // t2 now precedes t3
+        s1.removeAll();
+        assertNull(s1.get("T9"));
+    }
+
+    /**
+     * Some checks for the getTasks(Date, Date) method.
+     */
+    @Test
+    public void testGetTasksInRange() {
+        TaskSeries<String> s1 = new TaskSeries<>("S");
+        assertTrue(s1.getTasks(new Date(0), new Date(100)).isEmpty());
+        Task t1 = new Task("T1", new Date(10), new Date(20));
+        Task t2 = new Task("T2", new Date(0), new Date(100));
+        Task t3 = new Task("T3", new Date(30), new Date(40));
+        Task t4 = new Task("T4", null);
+        Task t5 = new Task("T5", new Date(20), new Date(30));
+        s1.add(t1);
+        s1.add(t2);
+        s1.add(t3);
+        s1.add(t4);
+        s1.add(t5);
+        assertEquals(Arrays.asList(t1, t2, t5), 
+                s1.getTasks(new Date(15), new Date(25)));
+        assertEquals(Arrays.asList(t1, t2, t5), 
+                s1.getTasks(new Date(20), new Date(20)));
+        assertEquals(Arrays.asList(t2, t3, t5), 
+                s1.getTasks(new Date(30), new Date(35)));
+        assertEquals(Arrays.asList(t2), 
+                s1.getTasks(new Date(41), new Date(99)));
+        assertTrue(s1.getTasks(new Date(101), new Date(200)).isEmpty());
+        
+        // the index is rebuilt after the series changes
+        Task t6 = new Task("T6", new Date(150), new Date(160));
+        s1.add(t6);
+        assertEquals(Arrays.asList(t6), 
+                s1.getTasks(new Date(101), new Date(200)));
+
+        // ...and after a task duration changes
+        t3.setDuration(new SimpleTimePeriod(new Date(170), new Date(180)));
+        assertEquals(Arrays.asList(t3, t6),
+                s1.getTasks(new Date(101), new Date(200)));
+        assertEquals(Arrays.asList(t2, t5),
+                s1.getTasks(new Date(30), new Date(35)));
+        
+        // compare with a full scan on a larger series
+        TaskSeries<String> s2 = new TaskSeries<>("S2");
+        Random random = new Random(17);
+        for (int i = 0; i < 500; i++) {
+            long start = random.nextInt(10000);
+            long end = start + random.nextInt(500);
+            s2.add(new Task("T" + i, new Date(start), new Date(end)));
+        }
+        for (int q = 0; q < 50; q++) {
+            long start = random.nextInt(11000) - 500;
+            long end = start + random.nextInt(1000);
+            List<Task> expected = new ArrayList<>();
+            for (Task t : s2.getTasks()) {
+                if (t.getDuration().getStart().getTime() <= end 
+                        && t.getDuration().getEnd().getTime() >= start) {
+                    expected.add(t);
+                }
+            }
+            assertEquals(expected, s2.getTasks(new Date(start), new Date(end)));
+        }
+    }
+
 }
@@ -0,0 +1,162 @@
+/* ======================================================
+ * JFreeChart : a chart library for the Java(tm) platform
+ * ======================================================
+ *
+ * (C) Copyright 2000-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------------
+ * DatasetChangeCoalescerTest.java
+ * -------------------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+
+package org.jfree.data.general;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link DatasetChangeCoalescer} class.
+ */
+public class DatasetChangeCoalescerTest {
+
+    /**
+     * Some checks for the constructor arguments.
+     */
+    @Test
+    public void testConstructor() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new DatasetChangeCoalescer(0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new DatasetChangeCoalescer(16, null));
+        assertEquals(16, new DatasetChangeCoalescer(16).getInterval());
+    }
+
+    /**
+     * Many changes are delivered as one event by the flush() method.
+     */
+    @Test
+    public void testFlush() {
+        DefaultPieDataset<String> d1 = new DefaultPieDataset<>();
+        DefaultPieDataset<String> d2 = new DefaultPieDataset<>();
+        AtomicInteger events = new AtomicInteger();
+        d1.addChangeListener(e -> events.incrementAndGet());
+        d2.addChangeListener(e -> events.incrementAndGet());
+        DatasetChangeCoalescer coalescer = new DatasetChangeCoalescer(60000);
+        d1.setChangeCoalescer(coalescer);
+        d2.setChangeCoalescer(coalescer);
+        for (int i = 0; i < 100; i++) {
+            d1.setValue("K" + i, i);
+            d2.setValue("K" + i, i);
+        }
+        assertEquals(0, events.get());
+        assertTrue(coalescer.hasPendingChanges());
+        coalescer.flush();
+        assertEquals(2, events.get());
+        assertFalse(coalescer.hasPendingChanges());
+
+        // without the coalescer, every change is delivered
+        d1.setChangeCoalescer(null);
+        d1.setValue("A", 1.0);
+        assertEquals(3, events.get());
+    }
+
+    /**
+     * The pending changes are delivered once the frame interval has passed.
+     *
+     * @throws InterruptedException if the test is interrupted.
+     */
+    @Test
+    public void testTimedDelivery() throws InterruptedException {
+        DefaultPieDataset<String> d = new DefaultPieDataset<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicInteger events = new AtomicInteger();
+        d.addChangeListener(e -> {
+            events.incrementAndGet();
+            latch.countDown();
+        });
+        d.setChangeCoalescer(new DatasetChangeCoalescer(10));
+        for (int i = 0; i < 1000; i++) {
+            d.setValue("K", i);
+        }
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(events.get() < 1000);
+    }
+
+    /**
+     * The delivery is handed to the executor.
+     *
+     * @throws InterruptedException if the test is interrupted.
+     */
+    @Test
+    public void testExecutor() throws InterruptedException {
+        List<Runnable> tasks = new ArrayList<>();
+        CountDownLatch submitted = new CountDownLatch(1);
+        DatasetChangeCoalescer coalescer = new DatasetChangeCoalescer(1,
+                task -> {
+                    synchronized (tasks) {
+                        tasks.add(task);
+                    }
+                    submitted.countDown();
+                });
+        DefaultPieDataset<String> d = new DefaultPieDataset<>();
+        AtomicInteger events = new AtomicInteger();
+        d.addChangeListener(e -> events.incrementAndGet());
+        d.setChangeCoalescer(coalescer);
+        d.setValue("A", 1.0);
+        d.setValue("B", 2.0);
+        assertTrue(submitted.await(5, TimeUnit.SECONDS));
+        assertEquals(0, events.get());
+        synchronized (tasks) {
+            assertEquals(1, tasks.size());
+            tasks.get(0).run();
+        }
+        assertEquals(1, events.get());
+    }
+
+    /**
+     * The coalescer is not copied to a clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        DefaultPieDataset<String> d1 = new DefaultPieDataset<>();
+        d1.setChangeCoalescer(new DatasetChangeCoalescer(16));
+        DefaultPieDataset<String> d2
+                = (DefaultPieDataset<String>) d1.clone();
+        assertNull(d2.getChangeCoalescer());
+    }
+
+}
@@ -1491,4 +1491,33 @@ public class DatasetUtilsTest {
         assertEquals(new Range(-2.5, 17.5), DatasetUtils.findZBounds(dataset));
         assertEquals(new Range(0.0, 15.0), DatasetUtils.findZBounds(dataset, false));
     }
+
+    /**
+     * For a dataset with ascending x-values, only the items within the
+     * x-range contribute to the y-range, including at the range boundaries
+     * and for duplicate x-values.
+     */
+    @Test
+    public void testIterateToFindRangeBoundsAscending() {
+        XYSeries<String> s1 = new XYSeries<>("A");
+        for (int i = 0; i < 100; i++) {
+            s1.add(i, i % 10);
+        }
+        s1.add(50.0, -5.0);
+        s1.add(50.0, 20.0);
+        XYSeriesCollection<String> dataset = new XYSeriesCollection<>(s1);
+        List<String> keys = Arrays.asList("A");
+        assertEquals(new Range(2.0, 4.0), DatasetUtils.iterateToFindRangeBounds(
+                dataset, keys, new Range(12.0, 14.0), false));
+        assertEquals(new Range(-5.0, 20.0),
+                DatasetUtils.iterateToFindRangeBounds(dataset, keys,
+                new Range(50.0, 50.0), false));
+        assertEquals(new Range(0.0, 9.0), DatasetUtils.iterateToFindRangeBounds(
+                dataset, keys, new Range(-100.0, 49.5), false));
+        assertNull(DatasetUtils.iterateToFindRangeBounds(dataset, keys,
+                new Range(12.2, 12.8), false));
+        assertNull(DatasetUtils.iterateToFindRangeBounds(dataset, keys,
+                new Range(100.0, 200.0), false));
+    }
+
 }
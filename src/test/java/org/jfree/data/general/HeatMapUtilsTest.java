@@ -0,0 +1,97 @@
+/* ======================================================
+ * JFreeChart : a chart library for the Java(tm) platform
+ * ======================================================
+ *
+ * (C) Copyright 2000-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------
+ * HeatMapUtilsTest.java
+ * ---------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+
+package org.jfree.data.general;
+
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.image.BufferedImage;
+import org.jfree.chart.renderer.GrayPaintScale;
+import org.jfree.chart.renderer.LookupPaintScale;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Some tests for the {@link HeatMapUtils} class.
+ */
+public class HeatMapUtilsTest {
+
+    /**
+     * Check the pixels in an image created from a small dataset.
+     */
+    @Test
+    public void testCreateHeatMapImage() {
+        DefaultHeatMapDataset d = new DefaultHeatMapDataset(3, 2, 0.0, 2.0, 
+                0.0, 1.0);
+        d.setZValue(0, 0, 0.0);
+        d.setZValue(1, 0, 0.5);
+        d.setZValue(2, 0, 1.0);
+        d.setZValue(0, 1, 1.0);
+        d.setZValue(1, 1, 0.0);
+        d.setZValue(2, 1, 0.5);
+        GrayPaintScale scale = new GrayPaintScale(0.0, 1.0);
+        BufferedImage image = HeatMapUtils.createHeatMapImage(d, scale);
+        assertEquals(3, image.getWidth());
+        assertEquals(2, image.getHeight());
+        for (int x = 0; x < 3; x++) {
+            for (int y = 0; y < 2; y++) {
+                Color c = (Color) scale.getPaint(d.getZValue(x, y));
+                assertEquals(c.getRGB(), image.getRGB(x, 1 - y));
+            }
+        }
+    }
+
+    /**
+     * A paint scale can return paints that are not colors.
+     */
+    @Test
+    public void testCreateHeatMapImageWithGradientPaint() {
+        DefaultHeatMapDataset d = new DefaultHeatMapDataset(2, 1, 0.0, 1.0, 
+                0.0, 1.0);
+        d.setZValue(0, 0, 0.25);
+        d.setZValue(1, 0, 0.75);
+        LookupPaintScale scale = new LookupPaintScale(0.0, 1.0, Color.WHITE);
+        scale.add(0.0, Color.RED);
+        scale.add(0.5, new GradientPaint(0f, 0f, Color.BLUE, 1f, 0f, 
+                Color.BLUE));
+        BufferedImage image = HeatMapUtils.createHeatMapImage(d, scale);
+        assertEquals(Color.RED.getRGB(), image.getRGB(0, 0));
+        assertEquals(Color.BLUE.getRGB(), image.getRGB(1, 0));
+    }
+
+}
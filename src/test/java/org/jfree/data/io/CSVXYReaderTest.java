@@ -0,0 +1,272 @@
+/* ======================================================
+ * JFreeChart : a chart library for the Java(tm) platform
+ * ======================================================
+ *
+ * (C) Copyright 2000-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------
+ * CSVXYReaderTest.java
+ * --------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+
+package org.jfree.data.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.jfree.data.xy.PrimitiveXYSeriesCollection;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link CSVXYReader} class.
+ */
+public class CSVXYReaderTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * Reads a dataset from a string via a channel.
+     *
+     * @param reader  the reader.
+     * @param s  the input.
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private PrimitiveXYSeriesCollection<String> read(CSVXYReader reader,
+            String s) throws IOException {
+        return reader.readXYDataset(Channels.newChannel(
+                new ByteArrayInputStream(s.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    /**
+     * Creates CSV input with a header and the specified number of rows.
+     *
+     * @param rows  the number of rows.
+     *
+     * @return The input.
+     */
+    private String createInput(int rows) {
+        StringBuilder b = new StringBuilder("time,\"A\",B\r\n");
+        for (int i = 0; i < rows; i++) {
+            b.append(i * 1000L).append(',').append(i * 0.5).append(',')
+                    .append(i % 7 == 0 ? "" : String.valueOf(-i)).append("\r\n");
+        }
+        return b.toString();
+    }
+
+    /**
+     * Read a simple dataset.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testReadChannel() throws IOException {
+        CSVXYReader reader = new CSVXYReader();
+        PrimitiveXYSeriesCollection<String> dataset = read(reader,
+                "x, y1, \"y 2\"\n1.0, 2.5, 3\n2.0, , -4e2\n\n, 9, 9\n3.0, NaN, 1");
+        assertEquals(2, dataset.getSeriesCount());
+        assertEquals("y1", dataset.getSeriesKey(0));
+        assertEquals("y 2", dataset.getSeriesKey(1));
+        assertEquals(3, dataset.getItemCount(0));
+        assertEquals(2.0, dataset.getXValue(0, 1), EPSILON);
+        assertEquals(2.5, dataset.getYValue(0, 0), EPSILON);
+        assertTrue(Double.isNaN(dataset.getYValue(0, 1)));
+        assertEquals(-400.0, dataset.getYValue(1, 1), EPSILON);
+        assertEquals(3.0, dataset.getXValue(1, 2), EPSILON);
+    }
+
+    /**
+     * Lines that span chunk boundaries, and lines longer than the buffer.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testSmallChunks() throws IOException {
+        CSVXYReader reader = new CSVXYReader();
+        reader.setChunkSize(7);
+        List<Long> updates = new ArrayList<>();
+        reader.setProgressListener((bytesRead, total) -> updates.add(bytesRead));
+        String input = createInput(500);
+        PrimitiveXYSeriesCollection<String> dataset = read(reader, input);
+        assertEquals("A", dataset.getSeriesKey(0));
+        assertEquals(500, dataset.getItemCount(1));
+        assertEquals(499000.0, dataset.getXValue(0, 499), EPSILON);
+        assertEquals(249.5, dataset.getYValue(0, 499), EPSILON);
+        assertTrue(Double.isNaN(dataset.getYValue(1, 7)));
+        assertEquals(-8.0, dataset.getYValue(1, 8), EPSILON);
+        assertEquals(input.length(), updates.get(updates.size() - 1));
+    }
+
+    /**
+     * Column selection without a header line.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testColumnSelection() throws IOException {
+        CSVXYReader reader = new CSVXYReader(';', '\'');
+        reader.setFirstLineHeader(false);
+        reader.setXColumn(2);
+        reader.setYColumns(0);
+        PrimitiveXYSeriesCollection<String> dataset = read(reader,
+                "1;2;'3'\n4;5;6\n7;8\n");
+        assertEquals(1, dataset.getSeriesCount());
+        assertEquals("Column 0", dataset.getSeriesKey(0));
+        assertEquals(2, dataset.getItemCount(0));
+        assertEquals(6.0, dataset.getXValue(0, 1), EPSILON);
+        assertEquals(4.0, dataset.getYValue(0, 1), EPSILON);
+        assertThrows(IllegalArgumentException.class,
+                () -> reader.setParallelism(0));
+    }
+
+    /**
+     * A file read in parallel segments gives the same result as a single
+     * thread reading the stream.
+     *
+     * @param dir  a temporary directory.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testReadPath(@TempDir Path dir) throws IOException {
+        String input = createInput(20000);
+        Path file = dir.resolve("data.csv");
+        Files.write(file, input.getBytes(StandardCharsets.UTF_8));
+        CSVXYReader reader = new CSVXYReader();
+        PrimitiveXYSeriesCollection<String> expected = read(reader, input);
+        reader.setChunkSize(1000);
+        reader.setParallelism(4);
+        long[] last = new long[2];
+        reader.setProgressListener((bytesRead, total) -> {
+            last[0] = bytesRead;
+            last[1] = total;
+        });
+        PrimitiveXYSeriesCollection<String> dataset = reader.readXYDataset(
+                file);
+        assertEquals(expected, dataset);
+        assertEquals(input.length(), last[0]);
+        assertEquals(input.length(), last[1]);
+
+        Path empty = dir.resolve("empty.csv");
+        Files.write(empty, new byte[0]);
+        assertEquals(0, reader.readXYDataset(empty).getSeriesCount());
+    }
+
+    /**
+     * A field that is not a valid number is reported with its line and
+     * column, also when it is found in a later segment of a file.
+     *
+     * @param dir  a temporary directory.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testInvalidField(@TempDir Path dir) throws IOException {
+        CSVXYReader reader = new CSVXYReader();
+        IOException e = assertThrows(IOException.class, () -> read(reader,
+                "x,y\n1,2\n\n2,abc\n"));
+        assertEquals("Invalid number 'abc' at line 4, column 2.",
+                e.getMessage());
+        assertTrue(e.getCause() instanceof NumberFormatException);
+
+        String input = createInput(20000);
+        int p = input.indexOf("\r\n15000000,") + 2;
+        input = input.substring(0, p) + "15000000,1.2.3"
+                + input.substring(input.indexOf('\r', p));
+        Path file = dir.resolve("data.csv");
+        Files.write(file, input.getBytes(StandardCharsets.UTF_8));
+        reader.setChunkSize(1000);
+        reader.setParallelism(4);
+        e = assertThrows(IOException.class, () -> reader.readXYDataset(file));
+        assertEquals("Invalid number '1.2.3' at line 15002, column 2.",
+                e.getMessage());
+    }
+
+    /**
+     * Two selected columns with the same name are rejected.
+     */
+    @Test
+    public void testDuplicateColumnNames() {
+        CSVXYReader reader = new CSVXYReader();
+        IOException e = assertThrows(IOException.class, () -> read(reader,
+                "x,A,B,\"A\"\n1,2,3,4\n"));
+        assertEquals("Columns 2 and 4 have the same name 'A'.",
+                e.getMessage());
+        reader.setYColumns(1, 2);
+        assertDoesNotThrow(() -> read(reader, "x,A,B,\"A\"\n1,2,3,4\n"));
+    }
+
+    /**
+     * The fast double parser must agree with Double.parseDouble().
+     */
+    @Test
+    public void testParseDouble() {
+        String[] values = {"0", "-0", "1", "+1.5", "123456789012345678",
+                "1234567890123456789012", "0.1", ".5", "5.", "1e10", "1E-5",
+                "-2.5e+3", "9007199254740993", "0.30000000000000004",
+                "1e22", "1e23", "4.9e-324", "1.7976931348623157e308",
+                "0.000000000000000000000000001", "NaN", "-Infinity"};
+        for (String s : values) {
+            assertEquals(Double.parseDouble(s), parse(s), s);
+        }
+        Random random = new Random(1L);
+        for (int i = 0; i < 10000; i++) {
+            double d = Double.longBitsToDouble(random.nextLong());
+            if (!Double.isNaN(d)) {
+                String s = Double.toString(d);
+                assertEquals(d, parse(s), s);
+            }
+            String s = String.valueOf(random.nextInt(1000000) / 1000.0);
+            assertEquals(Double.parseDouble(s), parse(s), s);
+        }
+        assertTrue(Double.isNaN(parse("")));
+        assertThrows(NumberFormatException.class, () -> parse("1e"));
+        assertThrows(NumberFormatException.class, () -> parse("abc"));
+    }
+
+    private static double parse(String s) {
+        byte[] bytes = s.getBytes(StandardCharsets.US_ASCII);
+        return CSVXYReader.parseDouble(ByteBuffer.wrap(bytes), 0,
+                bytes.length);
+    }
+
+}
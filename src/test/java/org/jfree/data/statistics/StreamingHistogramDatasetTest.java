@@ -0,0 +1,334 @@
+/* ======================================================
+ * JFreeChart : a chart library for the Java(tm) platform
+ * ======================================================
+ *
+ * (C) Copyright 2000-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------------------
+ * StreamingHistogramDatasetTest.java
+ * ----------------------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jfree.chart.TestUtils;
+import org.jfree.data.general.DatasetChangeCoalescer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link StreamingHistogramDataset} and 
+ * {@link HistogramBinning} classes.
+ */
+public class StreamingHistogramDatasetTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * Some checks for linear binning.
+     */
+    @Test
+    public void testLinearBinning() {
+        HistogramBinning b = HistogramBinning.linear(0.0, 10.0, 5);
+        assertEquals(5, b.getBinCount());
+        assertEquals(0.0, b.getLowerBound(), EPSILON);
+        assertEquals(10.0, b.getUpperBound(), EPSILON);
+        assertEquals(4.0, b.getBinStart(2), EPSILON);
+        assertEquals(6.0, b.getBinEnd(2), EPSILON);
+        assertEquals(-1, b.getBinIndex(-0.1));
+        assertEquals(0, b.getBinIndex(0.0));
+        assertEquals(0, b.getBinIndex(1.99));
+        assertEquals(1, b.getBinIndex(2.0));
+        assertEquals(4, b.getBinIndex(9.99));
+        assertEquals(5, b.getBinIndex(10.0));
+        assertEquals(5, b.getBinIndex(Double.POSITIVE_INFINITY));
+        assertThrows(IllegalArgumentException.class,
+                () -> HistogramBinning.linear(1.0, 1.0, 5));
+        assertThrows(IllegalArgumentException.class,
+                () -> HistogramBinning.linear(0.0, 1.0, 0));
+    }
+
+    /**
+     * Some checks for log-linear binning.
+     */
+    @Test
+    public void testLogLinearBinning() {
+        HistogramBinning b = HistogramBinning.logLinear(1.0, 1000.0, 4);
+        // 10 doublings (up to 1024), each with 4 bins
+        assertEquals(40, b.getBinCount());
+        assertEquals(1.0, b.getLowerBound(), EPSILON);
+        assertEquals(1024.0, b.getUpperBound(), EPSILON);
+        assertEquals(1.25, b.getBinEnd(0), EPSILON);
+        assertEquals(2.0, b.getBinStart(4), EPSILON);
+        assertEquals(2.5, b.getBinEnd(4), EPSILON);
+        assertEquals(-1, b.getBinIndex(0.5));
+        assertEquals(0, b.getBinIndex(1.0));
+        assertEquals(3, b.getBinIndex(1.99));
+        assertEquals(4, b.getBinIndex(2.0));
+        assertEquals(39, b.getBinIndex(1000.0));
+        assertEquals(40, b.getBinIndex(1024.0));
+
+        // every value is in the bin whose bounds contain it
+        for (double v = 1.0; v < 1024.0; v *= 1.01) {
+            int i = b.getBinIndex(v);
+            assertTrue(b.getBinStart(i) <= v && v < b.getBinEnd(i));
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> HistogramBinning.logLinear(0.0, 10.0, 4));
+        assertThrows(IllegalArgumentException.class,
+                () -> HistogramBinning.logLinear(10.0, 10.0, 4));
+    }
+
+    /**
+     * Some checks for the counts and the item values.
+     */
+    @Test
+    public void testValues() {
+        StreamingHistogramDataset<String> d = new StreamingHistogramDataset<>(
+                HistogramBinning.linear(0.0, 10.0, 5));
+        int s = d.addSeries("S1");
+        d.addAll(s, new double[] {1.0, 2.5, 3.0, 3.5, -1.0, 11.0, Double.NaN});
+        d.add(s, 9.0, 2);
+        assertEquals(1, d.getCount(s, 0));
+        assertEquals(3, d.getCount(s, 1));
+        assertEquals(2, d.getCount(s, 4));
+        assertEquals(1, d.getUnderflowCount(s));
+        assertEquals(1, d.getOverflowCount(s));
+        assertEquals(8, d.getTotal(s));
+
+        assertEquals(5, d.getItemCount(s));
+        assertEquals(3.0, d.getXValue(s, 1), EPSILON);
+        assertEquals(2.0, d.getStartXValue(s, 1), EPSILON);
+        assertEquals(4.0, d.getEndXValue(s, 1), EPSILON);
+        assertEquals(3.0, d.getYValue(s, 1), EPSILON);
+        assertEquals(3.0, d.getEndYValue(s, 1), EPSILON);
+        d.setType(HistogramType.RELATIVE_FREQUENCY);
+        assertEquals(3.0 / 8.0, d.getYValue(s, 1), EPSILON);
+        d.setType(HistogramType.SCALE_AREA_TO_1);
+        assertEquals(3.0 / 16.0, d.getYValue(s, 1), EPSILON);
+
+        d.clear();
+        assertEquals(0, d.getCount(s, 1));
+        assertEquals(0, d.getTotal(s));
+        assertEquals(0.0, d.getYValue(s, 1), EPSILON);
+        assertThrows(IllegalArgumentException.class, () -> d.addSeries("S1"));
+    }
+
+    /**
+     * Merging adds the counts by series key.
+     */
+    @Test
+    public void testMerge() {
+        HistogramBinning b = HistogramBinning.logLinear(1.0, 100.0, 8);
+        StreamingHistogramDataset<String> d1 = new StreamingHistogramDataset<>(b);
+        StreamingHistogramDataset<String> d2 = new StreamingHistogramDataset<>(b);
+        d1.add(d1.addSeries("A"), 5.0);
+        d2.add(d2.addSeries("B"), 50.0);
+        d2.add(d2.addSeries("A"), 5.0);
+        d2.add(1, 500.0);
+        d1.merge(d2);
+        assertEquals(2, d1.getSeriesCount());
+        assertEquals(0, d1.getSeriesIndex("A"));
+        assertEquals(1, d1.getSeriesIndex("B"));
+        assertEquals(2, d1.getCount(0, b.getBinIndex(5.0)));
+        assertEquals(1, d1.getOverflowCount(0));
+        assertEquals(3, d1.getTotal(0));
+        assertEquals(1, d1.getCount(1, b.getBinIndex(50.0)));
+
+        StreamingHistogramDataset<String> d3 = new StreamingHistogramDataset<>(
+                HistogramBinning.logLinear(1.0, 100.0, 4));
+        assertThrows(IllegalArgumentException.class, () -> d1.merge(d3));
+    }
+
+    /**
+     * Values added concurrently are all counted.
+     *
+     * @throws InterruptedException if the test is interrupted.
+     */
+    @Test
+    public void testConcurrentAdd() throws InterruptedException {
+        StreamingHistogramDataset<String> d = new StreamingHistogramDataset<>(
+                HistogramBinning.linear(0.0, 100.0, 10));
+        int s = d.addSeries("S1");
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10000; i++) {
+                    d.add(s, i % 100);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(40000, d.getTotal(s));
+        for (int i = 0; i < 10; i++) {
+            assertEquals(4000, d.getCount(s, i));
+        }
+    }
+
+    /**
+     * Only one event is fired for added values until it has been delivered.
+     */
+    @Test
+    public void testChangeEvents() {
+        StreamingHistogramDataset<String> d = new StreamingHistogramDataset<>(
+                HistogramBinning.linear(0.0, 10.0, 5));
+        int s = d.addSeries("S1");
+        AtomicInteger events = new AtomicInteger();
+        d.addChangeListener(e -> events.incrementAndGet());
+        DatasetChangeCoalescer coalescer = new DatasetChangeCoalescer(60000);
+        d.setChangeCoalescer(coalescer);
+        for (int i = 0; i < 1000; i++) {
+            d.add(s, i % 10);
+        }
+        assertEquals(0, events.get());
+        assertTrue(coalescer.hasPendingChanges());
+        coalescer.flush();
+        assertEquals(1, events.get());
+
+        // the next value fires a new event
+        d.add(s, 1.0);
+        assertTrue(coalescer.hasPendingChanges());
+        coalescer.flush();
+        assertEquals(2, events.get());
+
+        // without a coalescer each change is delivered immediately
+        d.setChangeCoalescer(null);
+        d.add(s, 1.0);
+        d.add(s, 2.0);
+        assertEquals(4, events.get());
+    }
+
+    /**
+     * By default the events for added values are coalesced and delivered on
+     * the coalescer's timer thread.
+     *
+     * @throws InterruptedException if the test is interrupted.
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Test
+    public void testDefaultCoalescer() throws InterruptedException,
+            CloneNotSupportedException {
+        StreamingHistogramDataset<String> d = new StreamingHistogramDataset<>(
+                HistogramBinning.linear(0.0, 10.0, 5));
+        assertNotNull(d.getChangeCoalescer());
+        int s = d.addSeries("S1");
+        d.getChangeCoalescer().flush();
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        CountDownLatch delivered = new CountDownLatch(1);
+        d.addChangeListener(e -> {
+            threads.add(Thread.currentThread());
+            delivered.countDown();
+        });
+        for (int i = 0; i < 1000; i++) {
+            d.add(s, i % 10);
+        }
+        assertTrue(delivered.await(10, TimeUnit.SECONDS));
+        for (Thread thread : threads) {
+            assertNotSame(Thread.currentThread(), thread);
+        }
+
+        // clones and deserialized datasets also get a coalescer
+        assertNotNull(((StreamingHistogramDataset<?>) d.clone())
+                .getChangeCoalescer());
+        assertNotNull(TestUtils.serialised(d).getChangeCoalescer());
+    }
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        HistogramBinning b = HistogramBinning.linear(0.0, 10.0, 5);
+        StreamingHistogramDataset<String> d1 = new StreamingHistogramDataset<>(b);
+        StreamingHistogramDataset<String> d2 = new StreamingHistogramDataset<>(b);
+        assertEquals(d1, d2);
+        d1.addSeries("S1");
+        assertNotEquals(d1, d2);
+        d2.addSeries("S1");
+        assertEquals(d1, d2);
+        d1.add(0, 1.0);
+        assertNotEquals(d1, d2);
+        d2.add(0, 1.0);
+        assertEquals(d1, d2);
+        d1.setType(HistogramType.RELATIVE_FREQUENCY);
+        assertNotEquals(d1, d2);
+        d2.setType(HistogramType.RELATIVE_FREQUENCY);
+        assertEquals(d1, d2);
+        assertEquals(d1.hashCode(), d2.hashCode());
+        assertNotEquals(HistogramBinning.linear(0.0, 10.0, 5), 
+                HistogramBinning.logLinear(1.0, 10.0, 5));
+    }
+
+    /**
+     * Confirm that cloning works.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        StreamingHistogramDataset<String> d1 = new StreamingHistogramDataset<>(
+                HistogramBinning.linear(0.0, 10.0, 5));
+        d1.add(d1.addSeries("S1"), 1.0);
+        @SuppressWarnings("unchecked")
+        StreamingHistogramDataset<String> d2 
+                = (StreamingHistogramDataset<String>) d1.clone();
+        assertNotSame(d1, d2);
+        assertEquals(d1, d2);
+
+        // check independence
+        d1.add(0, 2.0);
+        assertNotEquals(d1, d2);
+        d2.add(0, 2.0);
+        assertEquals(d1, d2);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        StreamingHistogramDataset<String> d1 = new StreamingHistogramDataset<>(
+                HistogramBinning.logLinear(1.0, 1000.0, 16));
+        d1.addAll(d1.addSeries("S1"), new double[] {1.0, 10.0, 100.0});
+        StreamingHistogramDataset<String> d2 = TestUtils.serialised(d1);
+        assertEquals(d1, d2);
+        assertEquals(3, d2.getTotal(0));
+        d2.add(0, 5.0);
+        assertEquals(4, d2.getTotal(0));
+    }
+
+}
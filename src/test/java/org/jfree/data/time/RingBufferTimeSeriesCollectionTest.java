@@ -0,0 +1,154 @@
+/* ======================================================
+ * JFreeChart : a chart library for the Java(tm) platform
+ * ======================================================
+ *
+ * (C) Copyright 2000-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------------------
+ * RingBufferTimeSeriesCollectionTest.java
+ * ---------------------------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.util.List;
+
+import org.jfree.chart.TestUtils;
+import org.jfree.chart.internal.CloneUtils;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.general.DatasetUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link RingBufferTimeSeriesCollection} class.
+ */
+public class RingBufferTimeSeriesCollectionTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * Creates a collection for testing.
+     *
+     * @return A collection.
+     */
+    private RingBufferTimeSeriesCollection<String> createCollection() {
+        RingBufferTimeSeries<String> s1 = new RingBufferTimeSeries<>("S1", 3);
+        s1.add(0L, 9L, 1.0, false);
+        s1.add(10L, 19L, 2.0, false);
+        RingBufferTimeSeries<String> s2 = new RingBufferTimeSeries<>("S2", 3);
+        s2.add(5L, 14L, -1.0, false);
+        s2.add(30L, 39L, 6.0, false);
+        RingBufferTimeSeriesCollection<String> c
+                = new RingBufferTimeSeriesCollection<>(s1);
+        c.addSeries(s2);
+        return c;
+    }
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        RingBufferTimeSeriesCollection<String> c1 = createCollection();
+        RingBufferTimeSeriesCollection<String> c2 = createCollection();
+        assertEquals(c1, c2);
+        assertEquals(c1.hashCode(), c2.hashCode());
+
+        c1.setXPosition(TimePeriodAnchor.END);
+        assertNotEquals(c1, c2);
+        c2.setXPosition(TimePeriodAnchor.END);
+        assertEquals(c1, c2);
+
+        c1.getSeries(0).add(50L, 1.0);
+        assertNotEquals(c1, c2);
+    }
+
+    /**
+     * Confirm that cloning works.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        RingBufferTimeSeriesCollection<String> c1 = createCollection();
+        RingBufferTimeSeriesCollection<String> c2 = CloneUtils.clone(c1);
+        assertNotSame(c1, c2);
+        assertEquals(c1, c2);
+        c2.getSeries(0).add(50L, 7.0);
+        assertNotEquals(c1, c2);
+        assertEquals(7.0, c2.getRangeUpperBound(false), EPSILON);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        RingBufferTimeSeriesCollection<String> c1 = createCollection();
+        RingBufferTimeSeriesCollection<String> c2 = TestUtils.serialised(c1);
+        assertEquals(c1, c2);
+    }
+
+    /**
+     * Check the x-values for each anchor setting.
+     */
+    @Test
+    public void testXValues() {
+        RingBufferTimeSeriesCollection<String> c = createCollection();
+        assertEquals(DomainOrder.ASCENDING, c.getDomainOrder());
+        assertEquals(10.0, c.getXValue(0, 1), EPSILON);
+        assertEquals(10.0, c.getStartXValue(0, 1), EPSILON);
+        assertEquals(19.0, c.getEndXValue(0, 1), EPSILON);
+        assertEquals(2.0, c.getY(0, 1).doubleValue(), EPSILON);
+        c.setXPosition(TimePeriodAnchor.MIDDLE);
+        assertEquals(14.0, c.getXValue(0, 1), EPSILON);
+        c.setXPosition(TimePeriodAnchor.END);
+        assertEquals(19.0, c.getX(0, 1).doubleValue(), EPSILON);
+    }
+
+    /**
+     * Some checks for the bounds methods.
+     */
+    @Test
+    public void testBounds() {
+        RingBufferTimeSeriesCollection<String> c = createCollection();
+        assertEquals(new Range(0.0, 30.0), c.getDomainBounds(false));
+        assertEquals(new Range(0.0, 39.0), c.getDomainBounds(true));
+        assertEquals(new Range(0.0, 10.0),
+                c.getDomainBounds(List.of("S1"), false));
+        assertEquals(new Range(-1.0, 6.0), c.getRangeBounds(false));
+        assertEquals(new Range(-1.0, 2.0), c.getRangeBounds(
+                List.of("S1", "S2"), new Range(5.0, 20.0), false));
+        assertEquals(new Range(-1.0, 6.0),
+                DatasetUtils.findRangeBounds(c));
+    }
+
+}
@@ -0,0 +1,241 @@
+/* ======================================================
+ * JFreeChart : a chart library for the Java(tm) platform
+ * ======================================================
+ *
+ * (C) Copyright 2000-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------------
+ * RingBufferTimeSeriesTest.java
+ * -----------------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.time;
+
+import org.jfree.chart.TestUtils;
+import org.jfree.chart.internal.CloneUtils;
+import org.jfree.data.Range;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeListener;
+import org.jfree.data.general.SeriesException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link RingBufferTimeSeries} class.
+ */
+public class RingBufferTimeSeriesTest implements SeriesChangeListener {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /** The last event received. */
+    private SeriesChangeEvent lastEvent;
+
+    /**
+     * Records the last event.
+     *
+     * @param event  the event.
+     */
+    @Override
+    public void seriesChanged(SeriesChangeEvent event) {
+        this.lastEvent = event;
+    }
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        RingBufferTimeSeries<String> s1 = new RingBufferTimeSeries<>("S", 3);
+        RingBufferTimeSeries<String> s2 = new RingBufferTimeSeries<>("S", 3);
+        assertEquals(s1, s2);
+
+        s1.add(1L, 1.0);
+        assertNotEquals(s1, s2);
+        s2.add(1L, 1.0);
+        assertEquals(s1, s2);
+
+        s1.setMaximumItemAge(100L);
+        assertNotEquals(s1, s2);
+        s2.setMaximumItemAge(100L);
+        assertEquals(s1, s2);
+
+        assertNotEquals(new RingBufferTimeSeries<>("S", 3),
+                new RingBufferTimeSeries<>("S", 4));
+
+        // the position of the items in the buffer is not significant
+        RingBufferTimeSeries<String> s3 = new RingBufferTimeSeries<>("S", 2);
+        s3.add(1L, 1.0);
+        s3.add(2L, 2.0);
+        s3.add(3L, 3.0);
+        RingBufferTimeSeries<String> s4 = new RingBufferTimeSeries<>("S", 2);
+        s4.add(2L, 2.0);
+        s4.add(3L, 3.0);
+        assertEquals(s3, s4);
+        assertEquals(s3.hashCode(), s4.hashCode());
+    }
+
+    /**
+     * Confirm that cloning works.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        RingBufferTimeSeries<String> s1 = new RingBufferTimeSeries<>("S", 3);
+        s1.add(1L, 1.0);
+        RingBufferTimeSeries<String> s2 = CloneUtils.clone(s1);
+        assertNotSame(s1, s2);
+        assertEquals(s1, s2);
+
+        // check independence
+        s2.add(2L, 2.0);
+        assertNotEquals(s1, s2);
+        assertEquals(1, s1.getItemCount());
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        RingBufferTimeSeries<String> s1 = new RingBufferTimeSeries<>("S", 3);
+        s1.add(new Day(1, 1, 2026), 1.0);
+        s1.add(new Day(2, 1, 2026), 2.0);
+        RingBufferTimeSeries<String> s2 = TestUtils.serialised(s1);
+        assertEquals(s1, s2);
+        assertEquals(2.0, s2.getMaxY(), EPSILON);
+    }
+
+    /**
+     * When the buffer is full, the oldest item is discarded.
+     */
+    @Test
+    public void testWrapAround() {
+        RingBufferTimeSeries<String> s = new RingBufferTimeSeries<>("S", 3);
+        s.addChangeListener(this);
+        for (int i = 0; i < 10; i++) {
+            s.add(i * 10L, i);
+        }
+        assertNotNull(this.lastEvent);
+        assertEquals(3, s.getItemCount());
+        assertEquals(70L, s.getFirstMillisecond(0));
+        assertEquals(90L, s.getFirstMillisecond(2));
+        assertEquals(9.0, s.getValue(2), EPSILON);
+        assertEquals(7.0, s.getMinY(), EPSILON);
+        assertEquals(9.0, s.getMaxY(), EPSILON);
+    }
+
+    /**
+     * Items must be added in time order.
+     */
+    @Test
+    public void testAddOutOfOrder() {
+        RingBufferTimeSeries<String> s = new RingBufferTimeSeries<>("S", 3);
+        s.add(10L, 1.0);
+        assertThrows(SeriesException.class, () -> s.add(5L, 1.0));
+    }
+
+    /**
+     * The running min/max must agree with a brute force calculation as the
+     * window slides over random data.
+     */
+    @Test
+    public void testMinMaxSlidingWindow() {
+        Random random = new Random(123L);
+        RingBufferTimeSeries<String> s = new RingBufferTimeSeries<>("S", 17);
+        for (int i = 0; i < 1000; i++) {
+            double v = (i % 13 == 0) ? Double.NaN : random.nextInt(50);
+            s.add(i, v, false);
+            double min = Double.NaN;
+            double max = Double.NaN;
+            for (int j = 0; j < s.getItemCount(); j++) {
+                double y = s.getValue(j);
+                if (!Double.isNaN(y)) {
+                    min = Double.isNaN(min) ? y : Math.min(min, y);
+                    max = Double.isNaN(max) ? y : Math.max(max, y);
+                }
+            }
+            assertEquals(min, s.getMinY(), EPSILON);
+            assertEquals(max, s.getMaxY(), EPSILON);
+        }
+    }
+
+    /**
+     * Items older than the maximum age are discarded.
+     */
+    @Test
+    public void testMaximumItemAge() {
+        RingBufferTimeSeries<String> s = new RingBufferTimeSeries<>("S", 100);
+        s.add(0L, 5.0);
+        s.add(10L, 1.0);
+        s.add(20L, 2.0);
+        s.setMaximumItemAge(15L);
+        assertEquals(2, s.getItemCount());
+        assertEquals(1.0, s.getMinY(), EPSILON);
+        s.add(30L, 3.0);
+        assertEquals(2, s.getItemCount());
+        assertEquals(2.0, s.getMinY(), EPSILON);
+    }
+
+    /**
+     * Some checks for the clear() method.
+     */
+    @Test
+    public void testClear() {
+        RingBufferTimeSeries<String> s = new RingBufferTimeSeries<>("S", 2);
+        s.add(1L, 1.0);
+        s.add(2L, 2.0);
+        s.add(3L, 3.0);
+        s.clear();
+        assertEquals(0, s.getItemCount());
+        assertTrue(Double.isNaN(s.getMaxY()));
+        s.add(0L, 4.0);
+        assertEquals(4.0, s.getMaxY(), EPSILON);
+    }
+
+    /**
+     * Some checks for the findValueRange() method.
+     */
+    @Test
+    public void testFindValueRange() {
+        RingBufferTimeSeries<String> s = new RingBufferTimeSeries<>("S", 4);
+        for (int i = 0; i < 6; i++) {
+            s.add(i * 10L, i * 10L + 9L, i, false);
+        }
+        assertEquals(new Range(3.0, 4.0), s.findValueRange(new Range(25.0,
+                45.0), TimePeriodAnchor.START));
+        assertEquals(new Range(2.0, 3.0), s.findValueRange(new Range(25.0,
+                45.0), TimePeriodAnchor.END));
+        assertNull(s.findValueRange(new Range(100.0, 200.0),
+                TimePeriodAnchor.START));
+    }
+
+}
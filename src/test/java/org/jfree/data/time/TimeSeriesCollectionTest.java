@@ -475,4 +475,100 @@ public class TimeSeriesCollectionTest {
         collection.setXPosition(TimePeriodAnchor.END);
         assertNull(collection.getRangeBounds(Collections.singletonList("S1"), range, true));
     }
+
+    /**
+     * Checks the x-values of every item against the time periods.
+     *
+     * @param dataset  the dataset.
+     * @param zone  the time zone for the dataset.
+     */
+    private static void checkXValues(TimeSeriesCollection<String> dataset, 
+            TimeZone zone) {
+        Calendar c = Calendar.getInstance(zone);
+        TimeSeries<String> s = dataset.getSeries(0);
+        for (int i = 0; i < s.getItemCount(); i++) {
+            RegularTimePeriod p = s.getTimePeriod(i);
+            assertEquals(p.getFirstMillisecond(c), 
+                    dataset.getStartX(0, i).longValue());
+            assertEquals(p.getLastMillisecond(c), 
+                    dataset.getEndX(0, i).longValue());
+            dataset.setXPosition(TimePeriodAnchor.MIDDLE);
+            assertEquals(p.getMiddleMillisecond(c), dataset.getXValue(0, i));
+            dataset.setXPosition(TimePeriodAnchor.START);
+            assertEquals(p.getFirstMillisecond(c), dataset.getXValue(0, i));
+        }
+    }
+
+    /**
+     * The cached x-values follow appends, inserts and deletes.
+     */
+    @Test
+    public void testXValuesAfterChanges() {
+        TimeZone zone = TimeZone.getTimeZone("Europe/Paris");
+        TimeSeries<String> s = new TimeSeries<>("S1");
+        TimeSeriesCollection<String> dataset = new TimeSeriesCollection<>(s, 
+                zone);
+        s.add(new Day(1, 3, 2020), 1.0);
+        s.add(new Day(3, 3, 2020), 3.0);
+        checkXValues(dataset, zone);
+        s.add(new Day(29, 3, 2020), 29.0); // daylight saving starts
+        s.add(new Day(30, 3, 2020), 30.0, false);
+        checkXValues(dataset, zone);
+        s.add(new Day(2, 3, 2020), 2.0);
+        checkXValues(dataset, zone);
+        s.delete(0, 1);
+        checkXValues(dataset, zone);
+        assertEquals(new Day(3, 3, 2020).getFirstMillisecond(
+                Calendar.getInstance(zone)), dataset.getXValue(0, 0));
+        s.setMaximumItemCount(2);
+        s.add(new Day(31, 3, 2020), 31.0);
+        checkXValues(dataset, zone);
+        s.clear();
+        assertEquals(0, dataset.getItemCount(0));
+        assertThrows(IndexOutOfBoundsException.class, 
+                () -> dataset.getXValue(0, 0));
+    }
+
+    /**
+     * The x-values can be read by several threads at once.
+     * 
+     * @throws InterruptedException if the test is interrupted.
+     */
+    @Test
+    public void testConcurrentXValues() throws InterruptedException {
+        TimeSeries<String> s = new TimeSeries<>("S1");
+        RegularTimePeriod p = new Hour(0, new Day(1, 1, 2020));
+        for (int i = 0; i < 5000; i++) {
+            s.add(p, i);
+            p = p.next();
+        }
+        TimeZone zone = TimeZone.getTimeZone("America/New_York");
+        TimeSeriesCollection<String> dataset = new TimeSeriesCollection<>(s, 
+                zone);
+        Calendar c = Calendar.getInstance(zone);
+        long[] expected = new long[s.getItemCount()];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = s.getTimePeriod(i).getFirstMillisecond(c);
+        }
+        List<Throwable> errors = Collections.synchronizedList(
+                new ArrayList<>());
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                try {
+                    for (int i = 0; i < expected.length; i++) {
+                        assertEquals(expected[i], dataset.getXValue(0, i));
+                    }
+                } catch (Throwable e) {
+                    errors.add(e);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(errors.isEmpty(), errors.toString());
+    }
+
 }
@@ -1151,4 +1151,199 @@ public class TimeSeriesTest implements SeriesChangeListener {
                 ts.findValueRange(range, TimePeriodAnchor.END, tzone));
 
     }
+
+    /**
+     * The bulk methods sort the items once and send a single event.
+     */
+    @Test
+    public void testAddAll() {
+        TimeSeries<String> s1 = new TimeSeries<>("S1");
+        s1.add(new Year(2002), 20.0);
+        s1.addChangeListener(this);
+        this.gotSeriesChangeEvent = false;
+        s1.addAll(new RegularTimePeriod[] {new Year(2003), new Year(2001)},
+                new double[] {30.0, 10.0});
+        assertTrue(this.gotSeriesChangeEvent);
+        assertEquals(3, s1.getItemCount());
+        assertEquals(new Year(2001), s1.getTimePeriod(0));
+        assertEquals(20.0, s1.getValue(1).doubleValue(), EPSILON);
+        assertEquals(10.0, s1.getMinY(), EPSILON);
+        assertEquals(30.0, s1.getMaxY(), EPSILON);
+
+        // duplicates and mixed period classes are rejected without changing
+        // the series
+        assertThrows(SeriesException.class, () -> s1.addAll(
+                new RegularTimePeriod[] {new Year(2002)}, new double[] {1.0}));
+        assertThrows(SeriesException.class, () -> s1.addAll(
+                new RegularTimePeriod[] {new Day()}, new double[] {1.0}));
+        assertEquals(3, s1.getItemCount());
+
+        s1.replaceAll(new RegularTimePeriod[] {new Day(2, 1, 2020),
+                new Day(1, 1, 2020)}, new double[] {2.0, 1.0});
+        assertEquals(2, s1.getItemCount());
+        assertEquals(Day.class, s1.getTimePeriodClass());
+        assertEquals(new Day(1, 1, 2020), s1.getTimePeriod(0));
+
+        // the maximum item count is respected
+        s1.setMaximumItemCount(1);
+        s1.addAll(new RegularTimePeriod[] {new Day(3, 1, 2020)},
+                new double[] {3.0});
+        assertEquals(1, s1.getItemCount());
+        assertEquals(3.0, s1.getMaxY(), EPSILON);
+    }
+
+    /**
+     * The windowed findValueRange() must follow appends, inserts, updates
+     * and removals.
+     */
+    @Test
+    public void testFindValueRangeWindow() {
+        TimeZone tzone = TimeZone.getTimeZone("UTC");
+        Calendar calendar = new GregorianCalendar(tzone, Locale.UK);
+        TimeSeries<String> ts = new TimeSeries<>("Time Series");
+        Day d0 = new Day(1, 1, 2020);
+        RegularTimePeriod p = d0;
+        for (int i = 0; i < 1000; i++) {
+            ts.add(p, i % 100);
+            p = p.next();
+        }
+        long start = d0.getFirstMillisecond(calendar);
+        long day = 24L * 60L * 60L * 1000L;
+        Range window = new Range(start + 150 * day, start + 180 * day);
+        assertEquals(new Range(50.0, 80.0), ts.findValueRange(window,
+                TimePeriodAnchor.START, calendar));
+        assertEquals(new Range(50.0, 79.0), ts.findValueRange(window,
+                TimePeriodAnchor.END, calendar));
+
+        ts.update(new Day(10, 6, 2020), -1.0);  // item 160
+        assertEquals(new Range(-1.0, 80.0), ts.findValueRange(window,
+                TimePeriodAnchor.START, calendar));
+        ts.add(p, 500.0);  // append
+        assertEquals(new Range(500.0, 500.0), ts.findValueRange(
+                new Range(start + 1000 * day, start + 1001 * day),
+                TimePeriodAnchor.START, calendar));
+        ts.delete(new Day(10, 6, 2020));
+        assertEquals(new Range(50.0, 80.0), ts.findValueRange(window,
+                TimePeriodAnchor.START, calendar));
+        ts.addOrUpdate(new Day(10, 6, 2020), null);
+        assertEquals(new Range(50.0, 80.0), ts.findValueRange(window,
+                TimePeriodAnchor.START, calendar));
+        ts.delete(0, 899);
+        assertEquals(new Range(0.0, 500.0), ts.findValueRange(
+                new Range(start, start + 2000 * day),
+                TimePeriodAnchor.START, calendar));
+        assertTrue(ts.findValueRange(window, TimePeriodAnchor.START,
+                calendar).isNaNRange());
+    }
+
+    /**
+     * A snapshot of the period milliseconds must not change when the series
+     * is modified and the cache is extended.
+     */
+    @Test
+    public void testPeriodMillisSnapshot() {
+        Calendar calendar = new GregorianCalendar(
+                TimeZone.getTimeZone("UTC"), Locale.UK);
+        TimeSeries<String> ts = new TimeSeries<>("Time Series");
+        Day d0 = new Day(1, 1, 2020);
+        RegularTimePeriod p = d0;
+        for (int i = 0; i < 10; i++) {
+            ts.add(p, i);
+            p = p.next();
+        }
+        TimeSeries.PeriodMillis pm1 = ts.getPeriodMillis(calendar);
+        long[] expected = new long[10];
+        for (int i = 0; i < 10; i++) {
+            expected[i] = pm1.get(i, TimePeriodAnchor.START);
+        }
+        ts.delete(new Day(6, 1, 2020));
+        ts.add(new Day(1, 2, 2020), 1.0);
+        ts.add(new Day(2, 2, 2020), 2.0);
+        TimeSeries.PeriodMillis pm2 = ts.getPeriodMillis(calendar);
+        assertEquals(11, pm2.count);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(expected[i], pm1.get(i, TimePeriodAnchor.START));
+        }
+        for (int i = 0; i < 11; i++) {
+            assertEquals(ts.getTimePeriod(i).getFirstMillisecond(calendar),
+                    pm2.get(i, TimePeriodAnchor.START));
+        }
+
+        // a series that drops items from the start as items are appended
+        ts.setMaximumItemCount(5);
+        p = new Day(1, 3, 2020);
+        for (int i = 0; i < 50; i++) {
+            ts.add(p, i);
+            p = p.next();
+            TimeSeries.PeriodMillis pm = ts.getPeriodMillis(calendar);
+            assertEquals(5, pm.count);
+            for (int j = 0; j < 5; j++) {
+                assertEquals(ts.getTimePeriod(j).getLastMillisecond(
+                        calendar), pm.get(j, TimePeriodAnchor.END));
+            }
+        }
+    }
+
+    /**
+     * Calendars with the same rules share the period milliseconds, so a
+     * series in two collections with the same time zone is not recalculated
+     * for each.
+     */
+    @Test
+    public void testPeriodMillisEquivalentCalendars() {
+        TimeZone zone = TimeZone.getTimeZone("Europe/Paris");
+        Calendar c1 = Calendar.getInstance(zone);
+        Calendar c2 = Calendar.getInstance(zone);
+        Calendar c3 = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        assertTrue(TimeSeries.isEquivalent(c1, c2));
+        assertFalse(TimeSeries.isEquivalent(c1, c3));
+        TimeSeries<String> ts = new TimeSeries<>("Time Series");
+        ts.add(new Day(1, 1, 2020), 1.0);
+        ts.add(new Day(2, 1, 2020), 2.0);
+        TimeSeries.PeriodMillis pm1 = ts.getPeriodMillis(c1);
+        assertSame(pm1, ts.getPeriodMillis(c2));
+        ts.add(new Day(3, 1, 2020), 3.0);
+        TimeSeries.PeriodMillis pm2 = ts.getPeriodMillis(c2);
+        assertEquals(3, pm2.count);
+        assertSame(pm2, ts.getPeriodMillis(c1));
+        TimeSeries.PeriodMillis pm3 = ts.getPeriodMillis(c3);
+        assertEquals(new Day(3, 1, 2020).getFirstMillisecond(c3),
+                pm3.get(2, TimePeriodAnchor.START));
+        assertEquals(new Day(3, 1, 2020).getFirstMillisecond(c1),
+                pm2.get(2, TimePeriodAnchor.START));
+    }
+
+    /**
+     * The windowed findValueRange() must follow a series that drops items
+     * from the start as new items are appended.
+     */
+    @Test
+    public void testFindValueRangeWindowStreaming() {
+        TimeZone tzone = TimeZone.getTimeZone("UTC");
+        Calendar calendar = new GregorianCalendar(tzone, Locale.UK);
+        TimeSeries<String> ts = new TimeSeries<>("Time Series");
+        ts.setMaximumItemCount(50);
+        long day = 24L * 60L * 60L * 1000L;
+        Day d0 = new Day(1, 1, 2020);
+        long start = d0.getFirstMillisecond(calendar);
+        RegularTimePeriod p = d0;
+        for (int i = 0; i < 1000; i++) {
+            ts.add(p, i);
+            p = p.next();
+            int low = Math.max(0, i - 49);
+            assertEquals(new Range(low, i), ts.findValueRange(
+                    new Range(start, start + 2000 * day),
+                    TimePeriodAnchor.START, calendar));
+            assertEquals(new Range(Math.max(low, i - 9), i),
+                    ts.findValueRange(new Range(start + (i - 9) * day,
+                    start + i * day), TimePeriodAnchor.START, calendar));
+        }
+        ts.setMaximumItemAge(10);
+        ts.add(p, -1.0);
+        assertEquals(new Range(-1.0, 999.0), ts.findValueRange(
+                new Range(start, start + 2000 * day),
+                TimePeriodAnchor.START, calendar));
+        assertEquals(11, ts.getItemCount());
+    }
+
 }
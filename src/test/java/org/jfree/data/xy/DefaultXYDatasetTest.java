@@ -36,6 +36,8 @@
 
 package org.jfree.data.xy;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.jfree.chart.TestUtils;
 import org.jfree.chart.internal.CloneUtils;
 import org.jfree.chart.api.PublicCloneable;
@@ -216,4 +218,21 @@ public class DefaultXYDatasetTest {
         return d;
     }
 
+    /**
+     * An update block sends a single event for all the changes.
+     */
+    @Test
+    public void testUpdateBlock() {
+        DefaultXYDataset<String> d = createSampleDataset1();
+        AtomicInteger events = new AtomicInteger();
+        d.addChangeListener(e -> events.incrementAndGet());
+        d.beginUpdate();
+        d.removeSeries("S1");
+        d.addSeries("S3", new double[][] {{1.0}, {2.0}});
+        assertEquals(0, events.get());
+        d.commitUpdate();
+        assertEquals(1, events.get());
+        assertThrows(IllegalStateException.class, () -> d.commitUpdate());
+    }
+
 }
@@ -0,0 +1,216 @@
+/* ======================================================
+ * JFreeChart : a chart library for the Java(tm) platform
+ * ======================================================
+ *
+ * (C) Copyright 2000-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * MappedXYDatasetTest.java
+ * ------------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+
+package org.jfree.data.xy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.jfree.chart.TestUtils;
+import org.jfree.chart.internal.CloneUtils;
+import org.jfree.chart.renderer.RendererUtils;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.general.DatasetUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link MappedXYDataset} class.
+ */
+public class MappedXYDatasetTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    @TempDir
+    Path dir;
+
+    /**
+     * Writes a series file with x-values 0, 1, 2... and y-values x * x.
+     *
+     * @param name  the file name.
+     * @param count  the item count.
+     * @param intervals  write interval values?
+     *
+     * @return The file.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private Path createFile(String name, int count, boolean intervals)
+            throws IOException {
+        Path file = this.dir.resolve(name);
+        try (MappedXYSeriesWriter writer = new MappedXYSeriesWriter(file,
+                intervals)) {
+            for (int i = 0; i < count; i++) {
+                if (intervals) {
+                    writer.add(i, i * i, i - 0.5, i + 0.5, i * i - 1.0,
+                            i * i + 1.0);
+                } else {
+                    writer.add(i, i * i);
+                }
+            }
+            assertEquals(count, writer.getItemCount());
+        }
+        return file;
+    }
+
+    /**
+     * Some checks for the values read from the files.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testValues() throws IOException {
+        MappedXYDataset<String> d = new MappedXYDataset<>();
+        d.addSeries("S1", createFile("s1.dat", 100000, false));
+        d.addSeries("S2", createFile("s2.dat", 10, true));
+        assertEquals(2, d.getSeriesCount());
+        assertEquals("S2", d.getSeriesKey(1));
+        assertEquals(1, d.indexOf("S2"));
+        assertEquals(100000, d.getItemCount(0));
+        assertEquals(99999.0, d.getXValue(0, 99999), EPSILON);
+        assertEquals(25.0, d.getY(0, 5).doubleValue(), EPSILON);
+        assertEquals(5.0, d.getStartXValue(0, 5), EPSILON);
+        assertEquals(25.0, d.getEndYValue(0, 5), EPSILON);
+        assertEquals(2.5, d.getStartXValue(1, 3), EPSILON);
+        assertEquals(3.5, d.getEndXValue(1, 3), EPSILON);
+        assertEquals(8.0, d.getStartYValue(1, 3), EPSILON);
+        assertEquals(10.0, d.getEndYValue(1, 3), EPSILON);
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> d.getXValue(1, 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> d.addSeries("S1", d.getSeriesPath(1)));
+    }
+
+    /**
+     * The bounds come from the file headers.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testBounds() throws IOException {
+        MappedXYDataset<String> d = new MappedXYDataset<>();
+        assertNull(d.getDomainBounds(false));
+        d.addSeries("S1", createFile("s1.dat", 5, true));
+        assertEquals(new Range(0.0, 4.0), d.getDomainBounds(false));
+        assertEquals(new Range(-0.5, 4.5), d.getDomainBounds(true));
+        assertEquals(new Range(0.0, 16.0), d.getRangeBounds(false));
+        assertEquals(new Range(-1.0, 17.0), d.getRangeBounds(true));
+        assertEquals(new Range(-1.0, 17.0),
+                DatasetUtils.findRangeBounds(d, true));
+
+        Path file = this.dir.resolve("empty.dat");
+        new MappedXYSeriesWriter(file, false).close();
+        d.addSeries("S2", file);
+        assertEquals(0, d.getItemCount(1));
+        assertEquals(new Range(0.0, 4.0), d.getDomainBounds(false));
+    }
+
+    /**
+     * The domain order is ascending only if every file is sorted, and the
+     * live items can then be found by binary search.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testDomainOrder() throws IOException {
+        MappedXYDataset<String> d = new MappedXYDataset<>();
+        d.addSeries("S1", createFile("s1.dat", 1000, false));
+        assertEquals(DomainOrder.ASCENDING, d.getDomainOrder());
+        XYSeries<String> s1 = new XYSeries<>("S1");
+        for (int i = 0; i < 1000; i++) {
+            s1.add(i, i * i);
+        }
+        assertArrayEquals(RendererUtils.findLiveItems(
+                new XYSeriesCollection<>(s1), 0, 100.0, 200.0),
+                RendererUtils.findLiveItems(d, 0, 100.0, 200.0));
+
+        Path file = this.dir.resolve("unsorted.dat");
+        try (MappedXYSeriesWriter writer = new MappedXYSeriesWriter(file,
+                false)) {
+            writer.add(2.0, 1.0);
+            writer.add(1.0, 1.0);
+            assertThrows(IllegalStateException.class,
+                    () -> writer.add(1.0, 2.0, 3.0, 4.0, 5.0, 6.0));
+        }
+        d.addSeries("S2", file);
+        assertEquals(DomainOrder.NONE, d.getDomainOrder());
+        d.removeSeries(1);
+        assertEquals(DomainOrder.ASCENDING, d.getDomainOrder());
+    }
+
+    /**
+     * Files that are not series files are rejected.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testInvalidFile() throws IOException {
+        Path file = this.dir.resolve("bad.dat");
+        Files.write(file, new byte[200]);
+        MappedXYDataset<String> d = new MappedXYDataset<>();
+        assertThrows(IOException.class, () -> d.addSeries("S1", file));
+        Files.write(file, new byte[10]);
+        assertThrows(IOException.class, () -> d.addSeries("S1", file));
+        assertEquals(0, d.getSeriesCount());
+    }
+
+    /**
+     * Confirm that cloning and serialization work.
+     *
+     * @throws Exception if there is a problem.
+     */
+    @Test
+    public void testCloningAndSerialization() throws Exception {
+        MappedXYDataset<String> d1 = new MappedXYDataset<>();
+        d1.addSeries("S1", createFile("s1.dat", 10, false));
+        MappedXYDataset<String> d2 = CloneUtils.clone(d1);
+        assertNotSame(d1, d2);
+        assertEquals(d1, d2);
+        d2.removeSeries(0);
+        assertNotEquals(d1, d2);
+        assertEquals(1, d1.getSeriesCount());
+
+        MappedXYDataset<String> d3 = TestUtils.serialised(d1);
+        assertEquals(d1, d3);
+        assertEquals(81.0, d3.getYValue(0, 9), EPSILON);
+    }
+
+}
@@ -0,0 +1,235 @@
+/* ======================================================
+ * JFreeChart : a chart library for the Java(tm) platform
+ * ======================================================
+ *
+ * (C) Copyright 2000-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------------------
+ * PrimitiveXYSeriesCollectionTest.java
+ * ------------------------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.jfree.chart.TestUtils;
+import org.jfree.chart.api.PublicCloneable;
+import org.jfree.chart.internal.CloneUtils;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.DatasetUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link PrimitiveXYSeriesCollection} class.
+ */
+public class PrimitiveXYSeriesCollectionTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * Creates a collection with two series for testing.
+     *
+     * @return A collection.
+     */
+    private PrimitiveXYSeriesCollection<String> createCollection() {
+        PrimitiveXYSeries<String> s1 = new PrimitiveXYSeries<>("S1");
+        s1.add(1.0, 1.1);
+        s1.add(2.0, 2.2);
+        PrimitiveXYSeries<String> s2 = new PrimitiveXYSeries<>("S2");
+        s2.add(0.5, -3.0);
+        s2.add(4.0, Double.NaN);
+        PrimitiveXYSeriesCollection<String> c = new PrimitiveXYSeriesCollection<>();
+        c.addSeries(s1);
+        c.addSeries(s2);
+        return c;
+    }
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        PrimitiveXYSeriesCollection<String> c1 = createCollection();
+        PrimitiveXYSeriesCollection<String> c2 = createCollection();
+        assertEquals(c1, c2);
+        assertEquals(c1.hashCode(), c2.hashCode());
+
+        c1.addSeries(new PrimitiveXYSeries<>("Empty Series"));
+        assertNotEquals(c1, c2);
+        c2.addSeries(new PrimitiveXYSeries<>("Empty Series"));
+        assertEquals(c1, c2);
+
+        c1.setIntervalWidth(5.0);
+        assertNotEquals(c1, c2);
+        c2.setIntervalWidth(5.0);
+        assertEquals(c1, c2);
+
+        c1.setIntervalPositionFactor(0.75);
+        assertNotEquals(c1, c2);
+        c2.setIntervalPositionFactor(0.75);
+        assertEquals(c1, c2);
+    }
+
+    /**
+     * Confirm that cloning works.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        PrimitiveXYSeriesCollection<String> c1 = createCollection();
+        c1.setIntervalWidth(2.0);
+        PrimitiveXYSeriesCollection<String> c2 = CloneUtils.clone(c1);
+        assertNotSame(c1, c2);
+        assertSame(c1.getClass(), c2.getClass());
+        assertEquals(c1, c2);
+
+        // check independence
+        c2.getSeries(0).add(9.0, 9.0);
+        assertNotEquals(c1, c2);
+        assertEquals(9.0, c2.getDomainUpperBound(false), EPSILON);
+        assertEquals(4.0, c1.getDomainUpperBound(false), EPSILON);
+    }
+
+    /**
+     * Verify that this class implements {@link PublicCloneable}.
+     */
+    @Test
+    public void testPublicCloneable() {
+        Object c1 = new PrimitiveXYSeriesCollection<String>();
+        assertTrue(c1 instanceof PublicCloneable);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        PrimitiveXYSeriesCollection<String> c1 = createCollection();
+        PrimitiveXYSeriesCollection<String> c2 = TestUtils.serialised(c1);
+        assertEquals(c1, c2);
+
+        // check the collection is still listening to its series
+        c2.getSeries(0).add(9.0, 9.0);
+        assertEquals(9.0, c2.getDomainUpperBound(false), EPSILON);
+    }
+
+    /**
+     * Some checks for the values returned by the dataset.
+     */
+    @Test
+    public void testValues() {
+        PrimitiveXYSeriesCollection<String> c = createCollection();
+        assertEquals(2, c.getSeriesCount());
+        assertEquals("S2", c.getSeriesKey(1));
+        assertEquals(1, c.getSeriesIndex("S2"));
+        assertEquals(2.0, c.getXValue(0, 1), EPSILON);
+        assertEquals(2.2, c.getYValue(0, 1), EPSILON);
+        assertEquals(2.2, c.getY(0, 1).doubleValue(), EPSILON);
+        assertTrue(Double.isNaN(c.getYValue(1, 1)));
+        assertEquals(1.5, c.getStartXValue(0, 1), EPSILON);
+        assertEquals(2.5, c.getEndXValue(0, 1), EPSILON);
+        assertThrows(UnknownKeyException.class, () -> c.getSeries("XX"));
+    }
+
+    /**
+     * Some checks for the bounds methods.
+     */
+    @Test
+    public void testBounds() {
+        PrimitiveXYSeriesCollection<String> c = createCollection();
+        assertEquals(new Range(0.5, 4.0), c.getDomainBounds(false));
+        assertEquals(new Range(0.0, 4.5), c.getDomainBounds(true));
+        assertEquals(new Range(-3.0, 2.2), c.getRangeBounds(false));
+        assertEquals(new Range(0.5, 4.0),
+                DatasetUtils.findDomainBounds(c, false));
+        assertNull(new PrimitiveXYSeriesCollection<String>()
+                .getRangeBounds(false));
+    }
+
+    /**
+     * The domain order is ascending only while every series is in order.
+     */
+    @Test
+    public void testDomainOrder() {
+        PrimitiveXYSeriesCollection<String> c = createCollection();
+        assertEquals(DomainOrder.ASCENDING, c.getDomainOrder());
+        PrimitiveXYSeries<String> s3 = new PrimitiveXYSeries<>("S3", false);
+        s3.add(2.0, 1.0);
+        c.addSeries(s3);
+        assertEquals(DomainOrder.ASCENDING, c.getDomainOrder());
+        s3.add(1.0, 1.0);
+        assertEquals(DomainOrder.NONE, c.getDomainOrder());
+    }
+
+    /**
+     * Removing series.
+     */
+    @Test
+    public void testRemoveSeries() {
+        PrimitiveXYSeriesCollection<String> c = createCollection();
+        PrimitiveXYSeries<String> s1 = c.getSeries(0);
+        c.removeSeries(0);
+        assertEquals(1, c.getSeriesCount());
+        assertEquals(-1, c.indexOf(s1));
+        c.removeAllSeries();
+        assertEquals(0, c.getSeriesCount());
+    }
+
+    /**
+     * The y-range for an x-range, including a series that is not in
+     * ascending order.
+     */
+    @Test
+    public void testRangeBoundsForXRange() {
+        PrimitiveXYSeriesCollection<String> c = createCollection();
+        List<String> keys = Arrays.asList("S1", "S2");
+        assertEquals(new Range(-3.0, 2.2), DatasetUtils.findRangeBounds(c,
+                keys, new Range(0.0, 5.0), false));
+        assertEquals(new Range(1.1, 2.2), DatasetUtils.findRangeBounds(c,
+                keys, new Range(1.0, 5.0), false));
+        assertEquals(new Range(-3.0, -3.0), DatasetUtils.findRangeBounds(c,
+                Arrays.asList("S2"), new Range(0.0, 5.0), false));
+        assertNull(DatasetUtils.findRangeBounds(c, keys, new Range(2.5, 3.5),
+                false));
+
+        PrimitiveXYSeries<String> s3 = new PrimitiveXYSeries<>("S3", false);
+        s3.add(5.0, 10.0);
+        s3.add(3.0, -10.0);
+        c.addSeries(s3);
+        assertEquals(new Range(-10.0, -10.0), DatasetUtils.findRangeBounds(c,
+                Arrays.asList("S3"), new Range(2.5, 3.5), false));
+    }
+
+}
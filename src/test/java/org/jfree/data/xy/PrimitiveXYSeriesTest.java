@@ -0,0 +1,370 @@
+/* ======================================================
+ * JFreeChart : a chart library for the Java(tm) platform
+ * ======================================================
+ *
+ * (C) Copyright 2000-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------
+ * PrimitiveXYSeriesTest.java
+ * --------------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import org.jfree.chart.TestUtils;
+import org.jfree.chart.internal.CloneUtils;
+import org.jfree.data.general.SeriesException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link PrimitiveXYSeries} class.
+ */
+public class PrimitiveXYSeriesTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        PrimitiveXYSeries<String> s1 = new PrimitiveXYSeries<>("Series");
+        s1.add(1.0, 1.1);
+        PrimitiveXYSeries<String> s2 = new PrimitiveXYSeries<>("Series");
+        s2.add(1.0, 1.1);
+        assertEquals(s1, s2);
+        assertEquals(s2, s1);
+        assertEquals(s1.hashCode(), s2.hashCode());
+
+        s1.add(2.0, 2.2);
+        assertNotEquals(s1, s2);
+        s2.add(2.0, 2.2);
+        assertEquals(s1, s2);
+
+        s1.setMaximumItemCount(99);
+        assertNotEquals(s1, s2);
+        s2.setMaximumItemCount(99);
+        assertEquals(s1, s2);
+
+        assertNotEquals(new PrimitiveXYSeries<>("S", false),
+                new PrimitiveXYSeries<>("S", true));
+    }
+
+    /**
+     * Confirm that cloning works.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        PrimitiveXYSeries<String> s1 = new PrimitiveXYSeries<>("Series");
+        s1.add(1.0, 1.1);
+        PrimitiveXYSeries<String> s2 = CloneUtils.clone(s1);
+        assertNotSame(s1, s2);
+        assertSame(s1.getClass(), s2.getClass());
+        assertEquals(s1, s2);
+
+        // check independence
+        s2.add(4.0, 300.0);
+        assertNotEquals(s1, s2);
+        s1.add(4.0, 300.0);
+        assertEquals(s1, s2);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        PrimitiveXYSeries<String> s1 = new PrimitiveXYSeries<>("Series");
+        s1.add(1.0, 1.1);
+        s1.add(2.0, Double.NaN);
+        PrimitiveXYSeries<String> s2 = TestUtils.serialised(s1);
+        assertEquals(s1, s2);
+        assertEquals(1.1, s2.getMaxY(), EPSILON);
+    }
+
+    /**
+     * Items added out of order are sorted, duplicates are inserted after
+     * any existing items with the same x-value.
+     */
+    @Test
+    public void testAddSorted() {
+        PrimitiveXYSeries<String> s1 = new PrimitiveXYSeries<>("S1");
+        s1.add(3.0, 3.0);
+        s1.add(1.0, 1.0);
+        s1.add(2.0, 2.0);
+        s1.add(2.0, 2.5);
+        assertEquals(4, s1.getItemCount());
+        assertEquals(1.0, s1.getXValue(0), EPSILON);
+        assertEquals(2.0, s1.getYValue(1), EPSILON);
+        assertEquals(2.5, s1.getYValue(2), EPSILON);
+        assertEquals(3.0, s1.getXValue(3), EPSILON);
+        assertTrue(s1.isAscending());
+    }
+
+    /**
+     * The storage must grow beyond the initial capacity.
+     */
+    @Test
+    public void testGrowth() {
+        PrimitiveXYSeries<String> s1 = new PrimitiveXYSeries<>("S1");
+        for (int i = 0; i < 1000; i++) {
+            s1.add(i, i * 2.0, false);
+        }
+        assertEquals(1000, s1.getItemCount());
+        assertEquals(999.0, s1.getXValue(999), EPSILON);
+        assertEquals(1998.0, s1.getMaxY(), EPSILON);
+        assertEquals(0.0, s1.getMinX(), EPSILON);
+    }
+
+    /**
+     * Duplicate x-values are rejected when not permitted.
+     */
+    @Test
+    public void testAddDuplicates() {
+        PrimitiveXYSeries<String> s1 = new PrimitiveXYSeries<>("S1", true,
+                false);
+        s1.add(1.0, 1.0);
+        s1.add(2.0, 2.0);
+        assertThrows(SeriesException.class, () -> s1.add(1.0, 3.0));
+        assertThrows(SeriesException.class, () -> s1.add(2.0, 3.0));
+        assertEquals(2, s1.getItemCount());
+        PrimitiveXYSeries<String> s2 = new PrimitiveXYSeries<>("S2", false,
+                false);
+        s2.add(2.0, 2.0);
+        assertThrows(SeriesException.class, () -> s2.add(2.0, 3.0));
+    }
+
+    /**
+     * An unsorted series tracks whether its items are in ascending order.
+     */
+    @Test
+    public void testAscendingUnsorted() {
+        PrimitiveXYSeries<String> s1 = new PrimitiveXYSeries<>("S1", false);
+        s1.add(1.0, 1.0);
+        s1.add(2.0, 2.0);
+        assertTrue(s1.isAscending());
+        s1.add(0.5, 3.0);
+        assertFalse(s1.isAscending());
+        assertEquals(0.5, s1.getXValue(2), EPSILON);
+        s1.remove(2);
+        assertTrue(s1.isAscending());
+        s1.clear();
+        assertTrue(s1.isAscending());
+    }
+
+    /**
+     * Check that the maximum item count is respected and the bounds are
+     * updated when the first item is dropped.
+     */
+    @Test
+    public void testMaximumItemCount() {
+        PrimitiveXYSeries<String> s1 = new PrimitiveXYSeries<>("S1");
+        s1.setMaximumItemCount(2);
+        s1.add(1.0, 10.0);
+        s1.add(2.0, 5.0);
+        s1.add(3.0, 7.0);
+        assertEquals(2, s1.getItemCount());
+        assertEquals(2.0, s1.getMinX(), EPSILON);
+        assertEquals(3.0, s1.getMaxX(), EPSILON);
+        assertEquals(5.0, s1.getMinY(), EPSILON);
+        assertEquals(7.0, s1.getMaxY(), EPSILON);
+
+        s1.setMaximumItemCount(1);
+        assertEquals(1, s1.getItemCount());
+        assertEquals(3.0, s1.getXValue(0), EPSILON);
+    }
+
+    /**
+     * Some checks for the bounds, which ignore NaN y-values.
+     */
+    @Test
+    public void testBounds() {
+        PrimitiveXYSeries<String> s1 = new PrimitiveXYSeries<>("S1");
+        assertTrue(Double.isNaN(s1.getMinX()));
+        assertTrue(Double.isNaN(s1.getMaxY()));
+        s1.add(1.0, 1.0);
+        s1.add(2.0, Double.NaN);
+        s1.add(3.0, -4.0);
+        assertEquals(1.0, s1.getMinX(), EPSILON);
+        assertEquals(3.0, s1.getMaxX(), EPSILON);
+        assertEquals(-4.0, s1.getMinY(), EPSILON);
+        assertEquals(1.0, s1.getMaxY(), EPSILON);
+
+        s1.updateByIndex(2, 0.5);
+        assertEquals(0.5, s1.getMinY(), EPSILON);
+        s1.delete(0, 1);
+        assertEquals(3.0, s1.getMinX(), EPSILON);
+        assertEquals(0.5, s1.getMaxY(), EPSILON);
+    }
+
+    /**
+     * Some checks for the indexOf() method.
+     */
+    @Test
+    public void testIndexOf() {
+        PrimitiveXYSeries<String> s1 = new PrimitiveXYSeries<>("S1");
+        s1.add(1.0, 1.0);
+        s1.add(2.0, 2.0);
+        s1.add(3.0, 3.0);
+        assertEquals(1, s1.indexOf(2.0));
+        assertEquals(-4, s1.indexOf(99.9));
+
+        PrimitiveXYSeries<String> s2 = new PrimitiveXYSeries<>("S2", false);
+        s2.add(3.0, 3.0);
+        s2.add(1.0, 1.0);
+        assertEquals(1, s2.indexOf(1.0));
+        assertEquals(-1, s2.indexOf(2.0));
+    }
+
+    /**
+     * Some checks for the toArray() method.
+     */
+    @Test
+    public void testToArray() {
+        PrimitiveXYSeries<String> s1 = new PrimitiveXYSeries<>("S1");
+        s1.add(1.0, 2.0);
+        s1.add(3.0, 4.0);
+        double[][] array = s1.toArray();
+        assertEquals(2, array[0].length);
+        assertEquals(3.0, array[0][1], EPSILON);
+        assertEquals(4.0, array[1][1], EPSILON);
+    }
+
+    /**
+     * The index over the y-values follows appends, inserts, removals and
+     * updates.
+     */
+    @Test
+    public void testFindMinMaxYItem() {
+        PrimitiveXYSeries<String> s1 = new PrimitiveXYSeries<>("S1");
+        for (int i = 0; i < 1000; i++) {
+            s1.add(i, i % 100);
+        }
+        assertEquals(0, s1.findMinYItem(0, 999));
+        assertEquals(99, s1.findMaxYItem(0, 999));
+        assertEquals(150, s1.findMinYItem(150, 180));
+        assertEquals(1000, s1.getYValueCount(0, 999));
+        s1.add(1000, 500.0);
+        assertEquals(1000, s1.findMaxYItem(0, 1000));
+        s1.add(1001, Double.NaN);
+        assertEquals(1001, s1.findFirstMissingYItem(0, 1001));
+        s1.updateByIndex(500, -1.0);
+        assertEquals(500, s1.findMinYItem(0, 1001));
+        s1.add(0.5, -2.0);  // insert, moves the existing items
+        assertEquals(1, s1.findMinYItem(0, 1002));
+        assertEquals(501, s1.findMinYItem(2, 1002));
+        s1.remove(1);
+        assertEquals(500, s1.findMinYItem(0, 1001));
+        s1.clear();
+        assertEquals(-1, s1.findMinYItem(0, 10));
+    }
+
+    /**
+     * A series created from arrays uses the first itemCount values, and
+     * checks the order and duplicates as required by its flags.
+     */
+    @Test
+    public void testArrayConstructor() {
+        double[] x = {1.0, 3.0, 2.0, 0.0};
+        double[] y = {5.0, Double.NaN, -1.0, 0.0};
+        PrimitiveXYSeries<String> s = new PrimitiveXYSeries<>("S", false,
+                false, x, y, 3);
+        assertEquals(3, s.getItemCount());
+        assertEquals(2.0, s.getXValue(2), EPSILON);
+        assertEquals(-1.0, s.getYValue(2), EPSILON);
+        assertEquals(1.0, s.getMinX(), EPSILON);
+        assertEquals(3.0, s.getMaxX(), EPSILON);
+        assertEquals(5.0, s.getMaxY(), EPSILON);
+        s.add(4.0, 4.0);
+        assertEquals(4, s.getItemCount());
+        assertEquals(4.0, s.getXValue(3), EPSILON);
+
+        assertThrows(IllegalArgumentException.class, () ->
+                new PrimitiveXYSeries<>("S", true, true, x, y, 3));
+        double[] x2 = {1.0, 2.0, 1.0};
+        double[] y2 = {1.0, 2.0, 3.0};
+        assertThrows(SeriesException.class, () ->
+                new PrimitiveXYSeries<>("S", false, false, x2, y2, 3));
+        assertEquals(3, new PrimitiveXYSeries<>("S", false, true, x2, y2,
+                3).getItemCount());
+        assertThrows(IllegalArgumentException.class, () ->
+                new PrimitiveXYSeries<>("S", false, true, x2, y2, 4));
+
+        // the arrays must have the same length
+        assertThrows(IllegalArgumentException.class, () ->
+                new PrimitiveXYSeries<>("S", false, true, x2, y, 2));
+    }
+
+    /**
+     * A series with a maximum item count keeps the most recent items, and
+     * the values and the index over the y-values stay consistent as the
+     * oldest items are dropped (including when the storage is compacted).
+     */
+    @Test
+    public void testMaximumItemCountStreaming() {
+        PrimitiveXYSeries<String> s1 = new PrimitiveXYSeries<>("S1");
+        s1.setMaximumItemCount(100);
+        for (int i = 0; i < 1000; i++) {
+            s1.add(i, (i * 37) % 101);
+            assertEquals(Math.max(0, i - 99), s1.getXValue(0), EPSILON);
+            if (i % 97 == 0) {
+                int last = s1.getItemCount() - 1;
+                int min = 0;
+                int max = 0;
+                for (int j = 1; j <= last; j++) {
+                    if (s1.getYValue(j) < s1.getYValue(min)) {
+                        min = j;
+                    }
+                    if (s1.getYValue(j) > s1.getYValue(max)) {
+                        max = j;
+                    }
+                }
+                assertEquals(min, s1.findMinYItem(0, last));
+                assertEquals(max, s1.findMaxYItem(-5, last + 5));
+            }
+        }
+        assertEquals(100, s1.getItemCount());
+        assertEquals(999.0, s1.getXValue(99), EPSILON);
+        assertEquals(900.0, s1.getMinX(), EPSILON);
+        assertEquals(950, s1.indexOf(950.0) + 900);
+        assertEquals(-1, s1.findMinYItem(5, 4));
+        assertEquals(100, s1.getYValueCount(0, 99));
+        assertEquals(100, s1.toArray()[0].length);
+
+        // an x-value equal to the last x-value is appended at the end
+        s1.add(999.0, -1.0);
+        assertEquals(999.0, s1.getXValue(99), EPSILON);
+        assertEquals(-1.0, s1.getYValue(99), EPSILON);
+        assertEquals(99, s1.findMinYItem(0, 99));
+    }
+
+}
@@ -0,0 +1,271 @@
+/* ======================================================
+ * JFreeChart : a chart library for the Java(tm) platform
+ * ======================================================
+ *
+ * (C) Copyright 2000-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------------
+ * RollingStatisticsDatasetTest.java
+ * ---------------------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.util.Random;
+import org.jfree.chart.TestUtils;
+import org.jfree.chart.internal.CloneUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link RollingStatisticsDataset} class.
+ */
+public class RollingStatisticsDatasetTest {
+
+    private static final double EPSILON = 1e-9;
+
+    /**
+     * Calculates a statistic directly from the source y-values.
+     *
+     * @param ys  the y-values.
+     * @param item  the item index.
+     * @param statistic  the statistic.
+     * @param window  the window size.
+     *
+     * @return The expected value.
+     */
+    private static double expected(double[] ys, int item, 
+            RollingStatistic statistic, int window) {
+        if (item < window - 1) {
+            return Double.NaN;
+        }
+        double sum = 0.0;
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = item - window + 1; i <= item; i++) {
+            if (Double.isNaN(ys[i])) {
+                return Double.NaN;
+            }
+            sum += ys[i];
+            min = Math.min(min, ys[i]);
+            max = Math.max(max, ys[i]);
+        }
+        double mean = sum / window;
+        double ss = 0.0;
+        for (int i = item - window + 1; i <= item; i++) {
+            ss += (ys[i] - mean) * (ys[i] - mean);
+        }
+        switch (statistic) {
+            case MINIMUM: return min;
+            case MAXIMUM: return max;
+            case STANDARD_DEVIATION: return Math.sqrt(ss / window);
+            default: return mean;
+        }
+    }
+
+    /**
+     * Checks every item of the dataset against values calculated directly.
+     *
+     * @param d  the dataset.
+     * @param source  the source series.
+     */
+    private static void check(RollingStatisticsDataset<String> d,
+            XYSeries<String> source) {
+        int count = source.getItemCount();
+        assertEquals(count, d.getItemCount(0));
+        double[] ys = new double[count];
+        for (int i = 0; i < count; i++) {
+            Number y = source.getY(i);
+            ys[i] = y == null ? Double.NaN : y.doubleValue();
+        }
+        for (int i = 0; i < count; i++) {
+            assertEquals(source.getX(i).doubleValue(), d.getXValue(0, i));
+            double e = expected(ys, i, d.getStatistic(), d.getWindow());
+            assertEquals(e, d.getYValue(0, i), EPSILON);
+        }
+    }
+
+    /**
+     * The statistics match a direct calculation as items are appended, 
+     * including items with missing values.
+     */
+    @Test
+    public void testAppend() {
+        RollingStatistic[] stats = {RollingStatistic.MEAN, 
+                RollingStatistic.MINIMUM, RollingStatistic.MAXIMUM, 
+                RollingStatistic.STANDARD_DEVIATION, 
+                RollingStatistic.BOLLINGER_BANDS};
+        for (RollingStatistic stat : stats) {
+            Random random = new Random(42);
+            XYSeries<String> s = new XYSeries<>("S1");
+            XYSeriesCollection<String> source = new XYSeriesCollection<>(s);
+            RollingStatisticsDataset<String> d 
+                    = new RollingStatisticsDataset<>(source, stat, 5);
+            for (int i = 0; i < 200; i++) {
+                s.add(i, i % 37 == 36 ? null : random.nextDouble() * 100);
+                if (i % 10 == 0) {
+                    check(d, s);
+                }
+            }
+            check(d, s);
+        }
+    }
+
+    /**
+     * Removing items from the start of the source (as a maximum item count
+     * does) gives the same result as a new calculation.
+     */
+    @Test
+    public void testMaximumItemCount() {
+        Random random = new Random(7);
+        XYSeries<String> s = new XYSeries<>("S1");
+        s.setMaximumItemCount(20);
+        XYSeriesCollection<String> source = new XYSeriesCollection<>(s);
+        RollingStatisticsDataset<String> d = new RollingStatisticsDataset<>(
+                source, RollingStatistic.MAXIMUM, 4);
+        RollingStatisticsDataset<String> ema = new RollingStatisticsDataset<>(
+                source, RollingStatistic.EXPONENTIAL_MEAN, 4);
+        double expectedEma = Double.NaN;
+        for (int i = 0; i < 100; i++) {
+            double y = random.nextDouble();
+            expectedEma = Double.isNaN(expectedEma) ? y 
+                    : expectedEma + 0.4 * (y - expectedEma);
+            s.add(i, y);
+            check(d, s);
+            assertEquals(expectedEma, ema.getYValue(0, ema.getItemCount(0) 
+                    - 1), EPSILON);
+        }
+        // a change that is not an append is detected by the last item check
+        s.updateByIndex(19, 5.0);
+        check(d, s);
+    }
+
+    /**
+     * The y-interval for Bollinger bands.
+     */
+    @Test
+    public void testBollingerBands() {
+        XYSeries<String> s = new XYSeries<>("S1");
+        s.add(1.0, 1.0);
+        s.add(2.0, 3.0);
+        s.add(3.0, 5.0);
+        XYSeriesCollection<String> source = new XYSeriesCollection<>(s);
+        RollingStatisticsDataset<String> d = new RollingStatisticsDataset<>(
+                source, RollingStatistic.BOLLINGER_BANDS, 2);
+        assertTrue(Double.isNaN(d.getStartYValue(0, 0)));
+        double sd = 1.0;
+        assertEquals(4.0, d.getYValue(0, 2), EPSILON);
+        assertEquals(4.0 - 2 * sd, d.getStartYValue(0, 2), EPSILON);
+        assertEquals(4.0 + 2 * sd, d.getEndYValue(0, 2), EPSILON);
+        d.setBandWidth(1.0);
+        assertEquals(3.0, d.getStartYValue(0, 2), EPSILON);
+        assertEquals(5.0, d.getEndY(0, 2).doubleValue(), EPSILON);
+        assertThrows(IllegalArgumentException.class, 
+                () -> d.setBandWidth(-1.0));
+        assertThrows(IllegalArgumentException.class, 
+                () -> new RollingStatisticsDataset<>(source, 
+                        RollingStatistic.MEAN, 0));
+
+        // a dataset without bands has a y-interval of zero width
+        RollingStatisticsDataset<String> mean = new RollingStatisticsDataset<>(
+                source, RollingStatistic.MEAN, 2);
+        assertEquals(4.0, mean.getStartYValue(0, 2), EPSILON);
+        assertEquals(4.0, mean.getEndYValue(0, 2), EPSILON);
+    }
+
+    /**
+     * Series added to and removed from the source are picked up.
+     */
+    @Test
+    public void testSeriesChanges() {
+        XYSeriesCollection<String> source = new XYSeriesCollection<>();
+        RollingStatisticsDataset<String> d = new RollingStatisticsDataset<>(
+                source, RollingStatistic.MEAN, 3);
+        assertEquals(0, d.getSeriesCount());
+        XYSeries<String> s = new XYSeries<>("S1");
+        for (int i = 0; i < 10; i++) {
+            s.add(i, i);
+        }
+        source.addSeries(s);
+        assertEquals(1, d.getSeriesCount());
+        assertEquals("S1", d.getSeriesKey(0));
+        check(d, s);
+        s.clear();
+        assertEquals(0, d.getItemCount(0));
+        source.removeAllSeries();
+        assertEquals(0, d.getSeriesCount());
+    }
+
+    /**
+     * Confirm that cloning works.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        XYSeries<String> s = new XYSeries<>("S1");
+        s.add(1.0, 1.0);
+        s.add(2.0, 3.0);
+        XYSeriesCollection<String> source = new XYSeriesCollection<>(s);
+        RollingStatisticsDataset<String> d1 = new RollingStatisticsDataset<>(
+                source, RollingStatistic.MEAN, 2);
+        RollingStatisticsDataset<String> d2 = CloneUtils.clone(d1);
+        assertNotSame(d1, d2);
+        assertEquals(d1, d2);
+        assertEquals(2.0, d2.getYValue(0, 1), EPSILON);
+
+        // the clone uses its own copy of the source
+        s.add(3.0, 5.0);
+        assertEquals(3, d1.getItemCount(0));
+        assertEquals(2, d2.getItemCount(0));
+        XYSeriesCollection<String> source2 
+                = (XYSeriesCollection<String>) d2.getSource();
+        source2.getSeries(0).add(3.0, 7.0);
+        d2.refresh();
+        assertEquals(5.0, d2.getYValue(0, 2), EPSILON);
+        assertEquals(4.0, d1.getYValue(0, 2), EPSILON);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        XYSeries<String> s = new XYSeries<>("S1");
+        s.add(1.0, 1.0);
+        s.add(2.0, 3.0);
+        XYSeriesCollection<String> source = new XYSeriesCollection<>(s);
+        RollingStatisticsDataset<String> d1 = new RollingStatisticsDataset<>(
+                source, RollingStatistic.STANDARD_DEVIATION, 2);
+        RollingStatisticsDataset<String> d2 = TestUtils.serialised(d1);
+        assertEquals(d1, d2);
+        assertEquals(1.0, d2.getYValue(0, 1), EPSILON);
+    }
+
+}
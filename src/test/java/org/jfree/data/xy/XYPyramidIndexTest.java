@@ -0,0 +1,165 @@
+/* ======================================================
+ * JFreeChart : a chart library for the Java(tm) platform
+ * ======================================================
+ *
+ * (C) Copyright 2000-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * XYPyramidIndexTest.java
+ * -----------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link XYPyramidIndex} class.
+ */
+public class XYPyramidIndexTest {
+
+    /**
+     * Creates an array of random values, with some missing values.
+     *
+     * @param random  the random number generator.
+     * @param n  the number of values.
+     *
+     * @return The values.
+     */
+    private static double[] createValues(Random random, int n) {
+        double[] values = new double[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = random.nextInt(20) == 0 ? Double.NaN
+                    : random.nextInt(1000);
+        }
+        return values;
+    }
+
+    /**
+     * Checks the index against a brute force calculation for a range of
+     * items.
+     *
+     * @param index  the index.
+     * @param values  the values.
+     * @param first  the first item.
+     * @param last  the last item.
+     */
+    private static void check(XYPyramidIndex index, double[] values,
+            int first, int last) {
+        int min = -1;
+        int max = -1;
+        int missing = -1;
+        int count = 0;
+        for (int i = first; i <= last; i++) {
+            if (Double.isNaN(values[i])) {
+                if (missing < 0) {
+                    missing = i;
+                }
+                continue;
+            }
+            count++;
+            if (min < 0 || values[i] < values[min]) {
+                min = i;
+            }
+            if (max < 0 || values[i] > values[max]) {
+                max = i;
+            }
+        }
+        assertEquals(min, index.findMinItem(values, first, last));
+        assertEquals(max, index.findMaxItem(values, first, last));
+        assertEquals(missing, index.findFirstMissingItem(values, first, last));
+        assertEquals(count, index.getValueCount(values, first, last));
+    }
+
+    /**
+     * Queries over random ranges, with the index built in several appends.
+     */
+    @Test
+    public void testQueries() {
+        Random random = new Random(42L);
+        double[] values = createValues(random, 5000);
+        XYPyramidIndex index = new XYPyramidIndex();
+        index.append(values, 1);
+        check(index, values, 0, 0);
+        index.append(values, 130);
+        check(index, values, 0, 129);
+        index.append(values, 5000);
+        assertEquals(5000, index.getItemCount());
+        check(index, values, 0, 4999);
+        for (int i = 0; i < 500; i++) {
+            int a = random.nextInt(5000);
+            int b = random.nextInt(5000);
+            check(index, values, Math.min(a, b), Math.max(a, b));
+        }
+    }
+
+    /**
+     * Check that the index follows changes to individual values.
+     */
+    @Test
+    public void testUpdate() {
+        Random random = new Random(7L);
+        double[] values = createValues(random, 3000);
+        XYPyramidIndex index = new XYPyramidIndex();
+        index.append(values, 3000);
+        for (int i = 0; i < 200; i++) {
+            int item = random.nextInt(3000);
+            values[item] = random.nextBoolean() ? Double.NaN
+                    : random.nextInt(2000) - 500;
+            index.update(values, item);
+            int a = random.nextInt(3000);
+            int b = random.nextInt(3000);
+            check(index, values, Math.min(a, b), Math.max(a, b));
+        }
+        check(index, values, 0, 2999);
+    }
+
+    /**
+     * Some special cases.
+     */
+    @Test
+    public void testEmptyAndMissing() {
+        XYPyramidIndex index = new XYPyramidIndex();
+        double[] values = new double[] {Double.NaN, Double.NaN};
+        assertEquals(-1, index.findMinItem(values, 0, 1));
+        assertEquals(0, index.getValueCount(values, 0, 1));
+        index.append(values, 2);
+        assertEquals(-1, index.findMinItem(values, 0, 1));
+        assertEquals(-1, index.findMaxItem(values, 0, 1));
+        assertEquals(0, index.findFirstMissingItem(values, 0, 1));
+        assertEquals(-1, index.findMinItem(values, 1, 0));
+        index.clear();
+        assertEquals(0, index.getItemCount());
+        assertEquals(-1, index.findFirstMissingItem(values, 0, 1));
+    }
+
+}
@@ -36,6 +36,8 @@
 
 package org.jfree.data.xy;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.jfree.chart.TestUtils;
 import org.jfree.chart.internal.CloneUtils;
 import org.jfree.data.general.SeriesException;
@@ -760,4 +762,74 @@ public class XYSeriesTest {
         assertEquals(2.0, s1.getMaxY(), EPSILON);
     }
 
+    /**
+     * The bulk methods sort the items once and send a single event.
+     */
+    @Test
+    public void testAddAll() {
+        XYSeries<String> s1 = new XYSeries<>("S1");
+        s1.add(2.0, 20.0);
+        AtomicInteger events = new AtomicInteger();
+        s1.addChangeListener(e -> events.incrementAndGet());
+        s1.addAll(new double[] {3.0, 1.0, 2.0}, new double[] {30.0, 10.0,
+                -5.0});
+        assertEquals(1, events.get());
+        assertEquals(4, s1.getItemCount());
+        assertEquals(1.0, s1.getX(0).doubleValue(), EPSILON);
+        assertEquals(20.0, s1.getY(1).doubleValue(), EPSILON);
+        assertEquals(-5.0, s1.getY(2).doubleValue(), EPSILON);
+        assertEquals(-5.0, s1.getMinY(), EPSILON);
+        assertEquals(30.0, s1.getMaxY(), EPSILON);
+
+        s1.replaceAll(new double[] {5.0, 4.0}, new double[] {1.0, 2.0});
+        assertEquals(2, events.get());
+        assertEquals(2, s1.getItemCount());
+        assertEquals(4.0, s1.getMinX(), EPSILON);
+
+        // duplicates are rejected without changing the series
+        XYSeries<String> s2 = new XYSeries<>("S2", true, false);
+        s2.add(1.0, 1.0);
+        assertThrows(SeriesException.class, () -> s2.addAll(
+                new double[] {2.0, 1.0}, new double[] {2.0, 3.0}));
+        assertEquals(1, s2.getItemCount());
+        XYSeries<String> s3 = new XYSeries<>("S3", false, false);
+        assertThrows(SeriesException.class, () -> s3.addAll(
+                new double[] {2.0, 2.0}, new double[] {2.0, 3.0}));
+        assertThrows(IllegalArgumentException.class, () -> s3.addAll(
+                new double[] {1.0}, new double[0]));
+
+        // the maximum item count is respected
+        XYSeries<String> s4 = new XYSeries<>("S4");
+        s4.setMaximumItemCount(2);
+        s4.addAll(new double[] {1.0, 2.0, 3.0}, new double[] {1.0, 2.0,
+                3.0});
+        assertEquals(2, s4.getItemCount());
+        assertEquals(2.0, s4.getMinY(), EPSILON);
+    }
+
+    /**
+     * An update block sends a single event for all the changes.
+     */
+    @Test
+    public void testUpdateBlock() {
+        XYSeries<String> s1 = new XYSeries<>("S1");
+        AtomicInteger events = new AtomicInteger();
+        s1.addChangeListener(e -> events.incrementAndGet());
+        s1.beginUpdate();
+        s1.add(1.0, 1.0);
+        s1.beginUpdate();
+        s1.add(2.0, 2.0);
+        s1.commitUpdate();
+        s1.remove(0);
+        assertEquals(0, events.get());
+        s1.commitUpdate();
+        assertEquals(1, events.get());
+
+        // no event for an update block without changes
+        s1.beginUpdate();
+        s1.commitUpdate();
+        assertEquals(1, events.get());
+        assertThrows(IllegalStateException.class, () -> s1.commitUpdate());
+    }
+
 }